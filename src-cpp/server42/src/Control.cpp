@@ -102,11 +102,16 @@ namespace org::openkilda {
             ListFlowsFilter filter;
             const google::protobuf::Any &any = command_packet.command(0);
             any.UnpackTo(&filter);
-            auto flow_list = pool.get_metadata_db()->get_flow_from_switch(filter.dst_mac());
+            auto metadata_db = pool.get_metadata_db();
+            auto flow_list = metadata_db->get_flow_from_switch(filter.dst_mac());
             for (auto f : flow_list) {
                 Flow flow;
                 flow.set_flow_id(std::get<int(flow_endpoint_members::flow_id)>(f));
                 flow.set_direction(std::get<int(flow_endpoint_members::direction)>(f));
+                auto metadata = metadata_db->get(f);
+                if (metadata) {
+                    flow.set_hash_code(metadata->get_hash());
+                }
                 response.add_response()->PackFrom(flow);
             }
         } else {
@@ -16,11 +16,15 @@
 package org.openkilda.wfm;
 
 import org.openkilda.persistence.context.PersistenceContextRequired;
+import org.openkilda.persistence.ferma.QueryProfiler;
 import org.openkilda.wfm.error.PipelineException;
+import org.openkilda.wfm.share.flow.resources.EncapsulationResourcesCacheStats;
+import org.openkilda.wfm.share.utils.FsmProfiler;
 
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.storm.metric.api.IMetric;
 import org.apache.storm.task.OutputCollector;
 import org.apache.storm.task.TopologyContext;
 import org.apache.storm.topology.base.BaseRichBolt;
@@ -56,9 +60,23 @@ public abstract class AbstractBolt extends BaseRichBolt {
     @Setter(AccessLevel.PROTECTED)
     private transient CommandContext commandContext;
 
+    private transient boolean persistenceContextRequired;
+
     @Override
-    @PersistenceContextRequired(requiresNew = true)
     public void execute(Tuple input) {
+        if (persistenceContextRequired) {
+            executeInPersistenceContext(input);
+        } else {
+            handleTuple(input);
+        }
+    }
+
+    @PersistenceContextRequired(requiresNew = true)
+    protected void executeInPersistenceContext(Tuple input) {
+        handleTuple(input);
+    }
+
+    private void handleTuple(Tuple input) {
         if (log.isDebugEnabled()) {
             log.trace("{} input tuple from {}:{} [{}]",
                       getClass().getName(), input.getSourceComponent(), input.getSourceStreamId(),
@@ -134,11 +152,41 @@ public abstract class AbstractBolt extends BaseRichBolt {
         this.taskId = context.getThisTaskId();
         this.componentId = String.format("%s:%d", context.getThisComponentId(), this.taskId);
 
+        // metrics are collected by the executor thread, the same one that makes the queries
+        IMetric queriesMetric = () -> {
+            Map<String, Long> counters = QueryProfiler.getInstance().getAndResetCounters();
+            return counters.isEmpty() ? null : counters;
+        };
+        context.registerMetric(QueryProfiler.METRIC_NAME, queriesMetric, QueryProfiler.METRIC_BUCKET_SIZE_SECONDS);
+
+        FsmProfiler.getInstance().configure(stormConf);
+        IMetric fsmMetric = () -> {
+            Map<String, Long> counters = FsmProfiler.getInstance().getAndResetCounters();
+            return counters.isEmpty() ? null : counters;
+        };
+        context.registerMetric(FsmProfiler.METRIC_NAME, fsmMetric, FsmProfiler.METRIC_BUCKET_SIZE_SECONDS);
+
+        IMetric encapsulationCacheMetric = () -> {
+            Map<String, Long> counters = EncapsulationResourcesCacheStats.getInstance().getAndResetCounters();
+            return counters.isEmpty() ? null : counters;
+        };
+        context.registerMetric(EncapsulationResourcesCacheStats.METRIC_NAME, encapsulationCacheMetric,
+                EncapsulationResourcesCacheStats.METRIC_BUCKET_SIZE_SECONDS);
+
+        persistenceContextRequired = isPersistenceContextRequired();
         init();
     }
 
     protected void init() { }
 
+    /**
+     * Whether each tuple must be processed inside a new persistence context. Bolts that never access repositories
+     * (routers, encoders, metric generators) can return false to skip the context setup/teardown on each tuple.
+     */
+    protected boolean isPersistenceContextRequired() {
+        return true;
+    }
+
     protected CommandContext setupCommandContext() {
         Tuple input = getCurrentTuple();
         CommandContext context;
@@ -92,6 +92,11 @@ public abstract class KafkaEncoder extends AbstractBolt {
         return new ErrorMessage(payload, System.currentTimeMillis(), commandContext.getCorrelationId());
     }
 
+    @Override
+    protected boolean isPersistenceContextRequired() {
+        return false;
+    }
+
     @Override
     public void declareOutputFields(OutputFieldsDeclarer outputManager) {
         outputManager.declare(STREAM_FIELDS);
@@ -0,0 +1,77 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.flow.resources;
+
+import org.openkilda.model.FlowEncapsulationType;
+import org.openkilda.model.PathId;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import lombok.Value;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Resolved encapsulation resources of flow paths. Encapsulation resources do not change during the path lifetime and
+ * path ids are never reused, so entries are dropped only on path resources deallocation or by size limit.
+ */
+class EncapsulationResourcesCache {
+    private final Cache<CacheKey, EncapsulationResources> cache;
+    private final EncapsulationResourcesCacheStats stats = EncapsulationResourcesCacheStats.getInstance();
+
+    EncapsulationResourcesCache(int size) {
+        // eviction is done by the thread that writes into the cache, so it is accounted to the same bolt
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(size)
+                .<CacheKey, EncapsulationResources>removalListener(notification -> {
+                    if (notification.getCause() == RemovalCause.SIZE) {
+                        stats.onEviction();
+                    }
+                })
+                .build();
+    }
+
+    Optional<EncapsulationResources> get(
+            PathId pathId, PathId oppositePathId, FlowEncapsulationType encapsulationType,
+            Supplier<Optional<EncapsulationResources>> loader) {
+        CacheKey key = new CacheKey(pathId, oppositePathId, encapsulationType);
+        EncapsulationResources resources = cache.getIfPresent(key);
+        if (resources != null) {
+            stats.onHit();
+            return Optional.of(resources);
+        }
+        stats.onMiss();
+
+        // missing resources are not cached, they can be allocated later
+        Optional<EncapsulationResources> loaded = loader.get();
+        loaded.ifPresent(entry -> cache.put(key, entry));
+        return loaded;
+    }
+
+    void invalidate(PathId pathId) {
+        cache.asMap().keySet().removeIf(
+                entry -> pathId.equals(entry.getPathId()) || pathId.equals(entry.getOppositePathId()));
+    }
+
+    @Value
+    private static class CacheKey {
+        PathId pathId;
+        PathId oppositePathId;
+        FlowEncapsulationType encapsulationType;
+    }
+}
@@ -0,0 +1,82 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.flow.resources;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hits, misses and evictions of the encapsulation resources caches of all {@link FlowResourcesManager} instances.
+ *
+ * <p>Stats are kept per thread, so the metrics collected from the storm executor thread describe only the lookups
+ * made by the bolt this executor runs, whichever service inside the bolt owns the resources manager.
+ */
+public final class EncapsulationResourcesCacheStats {
+    public static final String METRIC_NAME = "encapsulation-resources-cache";
+    public static final int METRIC_BUCKET_SIZE_SECONDS = 60;
+
+    public static final String COUNTER_HITS = "hits";
+    public static final String COUNTER_MISSES = "misses";
+    public static final String COUNTER_EVICTIONS = "evictions";
+
+    private static final EncapsulationResourcesCacheStats INSTANCE = new EncapsulationResourcesCacheStats();
+
+    private final ThreadLocal<Counters> stats = ThreadLocal.withInitial(Counters::new);
+
+    private EncapsulationResourcesCacheStats() {
+    }
+
+    public static EncapsulationResourcesCacheStats getInstance() {
+        return INSTANCE;
+    }
+
+    void onHit() {
+        stats.get().hits += 1;
+    }
+
+    void onMiss() {
+        stats.get().misses += 1;
+    }
+
+    void onEviction() {
+        stats.get().evictions += 1;
+    }
+
+    /**
+     * Get counters of the lookups made by the current thread since the previous call. Returns an empty map if there
+     * were no lookups.
+     */
+    public Map<String, Long> getAndResetCounters() {
+        Counters current = stats.get();
+        if (current.hits == 0 && current.misses == 0 && current.evictions == 0) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Long> counters = new HashMap<>();
+        counters.put(COUNTER_HITS, current.hits);
+        counters.put(COUNTER_MISSES, current.misses);
+        counters.put(COUNTER_EVICTIONS, current.evictions);
+        stats.set(new Counters());
+        return counters;
+    }
+
+    private static class Counters {
+        private long hits;
+        private long misses;
+        private long evictions;
+    }
+}
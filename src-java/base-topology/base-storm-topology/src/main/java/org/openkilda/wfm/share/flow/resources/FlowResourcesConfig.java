@@ -78,4 +78,11 @@ public interface FlowResourcesConfig extends Serializable {
     @Key("flow.cookie.max")
     @Default("131072")
     long getMaxFlowCookie();
+
+    /**
+     * Max number of cached encapsulation resources lookups, zero disables the cache.
+     */
+    @Key("flow.resources.encapsulation-cache.size")
+    @Default("0")
+    int getEncapsulationCacheSize();
 }
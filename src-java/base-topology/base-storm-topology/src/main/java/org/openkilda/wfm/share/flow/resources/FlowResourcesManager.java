@@ -47,6 +47,7 @@ public class FlowResourcesManager {
     private final CookiePool cookiePool;
     private final MeterPool meterPool;
     private final Map<FlowEncapsulationType, EncapsulationResourcesProvider> encapsulationResourcesProviders;
+    private final EncapsulationResourcesCache encapsulationResourcesCache;
 
     public FlowResourcesManager(PersistenceManager persistenceManager, FlowResourcesConfig config) {
         transactionManager = persistenceManager.getTransactionManager();
@@ -62,6 +63,9 @@ public class FlowResourcesManager {
                 .put(FlowEncapsulationType.VXLAN, new VxlanPool(persistenceManager,
                         config.getMinFlowVxlan(), config.getMaxFlowVxlan(), POOL_SIZE))
                 .build();
+
+        int cacheSize = config.getEncapsulationCacheSize();
+        encapsulationResourcesCache = 0 < cacheSize ? new EncapsulationResourcesCache(cacheSize) : null;
     }
 
     /**
@@ -142,6 +146,7 @@ public class FlowResourcesManager {
                     getEncapsulationResourcesProvider(encapsulationType);
             encapsulationResourcesProvider.deallocate(pathId);
         });
+        invalidateEncapsulationCache(pathId);
     }
 
     /**
@@ -166,6 +171,8 @@ public class FlowResourcesManager {
                         }
                     });
         });
+        invalidateEncapsulationCache(resources.getForward().getPathId());
+        invalidateEncapsulationCache(resources.getReverse().getPathId());
     }
 
     /**
@@ -174,6 +181,17 @@ public class FlowResourcesManager {
     public Optional<EncapsulationResources> getEncapsulationResources(PathId pathId,
                                                                       PathId oppositePathId,
                                                                       FlowEncapsulationType encapsulationType) {
-        return getEncapsulationResourcesProvider(encapsulationType).get(pathId, oppositePathId);
+        EncapsulationResourcesProvider provider = getEncapsulationResourcesProvider(encapsulationType);
+        if (encapsulationResourcesCache == null) {
+            return provider.get(pathId, oppositePathId);
+        }
+        return encapsulationResourcesCache.get(
+                pathId, oppositePathId, encapsulationType, () -> provider.get(pathId, oppositePathId));
+    }
+
+    private void invalidateEncapsulationCache(PathId pathId) {
+        if (encapsulationResourcesCache != null) {
+            encapsulationResourcesCache.invalidate(pathId);
+        }
     }
 }
@@ -17,6 +17,7 @@ package org.openkilda.wfm.share.utils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.squirrelframework.foundation.fsm.ImmutableState;
 import org.squirrelframework.foundation.fsm.StateMachine;
 import org.squirrelframework.foundation.fsm.StateMachineStatus;
 import org.squirrelframework.foundation.fsm.impl.AbstractStateMachine;
@@ -27,6 +28,30 @@ public abstract class AbstractBaseFsm<T extends StateMachine<T, S, E, C>, S, E,
 
     protected transient Logger log = makeLog();
 
+    private final FsmTimings timings = new FsmTimings(System.nanoTime());
+    private long stateEnteredAt = System.nanoTime();
+    private long transitionStartedAt;
+
+    @Override
+    protected void beforeTransitionBegin(S fromState, E event, C context) {
+        transitionStartedAt = System.nanoTime();
+    }
+
+    @Override
+    protected void afterTransitionCompleted(S fromState, S toState, E event, C context) {
+        long now = System.nanoTime();
+        timings.addWait(String.valueOf(fromState), transitionStartedAt - stateEnteredAt);
+        timings.addAction(String.valueOf(toState), now - transitionStartedAt);
+        stateEnteredAt = now;
+
+        ImmutableState<T, S, E, C> target = getRawStateFrom(toState);
+        if (target != null && target.isFinalState()) {
+            timings.complete(now);
+            FsmProfiler.getInstance().record(getClass().getSimpleName(), timings, getProfilingSubject());
+            onExecutionProfiled(timings);
+        }
+    }
+
     @Override
     protected void afterTransitionCausedException(S fromState, S toState, E event, C context) {
         Throwable exception = getLastException().getTargetException();
@@ -41,6 +66,26 @@ public abstract class AbstractBaseFsm<T extends StateMachine<T, S, E, C>, S, E,
         setStatus(StateMachineStatus.IDLE);
     }
 
+    /**
+     * Time spent in the states passed so far.
+     */
+    public FsmTimings getTimings() {
+        return timings;
+    }
+
+    /**
+     * Name of the object (entity, request) this FSM handles, used to identify slow operations in logs.
+     */
+    protected String getProfilingSubject() {
+        return getIdentifier();
+    }
+
+    /**
+     * Called once the FSM reaches the final state, with the timing breakdown of the whole execution.
+     */
+    protected void onExecutionProfiled(FsmTimings timings) {
+    }
+
     private Logger makeLog() {
         return LoggerFactory.getLogger(getClass());
     }
@@ -0,0 +1,157 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.utils;
+
+import org.openkilda.wfm.share.utils.FsmTimings.StateTiming;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects latency percentiles of completed FSM executions grouped by FSM type and state, and logs executions that
+ * run longer than the slow operation threshold.
+ *
+ * <p>Stats are kept per thread, so the metrics collected from the storm executor thread describe only the FSMs
+ * driven by the bolt this executor runs.
+ */
+@Slf4j
+public final class FsmProfiler {
+    public static final String METRIC_NAME = "fsm-execution";
+    public static final int METRIC_BUCKET_SIZE_SECONDS = 60;
+
+    /**
+     * Storm config entry with the slow operation threshold in milliseconds, zero or missing value disables logging.
+     */
+    public static final String SLOW_OPERATION_THRESHOLD_CONFIG = "openkilda.fsm.slow-operation.threshold.ms";
+
+    private static final int SAMPLES_LIMIT = 1024;
+    private static final int[] PERCENTILES = {50, 95, 99};
+
+    private static final FsmProfiler INSTANCE = new FsmProfiler();
+
+    private final ThreadLocal<Map<String, LatencySamples>> stats = ThreadLocal.withInitial(HashMap::new);
+
+    private volatile long slowOperationThresholdMillis;
+
+    private FsmProfiler() {
+    }
+
+    public static FsmProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Pick up the slow operation threshold from the storm config.
+     */
+    public void configure(Map<?, ?> stormConf) {
+        if (stormConf == null) {
+            return;
+        }
+        Object threshold = stormConf.get(SLOW_OPERATION_THRESHOLD_CONFIG);
+        if (threshold instanceof Number) {
+            setSlowOperationThresholdMillis(((Number) threshold).longValue());
+        }
+    }
+
+    public void setSlowOperationThresholdMillis(long slowOperationThresholdMillis) {
+        this.slowOperationThresholdMillis = slowOperationThresholdMillis;
+    }
+
+    /**
+     * Record the completed FSM execution.
+     */
+    public void record(String operation, FsmTimings timings, Object subject) {
+        Map<String, LatencySamples> current = stats.get();
+        current.computeIfAbsent(operation + ".total", key -> new LatencySamples()).add(timings.getTotalNanos());
+        for (Map.Entry<String, StateTiming> entry : timings.getStates().entrySet()) {
+            String prefix = operation + "." + entry.getKey();
+            StateTiming timing = entry.getValue();
+            current.computeIfAbsent(prefix + ".wait", key -> new LatencySamples()).add(timing.getWaitNanos());
+            current.computeIfAbsent(prefix + ".act", key -> new LatencySamples()).add(timing.getActionNanos());
+        }
+
+        if (isSlow(timings)) {
+            log.warn("Slow {} operation {} took {} ms: {}", operation, subject,
+                    TimeUnit.NANOSECONDS.toMillis(timings.getTotalNanos()), timings.format());
+        }
+    }
+
+    /**
+     * Whether the execution took longer than the slow operation threshold, always false if the threshold is not set.
+     */
+    public boolean isSlow(FsmTimings timings) {
+        long threshold = slowOperationThresholdMillis;
+        return 0 < threshold && threshold <= TimeUnit.NANOSECONDS.toMillis(timings.getTotalNanos());
+    }
+
+    /**
+     * Get stats of the FSMs completed by the current thread since the previous call.
+     */
+    public Map<String, Long> getAndResetCounters() {
+        Map<String, LatencySamples> current = stats.get();
+        Map<String, Long> counters = new HashMap<>();
+        for (Map.Entry<String, LatencySamples> entry : current.entrySet()) {
+            entry.getValue().dump(entry.getKey(), counters);
+        }
+        current.clear();
+        return counters;
+    }
+
+    /**
+     * Bounded reservoir of latency samples, enough to estimate percentiles inside one metric bucket.
+     */
+    private static class LatencySamples {
+        private long count;
+        private long max;
+        private long[] samples = new long[16];
+        private int size;
+
+        void add(long durationNanos) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+            count += 1;
+            max = Math.max(max, micros);
+
+            if (size < SAMPLES_LIMIT) {
+                if (size == samples.length) {
+                    samples = Arrays.copyOf(samples, Math.min(SAMPLES_LIMIT, size * 2));
+                }
+                samples[size++] = micros;
+            } else {
+                long idx = ThreadLocalRandom.current().nextLong(count);
+                if (idx < SAMPLES_LIMIT) {
+                    samples[(int) idx] = micros;
+                }
+            }
+        }
+
+        void dump(String prefix, Map<String, Long> target) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+
+            target.put(prefix + ".count", count);
+            target.put(prefix + ".max-us", max);
+            for (int percentile : PERCENTILES) {
+                int idx = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+                target.put(String.format("%s.p%d-us", prefix, percentile), sorted[Math.max(idx, 0)]);
+            }
+        }
+    }
+}
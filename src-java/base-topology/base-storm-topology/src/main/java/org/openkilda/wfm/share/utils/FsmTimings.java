@@ -0,0 +1,85 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.utils;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time spent by FSM in each state. "Wait" is the time FSM was idle in the state waiting for the next event (i.e.
+ * speaker responses), "action" is the time spent in transition actions leading into the state.
+ */
+public class FsmTimings {
+    private final long startedAt;
+
+    @Getter
+    private long totalNanos;
+
+    private final Map<String, StateTiming> states = new LinkedHashMap<>();
+
+    FsmTimings(long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    void addWait(String state, long nanos) {
+        states.computeIfAbsent(state, key -> new StateTiming()).waitNanos += nanos;
+    }
+
+    void addAction(String state, long nanos) {
+        states.computeIfAbsent(state, key -> new StateTiming()).actionNanos += nanos;
+    }
+
+    void complete(long now) {
+        totalNanos = now - startedAt;
+    }
+
+    public Map<String, StateTiming> getStates() {
+        return Collections.unmodifiableMap(states);
+    }
+
+    /**
+     * Compact human readable form, suitable for logs and flow history, i.e.
+     * {@code total 9120ms; ALLOCATED act 35ms; INSTALLING wait 8950ms act 3ms}.
+     */
+    public String format() {
+        StringBuilder result = new StringBuilder();
+        result.append("total ").append(TimeUnit.NANOSECONDS.toMillis(totalNanos)).append("ms");
+        for (Map.Entry<String, StateTiming> entry : states.entrySet()) {
+            StateTiming timing = entry.getValue();
+            result.append("; ").append(entry.getKey());
+            if (0 < timing.waitNanos) {
+                result.append(" wait ").append(TimeUnit.NANOSECONDS.toMillis(timing.waitNanos)).append("ms");
+            }
+            result.append(" act ").append(TimeUnit.NANOSECONDS.toMillis(timing.actionNanos)).append("ms");
+        }
+        return result.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    @Getter
+    public static class StateTiming {
+        private long waitNanos;
+        private long actionNanos;
+    }
+}
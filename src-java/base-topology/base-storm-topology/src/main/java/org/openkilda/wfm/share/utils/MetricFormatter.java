@@ -16,10 +16,17 @@
 package org.openkilda.wfm.share.utils;
 
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
 
 public class MetricFormatter implements Serializable {
     private String prefix;
 
+    /**
+     * Metric names are constants, so the set of formatted names is small and can be reused for each datapoint.
+     */
+    private transient Map<String, String> cache;
+
     public MetricFormatter(String prefix) {
         if (prefix == null) {
             this.prefix = "";
@@ -28,7 +35,13 @@ public class MetricFormatter implements Serializable {
         }
     }
 
+    /**
+     * Prepend prefix to metric name.
+     */
     public String format(String metric) {
-        return String.format("%s%s", prefix, metric);
+        if (cache == null) {
+            cache = new HashMap<>();
+        }
+        return cache.computeIfAbsent(metric, name -> prefix + name);
     }
 }
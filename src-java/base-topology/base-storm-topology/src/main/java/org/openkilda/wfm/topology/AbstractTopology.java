@@ -33,6 +33,7 @@ import org.openkilda.wfm.kafka.MessageSerializer;
 import org.openkilda.wfm.kafka.ObjectSerializer;
 import org.openkilda.wfm.topology.utils.AbstractMessageTranslator;
 import org.openkilda.wfm.topology.utils.MessageKafkaTranslator;
+import org.openkilda.wfm.topology.utils.TupleSerializationRegistry;
 
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -190,9 +191,22 @@ public abstract class AbstractTopology<T extends AbstractTopologyConfig> impleme
             stormConfig.setMaxTaskParallelism(topologyConfig.getParallelism());
         }
 
+        TupleSerializationRegistry.register(stormConfig, getTupleSerializationTypes());
+        if (topologyConfig.isStrictTupleSerialization()) {
+            TupleSerializationRegistry.enableStrictMode(stormConfig);
+        }
+
         return stormConfig;
     }
 
+    /**
+     * Topology specific tuple payload types to register in Kryo in addition to
+     * {@link TupleSerializationRegistry#COMMON_TYPES}.
+     */
+    protected List<Class<?>> getTupleSerializationTypes() {
+        return Collections.emptyList();
+    }
+
     protected void localExecutionMainLoop() {
         logger.info("Sleep while local topology is executing");
         try {
@@ -58,6 +58,10 @@ public interface AbstractTopologyConfig {
     @Key("spout.wait.sleep.time")
     Integer getSpoutWaitSleepTime();
 
+    @Key("tuple.serialization.strict")
+    @Default("false")
+    boolean isStrictTupleSerialization();
+
     @IgnoreKey
     KafkaTopicsConfig getKafkaTopics();
 
@@ -0,0 +1,64 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.utils;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+/**
+ * Kryo serializer for guava {@link ImmutableMap} implementations. Field serializer can't restore them, because their
+ * internal hash tables are built by the factory methods.
+ */
+public class ImmutableMapSerializer extends Serializer<ImmutableMap<Object, Object>> {
+    public ImmutableMapSerializer() {
+        super(false, true);
+    }
+
+    @Override
+    public void write(Kryo kryo, Output output, ImmutableMap<Object, Object> map) {
+        output.writeInt(map.size(), true);
+        for (Map.Entry<Object, Object> entry : map.entrySet()) {
+            kryo.writeClassAndObject(output, entry.getKey());
+            kryo.writeClassAndObject(output, entry.getValue());
+        }
+    }
+
+    @Override
+    public ImmutableMap<Object, Object> read(Kryo kryo, Input input, Class<ImmutableMap<Object, Object>> type) {
+        int size = input.readInt(true);
+        ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+        for (int i = 0; i < size; i++) {
+            builder.put(kryo.readClassAndObject(input), kryo.readClassAndObject(input));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Register the serializer for all {@link ImmutableMap} implementations returned by its factory methods.
+     */
+    public static void registerFor(Kryo kryo) {
+        ImmutableMapSerializer serializer = new ImmutableMapSerializer();
+        kryo.register(ImmutableMap.class, serializer);
+        kryo.register(ImmutableMap.of().getClass(), serializer);
+        kryo.register(ImmutableMap.of("k", "v").getClass(), serializer);
+        kryo.register(ImmutableMap.of("k1", "v1", "k2", "v2").getClass(), serializer);
+    }
+}
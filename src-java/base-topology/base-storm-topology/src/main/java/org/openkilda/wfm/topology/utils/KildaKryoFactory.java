@@ -0,0 +1,39 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.utils;
+
+import com.esotericsoftware.kryo.Kryo;
+import org.apache.storm.serialization.DefaultKryoFactory;
+import org.objenesis.strategy.StdInstantiatorStrategy;
+
+import java.util.Map;
+
+/**
+ * Kryo factory used by all topologies.
+ *
+ * <p>Most of tuple payload classes are immutable (lombok {@code @Value}, jackson {@code @JsonCreator}) and have no
+ * no-args constructor, so Kryo falls back to objenesis to instantiate them. Guava immutable maps (used for tags
+ * and other nested maps) get a dedicated serializer.
+ */
+public class KildaKryoFactory extends DefaultKryoFactory {
+    @Override
+    public Kryo getKryo(Map conf) {
+        Kryo kryo = super.getKryo(conf);
+        kryo.setInstantiatorStrategy(new Kryo.DefaultInstantiatorStrategy(new StdInstantiatorStrategy()));
+        ImmutableMapSerializer.registerFor(kryo);
+        return kryo;
+    }
+}
@@ -0,0 +1,114 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.utils;
+
+import org.openkilda.messaging.Destination;
+import org.openkilda.messaging.MessageContext;
+import org.openkilda.messaging.command.CommandMessage;
+import org.openkilda.messaging.error.ErrorData;
+import org.openkilda.messaging.error.ErrorMessage;
+import org.openkilda.messaging.error.ErrorType;
+import org.openkilda.messaging.info.ChunkedInfoMessage;
+import org.openkilda.messaging.info.Datapoint;
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.model.FlowEncapsulationType;
+import org.openkilda.model.FlowEndpoint;
+import org.openkilda.model.FlowPathStatus;
+import org.openkilda.model.IslEndpoint;
+import org.openkilda.model.MacAddress;
+import org.openkilda.model.MeterId;
+import org.openkilda.model.PathComputationStrategy;
+import org.openkilda.model.PathId;
+import org.openkilda.model.SwitchId;
+import org.openkilda.model.cookie.Cookie;
+import org.openkilda.model.cookie.FlowSegmentCookie;
+import org.openkilda.wfm.CommandContext;
+import org.openkilda.wfm.share.model.Endpoint;
+import org.openkilda.wfm.share.model.IslReference;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.storm.Config;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tuple payload types shared by all topologies. Registered types are serialized by Kryo field serializer, instead of
+ * java serialization storm uses for unregistered ones.
+ *
+ * <p>Kryo refuses to write an unregistered class in strict mode, including the classes of nested fields, so the
+ * model types used by payload fields must be registered too.
+ *
+ * <p>Registration IDs depend on the registration order, all workers of the topology get the same list via topology
+ * config, so it is safe to extend this list at any position.
+ */
+public final class TupleSerializationRegistry {
+    public static final List<Class<?>> COMMON_TYPES = ImmutableList.of(
+            CommandContext.class,
+            MessageContext.class,
+            CommandMessage.class,
+            InfoMessage.class,
+            ChunkedInfoMessage.class,
+            ErrorMessage.class,
+            ErrorData.class,
+            Datapoint.class,
+            // nested types of the envelopes
+            Destination.class,
+            ErrorType.class,
+            // model types nested into topology specific payloads
+            SwitchId.class,
+            PathId.class,
+            MeterId.class,
+            Cookie.class,
+            FlowSegmentCookie.class,
+            FlowEndpoint.class,
+            IslEndpoint.class,
+            MacAddress.class,
+            FlowEncapsulationType.class,
+            FlowPathStatus.class,
+            PathComputationStrategy.class,
+            Endpoint.class,
+            IslReference.class,
+            UUID.class,
+            Instant.class);
+
+    /**
+     * Register common and topology specific tuple payload types.
+     */
+    public static void register(Config stormConfig, List<Class<?>> topologyTypes) {
+        stormConfig.put(Config.TOPOLOGY_KRYO_FACTORY, KildaKryoFactory.class.getName());
+        for (Class<?> entry : COMMON_TYPES) {
+            stormConfig.registerSerialization(entry);
+        }
+        for (Class<?> entry : topologyTypes) {
+            stormConfig.registerSerialization(entry);
+        }
+    }
+
+    /**
+     * Disable java serialization fallback and force serialization of tuples passed inside one worker, so any
+     * unregistered type fails fast.
+     */
+    public static void enableStrictMode(Config stormConfig) {
+        stormConfig.setFallBackOnJavaSerialization(false);
+        stormConfig.put(Config.TOPOLOGY_TESTING_ALWAYS_TRY_SERIALIZE, true);
+    }
+
+    private TupleSerializationRegistry() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,117 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.persistence.spi.InMemoryPersistenceProvider.InMemoryPersistenceContextManager;
+import org.openkilda.wfm.error.PipelineException;
+
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
+import org.apache.storm.topology.OutputFieldsDeclarer;
+import org.apache.storm.tuple.Fields;
+import org.apache.storm.tuple.Tuple;
+import org.apache.storm.tuple.TupleImpl;
+import org.apache.storm.tuple.Values;
+import org.apache.storm.utils.Utils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AbstractBoltTest {
+    private static final String SOURCE_COMPONENT = "source";
+    private static final int SOURCE_TASK_ID = 1;
+    private static final String FIELD_ID_PAYLOAD = "payload";
+    private static final Fields STREAM_FIELDS = new Fields(FIELD_ID_PAYLOAD, AbstractBolt.FIELD_ID_CONTEXT);
+
+    @Mock
+    private OutputCollector output;
+
+    @Mock
+    private TopologyContext topologyContext;
+
+    @Before
+    public void setUp() {
+        when(topologyContext.getComponentId(SOURCE_TASK_ID)).thenReturn(SOURCE_COMPONENT);
+        when(topologyContext.getComponentOutputFields(SOURCE_COMPONENT, Utils.DEFAULT_STREAM_ID))
+                .thenReturn(STREAM_FIELDS);
+    }
+
+    @Test
+    public void shouldProcessTupleInNewPersistenceContextByDefault() {
+        ContextTrackingBolt bolt = new ContextTrackingBolt(true);
+        bolt.prepare(Collections.emptyMap(), topologyContext, output);
+
+        Tuple input = makeTuple();
+        bolt.execute(input);
+
+        // exactly one context, so the annotated method is woven and it is not wrapped twice
+        assertEquals(1, bolt.openContextsOnHandle);
+        assertEquals(0, InMemoryPersistenceContextManager.getOpenContextsCount());
+        verify(output).ack(input);
+    }
+
+    @Test
+    public void shouldProcessTupleWithoutPersistenceContextIfBoltOptedOut() {
+        ContextTrackingBolt bolt = new ContextTrackingBolt(false);
+        bolt.prepare(Collections.emptyMap(), topologyContext, output);
+
+        Tuple input = makeTuple();
+        bolt.execute(input);
+
+        assertEquals(0, bolt.openContextsOnHandle);
+        verify(output).ack(input);
+    }
+
+    private Tuple makeTuple() {
+        return new TupleImpl(topologyContext, new Values("payload", new CommandContext()), SOURCE_TASK_ID,
+                             Utils.DEFAULT_STREAM_ID);
+    }
+
+    private static class ContextTrackingBolt extends AbstractBolt {
+        private final boolean persistenceContextRequired;
+
+        private int openContextsOnHandle = -1;
+
+        ContextTrackingBolt(boolean persistenceContextRequired) {
+            this.persistenceContextRequired = persistenceContextRequired;
+        }
+
+        @Override
+        protected void handleInput(Tuple input) throws PipelineException {
+            pullValue(input, FIELD_ID_PAYLOAD, String.class);
+            openContextsOnHandle = InMemoryPersistenceContextManager.getOpenContextsCount();
+        }
+
+        @Override
+        protected boolean isPersistenceContextRequired() {
+            return persistenceContextRequired;
+        }
+
+        @Override
+        public void declareOutputFields(OutputFieldsDeclarer declarer) {
+            // no output
+        }
+    }
+}
@@ -17,6 +17,7 @@ package org.openkilda.wfm.share.flow.resources;
 
 import static java.lang.String.format;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 
@@ -27,6 +28,7 @@ import org.openkilda.model.Flow;
 import org.openkilda.model.FlowPath;
 import org.openkilda.model.KildaConfiguration;
 import org.openkilda.model.PathComputationStrategy;
+import org.openkilda.model.PathId;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.exceptions.ConstraintViolationException;
@@ -43,6 +45,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 
+import java.util.Map;
 import java.util.Properties;
 import java.util.stream.Stream;
 
@@ -235,6 +238,60 @@ public class FlowResourcesManagerTest extends InMemoryGraphBasedTest {
         });
     }
 
+    @Test
+    public void shouldCacheEncapsulationResourcesTillDeallocation() throws Exception {
+        Properties configProps = new Properties();
+        configProps.setProperty("flow.resources.encapsulation-cache.size", "100");
+        FlowResourcesManager cachingManager = new FlowResourcesManager(persistenceManager,
+                new PropertiesBasedConfigurationProvider(configProps).getConfiguration(FlowResourcesConfig.class));
+        EncapsulationResourcesCacheStats.getInstance().getAndResetCounters();
+
+        transactionManager.doInTransaction(() -> {
+            Flow flow = convertFlow(firstFlow);
+            FlowResources resources = cachingManager.allocateFlowResources(flow);
+            PathId forwardPathId = resources.getForward().getPathId();
+            PathId reversePathId = resources.getReverse().getPathId();
+
+            EncapsulationResources first = cachingManager.getEncapsulationResources(
+                    forwardPathId, reversePathId, flow.getEncapsulationType()).get();
+            EncapsulationResources second = cachingManager.getEncapsulationResources(
+                    forwardPathId, reversePathId, flow.getEncapsulationType()).get();
+            assertEquals(first, second);
+
+            Map<String, Long> counters = EncapsulationResourcesCacheStats.getInstance().getAndResetCounters();
+            assertEquals(Long.valueOf(1), counters.get(EncapsulationResourcesCacheStats.COUNTER_HITS));
+            assertEquals(Long.valueOf(1), counters.get(EncapsulationResourcesCacheStats.COUNTER_MISSES));
+            assertEquals(Long.valueOf(0), counters.get(EncapsulationResourcesCacheStats.COUNTER_EVICTIONS));
+
+            cachingManager.deallocatePathResources(resources);
+            assertFalse(cachingManager.getEncapsulationResources(
+                    forwardPathId, reversePathId, flow.getEncapsulationType()).isPresent());
+        });
+    }
+
+    @Test
+    public void shouldReportEncapsulationCacheEvictions() throws Exception {
+        Properties configProps = new Properties();
+        configProps.setProperty("flow.resources.encapsulation-cache.size", "1");
+        FlowResourcesManager cachingManager = new FlowResourcesManager(persistenceManager,
+                new PropertiesBasedConfigurationProvider(configProps).getConfiguration(FlowResourcesConfig.class));
+        EncapsulationResourcesCacheStats.getInstance().getAndResetCounters();
+
+        transactionManager.doInTransaction(() -> {
+            Flow flow = convertFlow(firstFlow);
+            FlowResources resources = cachingManager.allocateFlowResources(flow);
+            PathId forwardPathId = resources.getForward().getPathId();
+            PathId reversePathId = resources.getReverse().getPathId();
+
+            cachingManager.getEncapsulationResources(forwardPathId, reversePathId, flow.getEncapsulationType());
+            cachingManager.getEncapsulationResources(reversePathId, forwardPathId, flow.getEncapsulationType());
+
+            Map<String, Long> counters = EncapsulationResourcesCacheStats.getInstance().getAndResetCounters();
+            assertEquals(Long.valueOf(2), counters.get(EncapsulationResourcesCacheStats.COUNTER_MISSES));
+            assertEquals(Long.valueOf(1), counters.get(EncapsulationResourcesCacheStats.COUNTER_EVICTIONS));
+        });
+    }
+
     @Test(expected = ResourceAllocationException.class)
     public void shouldThrowExceptionOnAllocationFailed() throws ResourceAllocationException {
         transactionManager.doInTransaction(() -> {
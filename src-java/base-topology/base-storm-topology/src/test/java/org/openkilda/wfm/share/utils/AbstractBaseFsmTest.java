@@ -20,6 +20,7 @@ import static org.junit.Assert.assertThat;
 
 import org.openkilda.wfm.share.utils.AbstractBaseFsmTest.Fsm.Event;
 import org.openkilda.wfm.share.utils.AbstractBaseFsmTest.Fsm.State;
+import org.openkilda.wfm.share.utils.FsmTimings.StateTiming;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -27,6 +28,10 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.squirrelframework.foundation.fsm.StateMachineBuilder;
 import org.squirrelframework.foundation.fsm.StateMachineBuilderFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
 
 @RunWith(MockitoJUnitRunner.class)
 public class AbstractBaseFsmTest {
@@ -42,6 +47,17 @@ public class AbstractBaseFsmTest {
         assertThat("Invalid state after exception.", fsm.getCurrentState(), is(State.FINISH));
     }
 
+    @Test
+    public void collectStateTimings() {
+        Fsm fsm = Fsm.builder.newStateMachine(State.START);
+        fsm.fire(Event.NEXT);
+        fsm.fire(Event.NEXT);
+
+        Map<String, StateTiming> states = fsm.getTimings().getStates();
+        assertThat(new ArrayList<>(states.keySet()), is(Arrays.asList("START", "MIDDLE", "FINISH")));
+        assertThat(states.get("START").getActionNanos(), is(0L));
+    }
+
 
     static class Fsm extends AbstractBaseFsm<Fsm, Fsm.State, Fsm.Event, Object> {
 
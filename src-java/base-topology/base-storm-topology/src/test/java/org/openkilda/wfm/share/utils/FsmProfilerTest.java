@@ -0,0 +1,83 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class FsmProfilerTest {
+    @Test
+    public void shouldReportPercentiles() {
+        FsmProfiler profiler = FsmProfiler.getInstance();
+        profiler.getAndResetCounters();
+
+        for (int i = 1; i <= 100; i++) {
+            FsmTimings timings = new FsmTimings(0);
+            timings.addWait("INSTALLING", TimeUnit.MILLISECONDS.toNanos(i));
+            timings.addAction("INSTALLING", TimeUnit.MICROSECONDS.toNanos(10));
+            timings.complete(TimeUnit.MILLISECONDS.toNanos(i + 1));
+            profiler.record("TestFsm", timings, "test");
+        }
+
+        Map<String, Long> counters = profiler.getAndResetCounters();
+        assertEquals(Long.valueOf(100), counters.get("TestFsm.total.count"));
+        assertEquals(Long.valueOf(51000), counters.get("TestFsm.total.p50-us"));
+        assertEquals(Long.valueOf(99000), counters.get("TestFsm.INSTALLING.wait.p99-us"));
+        assertEquals(Long.valueOf(100000), counters.get("TestFsm.INSTALLING.wait.max-us"));
+        assertEquals(Long.valueOf(10), counters.get("TestFsm.INSTALLING.act.p95-us"));
+
+        assertTrue(profiler.getAndResetCounters().isEmpty());
+    }
+
+    @Test
+    public void shouldDetectSlowExecutionsOnlyWithThreshold() {
+        FsmProfiler profiler = FsmProfiler.getInstance();
+        FsmTimings timings = new FsmTimings(0);
+        timings.complete(TimeUnit.MILLISECONDS.toNanos(200));
+
+        try {
+            profiler.configure(null);
+            profiler.setSlowOperationThresholdMillis(0);
+            assertFalse(profiler.isSlow(timings));
+
+            profiler.configure(Collections.singletonMap(FsmProfiler.SLOW_OPERATION_THRESHOLD_CONFIG, 100L));
+            assertTrue(profiler.isSlow(timings));
+
+            profiler.setSlowOperationThresholdMillis(300);
+            assertFalse(profiler.isSlow(timings));
+        } finally {
+            profiler.setSlowOperationThresholdMillis(0);
+        }
+    }
+
+    @Test
+    public void shouldFormatTimings() {
+        FsmTimings timings = new FsmTimings(0);
+        timings.addAction("ALLOCATED", TimeUnit.MILLISECONDS.toNanos(35));
+        timings.addWait("INSTALLING", TimeUnit.MILLISECONDS.toNanos(8950));
+        timings.addAction("INSTALLING", TimeUnit.MILLISECONDS.toNanos(3));
+        timings.complete(TimeUnit.MILLISECONDS.toNanos(9120));
+
+        assertEquals("total 9120ms; ALLOCATED act 35ms; INSTALLING wait 8950ms act 3ms", timings.format());
+    }
+}
@@ -0,0 +1,55 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.utils;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.apache.storm.Config;
+import org.apache.storm.serialization.SerializationFactory;
+import org.apache.storm.utils.Utils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pass tuple payloads through the same Kryo setup storm uses for the topology in strict mode (no java serialization
+ * fallback). Fails if any class reachable from the payload is not registered.
+ */
+public class TupleSerializationChecker {
+    private final Kryo kryo;
+
+    public TupleSerializationChecker(List<Class<?>> topologyTypes) {
+        Config stormConfig = new Config();
+        TupleSerializationRegistry.register(stormConfig, topologyTypes);
+        TupleSerializationRegistry.enableStrictMode(stormConfig);
+
+        Map<String, Object> conf = new HashMap<>(Utils.readDefaultConfig());
+        conf.putAll(stormConfig);
+        kryo = SerializationFactory.getKryo(conf);
+    }
+
+    /**
+     * Serialize and deserialize the value.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T roundTrip(T value) {
+        Output output = new Output(1024, -1);
+        kryo.writeClassAndObject(output, value);
+        return (T) kryo.readClassAndObject(new Input(output.toBytes()));
+    }
+}
@@ -0,0 +1,94 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import org.openkilda.messaging.Destination;
+import org.openkilda.messaging.error.ErrorData;
+import org.openkilda.messaging.error.ErrorMessage;
+import org.openkilda.messaging.error.ErrorType;
+import org.openkilda.messaging.info.Datapoint;
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.model.FlowEndpoint;
+import org.openkilda.model.FlowPathDirection;
+import org.openkilda.model.SwitchId;
+import org.openkilda.model.cookie.Cookie;
+import org.openkilda.model.cookie.FlowSegmentCookie;
+import org.openkilda.wfm.CommandContext;
+import org.openkilda.wfm.share.model.Endpoint;
+import org.openkilda.wfm.share.model.IslReference;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.UUID;
+
+public class TupleSerializationRegistryTest {
+    private final TupleSerializationChecker checker = new TupleSerializationChecker(Collections.emptyList());
+
+    @Test
+    public void shouldRoundTripCommonTypesInStrictMode() {
+        CommandContext context = new CommandContext("correlation-id");
+        assertEquals(context, checker.roundTrip(context));
+
+        InfoMessage info = new InfoMessage(
+                new Datapoint("metric", 1L, ImmutableMap.of("tag", "value"), 2L), 3L, "correlation-id");
+        assertEquals(info, checker.roundTrip(info));
+
+        InfoMessage multiTagInfo = new InfoMessage(
+                new Datapoint("metric", 1L, ImmutableMap.of("tag", "value", "other", "value"), 2.5), 3L,
+                "correlation-id", Destination.NORTHBOUND, "region");
+        assertEquals(multiTagInfo, checker.roundTrip(multiTagInfo));
+
+        InfoMessage emptyTagsInfo = new InfoMessage(
+                new Datapoint("metric", 1L, ImmutableMap.of(), 2L), 3L, "correlation-id");
+        assertEquals(emptyTagsInfo, checker.roundTrip(emptyTagsInfo));
+
+        ErrorMessage error = new ErrorMessage(
+                new ErrorData(ErrorType.NOT_FOUND, "message", "description"), 4L, "correlation-id");
+        assertEquals(error.getData(), ((ErrorMessage) checker.roundTrip(error)).getData());
+    }
+
+    @Test
+    public void shouldRoundTripNestedModelTypesInStrictMode() {
+        IslReference reference = new IslReference(
+                Endpoint.of(new SwitchId(1), 1), Endpoint.of(new SwitchId(2), 2));
+        assertEquals(reference, checker.roundTrip(reference));
+
+        FlowEndpoint endpoint = new FlowEndpoint(new SwitchId(3), 3, 100, 200);
+        assertEquals(endpoint, checker.roundTrip(endpoint));
+
+        Cookie cookie = new FlowSegmentCookie(FlowPathDirection.FORWARD, 5);
+        assertEquals(cookie, checker.roundTrip(cookie));
+
+        UUID commandId = UUID.randomUUID();
+        assertEquals(commandId, checker.roundTrip(commandId));
+
+        Instant time = Instant.now();
+        assertEquals(time, checker.roundTrip(time));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectUnregisteredTypeInStrictMode() {
+        checker.roundTrip(new UnregisteredPayload());
+    }
+
+    private static class UnregisteredPayload {
+    }
+}
@@ -20,13 +20,18 @@ import org.openkilda.persistence.spi.PersistenceProvider;
 import org.openkilda.wfm.LaunchEnvironment;
 import org.openkilda.wfm.topology.AbstractTopology;
 import org.openkilda.wfm.topology.connecteddevices.bolts.PacketBolt;
+import org.openkilda.wfm.topology.connecteddevices.bolts.TickBolt;
 
 import org.apache.storm.generated.StormTopology;
+import org.apache.storm.topology.BoltDeclarer;
 import org.apache.storm.topology.TopologyBuilder;
 
+import java.time.Duration;
+
 public class ConnectedDevicesTopology extends AbstractTopology<ConnectedDevicesTopologyConfig> {
     public static final String CONNECTED_DEVICES_SPOUT_ID = "connected-devices-spout";
     public static final String PACKET_BOLT_ID = "packet-bolt";
+    public static final String TICK_BOLT_ID = "tick-bolt";
 
     public ConnectedDevicesTopology(LaunchEnvironment env) {
         super(env, ConnectedDevicesTopologyConfig.class);
@@ -48,9 +53,19 @@ public class ConnectedDevicesTopology extends AbstractTopology<ConnectedDevicesT
     }
 
     private void createPacketBolt(TopologyBuilder builder, PersistenceManager persistenceManager) {
-        PacketBolt routerBolt = new PacketBolt(persistenceManager);
-        builder.setBolt(PACKET_BOLT_ID, routerBolt, topologyConfig.getNewParallelism())
-                .shuffleGrouping(CONNECTED_DEVICES_SPOUT_ID);
+        int flushInterval = topologyConfig.getDeviceCacheFlushInterval();
+        PacketBolt routerBolt = new PacketBolt(persistenceManager, 0 < flushInterval,
+                Duration.ofSeconds(topologyConfig.getFlowAssociationCacheTtl()),
+                Duration.ofSeconds(topologyConfig.getDeviceCacheTtl()));
+        // kafka record key is a switch id, so all packets from one switch are handled by the same bolt
+        // instance and its device cache
+        BoltDeclarer packetBolt = builder.setBolt(PACKET_BOLT_ID, routerBolt, topologyConfig.getNewParallelism())
+                .fieldsGrouping(CONNECTED_DEVICES_SPOUT_ID, FIELDS_KEY);
+
+        if (0 < flushInterval) {
+            builder.setBolt(TICK_BOLT_ID, new TickBolt(flushInterval));
+            packetBolt.allGrouping(TICK_BOLT_ID);
+        }
     }
 
     private void createSpout(TopologyBuilder builder) {
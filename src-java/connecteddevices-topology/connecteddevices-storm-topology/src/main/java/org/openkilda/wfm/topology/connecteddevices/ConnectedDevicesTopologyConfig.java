@@ -18,6 +18,8 @@ package org.openkilda.wfm.topology.connecteddevices;
 import org.openkilda.wfm.topology.AbstractTopologyConfig;
 
 import com.sabre.oss.conf4j.annotation.Configuration;
+import com.sabre.oss.conf4j.annotation.Default;
+import com.sabre.oss.conf4j.annotation.Key;
 
 @Configuration
 public interface ConnectedDevicesTopologyConfig extends AbstractTopologyConfig {
@@ -25,4 +27,21 @@ public interface ConnectedDevicesTopologyConfig extends AbstractTopologyConfig {
     default String getKafkaTopoConnectedDevicesTopic() {
         return getKafkaTopics().getTopoConnectedDevicesTopic();
     }
+
+    /**
+     * How often (in seconds) postponed "last seen" updates are written into DB. Zero value disables device cache.
+     * With enabled cache, flow associations of devices can be stale for up to {@link #getFlowAssociationCacheTtl()}
+     * seconds.
+     */
+    @Key("connected.devices.cache.flush.interval")
+    @Default("0")
+    int getDeviceCacheFlushInterval();
+
+    @Key("connected.devices.cache.device.ttl")
+    @Default("300")
+    int getDeviceCacheTtl();
+
+    @Key("connected.devices.cache.flow.ttl")
+    @Default("60")
+    int getFlowAssociationCacheTtl();
 }
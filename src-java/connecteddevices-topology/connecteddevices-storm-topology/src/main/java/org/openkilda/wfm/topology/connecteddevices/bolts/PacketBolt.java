@@ -26,28 +26,53 @@ import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.error.PipelineException;
 import org.openkilda.wfm.topology.AbstractTopology;
+import org.openkilda.wfm.topology.connecteddevices.ConnectedDevicesTopology;
+import org.openkilda.wfm.topology.connecteddevices.service.ConnectedDeviceCache;
 import org.openkilda.wfm.topology.connecteddevices.service.PacketService;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Tuple;
 
+import java.time.Duration;
+
 @Slf4j
 public class PacketBolt extends AbstractBolt {
     private final PersistenceManager persistenceManager;
+    private final boolean deviceCacheEnabled;
+    private final Duration flowAssociationTtl;
+    private final Duration deviceTtl;
+
     private transient PacketService packetService;
 
     public PacketBolt(PersistenceManager persistenceManager) {
+        this(persistenceManager, false, Duration.ZERO, Duration.ZERO);
+    }
+
+    public PacketBolt(PersistenceManager persistenceManager, boolean deviceCacheEnabled,
+                      Duration flowAssociationTtl, Duration deviceTtl) {
         this.persistenceManager = persistenceManager;
+        this.deviceCacheEnabled = deviceCacheEnabled;
+        this.flowAssociationTtl = flowAssociationTtl;
+        this.deviceTtl = deviceTtl;
     }
 
     @Override
     protected void init() {
-        packetService = new PacketService(persistenceManager);
+        ConnectedDeviceCache deviceCache = null;
+        if (deviceCacheEnabled) {
+            deviceCache = new ConnectedDeviceCache(flowAssociationTtl, deviceTtl);
+        }
+        packetService = new PacketService(persistenceManager, deviceCache);
     }
 
     @Override
     protected void handleInput(Tuple input) throws PipelineException {
+        if (ConnectedDevicesTopology.TICK_BOLT_ID.equals(input.getSourceComponent())) {
+            packetService.flushDeviceCache();
+            return;
+        }
+
         Message message = pullValue(input, FIELD_ID_PAYLOAD, Message.class);
 
         if (message instanceof InfoMessage) {
@@ -0,0 +1,186 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.connecteddevices.service;
+
+import org.openkilda.messaging.info.event.ConnectedDevicePacketBase;
+import org.openkilda.model.ConnectedDeviceType;
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.topology.connecteddevices.service.PacketService.FlowRelatedData;
+
+import lombok.Value;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In memory state of recently seen connected devices. Absorbs repeated sightings of already persisted devices, so
+ * only the most recent "last seen" time of each device is written into DB during periodic flush.
+ */
+public class ConnectedDeviceCache {
+    private final Clock clock;
+    private final long flowAssociationTtl;
+    private final long deviceTtl;
+
+    private final Map<FlowAssociationKey, FlowAssociationEntry> flowAssociations = new HashMap<>();
+    private final Map<DeviceKey, DeviceEntry> devices = new HashMap<>();
+
+    public ConnectedDeviceCache(Duration flowAssociationTtl, Duration deviceTtl) {
+        this(Clock.systemUTC(), flowAssociationTtl, deviceTtl);
+    }
+
+    public ConnectedDeviceCache(Clock clock, Duration flowAssociationTtl, Duration deviceTtl) {
+        this.clock = clock;
+        this.flowAssociationTtl = flowAssociationTtl.toMillis();
+        this.deviceTtl = deviceTtl.toMillis();
+    }
+
+    /**
+     * Lookup flow association (result of flow lookup by packet's switch, port, vlans and cookie).
+     */
+    FlowRelatedData lookupFlowAssociation(ConnectedDevicePacketBase data) {
+        FlowAssociationKey key = makeFlowAssociationKey(data);
+        FlowAssociationEntry entry = flowAssociations.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.getExpireAt() < clock.millis()) {
+            flowAssociations.remove(key);
+            return null;
+        }
+        return entry.getFlowRelatedData();
+    }
+
+    void putFlowAssociation(ConnectedDevicePacketBase data, FlowRelatedData flowRelatedData) {
+        flowAssociations.put(makeFlowAssociationKey(data),
+                new FlowAssociationEntry(flowRelatedData, clock.millis() + flowAssociationTtl));
+    }
+
+    /**
+     * Account device sighting. Return true if the device is known and its persistent state match with the
+     * sighting, i.e. only "last seen" time must be updated. Such updates are postponed till the next flush.
+     */
+    boolean touch(DeviceKey key, FlowRelatedData flowRelatedData, Object attributes, long timestamp) {
+        DeviceEntry entry = devices.get(key);
+        if (entry == null
+                || !Objects.equals(entry.flowRelatedData, flowRelatedData)
+                || !Objects.equals(entry.attributes, attributes)) {
+            return false;
+        }
+
+        entry.lastSeen = Math.max(entry.lastSeen, timestamp);
+        entry.lastAccess = clock.millis();
+        return true;
+    }
+
+    /**
+     * Save device state that was written into DB.
+     */
+    void put(DeviceKey key, FlowRelatedData flowRelatedData, Object attributes, long timestamp) {
+        DeviceEntry entry = new DeviceEntry(flowRelatedData, attributes, timestamp, clock.millis());
+        devices.put(key, entry);
+    }
+
+    void remove(DeviceKey key) {
+        devices.remove(key);
+    }
+
+    /**
+     * Collect all devices with "last seen" time that was not written into DB and mark them as clean.
+     */
+    List<LastSeenUpdate> pullLastSeenUpdates() {
+        List<LastSeenUpdate> results = new ArrayList<>();
+        for (Map.Entry<DeviceKey, DeviceEntry> entry : devices.entrySet()) {
+            DeviceEntry device = entry.getValue();
+            if (device.persistedLastSeen < device.lastSeen) {
+                results.add(new LastSeenUpdate(entry.getKey(), device.lastSeen));
+                device.persistedLastSeen = device.lastSeen;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Remove all outdated entries. Must be called after {@link #pullLastSeenUpdates()}, because it do not check
+     * is device entry "clean" or not.
+     */
+    void evictExpired() {
+        long now = clock.millis();
+        flowAssociations.values().removeIf(entry -> entry.getExpireAt() < now);
+        devices.values().removeIf(entry -> entry.lastAccess + deviceTtl < now);
+    }
+
+    int size() {
+        return devices.size();
+    }
+
+    private static FlowAssociationKey makeFlowAssociationKey(ConnectedDevicePacketBase data) {
+        return new FlowAssociationKey(
+                data.getSwitchId(), data.getPortNumber(), data.getCookie(), new ArrayList<>(data.getVlans()));
+    }
+
+    @Value
+    static class DeviceKey {
+        ConnectedDeviceType type;
+        SwitchId switchId;
+        int portNumber;
+        int vlan;
+        String macAddress;
+        String chassisId;
+        String portId;
+        String ipAddress;
+    }
+
+    @Value
+    static class LastSeenUpdate {
+        DeviceKey device;
+        long lastSeen;
+    }
+
+    @Value
+    private static class FlowAssociationKey {
+        SwitchId switchId;
+        int portNumber;
+        long cookie;
+        List<Integer> vlans;
+    }
+
+    @Value
+    private static class FlowAssociationEntry {
+        FlowRelatedData flowRelatedData;
+        long expireAt;
+    }
+
+    private static class DeviceEntry {
+        private final FlowRelatedData flowRelatedData;
+        private final Object attributes;
+        private long lastSeen;
+        private long persistedLastSeen;
+        private long lastAccess;
+
+        DeviceEntry(FlowRelatedData flowRelatedData, Object attributes, long lastSeen, long lastAccess) {
+            this.flowRelatedData = flowRelatedData;
+            this.attributes = attributes;
+            this.lastSeen = lastSeen;
+            this.persistedLastSeen = lastSeen;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
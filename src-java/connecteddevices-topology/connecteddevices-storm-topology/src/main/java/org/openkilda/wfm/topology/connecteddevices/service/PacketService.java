@@ -44,12 +44,15 @@ import org.openkilda.persistence.repositories.SwitchConnectedDeviceRepository;
 import org.openkilda.persistence.repositories.SwitchRepository;
 import org.openkilda.persistence.repositories.TransitVlanRepository;
 import org.openkilda.persistence.tx.TransactionManager;
+import org.openkilda.wfm.topology.connecteddevices.service.ConnectedDeviceCache.DeviceKey;
+import org.openkilda.wfm.topology.connecteddevices.service.ConnectedDeviceCache.LastSeenUpdate;
 
 import com.google.common.annotations.VisibleForTesting;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -62,7 +65,18 @@ public class PacketService {
     private TransitVlanRepository transitVlanRepository;
     private FlowRepository flowRepository;
 
+    private final ConnectedDeviceCache deviceCache;
+
     public PacketService(PersistenceManager persistenceManager) {
+        this(persistenceManager, null);
+    }
+
+    /**
+     * Create service with device cache. Repeated sightings of known devices are absorbed by the cache and their
+     * "last seen" time is written into DB by {@link #flushDeviceCache()} calls.
+     */
+    public PacketService(PersistenceManager persistenceManager, ConnectedDeviceCache deviceCache) {
+        this.deviceCache = deviceCache;
         transactionManager = persistenceManager.getTransactionManager();
         switchRepository = persistenceManager.getRepositoryFactory().createSwitchRepository();
         switchConnectedDeviceRepository = persistenceManager.getRepositoryFactory()
@@ -75,17 +89,22 @@ public class PacketService {
      * Handle LLDP info data.
      */
     public void handleLldpData(LldpInfoData data) {
-        transactionManager.doInTransaction(() -> {
+        LldpAttributes attributes = new LldpAttributes(data);
+        if (absorbRepeatedSighting(data, attributes)) {
+            return;
+        }
+
+        FlowRelatedData persisted = transactionManager.doInTransaction(() -> {
 
-            FlowRelatedData flowRelatedData = findFlowRelatedData(data);
+            FlowRelatedData flowRelatedData = findFlowRelatedDataWithCache(data);
             if (flowRelatedData == null) {
-                return;
+                return null;
             }
 
             SwitchConnectedDevice device = getOrCreateLldpDevice(data, flowRelatedData.originalVlan);
 
             if (device == null) {
-                return;
+                return null;
             }
 
             device.setTtl(data.getTtl());
@@ -97,30 +116,130 @@ public class PacketService {
             device.setTimeLastSeen(Instant.ofEpochMilli(data.getTimestamp()));
             device.setFlowId(flowRelatedData.flowId);
             device.setSource(flowRelatedData.source);
+            return flowRelatedData;
         });
+
+        cacheDevice(data, persisted, attributes);
     }
 
     /**
      * Handle Arp info data.
      */
     public void handleArpData(ArpInfoData data) {
-        transactionManager.doInTransaction(() -> {
+        if (absorbRepeatedSighting(data, null)) {
+            return;
+        }
+
+        FlowRelatedData persisted = transactionManager.doInTransaction(() -> {
 
-            FlowRelatedData flowRelatedData = findFlowRelatedData(data);
+            FlowRelatedData flowRelatedData = findFlowRelatedDataWithCache(data);
             if (flowRelatedData == null) {
-                return;
+                return null;
             }
 
             SwitchConnectedDevice device = getOrCreateArpDevice(data, flowRelatedData.originalVlan);
 
             if (device == null) {
-                return;
+                return null;
             }
 
             device.setTimeLastSeen(Instant.ofEpochMilli(data.getTimestamp()));
             device.setFlowId(flowRelatedData.flowId);
             device.setSource(flowRelatedData.source);
+            return flowRelatedData;
         });
+
+        cacheDevice(data, persisted, null);
+    }
+
+    /**
+     * Write postponed "last seen" updates into DB and drop outdated cache entries.
+     */
+    public void flushDeviceCache() {
+        if (deviceCache == null) {
+            return;
+        }
+
+        List<LastSeenUpdate> updates = deviceCache.pullLastSeenUpdates();
+        if (!updates.isEmpty()) {
+            log.debug("Flush {} connected devices \"last seen\" updates", updates.size());
+            transactionManager.doInTransaction(() -> {
+                for (LastSeenUpdate entry : updates) {
+                    updateLastSeen(entry);
+                }
+            });
+        }
+        deviceCache.evictExpired();
+    }
+
+    private boolean absorbRepeatedSighting(ConnectedDevicePacketBase data, Object attributes) {
+        if (deviceCache == null) {
+            return false;
+        }
+        FlowRelatedData flowRelatedData = deviceCache.lookupFlowAssociation(data);
+        if (flowRelatedData == null) {
+            return false;
+        }
+        DeviceKey key = makeDeviceKey(data, flowRelatedData.getOriginalVlan());
+        return deviceCache.touch(key, flowRelatedData, attributes, data.getTimestamp());
+    }
+
+    private void cacheDevice(ConnectedDevicePacketBase data, FlowRelatedData flowRelatedData, Object attributes) {
+        if (deviceCache == null || flowRelatedData == null) {
+            return;
+        }
+        DeviceKey key = makeDeviceKey(data, flowRelatedData.getOriginalVlan());
+        deviceCache.put(key, flowRelatedData, attributes, data.getTimestamp());
+    }
+
+    private void updateLastSeen(LastSeenUpdate update) {
+        DeviceKey key = update.getDevice();
+        Optional<SwitchConnectedDevice> device;
+        if (key.getType() == LLDP) {
+            device = switchConnectedDeviceRepository.findLldpByUniqueFieldCombination(
+                    key.getSwitchId(), key.getPortNumber(), key.getVlan(), key.getMacAddress(), key.getChassisId(),
+                    key.getPortId());
+        } else {
+            device = switchConnectedDeviceRepository.findArpByUniqueFieldCombination(
+                    key.getSwitchId(), key.getPortNumber(), key.getVlan(), key.getMacAddress(), key.getIpAddress());
+        }
+
+        if (!device.isPresent()) {
+            // device was removed from DB, it will be recreated on next sighting
+            deviceCache.remove(key);
+            return;
+        }
+
+        Instant lastSeen = Instant.ofEpochMilli(update.getLastSeen());
+        Instant current = device.get().getTimeLastSeen();
+        if (current == null || current.isBefore(lastSeen)) {
+            device.get().setTimeLastSeen(lastSeen);
+        }
+    }
+
+    private FlowRelatedData findFlowRelatedDataWithCache(ConnectedDevicePacketBase data) {
+        if (deviceCache == null) {
+            return findFlowRelatedData(data);
+        }
+
+        FlowRelatedData flowRelatedData = deviceCache.lookupFlowAssociation(data);
+        if (flowRelatedData == null) {
+            flowRelatedData = findFlowRelatedData(data);
+            if (flowRelatedData != null) {
+                deviceCache.putFlowAssociation(data, flowRelatedData);
+            }
+        }
+        return flowRelatedData;
+    }
+
+    private static DeviceKey makeDeviceKey(ConnectedDevicePacketBase data, int vlan) {
+        if (data instanceof LldpInfoData) {
+            LldpInfoData lldp = (LldpInfoData) data;
+            return new DeviceKey(LLDP, data.getSwitchId(), data.getPortNumber(), vlan, data.getMacAddress(),
+                    lldp.getChassisId(), lldp.getPortId(), null);
+        }
+        return new DeviceKey(ARP, data.getSwitchId(), data.getPortNumber(), vlan, data.getMacAddress(),
+                null, null, ((ArpInfoData) data).getIpAddress());
     }
 
     private FlowRelatedData findFlowRelatedData(ConnectedDevicePacketBase data) {
@@ -421,6 +540,25 @@ public class PacketService {
         }
     }
 
+    @Value
+    private static class LldpAttributes {
+        Integer ttl;
+        String portDescription;
+        String systemName;
+        String systemDescription;
+        String systemCapabilities;
+        String managementAddress;
+
+        LldpAttributes(LldpInfoData data) {
+            ttl = data.getTtl();
+            portDescription = data.getPortDescription();
+            systemName = data.getSystemName();
+            systemDescription = data.getSystemDescription();
+            systemCapabilities = data.getSystemCapabilities();
+            managementAddress = data.getManagementAddress();
+        }
+    }
+
     @Value
     static class FlowRelatedData {
         int originalVlan;
@@ -44,6 +44,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -149,6 +150,27 @@ public class PacketServiceTest extends InMemoryGraphBasedTest {
         assertNotEquals(devices.iterator().next().getTimeFirstSeen(), devices.iterator().next().getTimeLastSeen());
     }
 
+    @Test
+    public void testHandleArpDataLastSeenPostponedTillCacheFlush() throws InterruptedException {
+        PacketService service = new PacketService(
+                persistenceManager, new ConnectedDeviceCache(Duration.ofSeconds(60), Duration.ofSeconds(300)));
+        // create
+        service.handleArpData(createArpInfoData());
+
+        Thread.sleep(10);
+        // update absorbed by cache
+        service.handleArpData(createArpInfoData());
+
+        SwitchConnectedDevice device = switchConnectedDeviceRepository.findAll().iterator().next();
+        assertEquals(device.getTimeFirstSeen(), device.getTimeLastSeen());
+
+        service.flushDeviceCache();
+
+        Collection<SwitchConnectedDevice> devices = switchConnectedDeviceRepository.findAll();
+        assertEquals(1, devices.size());
+        assertNotEquals(devices.iterator().next().getTimeFirstSeen(), devices.iterator().next().getTimeLastSeen());
+    }
+
     @Test
     public void testHandleLldpDataNonExistentSwitch() {
         LldpInfoData data = createLldpInfoDataData();
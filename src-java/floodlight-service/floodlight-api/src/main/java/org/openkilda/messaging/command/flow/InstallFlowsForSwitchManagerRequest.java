@@ -0,0 +1,52 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging.command.flow;
+
+import org.openkilda.messaging.command.CommandData;
+import org.openkilda.model.SwitchId;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Install a batch of switch rules using one speaker request. Speaker responds with one
+ * {@link org.openkilda.messaging.info.flow.FlowInstallResponse} (or error) when all rules of the batch are processed.
+ */
+@Value
+@Builder
+@EqualsAndHashCode(callSuper = false)
+public class InstallFlowsForSwitchManagerRequest extends CommandData {
+
+    @JsonProperty("switch_id")
+    SwitchId switchId;
+
+    @JsonProperty("flow_commands")
+    List<BaseFlow> flowCommands;
+
+    @JsonCreator
+    public InstallFlowsForSwitchManagerRequest(
+            @NonNull @JsonProperty("switch_id") SwitchId switchId,
+            @NonNull @JsonProperty("flow_commands") List<BaseFlow> flowCommands) {
+        this.switchId = switchId;
+        this.flowCommands = flowCommands;
+    }
+}
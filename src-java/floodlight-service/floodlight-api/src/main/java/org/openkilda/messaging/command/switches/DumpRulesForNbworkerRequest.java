@@ -32,8 +32,26 @@ public class DumpRulesForNbworkerRequest extends CommandData {
     @JsonProperty("switch_id")
     private SwitchId switchId;
 
+    /**
+     * Dump only rules with cookie equal to this value in the bits set in {@code cookieMask}. Whole flow table is
+     * dumped if the mask is not set.
+     */
+    @JsonProperty("cookie")
+    private Long cookie;
+
+    @JsonProperty("cookie_mask")
+    private Long cookieMask;
+
+    public DumpRulesForNbworkerRequest(SwitchId switchId) {
+        this(switchId, null, null);
+    }
+
     @JsonCreator
-    public DumpRulesForNbworkerRequest(@JsonProperty("switch_id") SwitchId switchId) {
+    public DumpRulesForNbworkerRequest(@JsonProperty("switch_id") SwitchId switchId,
+                                       @JsonProperty("cookie") Long cookie,
+                                       @JsonProperty("cookie_mask") Long cookieMask) {
         this.switchId = switchId;
+        this.cookie = cookie;
+        this.cookieMask = cookieMask;
     }
 }
@@ -20,6 +20,7 @@ import org.openkilda.floodlight.service.CommandProcessorService;
 import org.openkilda.floodlight.service.FeatureDetectorService;
 import org.openkilda.floodlight.service.IService;
 import org.openkilda.floodlight.service.connected.ConnectedDevicesService;
+import org.openkilda.floodlight.service.metrics.CommandMetricsService;
 import org.openkilda.floodlight.service.of.InputService;
 import org.openkilda.floodlight.service.session.SessionService;
 import org.openkilda.floodlight.utils.CommandContextFactory;
@@ -49,6 +50,7 @@ public class KildaCore implements IFloodlightModule, IFloodlightService {
     public KildaCore() {
         services = ImmutableMap.<Class<? extends IFloodlightService>, IFloodlightService>builder()
                 .put(KildaCore.class, this)
+                .put(CommandMetricsService.class, new CommandMetricsService(this))
                 .put(CommandProcessorService.class, new CommandProcessorService(this, commandContextFactory))
                 .put(InputService.class, new InputService(commandContextFactory))
                 .put(SessionService.class, new SessionService())
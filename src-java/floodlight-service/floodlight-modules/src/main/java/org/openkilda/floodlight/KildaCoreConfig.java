@@ -35,6 +35,22 @@ public interface KildaCoreConfig {
     @Default("300")
     long getCommandIdleWorkersKeepAliveSeconds();
 
+    /**
+     * OF sessions closed within this time window on the same switch share one closing barrier request. Zero
+     * disables coalescing, so each session sends its own barrier.
+     */
+    @Key("session-barrier-coalescing-window-millis")
+    @Default("0")
+    long getSessionBarrierCoalescingWindowMillis();
+
+    /**
+     * Collect per command type and per switch latency of speaker commands processing (queue wait, handling, closing
+     * barrier wait and response publish). Collected values are available via {@code /wm/kilda/metrics/commands}.
+     */
+    @Key("command-metrics-enabled")
+    @Default("false")
+    boolean isCommandMetricsEnabled();
+
     @Key("flow-ping-magic-src-mac-address")
     @Default("00:26:E1:FF:FF:FE")
     String getFlowPingMagicSrcMacAddress();
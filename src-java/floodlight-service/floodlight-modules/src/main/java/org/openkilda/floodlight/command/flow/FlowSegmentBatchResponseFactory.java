@@ -0,0 +1,62 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.command.flow;
+
+import org.openkilda.messaging.Message;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Response factory shared by all commands of one batched request. Produces a response only for the last completed
+ * command, so requester receives exactly one response per batch. If any command fails the batch is reported as
+ * failed with the first caught error.
+ */
+public class FlowSegmentBatchResponseFactory extends FlowSegmentSyncResponseFactory {
+    private final AtomicInteger pending;
+    private final AtomicReference<Exception> error = new AtomicReference<>();
+
+    public FlowSegmentBatchResponseFactory(String correlationId, String targetKafkaTopic, int size) {
+        super(correlationId, targetKafkaTopic);
+        this.pending = new AtomicInteger(size);
+    }
+
+    @Override
+    public Optional<Message> makeSuccessResponse() {
+        return complete(null);
+    }
+
+    @Override
+    public Optional<Message> makeFailResponse(Exception e) {
+        return complete(e);
+    }
+
+    private Optional<Message> complete(Exception e) {
+        if (e != null) {
+            error.compareAndSet(null, e);
+        }
+        if (0 < pending.decrementAndGet()) {
+            return Optional.empty();
+        }
+
+        Exception batchError = error.get();
+        if (batchError == null) {
+            return super.makeSuccessResponse();
+        }
+        return super.makeFailResponse(batchError);
+    }
+}
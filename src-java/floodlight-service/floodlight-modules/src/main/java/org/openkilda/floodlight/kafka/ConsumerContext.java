@@ -23,8 +23,10 @@ import org.openkilda.floodlight.switchmanager.ISwitchManager;
 
 import lombok.Getter;
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
+import net.floodlightcontroller.threadpool.IThreadPoolService;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 @Getter
 public class ConsumerContext {
@@ -34,6 +36,12 @@ public class ConsumerContext {
     private final SpeakerCommandProcessor commandProcessor;
     private final NetworkDiscoveryEmitter discoveryEmitter;
 
+    /**
+     * Executor for async switch replies processing, must be used to keep OF IO threads free from serialization and
+     * kafka sending.
+     */
+    private final Executor replyExecutor;
+
     public ConsumerContext(FloodlightModuleContext moduleContext, KafkaMessageCollectorConfig config) {
         this.moduleContext = moduleContext;
 
@@ -43,6 +51,8 @@ public class ConsumerContext {
 
         Duration flushDelay = Duration.ofMillis(config.getDiscoveryFlushDelayMillis());
         discoveryEmitter = new NetworkDiscoveryEmitter(moduleContext, flushDelay);
+
+        replyExecutor = moduleContext.getServiceImpl(IThreadPoolService.class).getScheduledExecutor();
     }
 
     public String getRegion() {
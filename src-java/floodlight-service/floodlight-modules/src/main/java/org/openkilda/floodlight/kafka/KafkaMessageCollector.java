@@ -32,6 +32,7 @@ import com.google.common.collect.ImmutableMap;
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
 import net.floodlightcontroller.core.module.IFloodlightModule;
 import net.floodlightcontroller.core.module.IFloodlightService;
+import net.floodlightcontroller.threadpool.IThreadPoolService;
 import org.apache.kafka.clients.consumer.OffsetResetStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,7 +72,8 @@ public class KafkaMessageCollector implements IFloodlightModule {
                 CommandProcessorService.class,
                 SwitchTrackingService.class,
                 SessionService.class,
-                IStatisticsService.class);
+                IStatisticsService.class,
+                IThreadPoolService.class);
     }
 
     @Override
@@ -53,6 +53,7 @@ import org.openkilda.floodlight.command.Command;
 import org.openkilda.floodlight.command.CommandContext;
 import org.openkilda.floodlight.command.SpeakerCommand;
 import org.openkilda.floodlight.command.SpeakerCommandReport;
+import org.openkilda.floodlight.command.flow.FlowSegmentBatchResponseFactory;
 import org.openkilda.floodlight.command.flow.FlowSegmentResponseFactory;
 import org.openkilda.floodlight.command.flow.FlowSegmentSyncResponseFactory;
 import org.openkilda.floodlight.command.flow.FlowSegmentWrapperCommand;
@@ -75,12 +76,15 @@ import org.openkilda.floodlight.model.FlowSegmentMetadata;
 import org.openkilda.floodlight.model.RulesContext;
 import org.openkilda.floodlight.service.CommandProcessorService;
 import org.openkilda.floodlight.service.kafka.IKafkaProducerService;
+import org.openkilda.floodlight.service.metrics.CommandMetricsService;
+import org.openkilda.floodlight.service.metrics.CommandMetricsService.Phase;
 import org.openkilda.floodlight.switchmanager.ISwitchManager;
 import org.openkilda.floodlight.switchmanager.SwitchTrackingService;
 import org.openkilda.floodlight.utils.CorrelationContext;
 import org.openkilda.floodlight.utils.CorrelationContext.CorrelationContextClosable;
 import org.openkilda.messaging.AliveRequest;
 import org.openkilda.messaging.AliveResponse;
+import org.openkilda.messaging.Message;
 import org.openkilda.messaging.MessageContext;
 import org.openkilda.messaging.command.BroadcastWrapper;
 import org.openkilda.messaging.command.CommandData;
@@ -94,6 +98,7 @@ import org.openkilda.messaging.command.flow.BaseInstallFlow;
 import org.openkilda.messaging.command.flow.DeleteMeterRequest;
 import org.openkilda.messaging.command.flow.InstallEgressFlow;
 import org.openkilda.messaging.command.flow.InstallFlowForSwitchManagerRequest;
+import org.openkilda.messaging.command.flow.InstallFlowsForSwitchManagerRequest;
 import org.openkilda.messaging.command.flow.InstallIngressFlow;
 import org.openkilda.messaging.command.flow.InstallOneSwitchFlow;
 import org.openkilda.messaging.command.flow.InstallServer42Flow;
@@ -104,6 +109,7 @@ import org.openkilda.messaging.command.flow.MeterModifyCommandRequest;
 import org.openkilda.messaging.command.flow.ReinstallDefaultFlowForSwitchManagerRequest;
 import org.openkilda.messaging.command.flow.RemoveFlow;
 import org.openkilda.messaging.command.flow.RemoveFlowForSwitchManagerRequest;
+import org.openkilda.messaging.command.flow.RemoveFlowsForSwitchManagerRequest;
 import org.openkilda.messaging.command.switches.ConnectModeRequest;
 import org.openkilda.messaging.command.switches.DeleteRulesAction;
 import org.openkilda.messaging.command.switches.DeleteRulesCriteria;
@@ -172,16 +178,17 @@ import lombok.Getter;
 import net.floodlightcontroller.core.IOFSwitch;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.projectfloodlight.openflow.protocol.OFFlowMod;
-import org.projectfloodlight.openflow.protocol.OFFlowStatsEntry;
 import org.projectfloodlight.openflow.protocol.OFGroupDescStatsEntry;
 import org.projectfloodlight.openflow.protocol.OFMeterConfig;
 import org.projectfloodlight.openflow.protocol.OFPortDesc;
 import org.projectfloodlight.openflow.types.DatapathId;
+import org.projectfloodlight.openflow.types.U64;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -189,6 +196,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 class RecordHandler implements Runnable {
@@ -201,6 +210,12 @@ class RecordHandler implements Runnable {
     private final ConsumerRecord<String, String> record;
 
     private final CommandProcessorService commandProcessor;
+    private final CommandMetricsService metrics;
+
+    private final long receivedAt;
+    private String metricsCommand = "unknown";
+    private String metricsSwitchId;
+    private boolean isFailed = false;
 
     public RecordHandler(ConsumerContext context, List<CommandDispatcher<?>> dispatchers,
                          ConsumerRecord<String, String> record) {
@@ -209,6 +224,8 @@ class RecordHandler implements Runnable {
         this.record = record;
 
         this.commandProcessor = context.getModuleContext().getServiceImpl(CommandProcessorService.class);
+        this.metrics = context.getModuleContext().getServiceImpl(CommandMetricsService.class);
+        this.receivedAt = metrics.now();
     }
 
     private void handleCommand(CommandMessage message) {
@@ -221,6 +238,8 @@ class RecordHandler implements Runnable {
             doDiscoverPathCommand(data);
         } else if (data instanceof RemoveFlowForSwitchManagerRequest) {
             doDeleteFlowForSwitchManager(message);
+        } else if (data instanceof RemoveFlowsForSwitchManagerRequest) {
+            doDeleteFlowsForSwitchManager(message);
         } else if (data instanceof ReinstallDefaultFlowForSwitchManagerRequest) {
             doReinstallDefaultFlowForSwitchManager(message);
         } else if (data instanceof NetworkCommandData) {
@@ -241,6 +260,8 @@ class RecordHandler implements Runnable {
             doDumpRulesForSwitchManagerRequest(message);
         } else if (data instanceof InstallFlowForSwitchManagerRequest) {
             doInstallFlowForSwitchManager(message);
+        } else if (data instanceof InstallFlowsForSwitchManagerRequest) {
+            doInstallFlowsForSwitchManager(message);
         } else if (data instanceof DeleterMeterForSwitchManagerRequest) {
             doDeleteMeter(message, context.getKafkaSwitchManagerTopic());
         } else if (data instanceof DeleteMeterRequest) {
@@ -415,6 +436,45 @@ class RecordHandler implements Runnable {
         }
     }
 
+    /**
+     * Removes a batch of flows, responds once for the whole batch. A failed removal does not stop the batch, all
+     * failures are collected and reported in one error response.
+     *
+     * @param message command message for flows deletion
+     */
+    private void doDeleteFlowsForSwitchManager(final CommandMessage message) {
+        RemoveFlowsForSwitchManagerRequest request = (RemoveFlowsForSwitchManagerRequest) message.getData();
+        IKafkaProducerService producerService = getKafkaProducer();
+        String replyToTopic = context.getKafkaSwitchManagerTopic();
+        DatapathId dpid = DatapathId.of(request.getSwitchId().toLong());
+
+        List<String> failures = new ArrayList<>();
+        for (RemoveFlow command : request.getFlowCommands()) {
+            try {
+                processDeleteFlow(command, dpid);
+            } catch (SwitchOperationException e) {
+                logger.error("Failed to remove rule {} (flow '{}') on switch '{}'",
+                        command.getCookie(), command.getId(), request.getSwitchId(), e);
+                failures.add(format("flow '%s' cookie %s: %s", command.getId(), command.getCookie(), e.getMessage()));
+            }
+        }
+
+        if (failures.isEmpty()) {
+            InfoMessage response = new InfoMessage(new FlowRemoveResponse(), System.currentTimeMillis(),
+                    message.getCorrelationId());
+            producerService.sendMessageAndTrack(replyToTopic, message.getCorrelationId(), response);
+        } else {
+            logger.error("Failed to remove {} of {} rules on switch '{}'",
+                    failures.size(), request.getFlowCommands().size(), request.getSwitchId());
+            anError(ErrorType.DELETION_FAILURE)
+                    .withMessage(String.join("; ", failures))
+                    .withDescription(request.getSwitchId().toString())
+                    .withCorrelationId(message.getCorrelationId())
+                    .withTopic(replyToTopic)
+                    .sendVia(producerService);
+        }
+    }
+
     /**
      * Reinstall default flow.
      *
@@ -1176,20 +1236,26 @@ class RecordHandler implements Runnable {
         try {
             logger.debug("Loading installed groups for switch {}", switchId);
 
-            List<OFGroupDescStatsEntry> ofGroupDescStatsEntries = context.getSwitchManager()
-                                                                         .dumpGroups(DatapathId.of(switchId.toLong()));
-
-            List<GroupEntry> groups = ofGroupDescStatsEntries.stream()
-                    .map(OfFlowStatsMapper.INSTANCE::toFlowGroupEntry)
-                    .collect(Collectors.toList());
-
-            SwitchGroupEntries response = SwitchGroupEntries.builder()
-                    .switchId(switchId)
-                    .groupEntries(groups)
-                    .build();
-
-            InfoMessage infoMessage = new InfoMessage(response, System.currentTimeMillis(), correlationId);
-            producerService.sendMessageAndTrack(context.getKafkaSwitchManagerTopic(), correlationId, infoMessage);
+            handleAsyncDumpReply(context.getSwitchManager().dumpGroupsAsync(DatapathId.of(switchId.toLong())),
+                    correlationId, context.getKafkaSwitchManagerTopic(), (ofGroupDescStatsEntries, error) -> {
+                        List<OFGroupDescStatsEntry> entries = ofGroupDescStatsEntries;
+                        if (error != null) {
+                            logger.error("Could not dump groups on switch {}.", switchId, error);
+                            entries = Collections.emptyList();
+                        }
+                        List<GroupEntry> groups = entries.stream()
+                                .map(OfFlowStatsMapper.INSTANCE::toFlowGroupEntry)
+                                .collect(Collectors.toList());
+
+                        SwitchGroupEntries response = SwitchGroupEntries.builder()
+                                .switchId(switchId)
+                                .groupEntries(groups)
+                                .build();
+
+                        InfoMessage infoMessage = new InfoMessage(response, System.currentTimeMillis(), correlationId);
+                        producerService.sendMessageAndTrack(
+                                context.getKafkaSwitchManagerTopic(), correlationId, infoMessage);
+                    });
         } catch (SwitchOperationException e) {
             logger.error("Dumping of groups on switch '{}' was unsuccessful: {}", switchId, e.getMessage());
             anError(ErrorType.NOT_FOUND)
@@ -1212,40 +1278,85 @@ class RecordHandler implements Runnable {
     }
 
     private void doDumpRulesForNbworkerRequest(final CommandMessage message) {
-        processDumpRulesRequest(((DumpRulesForNbworkerRequest) message.getData()).getSwitchId(),
+        DumpRulesForNbworkerRequest request = (DumpRulesForNbworkerRequest) message.getData();
+        U64 cookie = U64.ZERO;
+        U64 cookieMask = U64.ZERO;
+        if (request.getCookieMask() != null && request.getCookie() != null) {
+            cookie = U64.of(request.getCookie());
+            cookieMask = U64.of(request.getCookieMask());
+        }
+        processDumpRulesRequest(request.getSwitchId(), cookie, cookieMask,
                 context.getKafkaNbWorkerTopic(), message.getCorrelationId(), message.getTimestamp());
     }
 
     private void processDumpRulesRequest(final SwitchId switchId, final String replyToTopic,
                                          String correlationId, long timestamp) {
+        processDumpRulesRequest(switchId, U64.ZERO, U64.ZERO, replyToTopic, correlationId, timestamp);
+    }
+
+    private void processDumpRulesRequest(final SwitchId switchId, final U64 cookie, final U64 cookieMask,
+                                         final String replyToTopic, String correlationId, long timestamp) {
         final IKafkaProducerService producerService = getKafkaProducer();
 
         try {
-            logger.debug("Loading installed rules for switch {}", switchId);
-
-            List<OFFlowStatsEntry> flowEntries =
-                    context.getSwitchManager().dumpFlowTable(DatapathId.of(switchId.toLong()));
-            List<FlowEntry> flows = flowEntries.stream()
-                    .map(OfFlowStatsMapper.INSTANCE::toFlowEntry)
-                    .collect(Collectors.toList());
-
-            SwitchFlowEntries response = SwitchFlowEntries.builder()
-                    .switchId(switchId)
-                    .flowEntries(flows)
-                    .build();
-            InfoMessage infoMessage = new InfoMessage(response, timestamp, correlationId);
-            producerService.sendMessageAndTrack(replyToTopic, correlationId, infoMessage);
+            logger.debug("Loading installed rules for switch {} (cookie {}, mask {})", switchId, cookie, cookieMask);
+
+            DatapathId dpId = DatapathId.of(switchId.toLong());
+            handleAsyncDumpReply(context.getSwitchManager().dumpFlowTableAsync(dpId, cookie, cookieMask),
+                    correlationId, replyToTopic, (flowEntries, error) -> {
+                        if (error != null) {
+                            logger.error("Could not get flow stats for {}.", dpId, error);
+                            sendDumpRulesError(new SwitchNotFoundException(dpId), replyToTopic, correlationId);
+                            return;
+                        }
+
+                        List<FlowEntry> flows = flowEntries.stream()
+                                .map(OfFlowStatsMapper.INSTANCE::toFlowEntry)
+                                .collect(Collectors.toList());
+
+                        SwitchFlowEntries response = SwitchFlowEntries.builder()
+                                .switchId(switchId)
+                                .flowEntries(flows)
+                                .build();
+                        InfoMessage infoMessage = new InfoMessage(response, timestamp, correlationId);
+                        producerService.sendMessageAndTrack(replyToTopic, correlationId, infoMessage);
+                    });
         } catch (SwitchOperationException e) {
-            logger.error("Dumping of rules on switch '{}' was unsuccessful: {}", switchId, e.getMessage());
-            anError(ErrorType.NOT_FOUND)
-                    .withMessage(e.getMessage())
-                    .withDescription("The switch was not found when requesting a rules dump.")
-                    .withCorrelationId(correlationId)
-                    .withTopic(replyToTopic)
-                    .sendVia(producerService);
+            sendDumpRulesError(e, replyToTopic, correlationId);
         }
     }
 
+    /**
+     * Process the result of an async switch dump out of the OF IO thread that has completed the dump future. Any
+     * error raised by the reply handler is logged and reported to the requester instead of being lost.
+     */
+    private <T> void handleAsyncDumpReply(CompletableFuture<T> future, String correlationId, String replyToTopic,
+                                          BiConsumer<T, Throwable> handler) {
+        future.whenCompleteAsync((result, error) -> {
+            try (CorrelationContextClosable closable = CorrelationContext.create(correlationId)) {
+                handler.accept(result, error);
+            } catch (Exception e) {
+                logger.error("Unable to process switch dump reply: {}", e.getMessage(), e);
+                anError(ErrorType.INTERNAL_ERROR)
+                        .withMessage(e.getMessage())
+                        .withDescription("Unable to process switch dump reply")
+                        .withCorrelationId(correlationId)
+                        .withTopic(replyToTopic)
+                        .sendVia(getKafkaProducer());
+            }
+        }, context.getReplyExecutor());
+    }
+
+    private void sendDumpRulesError(SwitchOperationException e, String replyToTopic, String correlationId) {
+        logger.error("Dumping of rules on switch '{}' was unsuccessful: {}", e.getDpId(), e.getMessage());
+        anError(ErrorType.NOT_FOUND)
+                .withMessage(e.getMessage())
+                .withDescription("The switch was not found when requesting a rules dump.")
+                .withCorrelationId(correlationId)
+                .withTopic(replyToTopic)
+                .sendVia(getKafkaProducer());
+    }
+
     /**
      * Install of flow on the switch from SwitchManager topology.
      *
@@ -1291,6 +1402,48 @@ class RecordHandler implements Runnable {
         getKafkaProducer().sendMessageAndTrack(replyToTopic, message.getCorrelationId(), response);
     }
 
+    /**
+     * Install a batch of flows from SwitchManager topology, responds once for the whole batch.
+     *
+     * @param message with list of flows.
+     */
+    private void doInstallFlowsForSwitchManager(final CommandMessage message) {
+        InstallFlowsForSwitchManagerRequest request = (InstallFlowsForSwitchManagerRequest) message.getData();
+
+        String replyToTopic = context.getKafkaSwitchManagerTopic();
+        List<BaseFlow> commands = request.getFlowCommands();
+        if (commands.isEmpty()) {
+            InfoMessage response = new InfoMessage(new FlowInstallResponse(), System.currentTimeMillis(),
+                    message.getCorrelationId());
+            getKafkaProducer().sendMessageAndTrack(replyToTopic, message.getCorrelationId(), response);
+            return;
+        }
+
+        FlowSegmentBatchResponseFactory responseFactory = new FlowSegmentBatchResponseFactory(
+                message.getCorrelationId(), replyToTopic, commands.size());
+        MessageContext messageContext = new MessageContext(message);
+        for (BaseFlow command : commands) {
+            Optional<FlowSegmentWrapperCommand> syncCommand = makeSyncCommand(
+                    command, messageContext, responseFactory);
+            if (syncCommand.isPresent()) {
+                handleSpeakerCommand(syncCommand.get());
+                continue;
+            }
+
+            Optional<Message> response;
+            try {
+                installFlow(command);
+                response = responseFactory.makeSuccessResponse();
+            } catch (SwitchOperationException | FlowCommandException e) {
+                logger.error("Error during flow installation (batch of {} rules on {}): {}",
+                        commands.size(), request.getSwitchId(), e.getMessage());
+                response = responseFactory.makeFailResponse(e);
+            }
+            response.ifPresent(entry -> getKafkaProducer().sendMessageAndTrack(
+                    replyToTopic, message.getCorrelationId(), entry));
+        }
+    }
+
     private void installFlow(BaseFlow command) throws FlowCommandException,
             SwitchOperationException {
         logger.debug("Processing flow install command {}", command);
@@ -1505,17 +1658,24 @@ class RecordHandler implements Runnable {
         try {
             logger.debug("Get all meters for switch {}", switchId);
             ISwitchManager switchManager = context.getSwitchManager();
-            List<OFMeterConfig> meterEntries = switchManager.dumpMeters(DatapathId.of(switchId.toLong()));
-            List<MeterEntry> meters = meterEntries.stream()
-                    .map(OfMeterConverter::toMeterEntry)
-                    .collect(Collectors.toList());
-
-            SwitchMeterEntries response = SwitchMeterEntries.builder()
-                    .switchId(switchId)
-                    .meterEntries(meters)
-                    .build();
-            InfoMessage infoMessage = new InfoMessage(response, timestamp, correlationId);
-            producerService.sendMessageAndTrack(replyToTopic, correlationId, infoMessage);
+            handleAsyncDumpReply(switchManager.dumpMetersAsync(DatapathId.of(switchId.toLong())),
+                    correlationId, replyToTopic, (ofMeterEntries, error) -> {
+                        List<OFMeterConfig> entries = ofMeterEntries;
+                        if (error != null) {
+                            logger.error("Could not get meter config stats for {}.", switchId, error);
+                            entries = Collections.emptyList();
+                        }
+                        List<MeterEntry> meters = entries.stream()
+                                .map(OfMeterConverter::toMeterEntry)
+                                .collect(Collectors.toList());
+
+                        SwitchMeterEntries response = SwitchMeterEntries.builder()
+                                .switchId(switchId)
+                                .meterEntries(meters)
+                                .build();
+                        InfoMessage infoMessage = new InfoMessage(response, timestamp, correlationId);
+                        producerService.sendMessageAndTrack(replyToTopic, correlationId, infoMessage);
+                    });
         } catch (UnsupportedSwitchOperationException e) {
             logger.info("Meters not supported: {}", switchId);
             InfoMessage infoMessage = new InfoMessage(new SwitchMeterUnsupported(switchId), timestamp, correlationId);
@@ -1622,8 +1782,12 @@ class RecordHandler implements Runnable {
             message = MAPPER.readValue(value, CommandMessage.class);
         } catch (Exception exception) {
             logger.error("error parsing record '{}'", record.value(), exception);
+            isFailed = true;
             return;
         }
+        if (message.getData() != null) {
+            metricsCommand = message.getData().getClass().getSimpleName();
+        }
 
         // Process the message within the message correlation context.
         try (CorrelationContextClosable closable = CorrelationContext.create(message.getCorrelationId())) {
@@ -1638,6 +1802,7 @@ class RecordHandler implements Runnable {
             }
         } catch (Exception exception) {
             logger.error("error processing message '{}'", message, exception);
+            isFailed = true;
         }
     }
 
@@ -1728,6 +1893,8 @@ class RecordHandler implements Runnable {
             return false;
         }
 
+        metricsCommand = speakerCommand.getClass().getSimpleName();
+        metricsSwitchId = speakerCommand.getSwitchId().toString();
         handleSpeakerCommand(speakerCommand);
         return true;
     }
@@ -1742,7 +1909,11 @@ class RecordHandler implements Runnable {
 
     @Override
     public void run() {
+        long startedAt = metrics.now();
         parseRecord(record);
+
+        metrics.record(Phase.QUEUE_WAIT, metricsCommand, metricsSwitchId, receivedAt, startedAt, false);
+        metrics.record(Phase.HANDLE, metricsCommand, metricsSwitchId, startedAt, isFailed);
     }
 
     private boolean dispatch(CommandContext commandContext, CommandMessage message) {
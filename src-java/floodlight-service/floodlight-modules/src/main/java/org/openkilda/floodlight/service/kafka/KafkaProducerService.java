@@ -15,6 +15,8 @@
 
 package org.openkilda.floodlight.service.kafka;
 
+import org.openkilda.floodlight.service.metrics.CommandMetricsService;
+import org.openkilda.floodlight.service.metrics.CommandMetricsService.Phase;
 import org.openkilda.messaging.AbstractMessage;
 import org.openkilda.messaging.Message;
 import org.openkilda.messaging.info.InfoData;
@@ -39,11 +41,13 @@ public class KafkaProducerService implements IKafkaProducerService {
 
     private int failedSendMessageCounter;
     private Producer<String, String> producer;
+    private CommandMetricsService metrics;
     private final ObjectMapper jsonObjectMapper = new ObjectMapper();
 
     @Override
     public void setup(FloodlightModuleContext moduleContext) {
         producer = moduleContext.getServiceImpl(KafkaUtilityService.class).makeProducer();
+        metrics = moduleContext.getServiceImpl(CommandMetricsService.class);
     }
 
     public void sendMessageAndTrack(String topic, Message message) {
@@ -56,8 +60,7 @@ public class KafkaProducerService implements IKafkaProducerService {
 
     @Override
     public void sendMessageAndTrack(String topic, String key, AbstractMessage message) {
-        produce(encode(topic, key, message), new SendStatusCallback(this, topic,
-                message.getMessageContext().getCorrelationId()));
+        produce(encode(topic, key, message), new SendStatusCallback(this, topic, message));
     }
 
     /**
@@ -107,11 +110,17 @@ public class KafkaProducerService implements IKafkaProducerService {
         private final String correlationId;
         private final Message message;
 
-        SendStatusCallback(KafkaProducerService service, String topic, String correlationId) {
+        private final String payloadType;
+        private final long sentAt;
+
+        SendStatusCallback(KafkaProducerService service, String topic, AbstractMessage message) {
             this.service = service;
             this.topic = topic;
-            this.correlationId = correlationId;
+            this.correlationId = message.getMessageContext().getCorrelationId();
             this.message = null;
+
+            payloadType = message.getClass().getSimpleName();
+            sentAt = service.metrics.now();
         }
 
         SendStatusCallback(KafkaProducerService service, String topic, Message message) {
@@ -119,12 +128,20 @@ public class KafkaProducerService implements IKafkaProducerService {
             this.topic = topic;
             this.correlationId = message.getCorrelationId();
             this.message = message;
+
+            if (message instanceof InfoMessage && ((InfoMessage) message).getData() != null) {
+                payloadType = ((InfoMessage) message).getData().getClass().getSimpleName();
+            } else {
+                payloadType = message.getClass().getSimpleName();
+            }
+            sentAt = service.metrics.now();
         }
 
         @Override
         public void onCompletion(RecordMetadata metadata, Exception exception) {
             String error = exception == null ? null : exception.toString();
             logger.debug("{}: {}, {}", this.getClass().getCanonicalName(), metadata, error);
+            service.metrics.record(Phase.PUBLISH, payloadType, null, sentAt, exception != null);
 
             if (exception == null) {
                 service.failedSendMessageCounter = 0;
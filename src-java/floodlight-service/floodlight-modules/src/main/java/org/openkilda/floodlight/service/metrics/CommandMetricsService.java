@@ -0,0 +1,148 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.service.metrics;
+
+import org.openkilda.floodlight.KildaCore;
+import org.openkilda.floodlight.service.IService;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.floodlightcontroller.core.module.FloodlightModuleContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and error counters of speaker commands processing, grouped by command type, switch and processing phase.
+ *
+ * <p>When disabled, {@link #now()} returns zero and all {@code record} calls with zero start time return
+ * immediately, so instrumented code pays neither for time measurement nor for counters update.
+ */
+@Slf4j
+public class CommandMetricsService implements IService {
+    private final KildaCore kildaCore;
+
+    private volatile boolean enabled = false;
+
+    private final Map<MetricKey, LatencyStats> stats = new ConcurrentHashMap<>();
+
+    public CommandMetricsService(KildaCore kildaCore) {
+        this.kildaCore = kildaCore;
+    }
+
+    @Override
+    public void setup(FloodlightModuleContext moduleContext) {
+        enabled = kildaCore.getConfig().isCommandMetricsEnabled();
+        log.info("config - command metrics enabled = {}", enabled);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Return time mark to be passed into {@code record} methods, or zero if metrics are disabled.
+     */
+    public long now() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public void record(Phase phase, String command, String switchId, long startedAt) {
+        record(phase, command, switchId, startedAt, false);
+    }
+
+    /**
+     * Account time passed since {@code startedAt} mark.
+     */
+    public void record(Phase phase, String command, String switchId, long startedAt, boolean isError) {
+        if (startedAt == 0) {
+            return;
+        }
+        record(phase, command, switchId, startedAt, System.nanoTime(), isError);
+    }
+
+    /**
+     * Account time passed between {@code startedAt} and {@code finishedAt} marks.
+     */
+    public void record(
+            Phase phase, String command, String switchId, long startedAt, long finishedAt, boolean isError) {
+        if (startedAt == 0 || finishedAt == 0) {
+            return;
+        }
+        stats.computeIfAbsent(new MetricKey(phase, command, switchId), key -> new LatencyStats())
+                .update(finishedAt - startedAt, isError);
+    }
+
+    /**
+     * Produce snapshot of all collected metrics.
+     */
+    public List<CommandMetricsEntry> dump() {
+        List<CommandMetricsEntry> results = new ArrayList<>(stats.size());
+        for (Map.Entry<MetricKey, LatencyStats> entry : stats.entrySet()) {
+            MetricKey key = entry.getKey();
+            LatencyStats value = entry.getValue();
+            long count = value.count.sum();
+            results.add(new CommandMetricsEntry(
+                    key.getPhase(), key.getCommand(), key.getSwitchId(), count, value.errors.sum(),
+                    count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(value.total.sum() / count),
+                    TimeUnit.NANOSECONDS.toMicros(value.max.get())));
+        }
+        return results;
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    public enum Phase {
+        /** Time between kafka record receive and handler start. */
+        QUEUE_WAIT,
+        /** Time spent by kafka record handler. */
+        HANDLE,
+        /** Time between OF session close and receive of closing barrier response. */
+        BARRIER_WAIT,
+        /** Time between kafka send call and broker acknowledge. */
+        PUBLISH
+    }
+
+    @Value
+    private static class MetricKey {
+        Phase phase;
+        String command;
+        String switchId;
+    }
+
+    private static class LatencyStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        void update(long latency, boolean isError) {
+            count.increment();
+            if (isError) {
+                errors.increment();
+            }
+            total.add(latency);
+            max.accumulateAndGet(latency, Math::max);
+        }
+    }
+}
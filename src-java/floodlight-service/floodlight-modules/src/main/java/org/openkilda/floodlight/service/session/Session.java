@@ -20,6 +20,8 @@ import org.openkilda.floodlight.error.SessionConnectionLostException;
 import org.openkilda.floodlight.error.SessionErrorResponseException;
 import org.openkilda.floodlight.error.SessionRevertException;
 import org.openkilda.floodlight.error.SwitchWriteException;
+import org.openkilda.floodlight.service.metrics.CommandMetricsService;
+import org.openkilda.floodlight.service.metrics.CommandMetricsService.Phase;
 import org.openkilda.floodlight.utils.CorrelationContext;
 import org.openkilda.messaging.MessageContext;
 
@@ -51,6 +53,10 @@ import java.util.stream.Stream;
  * successful write operation.
  *
  * <p>In other words you will not get successful confirmation for sent messaged until you close the session.
+ *
+ * <p>If barrier coalescing is enabled, closing barrier is not sent by the session itself. Sessions closed on the
+ * same switch within coalescing window share one barrier request, responses on regular requests are still matched
+ * to the session by their xid.
  */
 public class Session implements AutoCloseable {
     private static final Logger log = LoggerFactory.getLogger(Session.class);
@@ -107,15 +113,22 @@ public class Session implements AutoCloseable {
             throw new IllegalStateException("Session already closed");
         }
 
+        CommandMetricsService metrics = group.getMetrics();
+        long closedAt = metrics.now();
+        if (group.isBarrierCoalescingEnabled()) {
+            closingBarrier = new CompletableFuture<>();
+            trackClosingBarrier(metrics, closedAt);
+            group.closeCoalesced(this);
+            return;
+        }
+
         OFBarrierRequest barrier = sw.getOFFactory().barrierRequest();
         closingBarrier = prepareRequest(barrier);
+        trackClosingBarrier(metrics, closedAt);
         try {
             actualWrite(barrier);
         } catch (SwitchWriteException e) {
-            closingBarrier.completeExceptionally(e);
-            SessionCloseException closeError = new SessionCloseException(sw.getId());
-            incompleteRequestsStream()
-                    .forEach(entry -> entry.completeExceptionally(closeError));
+            handleClosingBarrierWriteError(e);
         }
     }
 
@@ -132,6 +145,10 @@ public class Session implements AutoCloseable {
             SessionConnectionLostException e = new SessionConnectionLostException(sw.getId());
             incompleteRequestsStream()
                     .forEach(entry -> entry.completeExceptionally(e));
+            // coalesced closing barrier is not tracked by requestsByXid
+            if (closingBarrier != null) {
+                closingBarrier.completeExceptionally(e);
+            }
         }
     }
 
@@ -173,6 +190,32 @@ public class Session implements AutoCloseable {
         }
     }
 
+    /**
+     * Handle response on the closing barrier shared with other sessions.
+     *
+     * <p>All responses on requests of this session have been received already, so the session is completed.
+     */
+    boolean handleClosingBarrierResponse(OFMessage message) {
+        try (CorrelationContext.CorrelationContextClosable closable = CorrelationContext.create(
+                context.getCorrelationId())) {
+            closingBarrier.complete(Optional.of(message));
+            incompleteRequestsStream()
+                    .forEach(entry -> entry.complete(Optional.empty()));
+        }
+        return true;
+    }
+
+    void handleClosingBarrierWriteError(SwitchWriteException e) {
+        closingBarrier.completeExceptionally(e);
+        SessionCloseException closeError = new SessionCloseException(sw.getId());
+        incompleteRequestsStream()
+                .forEach(entry -> entry.completeExceptionally(closeError));
+    }
+
+    CompletableFuture<Optional<OFMessage>> getClosingBarrier() {
+        return closingBarrier;
+    }
+
     Set<Long> getAllXids() {
         return ImmutableSet.copyOf(requestsByXid.keySet());
     }
@@ -194,6 +237,15 @@ public class Session implements AutoCloseable {
         return future;
     }
 
+    private void trackClosingBarrier(CommandMetricsService metrics, long closedAt) {
+        if (closedAt == 0) {
+            return;
+        }
+        String switchId = sw.getId().toString();
+        closingBarrier.whenComplete((response, e) -> metrics.record(
+                Phase.BARRIER_WAIT, OFType.BARRIER_REQUEST.name(), switchId, closedAt, e != null));
+    }
+
     private void actualWrite(OFMessage message)
             throws SwitchWriteException {
         log.info("push OF message to {}: {}", sw.getId(), message);
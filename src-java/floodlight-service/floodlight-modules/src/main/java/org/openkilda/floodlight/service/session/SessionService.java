@@ -15,10 +15,13 @@
 
 package org.openkilda.floodlight.service.session;
 
+import org.openkilda.floodlight.KildaCore;
+import org.openkilda.floodlight.KildaCoreConfig;
 import org.openkilda.floodlight.command.Command;
 import org.openkilda.floodlight.command.CommandContext;
 import org.openkilda.floodlight.model.OfInput;
 import org.openkilda.floodlight.service.IService;
+import org.openkilda.floodlight.service.metrics.CommandMetricsService;
 import org.openkilda.floodlight.service.of.IInputTranslator;
 import org.openkilda.floodlight.service.of.InputService;
 import org.openkilda.messaging.MessageContext;
@@ -27,6 +30,7 @@ import com.google.common.annotations.VisibleForTesting;
 import net.floodlightcontroller.core.IOFSwitch;
 import net.floodlightcontroller.core.internal.IOFSwitchService;
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
+import net.floodlightcontroller.threadpool.IThreadPoolService;
 import org.projectfloodlight.openflow.protocol.OFMessage;
 import org.projectfloodlight.openflow.protocol.OFType;
 import org.projectfloodlight.openflow.types.DatapathId;
@@ -35,12 +39,19 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class SessionService implements IService, IInputTranslator {
     private static final Logger log = LoggerFactory.getLogger(SessionService.class);
 
     private final Map<DatapathId, SwitchSessions> sessionsByDatapath = new ConcurrentHashMap<>();
 
+    private final AtomicLong barriersSaved = new AtomicLong();
+    private ScheduledExecutorService scheduler;
+    private long barrierCoalescingWindow = 0;
+    private CommandMetricsService metrics;
+
     public Session open(IOFSwitch sw) {
         return open(new MessageContext(), sw);
     }
@@ -58,8 +69,24 @@ public class SessionService implements IService, IInputTranslator {
         return group.open(sw, context);
     }
 
+    /**
+     * Number of barrier requests that were not sent thanks to barrier coalescing.
+     */
+    public long getBarriersSaved() {
+        return barriersSaved.get();
+    }
+
     @Override
     public void setup(FloodlightModuleContext moduleContext) {
+        KildaCoreConfig config = moduleContext.getServiceImpl(KildaCore.class).getConfig();
+        barrierCoalescingWindow = config.getSessionBarrierCoalescingWindowMillis();
+        log.info("config - session barrier coalescing window = {}ms", barrierCoalescingWindow);
+        if (0 < barrierCoalescingWindow) {
+            scheduler = moduleContext.getServiceImpl(IThreadPoolService.class).getScheduledExecutor();
+        }
+
+        metrics = moduleContext.getServiceImpl(CommandMetricsService.class);
+
         InputService inputService = moduleContext.getServiceImpl(InputService.class);
         inputService.addTranslator(OFType.ERROR, this);
         inputService.addTranslator(OFType.BARRIER_REPLY, this);
@@ -97,7 +124,7 @@ public class SessionService implements IService, IInputTranslator {
      * <p>Called from main FL thread, that why we can avoid `synchronization` here.
      */
     void switchActivate(DatapathId dpId) {
-        SwitchSessions group = new SwitchSessions();
+        SwitchSessions group = new SwitchSessions(scheduler, barrierCoalescingWindow, barriersSaved, metrics);
         SwitchSessions previous;
         previous = sessionsByDatapath.put(dpId, group);
 
@@ -15,40 +15,87 @@
 
 package org.openkilda.floodlight.service.session;
 
+import org.openkilda.floodlight.error.SwitchWriteException;
+import org.openkilda.floodlight.service.metrics.CommandMetricsService;
 import org.openkilda.messaging.MessageContext;
 
 import net.floodlightcontroller.core.IOFSwitch;
+import org.projectfloodlight.openflow.protocol.OFBarrierRequest;
 import org.projectfloodlight.openflow.protocol.OFMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 class SwitchSessions {
+    private static final Logger log = LoggerFactory.getLogger(SwitchSessions.class);
+
     private final Map<Long, Session> sessionsByXid = new HashMap<>();
 
+    private final ScheduledExecutorService scheduler;
+    private final long coalescingWindow;
+    private final AtomicLong barriersSaved;
+    private final CommandMetricsService metrics;
+
+    private List<Session> pendingClose = new ArrayList<>();
+    private final Map<Long, List<Session>> sessionsBySharedBarrierXid = new HashMap<>();
+
+    SwitchSessions(ScheduledExecutorService scheduler, long coalescingWindow, AtomicLong barriersSaved,
+                   CommandMetricsService metrics) {
+        this.scheduler = scheduler;
+        this.coalescingWindow = coalescingWindow;
+        this.barriersSaved = barriersSaved;
+        this.metrics = metrics;
+    }
+
     Session open(IOFSwitch sw, MessageContext context) {
         return new Session(this, sw, context);
     }
 
+    CommandMetricsService getMetrics() {
+        return metrics;
+    }
+
     void handleResponse(OFMessage message) {
         Session session;
+        List<Session> sharedBarrierSessions;
         synchronized (sessionsByXid) {
             session = sessionsByXid.get(message.getXid());
+            sharedBarrierSessions = sessionsBySharedBarrierXid.remove(message.getXid());
         }
 
-        if (session != null && session.handleResponse(message)) {
+        if (sharedBarrierSessions != null) {
+            for (Session entry : sharedBarrierSessions) {
+                if (entry.handleClosingBarrierResponse(message)) {
+                    unbindSession(entry);
+                }
+            }
+        } else if (session != null && session.handleResponse(message)) {
             unbindSession(session);
         }
     }
 
     void disconnect() {
-        sessionsByXid.values()
-                // Session can be listed multiple time into sessionsByXid map
-                // so .disconnect() will be called multiple times. Session.disconnect
-                // must be ready to be called multiple times
-                .forEach(Session::disconnect);
+        List<Session> affected = new ArrayList<>();
+        synchronized (sessionsByXid) {
+            // Session can be listed multiple time into sessionsByXid map
+            // so .disconnect() will be called multiple times. Session.disconnect
+            // must be ready to be called multiple times
+            affected.addAll(sessionsByXid.values());
+            sessionsBySharedBarrierXid.values().forEach(affected::addAll);
+            affected.addAll(pendingClose);
 
-        sessionsByXid.clear();
+            sessionsByXid.clear();
+            sessionsBySharedBarrierXid.clear();
+            pendingClose = new ArrayList<>();
+        }
+        affected.forEach(Session::disconnect);
     }
 
     void bindRequest(Session session, long xid) {
@@ -57,6 +104,52 @@ class SwitchSessions {
         }
     }
 
+    boolean isBarrierCoalescingEnabled() {
+        return scheduler != null && 0 < coalescingWindow;
+    }
+
+    /**
+     * Enqueue session closing barrier. The first session enqueued during coalescing window schedules the barrier
+     * write, all other sessions closed during this window will share the same barrier request.
+     */
+    void closeCoalesced(Session session) {
+        boolean isFirst;
+        synchronized (sessionsByXid) {
+            isFirst = pendingClose.isEmpty();
+            pendingClose.add(session);
+        }
+        if (isFirst) {
+            scheduler.schedule(this::flushCoalesced, coalescingWindow, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void flushCoalesced() {
+        List<Session> batch;
+        synchronized (sessionsByXid) {
+            batch = pendingClose;
+            pendingClose = new ArrayList<>();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        IOFSwitch sw = batch.get(0).getSw();
+        OFBarrierRequest barrier = sw.getOFFactory().barrierRequest();
+        synchronized (sessionsByXid) {
+            sessionsBySharedBarrierXid.put(barrier.getXid(), batch);
+        }
+        barriersSaved.addAndGet(batch.size() - 1);
+
+        log.info("push OF message to {} (shared by {} sessions): {}", sw.getId(), batch.size(), barrier);
+        if (!sw.write(barrier)) {
+            synchronized (sessionsByXid) {
+                sessionsBySharedBarrierXid.remove(barrier.getXid());
+            }
+            SwitchWriteException error = new SwitchWriteException(sw.getId(), barrier);
+            batch.forEach(entry -> entry.handleClosingBarrierWriteError(error));
+        }
+    }
+
     private void unbindSession(Session session) {
         synchronized (sessionsByXid) {
             for (long xid : session.getAllXids()) {
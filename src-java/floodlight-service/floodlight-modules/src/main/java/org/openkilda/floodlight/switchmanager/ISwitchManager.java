@@ -35,11 +35,14 @@ import org.projectfloodlight.openflow.protocol.OFGroupDescStatsEntry;
 import org.projectfloodlight.openflow.protocol.OFMeterConfig;
 import org.projectfloodlight.openflow.protocol.OFPortDesc;
 import org.projectfloodlight.openflow.types.DatapathId;
+import org.projectfloodlight.openflow.types.U64;
 
 import java.net.InetAddress;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface ISwitchManager extends IFloodlightService {
 
@@ -625,6 +628,14 @@ public interface ISwitchManager extends IFloodlightService {
      */
     List<OFGroupDescStatsEntry> dumpGroups(DatapathId dpid) throws SwitchOperationException;
 
+    /**
+     * Request list of groups installed on switch. The caller's thread is not blocked while the switch responds.
+     *
+     * @param dpid switch id
+     * @return future completed with list of groups
+     */
+    CompletableFuture<List<OFGroupDescStatsEntry>> dumpGroupsAsync(DatapathId dpid) throws SwitchOperationException;
+
     /**
      * Returns list of installed flows.
      *
@@ -633,6 +644,26 @@ public interface ISwitchManager extends IFloodlightService {
      */
     List<OFFlowStatsEntry> dumpFlowTable(final DatapathId dpid) throws SwitchNotFoundException;
 
+    /**
+     * Request list of installed flows. The caller's thread is not blocked while the switch responds.
+     *
+     * @param dpid switch id
+     * @return future completed with OF flow stats entries
+     */
+    CompletableFuture<List<OFFlowStatsEntry>> dumpFlowTableAsync(DatapathId dpid) throws SwitchNotFoundException;
+
+    /**
+     * Request list of installed flows with cookie matching {@code cookie} in the bits set in {@code cookieMask}. The
+     * filter is not supported by OF 1.0 switches, all flows are returned for them.
+     *
+     * @param dpid switch id
+     * @param cookie required cookie value
+     * @param cookieMask cookie bits to compare
+     * @return future completed with OF flow stats entries
+     */
+    CompletableFuture<List<OFFlowStatsEntry>> dumpFlowTableAsync(DatapathId dpid, U64 cookie, U64 cookieMask)
+            throws SwitchNotFoundException;
+
     /**
      * Returns list of installed meters.
      *
@@ -642,6 +673,15 @@ public interface ISwitchManager extends IFloodlightService {
      */
     List<OFMeterConfig> dumpMeters(final DatapathId dpid) throws SwitchOperationException;
 
+    /**
+     * Request list of installed meters. The caller's thread is not blocked while the switch responds.
+     *
+     * @param dpid switch id
+     * @return future completed with OF meter config stats entries
+     * @throws SwitchOperationException Switch not found or it does not support meters
+     */
+    CompletableFuture<List<OFMeterConfig>> dumpMetersAsync(DatapathId dpid) throws SwitchOperationException;
+
     /**
      * Returns a installed meter by id.
      *
@@ -652,6 +692,17 @@ public interface ISwitchManager extends IFloodlightService {
      */
     OFMeterConfig dumpMeterById(final DatapathId dpid, final long meterId) throws SwitchOperationException;
 
+    /**
+     * Request installed meter by id. The caller's thread is not blocked while the switch responds.
+     *
+     * @param dpid switch id
+     * @param meterId a meter id
+     * @return future completed with OF meter config stats entry (empty if there is no such meter)
+     * @throws SwitchOperationException Switch not found or it does not support meters
+     */
+    CompletableFuture<Optional<OFMeterConfig>> dumpMeterByIdAsync(DatapathId dpid, long meterId)
+            throws SwitchOperationException;
+
     /**
      * Installs a meter on ingress switch OF_13.
      * TODO: describe params meaning in accordance with OF
@@ -61,6 +61,7 @@ import static org.openkilda.model.cookie.Cookie.VERIFICATION_BROADCAST_RULE_COOK
 import static org.openkilda.model.cookie.Cookie.VERIFICATION_UNICAST_RULE_COOKIE;
 import static org.openkilda.model.cookie.Cookie.VERIFICATION_UNICAST_VXLAN_RULE_COOKIE;
 import static org.openkilda.model.cookie.Cookie.isDefaultRule;
+import static org.projectfloodlight.openflow.protocol.OFVersion.OF_10;
 import static org.projectfloodlight.openflow.protocol.OFVersion.OF_12;
 import static org.projectfloodlight.openflow.protocol.OFVersion.OF_13;
 import static org.projectfloodlight.openflow.protocol.OFVersion.OF_15;
@@ -82,10 +83,12 @@ import org.openkilda.floodlight.switchmanager.factory.SwitchFlowFactory;
 import org.openkilda.floodlight.switchmanager.factory.SwitchFlowTuple;
 import org.openkilda.floodlight.switchmanager.factory.generator.SwitchFlowGenerator;
 import org.openkilda.floodlight.switchmanager.web.SwitchManagerWebRoutable;
+import org.openkilda.floodlight.utils.CompletableFutureAdapter;
 import org.openkilda.floodlight.utils.CorrelationContext;
 import org.openkilda.floodlight.utils.NewCorrelationContextRequired;
 import org.openkilda.floodlight.utils.metadata.RoutingMetadata;
 import org.openkilda.messaging.Destination;
+import org.openkilda.messaging.MessageContext;
 import org.openkilda.messaging.command.flow.RuleType;
 import org.openkilda.messaging.command.switches.ConnectModeRequest;
 import org.openkilda.messaging.command.switches.DeleteRulesCriteria;
@@ -117,6 +120,7 @@ import net.floodlightcontroller.core.module.FloodlightModuleException;
 import net.floodlightcontroller.core.module.IFloodlightModule;
 import net.floodlightcontroller.core.module.IFloodlightService;
 import net.floodlightcontroller.restserver.IRestApiService;
+import net.floodlightcontroller.threadpool.IThreadPoolService;
 import net.floodlightcontroller.util.FlowModUtils;
 import org.apache.commons.collections4.CollectionUtils;
 import org.projectfloodlight.openflow.protocol.OFActionType;
@@ -147,6 +151,8 @@ import org.projectfloodlight.openflow.protocol.OFMeterModCommand;
 import org.projectfloodlight.openflow.protocol.OFPortConfig;
 import org.projectfloodlight.openflow.protocol.OFPortDesc;
 import org.projectfloodlight.openflow.protocol.OFPortMod;
+import org.projectfloodlight.openflow.protocol.OFStatsReply;
+import org.projectfloodlight.openflow.protocol.OFStatsRequest;
 import org.projectfloodlight.openflow.protocol.OFType;
 import org.projectfloodlight.openflow.protocol.action.OFAction;
 import org.projectfloodlight.openflow.protocol.action.OFActionOutput;
@@ -191,10 +197,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -281,6 +291,7 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
     private SwitchTrackingService switchTracking;
     private FeatureDetectorService featureDetectorService;
     private SwitchFlowFactory switchFlowFactory;
+    private ScheduledExecutorService scheduler;
 
     private ConnectModeRequest.Mode connectMode;
     private SwitchManagerConfig config;
@@ -321,7 +332,8 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
                 KafkaUtilityService.class,
                 IKafkaProducerService.class,
                 FeatureDetectorService.class,
-                IPathVerificationService.class);
+                IPathVerificationService.class,
+                IThreadPoolService.class);
     }
 
     /**
@@ -333,6 +345,7 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         producerService = context.getServiceImpl(IKafkaProducerService.class);
         switchTracking = context.getServiceImpl(SwitchTrackingService.class);
         featureDetectorService = context.getServiceImpl(FeatureDetectorService.class);
+        scheduler = context.getServiceImpl(IThreadPoolService.class).getScheduledExecutor();
         FloodlightModuleConfigurationProvider provider = FloodlightModuleConfigurationProvider.of(context, this);
         config = provider.getConfiguration(SwitchManagerConfig.class);
         switchFlowFactory = context.getServiceImpl(SwitchFlowFactory.class);
@@ -829,6 +842,35 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         return entries;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<OFFlowStatsEntry>> dumpFlowTableAsync(final DatapathId dpid)
+            throws SwitchNotFoundException {
+        return dumpFlowTableAsync(dpid, U64.ZERO, U64.ZERO);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<OFFlowStatsEntry>> dumpFlowTableAsync(
+            final DatapathId dpid, final U64 cookie, final U64 cookieMask) throws SwitchNotFoundException {
+        IOFSwitch sw = lookupSwitch(dpid);
+
+        OFFactory ofFactory = sw.getOFFactory();
+        OFFlowStatsRequest.Builder flowRequest = ofFactory.buildFlowStatsRequest()
+                .setOutGroup(OFGroup.ANY);
+        if (OF_10 == ofFactory.getVersion()) {
+            flowRequest.setCookieMask(U64.ZERO);
+        } else {
+            flowRequest.setCookie(cookie)
+                    .setCookieMask(cookieMask);
+        }
+        return writeStatsRequest(sw, flowRequest.build(), OFFlowStatsReply::getEntries);
+    }
+
     private List<OFFlowStatsEntry> dumpFlowTable(final DatapathId dpid, final int tableId)
             throws SwitchNotFoundException {
         List<OFFlowStatsEntry> entries = new ArrayList<>();
@@ -899,6 +941,21 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<OFMeterConfig>> dumpMetersAsync(final DatapathId dpid)
+            throws SwitchOperationException {
+        IOFSwitch sw = lookupSwitch(dpid);
+        verifySwitchSupportsMeters(sw);
+
+        OFMeterConfigStatsRequest meterRequest = sw.getOFFactory().buildMeterConfigStatsRequest()
+                .setMeterId(0xffffffff)
+                .build();
+        return writeStatsRequest(sw, meterRequest, OFMeterConfigStatsReply::getEntries);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -937,6 +994,46 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         return meterConfig;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Optional<OFMeterConfig>> dumpMeterByIdAsync(final DatapathId dpid, final long meterId)
+            throws SwitchOperationException {
+        IOFSwitch sw = lookupSwitch(dpid);
+        verifySwitchSupportsMeters(sw);
+
+        OFMeterConfigStatsRequest meterRequest = sw.getOFFactory().buildMeterConfigStatsRequest()
+                .setMeterId(meterId)
+                .build();
+        return writeStatsRequest(sw, meterRequest, OFMeterConfigStatsReply::getEntries)
+                .thenApply(entries -> entries.stream().findFirst());
+    }
+
+    private <R extends OFStatsReply, E> CompletableFuture<List<E>> writeStatsRequest(
+            IOFSwitch sw, OFStatsRequest<R> request, Function<R, List<E>> entriesExtractor) {
+        MessageContext messageContext = new MessageContext(CorrelationContext.getId());
+        CompletableFuture<List<R>> future = new CompletableFutureAdapter<>(
+                messageContext, sw.writeStatsRequest(request));
+
+        long timeout = config.getStatsRequestTimeoutMillis();
+        ScheduledFuture<?> timeoutTask = scheduler.schedule(() -> future.completeExceptionally(new TimeoutException(
+                format("Switch %s did not reply on %s within %d ms", sw.getId(), request.getStatsType(), timeout))),
+                timeout, TimeUnit.MILLISECONDS);
+        future.whenComplete((replies, error) -> timeoutTask.cancel(false));
+
+        return future
+                .thenApply(replies -> {
+                    if (replies == null) {
+                        return Collections.<E>emptyList();
+                    }
+                    return replies.stream()
+                            .map(entriesExtractor)
+                            .flatMap(List::stream)
+                            .collect(toList());
+                });
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1264,6 +1361,14 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         return dumpGroups(sw);
     }
 
+    @Override
+    public CompletableFuture<List<OFGroupDescStatsEntry>> dumpGroupsAsync(DatapathId dpid)
+            throws SwitchOperationException {
+        IOFSwitch sw = lookupSwitch(dpid);
+        OFGroupDescStatsRequest groupRequest = sw.getOFFactory().buildGroupDescStatsRequest().build();
+        return writeStatsRequest(sw, groupRequest, OFGroupDescStatsReply::getEntries);
+    }
+
     private List<OFGroupDescStatsEntry> dumpGroups(IOFSwitch sw) {
         OFFactory ofFactory = sw.getOFFactory();
         OFGroupDescStatsRequest groupRequest = ofFactory.buildGroupDescStatsRequest().build();
@@ -89,6 +89,13 @@ public interface SwitchManagerConfig {
     @Description("This is burst size for ARP rule meters in packets.")
     long getArpMeterBurstSizeInPackets();
 
+    @Key("stats-request-timeout-millis")
+    @Default("10000")
+    @Min(1)
+    @Description("Time to wait for a switch to reply on an async stats request (flows, meters, groups dump). "
+               + "The request is failed once this time passes.")
+    long getStatsRequestTimeoutMillis();
+
     @Key("ovs-meters-enabled")
     @Default("false")
     boolean isOvsMetersEnabled();
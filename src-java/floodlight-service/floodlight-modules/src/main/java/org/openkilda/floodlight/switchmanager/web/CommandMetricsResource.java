@@ -0,0 +1,36 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.switchmanager.web;
+
+import org.openkilda.floodlight.service.metrics.CommandMetricsEntry;
+import org.openkilda.floodlight.service.metrics.CommandMetricsService;
+
+import org.restlet.resource.Get;
+import org.restlet.resource.ServerResource;
+
+import java.util.List;
+
+public class CommandMetricsResource extends ServerResource {
+    /**
+     * Dump latency stats of speaker commands processing.
+     */
+    @Get("json")
+    public List<CommandMetricsEntry> getCommandMetrics() {
+        CommandMetricsService metrics = (CommandMetricsService) getContext().getAttributes()
+                .get(CommandMetricsService.class.getCanonicalName());
+        return metrics.dump();
+    }
+}
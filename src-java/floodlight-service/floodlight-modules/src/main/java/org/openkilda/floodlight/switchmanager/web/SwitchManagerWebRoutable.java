@@ -34,6 +34,7 @@ public class SwitchManagerWebRoutable implements RestletRoutable {
         router.attach("/flows/switch_id/{switch_id}", FlowsResource.class);
         router.attach("/meters/switch_id/{switch_id}", MetersResource.class);
         router.attach("/switch/enable_bfd", EnableBfdResource.class);
+        router.attach("/metrics/commands", CommandMetricsResource.class);
         Filter filter = new RequestCorrelationFilter();
         filter.setNext(router);
 
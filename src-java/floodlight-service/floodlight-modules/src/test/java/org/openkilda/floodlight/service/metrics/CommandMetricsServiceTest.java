@@ -0,0 +1,95 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.service.metrics;
+
+import static org.easymock.EasyMock.expect;
+
+import org.openkilda.floodlight.KildaCore;
+import org.openkilda.floodlight.KildaCoreConfig;
+import org.openkilda.floodlight.service.metrics.CommandMetricsService.Phase;
+
+import net.floodlightcontroller.core.module.FloodlightModuleContext;
+import org.easymock.EasyMockSupport;
+import org.easymock.Mock;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+public class CommandMetricsServiceTest extends EasyMockSupport {
+    private static final String COMMAND = "IngressFlowSegmentInstallCommand";
+    private static final String SWITCH_ID = "00:00:00:00:00:00:00:01";
+
+    @Mock
+    private KildaCore kildaCore;
+
+    @Mock
+    private KildaCoreConfig kildaCoreConfig;
+
+    @Before
+    public void setUp() {
+        injectMocks(this);
+        expect(kildaCore.getConfig()).andStubReturn(kildaCoreConfig);
+    }
+
+    @Test
+    public void disabled() {
+        CommandMetricsService subject = makeSubject(false);
+
+        long startedAt = subject.now();
+        Assert.assertEquals(0, startedAt);
+        subject.record(Phase.HANDLE, COMMAND, SWITCH_ID, startedAt);
+
+        Assert.assertTrue(subject.dump().isEmpty());
+    }
+
+    @Test
+    public void aggregation() {
+        CommandMetricsService subject = makeSubject(true);
+
+        long startedAt = subject.now();
+        subject.record(Phase.HANDLE, COMMAND, SWITCH_ID, startedAt, startedAt + 2000, false);
+        subject.record(Phase.HANDLE, COMMAND, SWITCH_ID, startedAt, startedAt + 4000, true);
+        subject.record(Phase.QUEUE_WAIT, COMMAND, SWITCH_ID, startedAt, startedAt + 1000, false);
+
+        List<CommandMetricsEntry> entries = subject.dump();
+        Assert.assertEquals(2, entries.size());
+
+        CommandMetricsEntry handle = entries.stream()
+                .filter(entry -> entry.getPhase() == Phase.HANDLE)
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        Assert.assertEquals(COMMAND, handle.getCommand());
+        Assert.assertEquals(SWITCH_ID, handle.getSwitchId());
+        Assert.assertEquals(2, handle.getCount());
+        Assert.assertEquals(1, handle.getErrors());
+        Assert.assertEquals(3, handle.getAvgLatencyMicros());
+        Assert.assertEquals(4, handle.getMaxLatencyMicros());
+
+        subject.reset();
+        Assert.assertTrue(subject.dump().isEmpty());
+    }
+
+    private CommandMetricsService makeSubject(boolean enabled) {
+        expect(kildaCoreConfig.isCommandMetricsEnabled()).andReturn(enabled);
+        replayAll();
+
+        CommandMetricsService subject = new CommandMetricsService(kildaCore);
+        subject.setup(new FloodlightModuleContext());
+        return subject;
+    }
+}
@@ -17,18 +17,24 @@ package org.openkilda.floodlight.service.session;
 
 import static org.easymock.EasyMock.anyObject;
 import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
 
+import org.openkilda.floodlight.KildaCore;
+import org.openkilda.floodlight.KildaCoreConfig;
 import org.openkilda.floodlight.error.SessionCloseException;
+import org.openkilda.floodlight.error.SessionConnectionLostException;
 import org.openkilda.floodlight.error.SessionErrorResponseException;
 import org.openkilda.floodlight.error.SwitchOperationException;
 import org.openkilda.floodlight.error.SwitchWriteException;
+import org.openkilda.floodlight.service.metrics.CommandMetricsService;
 import org.openkilda.floodlight.service.of.InputService;
 import org.openkilda.messaging.MessageContext;
 
 import net.floodlightcontroller.core.IOFSwitch;
 import net.floodlightcontroller.core.internal.IOFSwitchService;
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
+import net.floodlightcontroller.threadpool.IThreadPoolService;
 import org.easymock.Capture;
 import org.easymock.CaptureType;
 import org.easymock.EasyMock;
@@ -54,6 +60,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 public class SessionServiceTest extends EasyMockSupport {
@@ -64,6 +71,9 @@ public class SessionServiceTest extends EasyMockSupport {
     private final MessageContext context = new MessageContext();
 
     private final Capture<OFMessage> swWriteMessages = EasyMock.newCapture(CaptureType.ALL);
+    private final Capture<Runnable> scheduledTasks = EasyMock.newCapture(CaptureType.ALL);
+
+    private long barrierCoalescingWindow = 0;
 
     @Mock
     private InputService inputService;
@@ -71,6 +81,18 @@ public class SessionServiceTest extends EasyMockSupport {
     @Mock
     private IOFSwitchService ofSwitchService;
 
+    @Mock
+    private KildaCore kildaCore;
+
+    @Mock
+    private KildaCoreConfig kildaCoreConfig;
+
+    @Mock
+    private IThreadPoolService threadPoolService;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
     @Before
     public void setUp() {
         injectMocks(this);
@@ -81,9 +103,15 @@ public class SessionServiceTest extends EasyMockSupport {
 
         ofSwitchService.addOFSwitchListener(anyObject(SwitchEventsTranslator.class));
 
+        expect(kildaCore.getConfig()).andStubReturn(kildaCoreConfig);
+        expect(threadPoolService.getScheduledExecutor()).andStubReturn(scheduler);
+
         // fill FL's module context
         moduleContext.addService(InputService.class, inputService);
         moduleContext.addService(IOFSwitchService.class, ofSwitchService);
+        moduleContext.addService(KildaCore.class, kildaCore);
+        moduleContext.addService(IThreadPoolService.class, threadPoolService);
+        moduleContext.addService(CommandMetricsService.class, new CommandMetricsService(kildaCore));
     }
 
     @After
@@ -259,6 +287,110 @@ public class SessionServiceTest extends EasyMockSupport {
         }
     }
 
+    @Test
+    public void coalescedSessionsShareClosingBarrier() throws Exception {
+        IOFSwitch sw = createMock(IOFSwitch.class);
+        setupSwitchMock(sw, dpId);
+        swWriteAlwaysSuccess(sw);
+        enableBarrierCoalescing(10);
+        doneWithSetUp(sw);
+
+        OFFactory ofFactory = sw.getOFFactory();
+        OFPacketOut firstPktOut = makePacketOut(ofFactory, 1);
+        OFPacketOut secondPktOut = makePacketOut(ofFactory, 2);
+        OFPacketOut thirdPktOut = makePacketOut(ofFactory, 3);
+
+        CompletableFuture<Optional<OFMessage>> first;
+        CompletableFuture<Optional<OFMessage>> second;
+        CompletableFuture<Optional<OFMessage>> third;
+        try (Session session = subject.open(context, sw)) {
+            first = session.write(firstPktOut);
+        }
+        try (Session session = subject.open(context, sw)) {
+            second = session.write(secondPktOut);
+        }
+        try (Session session = subject.open(context, sw)) {
+            third = session.write(thirdPktOut);
+        }
+
+        // nothing but the requests itself are sent during coalescing window
+        Assert.assertEquals(3, swWriteMessages.getValues().size());
+        Assert.assertEquals(1, scheduledTasks.getValues().size());
+
+        scheduledTasks.getValue().run();
+
+        List<OFMessage> swActualWrite = swWriteMessages.getValues();
+        Assert.assertEquals(4, swActualWrite.size());
+        Assert.assertEquals(OFType.BARRIER_REQUEST, swActualWrite.get(3).getType());
+        Assert.assertEquals(2, subject.getBarriersSaved());
+
+        // error response must be delivered to the session produced the request
+        subject.handleResponse(dpId, ofFactory.errorMsgs().buildBadActionErrorMsg()
+                .setXid(secondPktOut.getXid())
+                .setCode(OFBadActionCode.BAD_LEN)
+                .build());
+        Assert.assertTrue(second.isDone());
+        Assert.assertFalse(first.isDone());
+        Assert.assertFalse(third.isDone());
+
+        completeSessions(sw);
+
+        expectNoResponse(first);
+        expectExceptionResponse(second, SessionErrorResponseException.class);
+        expectNoResponse(third);
+    }
+
+    @Test
+    public void coalescedBarrierWriteError() throws Exception {
+        IOFSwitch sw = createMock(IOFSwitch.class);
+        setupSwitchMock(sw, dpId);
+        swWriteSecondFail(sw);
+        enableBarrierCoalescing(10);
+        doneWithSetUp(sw);
+
+        CompletableFuture<Optional<OFMessage>> future;
+        try (Session session = subject.open(context, sw)) {
+            future = session.write(makePacketOut(sw.getOFFactory(), 1));
+        }
+        Assert.assertFalse(future.isDone());
+
+        scheduledTasks.getValue().run();
+
+        expectExceptionResponse(future, SessionCloseException.class);
+    }
+
+    @Test
+    public void disconnectWithCoalescedBarrierInFlight() throws Exception {
+        IOFSwitch sw = createMock(IOFSwitch.class);
+        setupSwitchMock(sw, dpId);
+        swWriteAlwaysSuccess(sw);
+        enableBarrierCoalescing(10);
+        doneWithSetUp(sw);
+
+        OFFactory ofFactory = sw.getOFFactory();
+        Session sent = subject.open(context, sw);
+        CompletableFuture<Optional<OFMessage>> first = sent.write(makePacketOut(ofFactory, 1));
+        sent.close();
+        scheduledTasks.getValue().run();
+
+        // this one is still waiting for the coalescing window
+        Session pending = subject.open(context, sw);
+        CompletableFuture<Optional<OFMessage>> second = pending.write(makePacketOut(ofFactory, 2));
+        pending.close();
+
+        subject.switchDeactivate(dpId);
+
+        expectExceptionResponse(first, SessionConnectionLostException.class);
+        expectExceptionResponse(second, SessionConnectionLostException.class);
+        expectExceptionResponse(sent.getClosingBarrier(), SessionConnectionLostException.class);
+        expectExceptionResponse(pending.getClosingBarrier(), SessionConnectionLostException.class);
+
+        // the window of disconnected switch produces no barrier
+        scheduledTasks.getValue().run();
+        Assert.assertEquals(3, swWriteMessages.getValues().size());
+        Assert.assertEquals(OFType.PACKET_OUT, swWriteMessages.getValue().getType());
+    }
+
     private OFPacketOut makePacketOut(OFFactory ofFactory, int inPort) {
         return ofFactory.buildPacketOut()
                 .setInPort(OFPort.of(inPort))
@@ -299,7 +431,14 @@ public class SessionServiceTest extends EasyMockSupport {
         expect(mock.write(capture(swWriteMessages))).andStubReturn(true);
     }
 
+    private void enableBarrierCoalescing(long window) {
+        barrierCoalescingWindow = window;
+        expect(scheduler.schedule(capture(scheduledTasks), eq(window), eq(TimeUnit.MILLISECONDS)))
+                .andStubReturn(null);
+    }
+
     private void doneWithSetUp(IOFSwitch sw) {
+        expect(kildaCoreConfig.getSessionBarrierCoalescingWindowMillis()).andStubReturn(barrierCoalescingWindow);
         replayAll();
 
         subject.setup(moduleContext);
@@ -22,6 +22,7 @@ import net.floodlightcontroller.core.IOFSwitch;
 import net.floodlightcontroller.core.internal.IOFSwitchService;
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
 import net.floodlightcontroller.core.module.FloodlightModuleException;
+import net.floodlightcontroller.threadpool.IThreadPoolService;
 import org.easymock.Capture;
 import org.easymock.EasyMock;
 import org.junit.Before;
@@ -35,6 +36,8 @@ import org.projectfloodlight.openflow.types.OFPort;
 import org.projectfloodlight.openflow.types.OFVlanVidMatch;
 import org.projectfloodlight.openflow.types.U64;
 
+import java.util.concurrent.ScheduledExecutorService;
+
 public class SwitchManagerOF12Test {
     private static final FloodlightModuleContext context = new FloodlightModuleContext();
     private static IOFSwitchService switchService = createMock(IOFSwitchService.class);
@@ -50,6 +53,11 @@ public class SwitchManagerOF12Test {
     @BeforeClass
     public static void setUpClass() {
         context.addService(IOFSwitchService.class, switchService);
+
+        IThreadPoolService threadPoolService = createMock(IThreadPoolService.class);
+        expect(threadPoolService.getScheduledExecutor()).andStubReturn(createMock(ScheduledExecutorService.class));
+        replay(threadPoolService);
+        context.addService(IThreadPoolService.class, threadPoolService);
     }
 
     @Before
@@ -39,6 +39,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.openkilda.floodlight.Constants.inputPort;
 import static org.openkilda.floodlight.Constants.inputVlanId;
 import static org.openkilda.floodlight.Constants.meterId;
@@ -115,6 +116,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import com.sabre.oss.conf4j.factory.jdkproxy.JdkProxyStaticConfigurationFactory;
 import com.sabre.oss.conf4j.source.MapConfigurationSource;
 import net.floodlightcontroller.core.IFloodlightProviderService;
@@ -124,10 +126,12 @@ import net.floodlightcontroller.core.internal.IOFSwitchService;
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
 import net.floodlightcontroller.core.module.FloodlightModuleException;
 import net.floodlightcontroller.restserver.IRestApiService;
+import net.floodlightcontroller.threadpool.IThreadPoolService;
 import org.apache.commons.lang3.StringUtils;
 import org.easymock.Capture;
 import org.easymock.CaptureType;
 import org.easymock.EasyMock;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.projectfloodlight.openflow.protocol.OFBarrierReply;
@@ -168,7 +172,11 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 public class SwitchManagerTest {
@@ -184,6 +192,7 @@ public class SwitchManagerTest {
     private static final String NOVIFLOW_SWITCH_DESCRIPTION = "E OF_13 NW400.6.4";
     private static final double MAX_NOVIFLOW_BURST_COEFFICIENT = 1.005;
     private static final long MAX_CENTEC_SWITCH_BURST_SIZE = 32000L;
+    private static final long STATS_REQUEST_TIMEOUT = 100L;
     private static final int hugeBandwidth = 400000;
     private static final long unicastMeterId = createMeterIdForDefaultRule(VERIFICATION_UNICAST_RULE_COOKIE).getValue();
     private static final long unicastVxlanMeterId =
@@ -215,6 +224,7 @@ public class SwitchManagerTest {
     private SwitchDescription switchDescription;
     private DatapathId dpid;
     private SwitchManagerConfig config;
+    private ScheduledExecutorService scheduler;
 
     @Before
     public void setUp() throws FloodlightModuleException {
@@ -262,12 +272,24 @@ public class SwitchManagerTest {
         context.addService(SwitchFlowFactory.class, switchFlowFactory);
         context.addService(IPathVerificationService.class, pathVerificationService);
 
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        IThreadPoolService threadPoolService = createMock(IThreadPoolService.class);
+        expect(threadPoolService.getScheduledExecutor()).andStubReturn(scheduler);
+        replay(threadPoolService);
+        context.addService(IThreadPoolService.class, threadPoolService);
+
         switchManager = new SwitchManager();
         context.addService(ISwitchManager.class, switchManager);
+        context.addConfigParam(switchManager, "stats-request-timeout-millis", String.valueOf(STATS_REQUEST_TIMEOUT));
         switchManager.init(context);
         switchManager.startUp(context);
     }
 
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
     @Test
     public void installDropRule() throws Exception {
         Capture<OFFlowMod> capture = prepareForInstallTest();
@@ -819,6 +841,78 @@ public class SwitchManagerTest {
         assertTrue(meters.isEmpty());
     }
 
+    @Test
+    public void dumpMetersAsync() throws Exception {
+        OFMeterConfig firstMeter = ofFactory.buildMeterConfig().setMeterId(1).build();
+        OFMeterConfig secondMeter = ofFactory.buildMeterConfig().setMeterId(2).build();
+
+        ListenableFuture<List<OFMeterConfigStatsReply>> ofStatsFuture = Futures.immediateFuture(Lists.newArrayList(
+                ofFactory.buildMeterConfigStatsReply().setEntries(Lists.newArrayList(firstMeter)).build(),
+                ofFactory.buildMeterConfigStatsReply().setEntries(Lists.newArrayList(secondMeter)).build()));
+
+        expect(ofSwitchService.getActiveSwitch(dpid)).andStubReturn(iofSwitch);
+        expect(switchDescription.getManufacturerDescription()).andStubReturn("");
+        expect(iofSwitch.getSwitchDescription()).andStubReturn(switchDescription);
+        expect(iofSwitch.getOFFactory()).andStubReturn(ofFactory);
+        expect(iofSwitch.writeStatsRequest(isA(OFMeterConfigStatsRequest.class))).andStubReturn(ofStatsFuture);
+
+        replay(ofSwitchService, iofSwitch, switchDescription);
+
+        List<OFMeterConfig> meters = switchManager.dumpMetersAsync(dpid).get();
+        assertEquals(Lists.newArrayList(firstMeter, secondMeter), meters);
+    }
+
+    @Test
+    public void dumpFlowTableAsyncFailure() throws Exception {
+        ListenableFuture<List<OFFlowStatsReply>> ofStatsFuture = Futures.immediateFailedFuture(new TimeoutException());
+
+        expect(ofSwitchService.getActiveSwitch(dpid)).andStubReturn(iofSwitch);
+        expect(iofSwitch.getOFFactory()).andStubReturn(ofFactory);
+        expect(iofSwitch.writeStatsRequest(isA(OFFlowStatsRequest.class))).andStubReturn(ofStatsFuture);
+
+        replay(ofSwitchService, iofSwitch);
+
+        CompletableFuture<List<OFFlowStatsEntry>> future = switchManager.dumpFlowTableAsync(dpid);
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    public void dumpFlowTableAsyncTimeout() throws Exception {
+        SettableFuture<List<OFFlowStatsReply>> ofStatsFuture = SettableFuture.create();
+
+        expect(ofSwitchService.getActiveSwitch(dpid)).andStubReturn(iofSwitch);
+        expect(iofSwitch.getOFFactory()).andStubReturn(ofFactory);
+        expect(iofSwitch.getId()).andStubReturn(dpid);
+        expect(iofSwitch.writeStatsRequest(isA(OFFlowStatsRequest.class))).andStubReturn(ofStatsFuture);
+
+        replay(ofSwitchService, iofSwitch);
+
+        // switch never replies, so the request must be failed by the timeout
+        CompletableFuture<List<OFFlowStatsEntry>> future = switchManager.dumpFlowTableAsync(dpid);
+        try {
+            future.get(STATS_REQUEST_TIMEOUT * 50, TimeUnit.MILLISECONDS);
+            fail("Stats request must be failed on timeout");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+    }
+
+    @Test
+    public void dumpFlowTableAsyncWithCookieFilter() throws Exception {
+        ListenableFuture<List<OFFlowStatsReply>> ofStatsFuture = Futures.immediateFuture(Lists.newArrayList());
+        Capture<OFFlowStatsRequest> capture = EasyMock.newCapture();
+
+        expect(ofSwitchService.getActiveSwitch(dpid)).andStubReturn(iofSwitch);
+        expect(iofSwitch.getOFFactory()).andStubReturn(ofFactory);
+        expect(iofSwitch.writeStatsRequest(capture(capture))).andReturn(ofStatsFuture);
+
+        replay(ofSwitchService, iofSwitch);
+
+        switchManager.dumpFlowTableAsync(dpid, U64.of(0x10L), U64.of(0x000F_FFFFL)).get();
+        assertEquals(U64.of(0x10L), capture.getValue().getCookie());
+        assertEquals(U64.of(0x000F_FFFFL), capture.getValue().getCookieMask());
+    }
+
     @Test
     public void installBandwidthMeterForCentecSwitch() throws Exception {
         runInstallMeterTest(bandwidth, Math.round(bandwidth * config.getFlowMeterBurstCoefficient()), true, false);
@@ -32,6 +32,7 @@ import org.openkilda.wfm.topology.floodlightrouter.bolts.RegionTrackerBolt;
 import org.openkilda.wfm.topology.floodlightrouter.bolts.SpeakerToControllerProxyBolt;
 import org.openkilda.wfm.topology.floodlightrouter.bolts.SpeakerToNetworkProxyBolt;
 import org.openkilda.wfm.topology.floodlightrouter.bolts.SwitchMonitorBolt;
+import org.openkilda.wfm.topology.floodlightrouter.service.monitor.SwitchConnectStormConfig;
 
 import joptsimple.internal.Strings;
 import lombok.Value;
@@ -253,7 +254,12 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     private void switchMonitor(TopologyBuilder topology, TopologyOutput output, int parallelism) {
         Fields switchIdGrouping = new Fields(SpeakerToNetworkProxyBolt.FIELD_ID_SWITCH_ID);
 
-        SwitchMonitorBolt bolt = new SwitchMonitorBolt(kafkaTopics.getTopoDiscoTopic());
+        SwitchConnectStormConfig stormConfig = SwitchConnectStormConfig.builder()
+                .threshold(topologyConfig.getSwitchConnectStormThreshold())
+                .window(Duration.ofSeconds(topologyConfig.getSwitchConnectStormWindow()))
+                .activationBudget(topologyConfig.getSwitchConnectStormActivationBudget())
+                .build();
+        SwitchMonitorBolt bolt = new SwitchMonitorBolt(kafkaTopics.getTopoDiscoTopic(), stormConfig);
         topology.setBolt(SwitchMonitorBolt.BOLT_ID, bolt, parallelism)
                 .allGrouping(MonotonicTick.BOLT_ID)
                 .allGrouping(RegionTrackerBolt.BOLT_ID, RegionTrackerBolt.STREAM_REGION_NOTIFICATION_ID)
@@ -21,6 +21,7 @@ import org.openkilda.wfm.topology.AbstractTopologyConfig;
 import com.sabre.oss.conf4j.annotation.Configuration;
 import com.sabre.oss.conf4j.annotation.Converter;
 import com.sabre.oss.conf4j.annotation.Default;
+import com.sabre.oss.conf4j.annotation.Description;
 import com.sabre.oss.conf4j.annotation.Key;
 
 import java.util.Set;
@@ -47,4 +48,17 @@ public interface FloodlightRouterTopologyConfig extends AbstractTopologyConfig {
     @Key("floodlight.switch.mapping.remove.delay.seconds")
     @Default("900")
     Long getSwitchMappingRemoveDelay();
+
+    @Key("floodlight.switch.connect.storm.threshold")
+    @Default("0")
+    @Description("Zero disables the switch activations pacing")
+    int getSwitchConnectStormThreshold();
+
+    @Key("floodlight.switch.connect.storm.window.seconds")
+    @Default("10")
+    int getSwitchConnectStormWindow();
+
+    @Key("floodlight.switch.connect.storm.activation.budget")
+    @Default("20")
+    int getSwitchConnectStormActivationBudget();
 }
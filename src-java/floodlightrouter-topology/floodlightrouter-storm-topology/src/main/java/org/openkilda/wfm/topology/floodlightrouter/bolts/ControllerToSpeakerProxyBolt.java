@@ -33,16 +33,24 @@ import org.openkilda.wfm.topology.utils.KafkaRecordTranslator;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.storm.kafka.bolt.mapper.FieldNameBasedTupleToKafkaMapper;
+import org.apache.storm.metric.api.MultiCountMetric;
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
 
 @Slf4j
 public class ControllerToSpeakerProxyBolt extends AbstractBolt implements ControllerToSpeakerProxyCarrier {
+    public static final String METRIC_REGION_REQUESTS = "region-requests";
+    public static final String METRIC_SCOPE_REGION_NOT_FOUND = "region-not-found";
+    private static final int METRIC_BUCKET_SIZE_SECONDS = 60;
+
     private final String targetTopic;
 
     protected transient RegionMapping switchMapping;
@@ -51,6 +59,8 @@ public class ControllerToSpeakerProxyBolt extends AbstractBolt implements Contro
 
     private transient ControllerToSpeakerProxyService service;
 
+    private transient MultiCountMetric regionRequestsMetric;
+
     public ControllerToSpeakerProxyBolt(String targetTopic, Set<String> allRegions, Duration switchMappingRemoveDelay) {
         this.targetTopic = targetTopic;
         this.allRegions = allRegions;
@@ -105,6 +115,13 @@ public class ControllerToSpeakerProxyBolt extends AbstractBolt implements Contro
         service.unicastHsRequest(message);
     }
 
+    @Override
+    public void prepare(Map stormConf, TopologyContext context, OutputCollector collector) {
+        regionRequestsMetric = context.registerMetric(
+                METRIC_REGION_REQUESTS, new MultiCountMetric(), METRIC_BUCKET_SIZE_SECONDS);
+        super.prepare(stormConf, context, collector);
+    }
+
     protected void init() {
         service = new ControllerToSpeakerProxyService(this, allRegions, switchMappingRemoveDelay);
     }
@@ -112,23 +129,32 @@ public class ControllerToSpeakerProxyBolt extends AbstractBolt implements Contro
     // ControllerToSpeakerProxyCarrier
 
     public void sendToSpeaker(Message message, String region) {
+        regionRequestsMetric.scope(region).incr();
         getOutput().emit(getCurrentTuple(), makeDefaultTuple(message, pullKafkaKey(), region));
     }
 
     public void sendToSpeaker(AbstractMessage message, String region) {
+        regionRequestsMetric.scope(region).incr();
         getOutput().emit(getCurrentTuple(), makeDefaultTuple(message, pullKafkaKey(), region));
     }
 
     @Override
     public void regionNotFoundError(Message message, SwitchId switchId) {
+        regionRequestsMetric.scope(METRIC_SCOPE_REGION_NOT_FOUND).incr();
         handleRegionNotFoundError(message, switchId);
     }
 
     @Override
     public void regionNotFoundError(AbstractMessage message, SwitchId switchId) {
+        regionRequestsMetric.scope(METRIC_SCOPE_REGION_NOT_FOUND).incr();
         handleRegionNotFoundError(message, switchId);
     }
 
+    @Override
+    protected boolean isPersistenceContextRequired() {
+        return false;
+    }
+
     // stream management
 
     @Override
@@ -144,6 +144,11 @@ public class SpeakerToControllerProxyBolt extends AbstractBolt {
         switchMapping = new RegionMapping(Clock.systemUTC(), switchMappingRemoveDelay);
     }
 
+    @Override
+    protected boolean isPersistenceContextRequired() {
+        return false;
+    }
+
     @Override
     public void declareOutputFields(OutputFieldsDeclarer outputFieldsDeclarer) {
         Fields fields = new Fields(
@@ -27,15 +27,19 @@ import org.openkilda.wfm.topology.floodlightrouter.ComponentType;
 import org.openkilda.wfm.topology.floodlightrouter.RegionAwareKafkaTopicSelector;
 import org.openkilda.wfm.topology.floodlightrouter.model.RegionMappingUpdate;
 import org.openkilda.wfm.topology.floodlightrouter.service.SwitchMonitorCarrier;
+import org.openkilda.wfm.topology.floodlightrouter.service.monitor.SwitchConnectStormConfig;
 import org.openkilda.wfm.topology.floodlightrouter.service.monitor.SwitchMonitorService;
 
 import org.apache.storm.kafka.bolt.mapper.FieldNameBasedTupleToKafkaMapper;
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
 import java.time.Clock;
+import java.util.Map;
 
 public class SwitchMonitorBolt extends AbstractBolt implements SwitchMonitorCarrier {
     public static final String BOLT_ID = ComponentType.SWITCH_MONITOR;
@@ -48,12 +52,15 @@ public class SwitchMonitorBolt extends AbstractBolt implements SwitchMonitorCarr
     public static final Fields STREAM_REGION_MAPPING_FIELDS = new Fields(FIELD_ID_PAYLOAD, FIELD_ID_CONTEXT);
 
     private final String kafkaNetworkTopic;
+    private final SwitchConnectStormConfig stormConfig;
 
     private transient Clock clock;
     private transient SwitchMonitorService service;
+    private transient int tasksCount;
 
-    public SwitchMonitorBolt(String kafkaNetworkTopic) {
+    public SwitchMonitorBolt(String kafkaNetworkTopic, SwitchConnectStormConfig stormConfig) {
         this.kafkaNetworkTopic = kafkaNetworkTopic;
+        this.stormConfig = stormConfig;
     }
 
     @Override
@@ -115,13 +122,36 @@ public class SwitchMonitorBolt extends AbstractBolt implements SwitchMonitorCarr
         return new Values(mappingUpdate, getCommandContext());
     }
 
+    /**
+     * Switches are spread between bolt tasks by switch id, so each task gets its share of the storm thresholds.
+     */
+    private SwitchConnectStormConfig makeTaskStormConfig() {
+        if (!stormConfig.isEnabled() || tasksCount <= 1) {
+            return stormConfig;
+        }
+        return stormConfig.toBuilder()
+                .threshold(divideRoundUp(stormConfig.getThreshold(), tasksCount))
+                .activationBudget(divideRoundUp(stormConfig.getActivationBudget(), tasksCount))
+                .build();
+    }
+
+    private static int divideRoundUp(int value, int divider) {
+        return (value + divider - 1) / divider;
+    }
+
     // -- AbstractBolt - overrides ----
+    @Override
+    public void prepare(Map stormConf, TopologyContext context, OutputCollector collector) {
+        tasksCount = context.getComponentTasks(context.getThisComponentId()).size();
+        super.prepare(stormConf, context, collector);
+    }
+
     @Override
     protected void init() {
         super.init();
 
         clock = Clock.systemUTC();
-        service = new SwitchMonitorService(clock, this);
+        service = new SwitchMonitorService(clock, this, makeTaskStormConfig());
     }
 
     @Override
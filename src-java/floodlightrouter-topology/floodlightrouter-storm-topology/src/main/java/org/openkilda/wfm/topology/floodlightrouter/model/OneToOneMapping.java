@@ -32,7 +32,7 @@ class OneToOneMapping implements MappingApproach {
     private final Clock clock;
     private final Duration staleWipeDelay;
 
-    private final Map<SwitchId, String> actual = new HashMap<>();
+    private final SwitchRegionTable actual = new SwitchRegionTable();
     private final Map<SwitchId, StaleEntry> removed = new HashMap<>();
 
     public OneToOneMapping(Clock clock, Duration staleWipeDelay) {
@@ -44,11 +44,15 @@ class OneToOneMapping implements MappingApproach {
      * Lookup entry.
      */
     public Optional<String> lookup(SwitchId switchId) {
-        flushStale();
         String result = actual.get(switchId);
         if (result != null) {
             return Optional.of(result);
         }
+
+        if (removed.isEmpty()) {
+            return Optional.empty();
+        }
+        flushStale();
         return Optional.ofNullable(lookupStale(switchId));
     }
 
@@ -79,10 +83,8 @@ class OneToOneMapping implements MappingApproach {
      */
     public Map<String, Set<SwitchId>> makeReversedMapping() {
         Map<String, Set<SwitchId>> reversed = new HashMap<>();
-        for (Map.Entry<SwitchId, String> entry : actual.entrySet()) {
-            reversed.computeIfAbsent(entry.getValue(), key -> new HashSet<>())
-                    .add(entry.getKey());
-        }
+        actual.forEach((switchId, region) -> reversed.computeIfAbsent(region, key -> new HashSet<>())
+                .add(switchId));
         return reversed;
     }
 
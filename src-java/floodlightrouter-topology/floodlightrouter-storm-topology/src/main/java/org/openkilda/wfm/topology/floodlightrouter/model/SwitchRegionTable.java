@@ -0,0 +1,173 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.floodlightrouter.model;
+
+import org.openkilda.model.SwitchId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Switch to region table keyed by raw (long) switch id. Open addressing with linear probing, region names are
+ * interned, so table lookup produces no garbage - it is used on each speaker bound request.
+ */
+class SwitchRegionTable {
+    private static final int EMPTY = -1;
+    private static final int MIN_CAPACITY = 64;
+
+    private final List<String> regions = new ArrayList<>();
+    private final Map<String, Integer> regionIndex = new HashMap<>();
+
+    private long[] keys;
+    private int[] values;
+    private int size = 0;
+
+    SwitchRegionTable() {
+        allocate(MIN_CAPACITY);
+    }
+
+    String get(SwitchId switchId) {
+        int slot = locate(switchId.toLong());
+        if (slot < 0) {
+            return null;
+        }
+        return regions.get(values[slot]);
+    }
+
+    /**
+     * Set region for switch, return previous region for this switch.
+     */
+    String put(SwitchId switchId, String region) {
+        long key = switchId.toLong();
+        int value = internRegion(region);
+
+        int slot = locate(key);
+        if (0 <= slot) {
+            String previous = regions.get(values[slot]);
+            values[slot] = value;
+            return previous;
+        }
+
+        if ((size + 1) * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        insert(key, value);
+        size += 1;
+        return null;
+    }
+
+    /**
+     * Remove switch from table, return its region.
+     */
+    String remove(SwitchId switchId) {
+        int slot = locate(switchId.toLong());
+        if (slot < 0) {
+            return null;
+        }
+
+        String region = regions.get(values[slot]);
+        values[slot] = EMPTY;
+        size -= 1;
+        shiftBack(slot);
+        return region;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(BiConsumer<SwitchId, String> consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != EMPTY) {
+                consumer.accept(new SwitchId(keys[i]), regions.get(values[i]));
+            }
+        }
+    }
+
+    private int locate(long key) {
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; values[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+        }
+        return EMPTY;
+    }
+
+    private void insert(long key, int value) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (values[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    /**
+     * Restore probe chains after removal (backward shift deletion), so no tombstones are required.
+     */
+    private void shiftBack(int freeSlot) {
+        int mask = keys.length - 1;
+        int slot = (freeSlot + 1) & mask;
+        while (values[slot] != EMPTY) {
+            int home = hash(keys[slot]) & mask;
+            boolean movable = freeSlot <= slot
+                    ? home <= freeSlot || slot < home
+                    : home <= freeSlot && slot < home;
+            if (movable) {
+                keys[freeSlot] = keys[slot];
+                values[freeSlot] = values[slot];
+                values[slot] = EMPTY;
+                freeSlot = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != EMPTY) {
+                insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, EMPTY);
+    }
+
+    private int internRegion(String region) {
+        return regionIndex.computeIfAbsent(region, key -> {
+            regions.add(key);
+            return regions.size() - 1;
+        });
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
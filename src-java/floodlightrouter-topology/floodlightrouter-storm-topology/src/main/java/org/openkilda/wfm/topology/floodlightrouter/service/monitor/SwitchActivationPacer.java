@@ -0,0 +1,153 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.floodlightrouter.service.monitor;
+
+import org.openkilda.messaging.info.InfoData;
+import org.openkilda.messaging.info.event.SwitchChangeType;
+import org.openkilda.messaging.info.event.SwitchInfoData;
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.topology.floodlightrouter.model.RegionMappingUpdate;
+import org.openkilda.wfm.topology.floodlightrouter.service.SwitchMonitorCarrier;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sits between switch monitors and the network topology. When a speaker restarts, hundreds of switches connect at
+ * once and each activation triggers sync, port discovery and rules validation in the network topology. If more
+ * than {@code threshold} connect/disconnect events happen inside the {@code window}, the storm mode is turned on
+ * and switch activations are queued and released by {@code activationBudget} per timer tick.
+ *
+ * <p>All notifications of a switch with queued activation are queued behind it to keep their order. Region
+ * mapping updates and deactivations are never delayed, the deactivation drops the queued activation.
+ */
+@Slf4j
+class SwitchActivationPacer implements SwitchMonitorCarrier {
+    private final SwitchMonitorCarrier target;
+    private final Clock clock;
+    private final SwitchConnectStormConfig config;
+    private final int activationBudget;
+
+    private final ArrayDeque<Instant> recentEvents = new ArrayDeque<>();
+    private final Map<SwitchId, List<InfoData>> pending = new LinkedHashMap<>();
+
+    private boolean stormMode = false;
+    private long releasedCount = 0;
+
+    SwitchActivationPacer(SwitchMonitorCarrier target, Clock clock, SwitchConnectStormConfig config) {
+        this.target = target;
+        this.clock = clock;
+        this.config = config;
+        this.activationBudget = Math.max(config.getActivationBudget(), 1);
+    }
+
+    /**
+     * Release the next batch of queued activations and leave the storm mode when the burst is over.
+     */
+    void handleTimerTick() {
+        Instant now = clock.instant();
+        expireEvents(now);
+
+        int budget = activationBudget;
+        Iterator<Map.Entry<SwitchId, List<InfoData>>> iter = pending.entrySet().iterator();
+        while (0 < budget && iter.hasNext()) {
+            Map.Entry<SwitchId, List<InfoData>> entry = iter.next();
+            iter.remove();
+            for (InfoData notification : entry.getValue()) {
+                target.switchStatusUpdateNotification(entry.getKey(), notification);
+            }
+            budget -= 1;
+            releasedCount += 1;
+        }
+
+        if (stormMode && pending.isEmpty() && recentEvents.size() < config.getThreshold()) {
+            stormMode = false;
+            log.info("Switch connect storm is over, {} switch activations were paced", releasedCount);
+            releasedCount = 0;
+        }
+    }
+
+    boolean isStormMode() {
+        return stormMode;
+    }
+
+    int getPendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void regionUpdateNotification(RegionMappingUpdate mappingUpdate) {
+        target.regionUpdateNotification(mappingUpdate);
+    }
+
+    @Override
+    public void switchStatusUpdateNotification(SwitchId switchId, InfoData notification) {
+        if (!config.isEnabled()) {
+            target.switchStatusUpdateNotification(switchId, notification);
+            return;
+        }
+
+        SwitchChangeType state = null;
+        if (notification instanceof SwitchInfoData) {
+            state = ((SwitchInfoData) notification).getState();
+        }
+        if (state == SwitchChangeType.ACTIVATED || state == SwitchChangeType.DEACTIVATED) {
+            recordEvent();
+        }
+
+        if (state == SwitchChangeType.DEACTIVATED) {
+            if (pending.remove(switchId) != null) {
+                log.debug("Drop queued activation of {} due to deactivation", switchId);
+            }
+            target.switchStatusUpdateNotification(switchId, notification);
+        } else if (pending.containsKey(switchId)) {
+            pending.get(switchId).add(notification);
+        } else if (stormMode && state == SwitchChangeType.ACTIVATED) {
+            List<InfoData> queue = new ArrayList<>();
+            queue.add(notification);
+            pending.put(switchId, queue);
+        } else {
+            target.switchStatusUpdateNotification(switchId, notification);
+        }
+    }
+
+    private void recordEvent() {
+        Instant now = clock.instant();
+        recentEvents.addLast(now);
+        expireEvents(now);
+
+        if (!stormMode && config.getThreshold() <= recentEvents.size()) {
+            stormMode = true;
+            log.warn("Switch connect storm detected ({} connect/disconnect events in {}), pace switch activations "
+                    + "by {} per second", recentEvents.size(), config.getWindow(), activationBudget);
+        }
+    }
+
+    private void expireEvents(Instant now) {
+        Instant bound = now.minus(config.getWindow());
+        while (!recentEvents.isEmpty() && !recentEvents.peekFirst().isAfter(bound)) {
+            recentEvents.pollFirst();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.floodlightrouter.service.monitor;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+@Value
+@Builder(toBuilder = true)
+public class SwitchConnectStormConfig implements Serializable {
+    public static final SwitchConnectStormConfig DISABLED = SwitchConnectStormConfig.builder().build();
+
+    /**
+     * Number of switch connect/disconnect events inside {@code window} that turns the storm mode on, zero disables
+     * the storm mode.
+     */
+    @Builder.Default
+    private int threshold = 0;
+
+    @Builder.Default
+    private Duration window = Duration.ofSeconds(10);
+
+    /**
+     * Number of switch activations passed downstream per second while the storm mode is on.
+     */
+    @Builder.Default
+    private int activationBudget = 1;
+
+    public boolean isEnabled() {
+        return 0 < threshold;
+    }
+}
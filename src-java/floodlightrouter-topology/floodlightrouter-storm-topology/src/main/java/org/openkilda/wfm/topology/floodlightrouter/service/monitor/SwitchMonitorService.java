@@ -41,13 +41,17 @@ public class SwitchMonitorService {
     @Getter(AccessLevel.PACKAGE)
     private final Duration garbageDelay = Duration.ofSeconds(300);
 
-    private final SwitchMonitorCarrier carrier;
+    private final SwitchActivationPacer carrier;
 
     private final Map<SwitchId, SwitchMonitorEntry> monitors = new HashMap<>();
 
     public SwitchMonitorService(Clock clock, SwitchMonitorCarrier carrier) {
+        this(clock, carrier, SwitchConnectStormConfig.DISABLED);
+    }
+
+    public SwitchMonitorService(Clock clock, SwitchMonitorCarrier carrier, SwitchConnectStormConfig stormConfig) {
         this.clock = clock;
-        this.carrier = carrier;
+        this.carrier = new SwitchActivationPacer(carrier, clock, stormConfig);
     }
 
     /**
@@ -67,6 +71,8 @@ public class SwitchMonitorService {
                 }
             }
         }
+
+        carrier.handleTimerTick();
     }
 
     /**
@@ -94,6 +100,11 @@ public class SwitchMonitorService {
         return monitors.containsKey(switchId);
     }
 
+    @VisibleForTesting
+    boolean isConnectStormMode() {
+        return carrier.isStormMode();
+    }
+
     private SwitchMonitorEntry lookupOrCreateSwitchMonitor(SwitchId switchId) {
         return monitors.computeIfAbsent(switchId, key -> new SwitchMonitorEntry(carrier, clock, switchId));
     }
@@ -17,6 +17,8 @@ package org.openkilda.wfm.topology.floodlightrouter.bolts;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -35,6 +37,7 @@ import org.openkilda.wfm.topology.utils.KafkaRecordTranslator;
 
 import com.google.common.collect.ImmutableMap;
 import org.apache.storm.generated.StormTopology;
+import org.apache.storm.metric.api.IMetric;
 import org.apache.storm.task.GeneralTopologyContext;
 import org.apache.storm.task.OutputCollector;
 import org.apache.storm.task.TopologyContext;
@@ -89,6 +92,8 @@ public class ControllerToSpeakerProxyBoltTest {
         subject = new ControllerToSpeakerProxyBolt(TARGET_TOPIC, regions, Duration.ofSeconds(900));
 
         when(topologyContext.getThisTaskId()).thenReturn(1);
+        when(topologyContext.registerMetric(anyString(), any(IMetric.class), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
         subject.prepare(topologyConfig, topologyContext, outputCollector);
 
         StormTopology topology = mock(StormTopology.class);
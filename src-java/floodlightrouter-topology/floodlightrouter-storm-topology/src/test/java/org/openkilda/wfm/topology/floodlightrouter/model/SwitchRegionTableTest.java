@@ -0,0 +1,73 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.floodlightrouter.model;
+
+import org.openkilda.model.SwitchId;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class SwitchRegionTableTest {
+    private static final String REGION_A = "region_a";
+    private static final String REGION_B = "region_b";
+
+    @Test
+    public void putGetRemove() {
+        SwitchRegionTable subject = new SwitchRegionTable();
+        SwitchId alpha = new SwitchId(1);
+
+        Assert.assertNull(subject.get(alpha));
+        Assert.assertNull(subject.put(alpha, REGION_A));
+        Assert.assertEquals(REGION_A, subject.get(alpha));
+
+        Assert.assertEquals(REGION_A, subject.put(alpha, REGION_B));
+        Assert.assertEquals(REGION_B, subject.get(alpha));
+        Assert.assertEquals(1, subject.size());
+
+        Assert.assertEquals(REGION_B, subject.remove(alpha));
+        Assert.assertNull(subject.get(alpha));
+        Assert.assertNull(subject.remove(alpha));
+        Assert.assertEquals(0, subject.size());
+    }
+
+    @Test
+    public void keepConsistencyOnGrowAndRemove() {
+        SwitchRegionTable subject = new SwitchRegionTable();
+        Map<SwitchId, String> expected = new HashMap<>();
+        for (long i = 0; i < 1000; i++) {
+            SwitchId switchId = new SwitchId(i * 31);
+            String region = i % 2 == 0 ? REGION_A : REGION_B;
+            subject.put(switchId, region);
+            expected.put(switchId, region);
+        }
+        for (long i = 0; i < 1000; i += 3) {
+            SwitchId switchId = new SwitchId(i * 31);
+            Assert.assertEquals(expected.remove(switchId), subject.remove(switchId));
+        }
+
+        Assert.assertEquals(expected.size(), subject.size());
+        for (Map.Entry<SwitchId, String> entry : expected.entrySet()) {
+            Assert.assertEquals(entry.getValue(), subject.get(entry.getKey()));
+        }
+
+        Map<SwitchId, String> dump = new HashMap<>();
+        subject.forEach(dump::put);
+        Assert.assertEquals(expected, dump);
+    }
+}
@@ -15,10 +15,14 @@
 
 package org.openkilda.wfm.topology.floodlightrouter.service.monitor;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.event.SwitchChangeType;
 import org.openkilda.messaging.info.event.SwitchInfoData;
 import org.openkilda.messaging.model.SpeakerSwitchDescription;
@@ -40,6 +44,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.net.InetSocketAddress;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.stream.IntStream;
 
 @RunWith(MockitoJUnitRunner.class)
 public class SwitchMonitorServiceTest {
@@ -95,6 +100,52 @@ public class SwitchMonitorServiceTest {
         verifyAutomaticCleanUp(subject, activate.getSwitchId(), false);
     }
 
+    @Test
+    public void connectStormPacesSwitchActivations() {
+        SwitchMonitorService subject = new SwitchMonitorService(clock, carrier, SwitchConnectStormConfig.builder()
+                .threshold(3)
+                .window(Duration.ofSeconds(10))
+                .activationBudget(2)
+                .build());
+
+        IntStream.rangeClosed(1, 6)
+                .mapToObj(idx -> makeSwitchActivateNotification(new SwitchId(idx)))
+                .forEach(entry -> subject.handleStatusUpdateNotification(entry, REGION_ALPHA));
+        Assert.assertTrue(subject.isConnectStormMode());
+
+        // region mapping is never delayed, activations are delayed since the storm is detected
+        verify(carrier, times(6)).regionUpdateNotification(any(RegionMappingSet.class));
+        verify(carrier, times(2)).switchStatusUpdateNotification(any(SwitchId.class), any(InfoData.class));
+
+        subject.handleTimerTick();
+        verify(carrier, times(4)).switchStatusUpdateNotification(any(SwitchId.class), any(InfoData.class));
+        subject.handleTimerTick();
+        verify(carrier, times(6)).switchStatusUpdateNotification(any(SwitchId.class), any(InfoData.class));
+        Assert.assertTrue(subject.isConnectStormMode());
+
+        clock.adjust(Duration.ofSeconds(11));
+        subject.handleTimerTick();
+        Assert.assertFalse(subject.isConnectStormMode());
+    }
+
+    @Test
+    public void connectStormDeactivationDropsQueuedActivation() {
+        SwitchMonitorService subject = new SwitchMonitorService(clock, carrier, SwitchConnectStormConfig.builder()
+                .threshold(1)
+                .build());
+
+        SwitchInfoData activate = makeSwitchActivateNotification(SWITCH_ALPHA);
+        subject.handleStatusUpdateNotification(activate, REGION_ALPHA);
+        verify(carrier, never()).switchStatusUpdateNotification(eq(SWITCH_ALPHA), eq(activate));
+
+        SwitchInfoData deactivate = new SwitchInfoData(SWITCH_ALPHA, SwitchChangeType.DEACTIVATED);
+        subject.handleStatusUpdateNotification(deactivate, REGION_ALPHA);
+        verify(carrier).switchStatusUpdateNotification(eq(SWITCH_ALPHA), eq(deactivate));
+
+        subject.handleTimerTick();
+        verify(carrier, never()).switchStatusUpdateNotification(eq(SWITCH_ALPHA), eq(activate));
+    }
+
     private void verifyAutomaticCleanUp(SwitchMonitorService subject, SwitchId switchId, boolean expectRemoval) {
         Assert.assertTrue(subject.isMonitorExists(switchId));
 
@@ -133,7 +184,7 @@ public class SwitchMonitorServiceTest {
                 .port(SpeakerSwitchPortView.builder().number(2).state(State.DOWN).build())
                 .build();
         return new SwitchInfoData(
-                SWITCH_ALPHA, SwitchChangeType.ACTIVATED,
+                switchId, SwitchChangeType.ACTIVATED,
                 speakerView.getSwitchSocketAddress().getAddress().toString(),
                 speakerView.getSwitchSocketAddress().getHostName(),
                 String.format("%s %s %s",
@@ -30,8 +30,31 @@ import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.SWAP_ENDPO
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.UPDATE_HUB_TO_SWAP_ENDPOINTS_HUB;
 import static org.openkilda.wfm.topology.flowhs.bolts.RouterBolt.FLOW_ID_FIELD;
 
+import org.openkilda.floodlight.api.request.EgressFlowSegmentInstallRequest;
+import org.openkilda.floodlight.api.request.EgressFlowSegmentRemoveRequest;
+import org.openkilda.floodlight.api.request.EgressFlowSegmentVerifyRequest;
+import org.openkilda.floodlight.api.request.IngressFlowSegmentInstallRequest;
+import org.openkilda.floodlight.api.request.IngressFlowSegmentRemoveRequest;
+import org.openkilda.floodlight.api.request.IngressFlowSegmentVerifyRequest;
+import org.openkilda.floodlight.api.request.OneSwitchFlowInstallRequest;
+import org.openkilda.floodlight.api.request.OneSwitchFlowRemoveRequest;
+import org.openkilda.floodlight.api.request.OneSwitchFlowVerifyRequest;
+import org.openkilda.floodlight.api.request.TransitFlowSegmentInstallRequest;
+import org.openkilda.floodlight.api.request.TransitFlowSegmentRemoveRequest;
+import org.openkilda.floodlight.api.request.TransitFlowSegmentVerifyRequest;
+import org.openkilda.floodlight.api.response.SpeakerFlowSegmentResponse;
+import org.openkilda.floodlight.flow.response.FlowErrorResponse;
+import org.openkilda.floodlight.model.FlowSegmentMetadata;
+import org.openkilda.floodlight.model.RulesContext;
 import org.openkilda.messaging.AbstractMessage;
 import org.openkilda.messaging.Message;
+import org.openkilda.messaging.command.flow.FlowDeleteRequest;
+import org.openkilda.messaging.command.flow.FlowRequest;
+import org.openkilda.messaging.command.flow.FlowRerouteRequest;
+import org.openkilda.messaging.info.flow.FlowChangedNotification;
+import org.openkilda.messaging.model.DetectConnectedDevicesDto;
+import org.openkilda.model.FlowTransitEncapsulation;
+import org.openkilda.model.MeterConfig;
 import org.openkilda.pce.PathComputerConfig;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.persistence.spi.PersistenceProvider;
@@ -39,10 +62,15 @@ import org.openkilda.wfm.LaunchEnvironment;
 import org.openkilda.wfm.kafka.AbstractMessageSerializer;
 import org.openkilda.wfm.share.flow.resources.FlowResourcesConfig;
 import org.openkilda.wfm.share.history.bolt.HistoryBolt;
+import org.openkilda.wfm.share.history.model.FlowDumpData;
+import org.openkilda.wfm.share.history.model.FlowEventData;
+import org.openkilda.wfm.share.history.model.FlowHistoryData;
+import org.openkilda.wfm.share.history.model.FlowHistoryHolder;
 import org.openkilda.wfm.share.hubandspoke.CoordinatorBolt;
 import org.openkilda.wfm.share.hubandspoke.CoordinatorSpout;
 import org.openkilda.wfm.share.hubandspoke.HubBolt;
 import org.openkilda.wfm.share.hubandspoke.WorkerBolt.Config;
+import org.openkilda.wfm.share.utils.FsmProfiler;
 import org.openkilda.wfm.topology.AbstractTopology;
 import org.openkilda.wfm.topology.flowhs.bolts.FlowCreateHubBolt;
 import org.openkilda.wfm.topology.flowhs.bolts.FlowCreateHubBolt.FlowCreateConfig;
@@ -58,15 +86,52 @@ import org.openkilda.wfm.topology.flowhs.bolts.FlowUpdateHubBolt.FlowUpdateConfi
 import org.openkilda.wfm.topology.flowhs.bolts.RouterBolt;
 import org.openkilda.wfm.topology.flowhs.bolts.SpeakerWorkerBolt;
 
+import com.google.common.collect.ImmutableList;
 import org.apache.storm.generated.StormTopology;
 import org.apache.storm.kafka.bolt.KafkaBolt;
 import org.apache.storm.kafka.spout.KafkaSpout;
 import org.apache.storm.topology.TopologyBuilder;
 import org.apache.storm.tuple.Fields;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
+    public static final List<Class<?>> TUPLE_SERIALIZATION_TYPES = ImmutableList.of(
+            FlowRequest.class,
+            FlowRerouteRequest.class,
+            FlowDeleteRequest.class,
+            IngressFlowSegmentInstallRequest.class,
+            IngressFlowSegmentRemoveRequest.class,
+            IngressFlowSegmentVerifyRequest.class,
+            OneSwitchFlowInstallRequest.class,
+            OneSwitchFlowRemoveRequest.class,
+            OneSwitchFlowVerifyRequest.class,
+            TransitFlowSegmentInstallRequest.class,
+            TransitFlowSegmentRemoveRequest.class,
+            TransitFlowSegmentVerifyRequest.class,
+            EgressFlowSegmentInstallRequest.class,
+            EgressFlowSegmentRemoveRequest.class,
+            EgressFlowSegmentVerifyRequest.class,
+            SpeakerFlowSegmentResponse.class,
+            FlowErrorResponse.class,
+            FlowHistoryHolder.class,
+            FlowChangedNotification.class,
+            // nested types of the payloads
+            FlowRequest.Type.class,
+            DetectConnectedDevicesDto.class,
+            FlowSegmentMetadata.class,
+            MeterConfig.class,
+            RulesContext.class,
+            FlowTransitEncapsulation.class,
+            FlowErrorResponse.ErrorCode.class,
+            FlowDumpData.class,
+            FlowDumpData.DumpType.class,
+            FlowHistoryData.class,
+            FlowEventData.class,
+            FlowEventData.Initiator.class,
+            FlowEventData.Event.class);
+
     private static final Fields FLOW_FIELD = new Fields(FLOW_ID_FIELD);
 
     private int parallelism;
@@ -107,6 +172,7 @@ public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
         northboundOutput(tb);
         rerouteTopologyOutput(tb);
         pingOutput(tb);
+        flowChangeNotifyOutput(tb);
         server42ControlTopologyOutput(tb);
 
         history(tb, persistenceManager);
@@ -114,6 +180,19 @@ public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
         return tb.createTopology();
     }
 
+    @Override
+    protected org.apache.storm.Config makeStormConfig() {
+        org.apache.storm.Config stormConfig = super.makeStormConfig();
+        stormConfig.put(FsmProfiler.SLOW_OPERATION_THRESHOLD_CONFIG,
+                topologyConfig.getFsmSlowOperationThresholdMillis());
+        return stormConfig;
+    }
+
+    @Override
+    protected List<Class<?>> getTupleSerializationTypes() {
+        return TUPLE_SERIALIZATION_TYPES;
+    }
+
     private void inputSpout(TopologyBuilder topologyBuilder) {
         KafkaSpout<String, Message> mainSpout = buildKafkaSpout(getConfig().getKafkaFlowHsTopic(),
                 ComponentId.FLOW_SPOUT.name());
@@ -410,6 +489,16 @@ public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
                 .shuffleGrouping(ComponentId.FLOW_PATH_SWAP_HUB.name(), Stream.HUB_TO_PING_SENDER.name());
     }
 
+    private void flowChangeNotifyOutput(TopologyBuilder topologyBuilder) {
+        KafkaBolt flowChangeKafkaBolt = buildKafkaBolt(getConfig().getKafkaFlowChangeNotifyTopic());
+        topologyBuilder.setBolt(ComponentId.FLOW_CHANGE_NOTIFY_SENDER.name(), flowChangeKafkaBolt, parallelism)
+                .shuffleGrouping(ComponentId.FLOW_CREATE_HUB.name(), Stream.HUB_TO_FLOW_CHANGE_NOTIFY_SENDER.name())
+                .shuffleGrouping(ComponentId.FLOW_UPDATE_HUB.name(), Stream.HUB_TO_FLOW_CHANGE_NOTIFY_SENDER.name())
+                .shuffleGrouping(ComponentId.FLOW_DELETE_HUB.name(), Stream.HUB_TO_FLOW_CHANGE_NOTIFY_SENDER.name())
+                .shuffleGrouping(ComponentId.FLOW_REROUTE_HUB.name(), Stream.HUB_TO_FLOW_CHANGE_NOTIFY_SENDER.name())
+                .shuffleGrouping(ComponentId.FLOW_PATH_SWAP_HUB.name(), Stream.HUB_TO_FLOW_CHANGE_NOTIFY_SENDER.name());
+    }
+
     private void server42ControlTopologyOutput(TopologyBuilder topologyBuilder) {
         KafkaBolt server42ControlKafkaBolt = buildKafkaBolt(getConfig().getKafkaFlowHsServer42StormNotifyTopic());
         topologyBuilder.setBolt(ComponentId.SERVER42_CONTROL_TOPOLOGY_SENDER.name(),
@@ -455,6 +544,7 @@ public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
         REROUTE_RESPONSE_SENDER("reroute.kafka.bolt"),
         RESPONSE_SENDER("response.kafka.bolt"),
         FLOW_PING_SENDER("ping.kafka.bolt"),
+        FLOW_CHANGE_NOTIFY_SENDER("flow.change.notify.kafka.bolt"),
         SERVER42_CONTROL_TOPOLOGY_SENDER("server42.control.kafka.bolt"),
 
         SPEAKER_REQUEST_SENDER("speaker.kafka.bolt"),
@@ -499,6 +589,7 @@ public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
         HUB_TO_REROUTE_RESPONSE_SENDER,
         HUB_TO_RESPONSE_SENDER,
         HUB_TO_PING_SENDER,
+        HUB_TO_FLOW_CHANGE_NOTIFY_SENDER,
         HUB_TO_SERVER42_CONTROL_TOPOLOGY_SENDER
     }
 
@@ -45,6 +45,10 @@ public interface FlowHsTopologyConfig extends AbstractTopologyConfig {
         return getKafkaTopics().getPingTopic();
     }
 
+    default String getKafkaFlowChangeNotifyTopic() {
+        return getKafkaTopics().getFlowChangeNotifyTopic();
+    }
+
     default String getKafkaFlowHsServer42StormNotifyTopic() {
         return getKafkaTopics().getFlowHsServer42StormNotifyTopic();
     }
@@ -125,4 +129,8 @@ public interface FlowHsTopologyConfig extends AbstractTopologyConfig {
     @Key("flow.pathswap.speaker.command.retries")
     @Default("3")
     int getPathSwapSpeakerCommandRetries();
+
+    @Key("flow.fsm.slow.operation.threshold.ms")
+    @Default("5000")
+    long getFsmSlowOperationThresholdMillis();
 }
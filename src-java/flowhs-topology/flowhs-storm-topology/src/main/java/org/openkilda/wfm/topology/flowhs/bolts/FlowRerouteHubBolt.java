@@ -15,6 +15,7 @@
 
 package org.openkilda.wfm.topology.flowhs.bolts;
 
+import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.HUB_TO_FLOW_CHANGE_NOTIFY_SENDER;
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.HUB_TO_HISTORY_BOLT;
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.HUB_TO_NB_RESPONSE_SENDER;
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.HUB_TO_PING_SENDER;
@@ -29,6 +30,7 @@ import org.openkilda.messaging.command.CommandMessage;
 import org.openkilda.messaging.command.flow.FlowRerouteRequest;
 import org.openkilda.messaging.command.flow.PeriodicPingCommand;
 import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.flow.FlowChangedNotification;
 import org.openkilda.messaging.info.reroute.RerouteResultInfoData;
 import org.openkilda.messaging.info.reroute.error.RerouteError;
 import org.openkilda.pce.AvailableNetworkFactory;
@@ -43,16 +45,22 @@ import org.openkilda.wfm.share.history.model.FlowHistoryHolder;
 import org.openkilda.wfm.share.hubandspoke.HubBolt;
 import org.openkilda.wfm.share.utils.KeyProvider;
 import org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream;
+import org.openkilda.wfm.topology.flowhs.service.BandwidthReservationLedger;
 import org.openkilda.wfm.topology.flowhs.service.FlowRerouteHubCarrier;
 import org.openkilda.wfm.topology.flowhs.service.FlowRerouteService;
 import org.openkilda.wfm.topology.utils.MessageKafkaTranslator;
 
 import lombok.Builder;
 import lombok.Getter;
+import org.apache.storm.metric.api.IMetric;
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
+import java.util.Map;
+
 public class FlowRerouteHubBolt extends HubBolt implements FlowRerouteHubCarrier {
 
     private final FlowRerouteConfig config;
@@ -73,10 +81,19 @@ public class FlowRerouteHubBolt extends HubBolt implements FlowRerouteHubCarrier
         this.flowResourcesConfig = flowResourcesConfig;
     }
 
+    @Override
+    public void prepare(Map stormConf, TopologyContext context, OutputCollector collector) {
+        IMetric ledgerMetric = BandwidthReservationLedger.getInstance()::getAndResetCounters;
+        context.registerMetric(BandwidthReservationLedger.METRIC_NAME, ledgerMetric,
+                BandwidthReservationLedger.METRIC_BUCKET_SIZE_SECONDS);
+        super.prepare(stormConf, context, collector);
+    }
+
     @Override
     protected void init() {
         AvailableNetworkFactory availableNetworkFactory =
-                new AvailableNetworkFactory(pathComputerConfig, persistenceManager.getRepositoryFactory());
+                new AvailableNetworkFactory(pathComputerConfig, persistenceManager.getRepositoryFactory(),
+                        BandwidthReservationLedger.getInstance());
         PathComputer pathComputer =
                 new PathComputerFactory(pathComputerConfig, availableNetworkFactory).getPathComputer();
 
@@ -133,6 +150,13 @@ public class FlowRerouteHubBolt extends HubBolt implements FlowRerouteHubCarrier
         emitWithContext(Stream.HUB_TO_PING_SENDER.name(), getCurrentTuple(), new Values(currentKey, message));
     }
 
+    @Override
+    public void sendFlowChangedNotification(String flowId) {
+        Message message = new InfoMessage(new FlowChangedNotification(flowId), getCommandContext().getCreateTime(),
+                getCommandContext().getCorrelationId());
+        emitWithContext(HUB_TO_FLOW_CHANGE_NOTIFY_SENDER.name(), getCurrentTuple(), new Values(flowId, message));
+    }
+
     @Override
     public void cancelTimeoutCallback(String key) {
         cancelCallback(key);
@@ -159,6 +183,7 @@ public class FlowRerouteHubBolt extends HubBolt implements FlowRerouteHubCarrier
         declarer.declareStream(HUB_TO_REROUTE_RESPONSE_SENDER.name(), MessageKafkaTranslator.STREAM_FIELDS);
         declarer.declareStream(HUB_TO_HISTORY_BOLT.name(), MessageKafkaTranslator.STREAM_FIELDS);
         declarer.declareStream(HUB_TO_PING_SENDER.name(), MessageKafkaTranslator.STREAM_FIELDS);
+        declarer.declareStream(HUB_TO_FLOW_CHANGE_NOTIFY_SENDER.name(), MessageKafkaTranslator.STREAM_FIELDS);
     }
 
     @Getter
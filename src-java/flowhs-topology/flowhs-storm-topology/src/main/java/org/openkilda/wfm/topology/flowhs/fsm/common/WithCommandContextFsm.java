@@ -31,6 +31,11 @@ public abstract class WithCommandContextFsm<T extends StateMachine<T, S, E, C>,
         this.commandContext = commandContext;
     }
 
+    @Override
+    protected String getProfilingSubject() {
+        return String.format("%s (correlation id: %s)", getIdentifier(), commandContext.getCorrelationId());
+    }
+
     public abstract void fireNext(C context);
 
     public abstract void fireError(String errorReason);
@@ -20,6 +20,8 @@ import org.openkilda.wfm.share.history.model.FlowDumpData;
 import org.openkilda.wfm.share.history.model.FlowEventData;
 import org.openkilda.wfm.share.history.model.FlowHistoryData;
 import org.openkilda.wfm.share.history.model.FlowHistoryHolder;
+import org.openkilda.wfm.share.utils.FsmProfiler;
+import org.openkilda.wfm.share.utils.FsmTimings;
 import org.openkilda.wfm.share.utils.KeyProvider;
 import org.openkilda.wfm.topology.flowhs.service.FlowGenericCarrier;
 
@@ -199,6 +201,20 @@ public abstract class WithHistorySupportFsm<T extends StateMachine<T, S, E, C>,
         return lastHistoryEntryTime;
     }
 
+    @Override
+    protected String getProfilingSubject() {
+        return String.format("on flow \"%s\" (correlation id: %s)",
+                getFlowId(), getCommandContext().getCorrelationId());
+    }
+
+    @Override
+    protected void onExecutionProfiled(FsmTimings timings) {
+        // only slow operations are worth the extra history record
+        if (FsmProfiler.getInstance().isSlow(timings)) {
+            sendHistoryData("Timing breakdown", timings.format());
+        }
+    }
+
     public abstract void reportError(E event);
 
     protected void reportGlobalTimeout() {
@@ -51,6 +51,7 @@ import org.openkilda.wfm.share.logger.FlowOperationsDashboardLogger;
 import org.openkilda.wfm.share.mappers.HistoryMapper;
 import org.openkilda.wfm.topology.flow.model.FlowPathPair;
 import org.openkilda.wfm.topology.flowhs.fsm.common.FlowPathSwappingFsm;
+import org.openkilda.wfm.topology.flowhs.service.BandwidthReservationLedger;
 import org.openkilda.wfm.topology.flowhs.service.FlowPathBuilder;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -81,6 +82,7 @@ public abstract class BaseResourceAllocationAction<T extends FlowPathSwappingFsm
     protected final FlowResourcesManager resourcesManager;
     protected final FlowPathBuilder flowPathBuilder;
     protected final FlowOperationsDashboardLogger dashboardLogger;
+    protected final BandwidthReservationLedger bandwidthLedger = BandwidthReservationLedger.getInstance();
 
     public BaseResourceAllocationAction(PersistenceManager persistenceManager,
                                         int pathAllocationRetriesLimit, int pathAllocationRetryDelay,
@@ -178,7 +180,10 @@ public abstract class BaseResourceAllocationAction<T extends FlowPathSwappingFsm
             pathAllocationRetryPolicy.withDelay(pathAllocationRetryDelay, TimeUnit.MILLISECONDS);
         }
         SyncFailsafe failsafe = Failsafe.with(pathAllocationRetryPolicy)
-                .onRetry(e -> log.warn("Failure in resource allocation. Retrying...", e))
+                .onRetry(e -> {
+                    bandwidthLedger.onAllocationRetry();
+                    log.warn("Failure in resource allocation. Retrying...", e);
+                })
                 .onRetriesExceeded(e -> log.warn("Failure in resource allocation. No more retries", e));
 
         try {
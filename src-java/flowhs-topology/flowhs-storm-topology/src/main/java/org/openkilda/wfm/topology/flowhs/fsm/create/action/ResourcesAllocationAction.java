@@ -57,6 +57,8 @@ import org.openkilda.wfm.topology.flowhs.fsm.create.FlowCreateFsm.Event;
 import org.openkilda.wfm.topology.flowhs.fsm.create.FlowCreateFsm.State;
 import org.openkilda.wfm.topology.flowhs.mapper.RequestedFlowMapper;
 import org.openkilda.wfm.topology.flowhs.model.RequestedFlow;
+import org.openkilda.wfm.topology.flowhs.service.BandwidthReservationLedger;
+import org.openkilda.wfm.topology.flowhs.service.BandwidthReservationLedger.Reservation;
 import org.openkilda.wfm.topology.flowhs.service.FlowCommandBuilder;
 import org.openkilda.wfm.topology.flowhs.service.FlowCommandBuilderFactory;
 import org.openkilda.wfm.topology.flowhs.service.FlowPathBuilder;
@@ -85,6 +87,7 @@ public class ResourcesAllocationAction extends NbTrackableAction<FlowCreateFsm,
 
     private final FlowPathBuilder flowPathBuilder;
     private final FlowCommandBuilderFactory commandBuilderFactory;
+    private final BandwidthReservationLedger bandwidthLedger = BandwidthReservationLedger.getInstance();
 
     public ResourcesAllocationAction(PathComputer pathComputer, PersistenceManager persistenceManager,
                                      int pathAllocationRetriesLimit, int pathAllocationRetryDelay,
@@ -188,7 +191,10 @@ public class ResourcesAllocationAction extends NbTrackableAction<FlowCreateFsm,
             pathAllocationRetryPolicy.withDelay(pathAllocationRetryDelay, TimeUnit.MILLISECONDS);
         }
         SyncFailsafe failsafe = Failsafe.with(pathAllocationRetryPolicy)
-                .onRetry(e -> log.warn("Failure in resource allocation. Retrying...", e))
+                .onRetry(e -> {
+                    bandwidthLedger.onAllocationRetry();
+                    log.warn("Failure in resource allocation. Retrying...", e);
+                })
                 .onRetriesExceeded(e -> log.warn("Failure in resource allocation. No more retries", e));
         try {
             failsafe.run(() -> allocateMainPath(stateMachine));
@@ -222,38 +228,41 @@ public class ResourcesAllocationAction extends NbTrackableAction<FlowCreateFsm,
 
     private void allocateMainPath(FlowCreateFsm stateMachine) throws UnroutableFlowException,
             RecoverableException, ResourceAllocationException {
-        GetPathsResult paths = pathComputer.getPath(getFlow(stateMachine.getFlowId()));
+        Flow tmpFlow = getFlow(stateMachine.getFlowId());
+        GetPathsResult paths = pathComputer.getPath(tmpFlow);
 
         log.debug("Creating the primary path {} for flow {}", paths, stateMachine.getFlowId());
 
-        transactionManager.doInTransaction(() -> {
-            Flow flow = getFlow(stateMachine.getFlowId());
-            FlowResources flowResources = resourcesManager.allocateFlowResources(flow);
-            final FlowSegmentCookieBuilder cookieBuilder = FlowSegmentCookie.builder()
-                    .flowEffectiveId(flowResources.getUnmaskedCookie());
-
-            FlowPath forward = flowPathBuilder.buildFlowPath(
-                    flow, flowResources.getForward(), paths.getForward(),
-                    cookieBuilder.direction(FlowPathDirection.FORWARD).build(), false);
-            forward.setStatus(FlowPathStatus.IN_PROGRESS);
-            flowPathRepository.add(forward);
-            flow.setForwardPath(forward);
-
-            FlowPath reverse = flowPathBuilder.buildFlowPath(
-                    flow, flowResources.getReverse(), paths.getReverse(),
-                    cookieBuilder.direction(FlowPathDirection.REVERSE).build(), false);
-            reverse.setStatus(FlowPathStatus.IN_PROGRESS);
-            flowPathRepository.add(reverse);
-            flow.setReversePath(reverse);
-
-            updateIslsForFlowPath(forward);
-            updateIslsForFlowPath(reverse);
-
-            stateMachine.setForwardPathId(forward.getPathId());
-            stateMachine.setReversePathId(reverse.getPathId());
-            log.debug("Allocated resources for the flow {}: {}", flow.getFlowId(), flowResources);
-            stateMachine.getFlowResources().add(flowResources);
-        });
+        try (Reservation reservation = bandwidthLedger.reserve(tmpFlow, paths, false)) {
+            transactionManager.doInTransaction(() -> {
+                Flow flow = getFlow(stateMachine.getFlowId());
+                FlowResources flowResources = resourcesManager.allocateFlowResources(flow);
+                final FlowSegmentCookieBuilder cookieBuilder = FlowSegmentCookie.builder()
+                        .flowEffectiveId(flowResources.getUnmaskedCookie());
+
+                FlowPath forward = flowPathBuilder.buildFlowPath(
+                        flow, flowResources.getForward(), paths.getForward(),
+                        cookieBuilder.direction(FlowPathDirection.FORWARD).build(), false);
+                forward.setStatus(FlowPathStatus.IN_PROGRESS);
+                flowPathRepository.add(forward);
+                flow.setForwardPath(forward);
+
+                FlowPath reverse = flowPathBuilder.buildFlowPath(
+                        flow, flowResources.getReverse(), paths.getReverse(),
+                        cookieBuilder.direction(FlowPathDirection.REVERSE).build(), false);
+                reverse.setStatus(FlowPathStatus.IN_PROGRESS);
+                flowPathRepository.add(reverse);
+                flow.setReversePath(reverse);
+
+                updateIslsForFlowPath(forward);
+                updateIslsForFlowPath(reverse);
+
+                stateMachine.setForwardPathId(forward.getPathId());
+                stateMachine.setReversePathId(reverse.getPathId());
+                log.debug("Allocated resources for the flow {}: {}", flow.getFlowId(), flowResources);
+                stateMachine.getFlowResources().add(flowResources);
+            });
+        }
     }
 
     private void allocateProtectedPath(FlowCreateFsm stateMachine) throws UnroutableFlowException,
@@ -277,35 +286,37 @@ public class ResourcesAllocationAction extends NbTrackableAction<FlowCreateFsm,
 
         log.debug("Creating the protected path {} for flow {}", protectedPath, tmpFlow);
 
-        transactionManager.doInTransaction(() -> {
-            Flow flow = getFlow(flowId);
-
-            FlowResources flowResources = resourcesManager.allocateFlowResources(flow);
-            final FlowSegmentCookieBuilder cookieBuilder = FlowSegmentCookie.builder()
-                    .flowEffectiveId(flowResources.getUnmaskedCookie());
-
-            FlowPath forward = flowPathBuilder.buildFlowPath(
-                    flow, flowResources.getForward(), protectedPath.getForward(),
-                    cookieBuilder.direction(FlowPathDirection.FORWARD).build(), false);
-            forward.setStatus(FlowPathStatus.IN_PROGRESS);
-            flowPathRepository.add(forward);
-            flow.setProtectedForwardPath(forward);
-
-            FlowPath reverse = flowPathBuilder.buildFlowPath(
-                    flow, flowResources.getReverse(), protectedPath.getReverse(),
-                    cookieBuilder.direction(FlowPathDirection.REVERSE).build(), false);
-            reverse.setStatus(FlowPathStatus.IN_PROGRESS);
-            flowPathRepository.add(reverse);
-            flow.setProtectedReversePath(reverse);
-
-            updateIslsForFlowPath(forward);
-            updateIslsForFlowPath(reverse);
-
-            stateMachine.setProtectedForwardPathId(forward.getPathId());
-            stateMachine.setProtectedReversePathId(reverse.getPathId());
-            log.debug("Allocated resources for the flow {}: {}", flow.getFlowId(), flowResources);
-            stateMachine.getFlowResources().add(flowResources);
-        });
+        try (Reservation reservation = bandwidthLedger.reserve(tmpFlow, protectedPath, false)) {
+            transactionManager.doInTransaction(() -> {
+                Flow flow = getFlow(flowId);
+
+                FlowResources flowResources = resourcesManager.allocateFlowResources(flow);
+                final FlowSegmentCookieBuilder cookieBuilder = FlowSegmentCookie.builder()
+                        .flowEffectiveId(flowResources.getUnmaskedCookie());
+
+                FlowPath forward = flowPathBuilder.buildFlowPath(
+                        flow, flowResources.getForward(), protectedPath.getForward(),
+                        cookieBuilder.direction(FlowPathDirection.FORWARD).build(), false);
+                forward.setStatus(FlowPathStatus.IN_PROGRESS);
+                flowPathRepository.add(forward);
+                flow.setProtectedForwardPath(forward);
+
+                FlowPath reverse = flowPathBuilder.buildFlowPath(
+                        flow, flowResources.getReverse(), protectedPath.getReverse(),
+                        cookieBuilder.direction(FlowPathDirection.REVERSE).build(), false);
+                reverse.setStatus(FlowPathStatus.IN_PROGRESS);
+                flowPathRepository.add(reverse);
+                flow.setProtectedReversePath(reverse);
+
+                updateIslsForFlowPath(forward);
+                updateIslsForFlowPath(reverse);
+
+                stateMachine.setProtectedForwardPathId(forward.getPathId());
+                stateMachine.setProtectedReversePathId(reverse.getPathId());
+                log.debug("Allocated resources for the flow {}: {}", flow.getFlowId(), flowResources);
+                stateMachine.getFlowResources().add(flowResources);
+            });
+        }
     }
 
     private void updateIslsForFlowPath(FlowPath flowPath) throws ResourceAllocationException {
@@ -33,6 +33,7 @@ import org.openkilda.wfm.topology.flowhs.fsm.reroute.FlowRerouteContext;
 import org.openkilda.wfm.topology.flowhs.fsm.reroute.FlowRerouteFsm;
 import org.openkilda.wfm.topology.flowhs.fsm.reroute.FlowRerouteFsm.Event;
 import org.openkilda.wfm.topology.flowhs.fsm.reroute.FlowRerouteFsm.State;
+import org.openkilda.wfm.topology.flowhs.service.BandwidthReservationLedger.Reservation;
 
 import com.google.common.collect.Lists;
 import lombok.extern.slf4j.Slf4j;
@@ -94,25 +95,29 @@ public class AllocatePrimaryResourcesAction extends
                 log.debug("Found the same primary path for flow {}. Proceed with recreating it", flowId);
             }
 
-            FlowPathPair createdPaths = transactionManager.doInTransaction(() -> {
-                log.debug("Allocating resources for a new primary path of flow {}", flowId);
-                Flow flow = getFlow(flowId);
-                FlowResources flowResources = resourcesManager.allocateFlowResources(flow);
-                log.debug("Resources have been allocated: {}", flowResources);
-                stateMachine.setNewPrimaryResources(flowResources);
+            FlowPathPair createdPaths;
+            try (Reservation reservation = bandwidthLedger.reserve(
+                    tmpFlowCopy, potentialPath, stateMachine.isIgnoreBandwidth())) {
+                createdPaths = transactionManager.doInTransaction(() -> {
+                    log.debug("Allocating resources for a new primary path of flow {}", flowId);
+                    Flow flow = getFlow(flowId);
+                    FlowResources flowResources = resourcesManager.allocateFlowResources(flow);
+                    log.debug("Resources have been allocated: {}", flowResources);
+                    stateMachine.setNewPrimaryResources(flowResources);
 
-                List<FlowPath> pathsToReuse = Lists.newArrayList(flow.getForwardPath(), flow.getReversePath());
-                pathsToReuse.addAll(stateMachine.getRejectedPaths().stream()
-                        .map(flow::getPath)
-                        .flatMap(o -> o.map(Stream::of).orElseGet(Stream::empty))
-                        .collect(Collectors.toList()));
-                FlowPathPair newPaths = createFlowPathPair(flow, pathsToReuse, potentialPath, flowResources,
-                        stateMachine.isIgnoreBandwidth());
-                log.debug("New primary path has been created: {}", newPaths);
-                stateMachine.setNewPrimaryForwardPath(newPaths.getForward().getPathId());
-                stateMachine.setNewPrimaryReversePath(newPaths.getReverse().getPathId());
-                return newPaths;
-            });
+                    List<FlowPath> pathsToReuse = Lists.newArrayList(flow.getForwardPath(), flow.getReversePath());
+                    pathsToReuse.addAll(stateMachine.getRejectedPaths().stream()
+                            .map(flow::getPath)
+                            .flatMap(o -> o.map(Stream::of).orElseGet(Stream::empty))
+                            .collect(Collectors.toList()));
+                    FlowPathPair newPaths = createFlowPathPair(flow, pathsToReuse, potentialPath, flowResources,
+                            stateMachine.isIgnoreBandwidth());
+                    log.debug("New primary path has been created: {}", newPaths);
+                    stateMachine.setNewPrimaryForwardPath(newPaths.getForward().getPathId());
+                    stateMachine.setNewPrimaryReversePath(newPaths.getReverse().getPathId());
+                    return newPaths;
+                });
+            }
 
             saveAllocationActionWithDumpsToHistory(stateMachine, tmpFlowCopy, "primary", createdPaths);
         } else {
@@ -34,6 +34,7 @@ import org.openkilda.wfm.topology.flowhs.fsm.reroute.FlowRerouteContext;
 import org.openkilda.wfm.topology.flowhs.fsm.reroute.FlowRerouteFsm;
 import org.openkilda.wfm.topology.flowhs.fsm.reroute.FlowRerouteFsm.Event;
 import org.openkilda.wfm.topology.flowhs.fsm.reroute.FlowRerouteFsm.State;
+import org.openkilda.wfm.topology.flowhs.service.BandwidthReservationLedger.Reservation;
 
 import com.google.common.collect.Lists;
 import lombok.extern.slf4j.Slf4j;
@@ -120,25 +121,29 @@ public class AllocateProtectedResourcesAction extends
                     log.debug("Found the same protected path for flow {}. Proceed with recreating it", flowId);
                 }
 
-                FlowPathPair createdPaths = transactionManager.doInTransaction(() -> {
-                    log.debug("Allocating resources for a new protected path of flow {}", flowId);
-                    Flow flow = getFlow(flowId);
-                    FlowResources flowResources = resourcesManager.allocateFlowResources(flow);
-                    log.debug("Resources have been allocated: {}", flowResources);
-                    stateMachine.setNewProtectedResources(flowResources);
-
-                    List<FlowPath> pathsToReuse
-                            = Lists.newArrayList(flow.getProtectedForwardPath(), flow.getProtectedReversePath());
-                    pathsToReuse.addAll(stateMachine.getRejectedPaths().stream()
-                            .map(flow::getPath)
-                            .flatMap(o -> o.map(Stream::of).orElseGet(Stream::empty))
-                            .collect(Collectors.toList()));
-                    FlowPathPair newPaths = createFlowPathPair(flow, pathsToReuse, potentialPath, flowResources, false);
-                    log.debug("New protected path has been created: {}", newPaths);
-                    stateMachine.setNewProtectedForwardPath(newPaths.getForward().getPathId());
-                    stateMachine.setNewProtectedReversePath(newPaths.getReverse().getPathId());
-                    return newPaths;
-                });
+                FlowPathPair createdPaths;
+                try (Reservation reservation = bandwidthLedger.reserve(tmpFlowCopy, potentialPath, false)) {
+                    createdPaths = transactionManager.doInTransaction(() -> {
+                        log.debug("Allocating resources for a new protected path of flow {}", flowId);
+                        Flow flow = getFlow(flowId);
+                        FlowResources flowResources = resourcesManager.allocateFlowResources(flow);
+                        log.debug("Resources have been allocated: {}", flowResources);
+                        stateMachine.setNewProtectedResources(flowResources);
+
+                        List<FlowPath> pathsToReuse
+                                = Lists.newArrayList(flow.getProtectedForwardPath(), flow.getProtectedReversePath());
+                        pathsToReuse.addAll(stateMachine.getRejectedPaths().stream()
+                                .map(flow::getPath)
+                                .flatMap(o -> o.map(Stream::of).orElseGet(Stream::empty))
+                                .collect(Collectors.toList()));
+                        FlowPathPair newPaths = createFlowPathPair(
+                                flow, pathsToReuse, potentialPath, flowResources, false);
+                        log.debug("New protected path has been created: {}", newPaths);
+                        stateMachine.setNewProtectedForwardPath(newPaths.getForward().getPathId());
+                        stateMachine.setNewProtectedReversePath(newPaths.getReverse().getPathId());
+                        return newPaths;
+                    });
+                }
 
                 saveAllocationActionWithDumpsToHistory(stateMachine, tmpFlowCopy, "protected", createdPaths);
             } else {
@@ -33,6 +33,7 @@ import org.openkilda.wfm.topology.flowhs.fsm.update.FlowUpdateContext;
 import org.openkilda.wfm.topology.flowhs.fsm.update.FlowUpdateFsm;
 import org.openkilda.wfm.topology.flowhs.fsm.update.FlowUpdateFsm.Event;
 import org.openkilda.wfm.topology.flowhs.fsm.update.FlowUpdateFsm.State;
+import org.openkilda.wfm.topology.flowhs.service.BandwidthReservationLedger.Reservation;
 
 import com.google.common.collect.Sets;
 import lombok.extern.slf4j.Slf4j;
@@ -78,25 +79,28 @@ public class AllocatePrimaryResourcesAction extends
         List<PathId> pathIdsToReuse = pathsToReuse.stream().map(FlowPath::getPathId).collect(Collectors.toList());
         final GetPathsResult potentialPath = pathComputer.getPath(tmpFlow, pathIdsToReuse);
 
-        FlowPathPair createdPaths = transactionManager.doInTransaction(() -> {
-            log.debug("Allocating resources for a new primary path of flow {}", flowId);
-            Flow flow = getFlow(flowId);
-            FlowResources flowResources = resourcesManager.allocateFlowResources(flow);
-            log.debug("Resources have been allocated: {}", flowResources);
-            stateMachine.setNewPrimaryResources(flowResources);
+        FlowPathPair createdPaths;
+        try (Reservation reservation = bandwidthLedger.reserve(tmpFlow, potentialPath, false)) {
+            createdPaths = transactionManager.doInTransaction(() -> {
+                log.debug("Allocating resources for a new primary path of flow {}", flowId);
+                Flow flow = getFlow(flowId);
+                FlowResources flowResources = resourcesManager.allocateFlowResources(flow);
+                log.debug("Resources have been allocated: {}", flowResources);
+                stateMachine.setNewPrimaryResources(flowResources);
 
-            pathsToReuse.add(flow.getForwardPath());
-            pathsToReuse.add(flow.getReversePath());
-            pathsToReuse.addAll(stateMachine.getRejectedPaths().stream()
-                    .map(flow::getPath)
-                    .flatMap(o -> o.map(Stream::of).orElseGet(Stream::empty))
-                    .collect(Collectors.toList()));
-            FlowPathPair newPaths = createFlowPathPair(flow, pathsToReuse, potentialPath, flowResources, false);
-            log.debug("New primary path has been created: {}", newPaths);
-            stateMachine.setNewPrimaryForwardPath(newPaths.getForward().getPathId());
-            stateMachine.setNewPrimaryReversePath(newPaths.getReverse().getPathId());
-            return newPaths;
-        });
+                pathsToReuse.add(flow.getForwardPath());
+                pathsToReuse.add(flow.getReversePath());
+                pathsToReuse.addAll(stateMachine.getRejectedPaths().stream()
+                        .map(flow::getPath)
+                        .flatMap(o -> o.map(Stream::of).orElseGet(Stream::empty))
+                        .collect(Collectors.toList()));
+                FlowPathPair newPaths = createFlowPathPair(flow, pathsToReuse, potentialPath, flowResources, false);
+                log.debug("New primary path has been created: {}", newPaths);
+                stateMachine.setNewPrimaryForwardPath(newPaths.getForward().getPathId());
+                stateMachine.setNewPrimaryReversePath(newPaths.getReverse().getPathId());
+                return newPaths;
+            });
+        }
 
         saveAllocationActionWithDumpsToHistory(stateMachine, tmpFlow, "primary", createdPaths);
     }
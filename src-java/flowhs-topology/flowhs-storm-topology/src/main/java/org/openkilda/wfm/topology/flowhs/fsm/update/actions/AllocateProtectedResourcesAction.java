@@ -33,6 +33,7 @@ import org.openkilda.wfm.topology.flowhs.fsm.update.FlowUpdateContext;
 import org.openkilda.wfm.topology.flowhs.fsm.update.FlowUpdateFsm;
 import org.openkilda.wfm.topology.flowhs.fsm.update.FlowUpdateFsm.Event;
 import org.openkilda.wfm.topology.flowhs.fsm.update.FlowUpdateFsm.State;
+import org.openkilda.wfm.topology.flowhs.service.BandwidthReservationLedger.Reservation;
 
 import com.google.common.collect.Sets;
 import lombok.extern.slf4j.Slf4j;
@@ -88,25 +89,28 @@ public class AllocateProtectedResourcesAction extends
         if (overlappingProtectedPathFound) {
             stateMachine.saveActionToHistory("Couldn't find non overlapping protected path");
         } else {
-            FlowPathPair createdPaths = transactionManager.doInTransaction(() -> {
-                log.debug("Allocating resources for a new protected path of flow {}", flowId);
-                Flow flow = getFlow(flowId);
-                FlowResources flowResources = resourcesManager.allocateFlowResources(flow);
-                log.debug("Resources have been allocated: {}", flowResources);
-                stateMachine.setNewProtectedResources(flowResources);
+            FlowPathPair createdPaths;
+            try (Reservation reservation = bandwidthLedger.reserve(tmpFlow, potentialPath, false)) {
+                createdPaths = transactionManager.doInTransaction(() -> {
+                    log.debug("Allocating resources for a new protected path of flow {}", flowId);
+                    Flow flow = getFlow(flowId);
+                    FlowResources flowResources = resourcesManager.allocateFlowResources(flow);
+                    log.debug("Resources have been allocated: {}", flowResources);
+                    stateMachine.setNewProtectedResources(flowResources);
 
-                pathsToReuse.add(flow.getProtectedForwardPath());
-                pathsToReuse.add(flow.getProtectedReversePath());
-                pathsToReuse.addAll(stateMachine.getRejectedPaths().stream()
-                        .map(flow::getPath)
-                        .flatMap(o -> o.map(Stream::of).orElseGet(Stream::empty))
-                        .collect(Collectors.toList()));
-                FlowPathPair newPaths = createFlowPathPair(flow, pathsToReuse, potentialPath, flowResources, false);
-                log.debug("New protected path has been created: {}", newPaths);
-                stateMachine.setNewProtectedForwardPath(newPaths.getForward().getPathId());
-                stateMachine.setNewProtectedReversePath(newPaths.getReverse().getPathId());
-                return newPaths;
-            });
+                    pathsToReuse.add(flow.getProtectedForwardPath());
+                    pathsToReuse.add(flow.getProtectedReversePath());
+                    pathsToReuse.addAll(stateMachine.getRejectedPaths().stream()
+                            .map(flow::getPath)
+                            .flatMap(o -> o.map(Stream::of).orElseGet(Stream::empty))
+                            .collect(Collectors.toList()));
+                    FlowPathPair newPaths = createFlowPathPair(flow, pathsToReuse, potentialPath, flowResources, false);
+                    log.debug("New protected path has been created: {}", newPaths);
+                    stateMachine.setNewProtectedForwardPath(newPaths.getForward().getPathId());
+                    stateMachine.setNewProtectedReversePath(newPaths.getReverse().getPathId());
+                    return newPaths;
+                });
+            }
 
             saveAllocationActionWithDumpsToHistory(stateMachine, tmpFlow, "protected", createdPaths);
         }
@@ -0,0 +1,172 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.flowhs.service;
+
+import org.openkilda.model.Flow;
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.BandwidthReservations;
+import org.openkilda.pce.GetPathsResult;
+import org.openkilda.pce.Path;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bandwidth of ISLs reserved by path allocations between path computation and commit of the allocation transaction.
+ * One instance is shared by all flow hub bolts running inside one worker, so concurrent create/update/reroute
+ * operations do not choose ISLs that will be exhausted by each other (and do not fail into allocation retries).
+ */
+public class BandwidthReservationLedger implements BandwidthReservations {
+    public static final String METRIC_NAME = "bandwidth-ledger";
+    public static final int METRIC_BUCKET_SIZE_SECONDS = 60;
+
+    public static final String COUNTER_CONFLICTS_AVOIDED = "conflicts-avoided";
+    public static final String COUNTER_ALLOCATION_RETRIES = "allocation-retries";
+    public static final String COUNTER_RESERVATIONS = "reservations";
+
+    private static final BandwidthReservationLedger INSTANCE = new BandwidthReservationLedger();
+
+    private final Map<IslKey, Long> reserved = new HashMap<>();
+
+    private final AtomicLong conflictsAvoided = new AtomicLong();
+    private final AtomicLong allocationRetries = new AtomicLong();
+    private final AtomicLong reservations = new AtomicLong();
+
+    public static BandwidthReservationLedger getInstance() {
+        return INSTANCE;
+    }
+
+    @VisibleForTesting
+    BandwidthReservationLedger() {
+    }
+
+    /**
+     * Reserve the flow bandwidth on all ISLs of the path pair found for it. Nothing is reserved if the flow ignores
+     * bandwidth or the allocation is forced to ignore it.
+     */
+    public Reservation reserve(Flow flow, GetPathsResult paths, boolean forceToIgnoreBandwidth) {
+        long bandwidth = forceToIgnoreBandwidth || flow.isIgnoreBandwidth() ? 0 : flow.getBandwidth();
+        return reserve(paths, bandwidth);
+    }
+
+    /**
+     * Reserve bandwidth on all ISLs of the path pair. Reservation must be closed when the allocation transaction
+     * is completed (either committed or rolled back).
+     */
+    public Reservation reserve(GetPathsResult paths, long bandwidth) {
+        if (bandwidth <= 0) {
+            return new Reservation(Collections.emptyList(), 0);
+        }
+
+        List<IslKey> isls = new ArrayList<>();
+        collectIsls(isls, paths.getForward());
+        collectIsls(isls, paths.getReverse());
+
+        synchronized (reserved) {
+            for (IslKey entry : isls) {
+                reserved.merge(entry, bandwidth, Long::sum);
+            }
+        }
+        reservations.incrementAndGet();
+        return new Reservation(isls, bandwidth);
+    }
+
+    @Override
+    public long getReservedBandwidth(SwitchId srcSwitch, int srcPort, SwitchId dstSwitch, int dstPort) {
+        synchronized (reserved) {
+            if (reserved.isEmpty()) {
+                return 0;
+            }
+            return reserved.getOrDefault(new IslKey(srcSwitch, srcPort, dstSwitch, dstPort), 0L);
+        }
+    }
+
+    @Override
+    public void onConflictAvoided() {
+        conflictsAvoided.incrementAndGet();
+    }
+
+    public void onAllocationRetry() {
+        allocationRetries.incrementAndGet();
+    }
+
+    /**
+     * Return counters values accumulated since the previous call and reset them.
+     */
+    public Map<String, Long> getAndResetCounters() {
+        Map<String, Long> counters = new HashMap<>();
+        counters.put(COUNTER_CONFLICTS_AVOIDED, conflictsAvoided.getAndSet(0));
+        counters.put(COUNTER_ALLOCATION_RETRIES, allocationRetries.getAndSet(0));
+        counters.put(COUNTER_RESERVATIONS, reservations.getAndSet(0));
+        return counters;
+    }
+
+    private void release(List<IslKey> isls, long bandwidth) {
+        synchronized (reserved) {
+            for (IslKey entry : isls) {
+                reserved.computeIfPresent(entry, (key, value) -> value > bandwidth ? value - bandwidth : null);
+            }
+        }
+    }
+
+    private static void collectIsls(List<IslKey> target, Path path) {
+        if (path == null) {
+            return;
+        }
+        for (Path.Segment segment : path.getSegments()) {
+            target.add(new IslKey(segment.getSrcSwitchId(), segment.getSrcPort(),
+                    segment.getDestSwitchId(), segment.getDestPort()));
+        }
+    }
+
+    /**
+     * In-flight reservation handle.
+     */
+    public class Reservation implements AutoCloseable {
+        private final List<IslKey> isls;
+        private final long bandwidth;
+        private boolean released = false;
+
+        private Reservation(List<IslKey> isls, long bandwidth) {
+            this.isls = isls;
+            this.bandwidth = bandwidth;
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            release(isls, bandwidth);
+        }
+    }
+
+    @Value
+    private static class IslKey {
+        SwitchId srcSwitch;
+        int srcPort;
+        SwitchId dstSwitch;
+        int dstPort;
+    }
+}
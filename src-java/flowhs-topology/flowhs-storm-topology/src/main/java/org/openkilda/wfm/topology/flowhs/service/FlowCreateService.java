@@ -103,6 +103,10 @@ public class FlowCreateService {
         fsm.start();
         processNext(fsm, context);
         removeIfFinished(fsm, key);
+        if (fsms.containsKey(key)) {
+            // the flow is already marked as in progress, consumers must not keep serving its previous state
+            carrier.sendFlowChangedNotification(request.getFlowId());
+        }
     }
 
     /**
@@ -156,6 +160,7 @@ public class FlowCreateService {
             fsms.remove(key);
 
             carrier.cancelTimeoutCallback(key);
+            carrier.sendFlowChangedNotification(fsm.getFlowId());
         }
     }
 }
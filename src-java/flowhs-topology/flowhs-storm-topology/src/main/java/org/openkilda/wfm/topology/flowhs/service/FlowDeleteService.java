@@ -80,6 +80,10 @@ public class FlowDeleteService {
         fsmExecutor.fire(fsm, Event.NEXT, FlowDeleteContext.builder().build());
 
         removeIfFinished(fsm, key);
+        if (fsms.containsKey(key)) {
+            // the flow is already marked as in progress, consumers must not keep serving its previous state
+            carrier.sendFlowChangedNotification(flowId);
+        }
     }
 
     /**
@@ -132,6 +136,7 @@ public class FlowDeleteService {
             fsms.remove(key);
 
             carrier.cancelTimeoutCallback(key);
+            carrier.sendFlowChangedNotification(fsm.getFlowId());
         }
     }
 }
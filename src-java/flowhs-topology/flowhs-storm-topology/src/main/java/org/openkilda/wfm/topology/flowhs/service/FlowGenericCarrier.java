@@ -45,6 +45,12 @@ public interface FlowGenericCarrier {
      */
     void sendPeriodicPingNotification(String flowId, boolean enabled);
 
+    /**
+     * Notifies flow state consumers (i.e. northbound flow cache) that the flow was changed.
+     * @param flowId flow id
+     */
+    default void sendFlowChangedNotification(String flowId) {}
+
     /**
      * Sends ActivateFlowMonitoringInfoData to server42-control topology.
      * @param flow requested flow
@@ -84,6 +84,10 @@ public class FlowPathSwapService {
         fsmExecutor.fire(fsm, Event.NEXT, context);
 
         removeIfFinished(fsm, key);
+        if (fsms.containsKey(key)) {
+            // the flow is already marked as in progress, consumers must not keep serving its previous state
+            carrier.sendFlowChangedNotification(request.getFlowId());
+        }
     }
 
     /**
@@ -136,6 +140,7 @@ public class FlowPathSwapService {
             fsms.remove(key);
 
             carrier.cancelTimeoutCallback(key);
+            carrier.sendFlowChangedNotification(fsm.getFlowId());
         }
     }
 }
@@ -97,6 +97,10 @@ public class FlowRerouteService {
         fsmExecutor.fire(fsm, Event.NEXT, context);
 
         removeIfFinished(fsm, key);
+        if (fsms.containsKey(key)) {
+            // the flow is already marked as in progress, consumers must not keep serving its previous state
+            carrier.sendFlowChangedNotification(flowId);
+        }
     }
 
     private boolean isRerouteAlreadyInProgress(String flowId) {
@@ -168,6 +172,7 @@ public class FlowRerouteService {
         if (fsm.isTerminated()) {
             log.debug("FSM with key {} is finished with state {}", key, fsm.getCurrentState());
             performHousekeeping(key);
+            carrier.sendFlowChangedNotification(fsm.getFlowId());
         }
     }
 
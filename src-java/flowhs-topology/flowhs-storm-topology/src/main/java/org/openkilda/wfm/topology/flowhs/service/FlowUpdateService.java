@@ -101,6 +101,10 @@ public class FlowUpdateService {
         fsmExecutor.fire(fsm, Event.NEXT, context);
 
         removeIfFinished(fsm, key);
+        if (fsms.containsKey(key)) {
+            // the flow is already marked as in progress, consumers must not keep serving its previous state
+            carrier.sendFlowChangedNotification(request.getFlowId());
+        }
     }
 
     /**
@@ -153,6 +157,7 @@ public class FlowUpdateService {
             fsms.remove(key);
 
             carrier.cancelTimeoutCallback(key);
+            carrier.sendFlowChangedNotification(fsm.getFlowId());
         }
     }
 }
@@ -0,0 +1,122 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.flowhs;
+
+import org.openkilda.floodlight.api.request.IngressFlowSegmentInstallRequest;
+import org.openkilda.floodlight.model.FlowSegmentMetadata;
+import org.openkilda.floodlight.model.RulesContext;
+import org.openkilda.messaging.MessageContext;
+import org.openkilda.model.FlowEncapsulationType;
+import org.openkilda.model.FlowEndpoint;
+import org.openkilda.model.FlowPathDirection;
+import org.openkilda.model.FlowTransitEncapsulation;
+import org.openkilda.model.MeterConfig;
+import org.openkilda.model.MeterId;
+import org.openkilda.model.SwitchId;
+import org.openkilda.model.cookie.FlowSegmentCookie;
+import org.openkilda.wfm.topology.utils.TupleSerializationRegistry;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.apache.storm.Config;
+import org.apache.storm.serialization.SerializationFactory;
+import org.apache.storm.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Manual benchmark of tuple transfer cost for a flow segment install request (the most frequent flow H&S tuple
+ * payload). Compares previous (storm defaults, payload falls back to java serialization) and current (payload types
+ * registered in kryo) configurations by serialized size and serialize/deserialize time.
+ *
+ * <p>Run it as a regular java application with test classpath, it is not a part of test suite.
+ */
+public final class TupleSerializationBenchmark {
+    private static final Logger log = LoggerFactory.getLogger(TupleSerializationBenchmark.class);
+
+    private static final int ITERATIONS = 100_000;
+
+    /**
+     * Entry point.
+     */
+    public static void main(String[] args) {
+        IngressFlowSegmentInstallRequest payload = makePayload();
+
+        Kryo fallbackKryo = makeKryo(new Config());
+
+        Config registeredConfig = new Config();
+        TupleSerializationRegistry.register(registeredConfig, FlowHsTopology.TUPLE_SERIALIZATION_TYPES);
+        TupleSerializationRegistry.enableStrictMode(registeredConfig);
+        Kryo registeredKryo = makeKryo(registeredConfig);
+
+        // warm up
+        run(fallbackKryo, payload);
+        run(registeredKryo, payload);
+
+        long fallbackStart = System.nanoTime();
+        int fallbackSize = run(fallbackKryo, payload);
+        long fallbackTime = System.nanoTime() - fallbackStart;
+
+        long registeredStart = System.nanoTime();
+        int registeredSize = run(registeredKryo, payload);
+        long registeredTime = System.nanoTime() - registeredStart;
+
+        log.info("Serialized size: before {} bytes, after {} bytes", fallbackSize, registeredSize);
+        log.info("Round trip time: before {} ns, after {} ns",
+                fallbackTime / ITERATIONS, registeredTime / ITERATIONS);
+    }
+
+    private static int run(Kryo kryo, Object payload) {
+        int size = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            Output output = new Output(1024, -1);
+            kryo.writeClassAndObject(output, payload);
+            byte[] raw = output.toBytes();
+            kryo.readClassAndObject(new Input(raw));
+            size = raw.length;
+        }
+        return size;
+    }
+
+    private static Kryo makeKryo(Config stormConfig) {
+        Map<String, Object> conf = new HashMap<>(Utils.readDefaultConfig());
+        conf.putAll(stormConfig);
+        return SerializationFactory.getKryo(conf);
+    }
+
+    private static IngressFlowSegmentInstallRequest makePayload() {
+        return IngressFlowSegmentInstallRequest.builder()
+                .messageContext(new MessageContext("benchmark"))
+                .commandId(UUID.randomUUID())
+                .metadata(new FlowSegmentMetadata(
+                        "benchmark-flow", new FlowSegmentCookie(FlowPathDirection.FORWARD, 1), true))
+                .endpoint(new FlowEndpoint(new SwitchId(1), 10, 100))
+                .meterConfig(new MeterConfig(new MeterId(32), 10000))
+                .egressSwitchId(new SwitchId(2))
+                .islPort(20)
+                .encapsulation(new FlowTransitEncapsulation(1024, FlowEncapsulationType.TRANSIT_VLAN))
+                .rulesContext(RulesContext.builder().build())
+                .build();
+    }
+
+    private TupleSerializationBenchmark() {
+    }
+}
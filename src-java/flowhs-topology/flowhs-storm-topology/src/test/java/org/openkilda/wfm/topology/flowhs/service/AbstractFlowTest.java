@@ -58,6 +58,8 @@ import org.openkilda.persistence.repositories.SwitchPropertiesRepository;
 import org.openkilda.wfm.CommandContext;
 import org.openkilda.wfm.share.flow.resources.FlowResourcesConfig;
 import org.openkilda.wfm.share.flow.resources.FlowResourcesManager;
+import org.openkilda.wfm.topology.flowhs.FlowHsTopology;
+import org.openkilda.wfm.topology.utils.TupleSerializationChecker;
 
 import com.google.common.collect.ImmutableList;
 import org.hamcrest.Matchers;
@@ -110,6 +112,9 @@ public abstract class AbstractFlowTest extends InMemoryGraphBasedTest {
 
     protected CommandContext commandContext = new CommandContext();
 
+    private final TupleSerializationChecker tupleSerializationChecker = new TupleSerializationChecker(
+            FlowHsTopology.TUPLE_SERIALIZATION_TYPES);
+
     @Mock
     SwitchPropertiesRepository switchPropertiesRepository;
     @Mock
@@ -151,18 +156,19 @@ public abstract class AbstractFlowTest extends InMemoryGraphBasedTest {
     }
 
     protected SpeakerFlowSegmentResponse buildSpeakerResponse(FlowSegmentRequest flowRequest) {
-        return SpeakerFlowSegmentResponse.builder()
+        return verifyTupleSerialization(SpeakerFlowSegmentResponse.builder()
                         .messageContext(flowRequest.getMessageContext())
                         .commandId(flowRequest.getCommandId())
                         .metadata(flowRequest.getMetadata())
                         .switchId(flowRequest.getSwitchId())
                         .success(true)
-                        .build();
+                        .build());
     }
 
     Answer getSpeakerCommandsAnswer() {
         return invocation -> {
             FlowSegmentRequest request = invocation.getArgument(0);
+            verifyTupleSerialization(request);
             requests.offer(request);
 
             if (request.isInstallRequest()) {
@@ -175,13 +181,23 @@ public abstract class AbstractFlowTest extends InMemoryGraphBasedTest {
     }
 
     SpeakerFlowSegmentResponse buildResponseOnVerifyRequest(FlowSegmentRequest request) {
-        return SpeakerFlowSegmentResponse.builder()
+        return verifyTupleSerialization(SpeakerFlowSegmentResponse.builder()
                 .commandId(request.getCommandId())
                 .metadata(request.getMetadata())
                 .messageContext(request.getMessageContext())
                 .switchId(request.getSwitchId())
                 .success(true)
-                .build();
+                .build());
+    }
+
+    /**
+     * Pass the payload through the strictly configured topology kryo, so any type missing in
+     * {@link FlowHsTopology#TUPLE_SERIALIZATION_TYPES} fails the test instead of the production worker.
+     */
+    protected <T> T verifyTupleSerialization(T payload) {
+        T copy = tupleSerializationChecker.roundTrip(payload);
+        assertEquals(payload, copy);
+        return copy;
     }
 
     protected Flow fetchFlow(String flowId) {
@@ -0,0 +1,90 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.flowhs.service;
+
+import static org.junit.Assert.assertEquals;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.GetPathsResult;
+import org.openkilda.pce.Path;
+import org.openkilda.pce.Path.Segment;
+import org.openkilda.wfm.topology.flowhs.service.BandwidthReservationLedger.Reservation;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class BandwidthReservationLedgerTest {
+    private static final SwitchId SWITCH_A = new SwitchId(1);
+    private static final SwitchId SWITCH_B = new SwitchId(2);
+
+    @Test
+    public void reservationsAreSummedAndReleased() {
+        BandwidthReservationLedger ledger = new BandwidthReservationLedger();
+        GetPathsResult paths = makePaths();
+
+        Reservation first = ledger.reserve(paths, 100);
+        Reservation second = ledger.reserve(paths, 50);
+        assertEquals(150, ledger.getReservedBandwidth(SWITCH_A, 1, SWITCH_B, 2));
+        assertEquals(150, ledger.getReservedBandwidth(SWITCH_B, 2, SWITCH_A, 1));
+
+        first.close();
+        first.close();
+        assertEquals(50, ledger.getReservedBandwidth(SWITCH_A, 1, SWITCH_B, 2));
+
+        second.close();
+        assertEquals(0, ledger.getReservedBandwidth(SWITCH_A, 1, SWITCH_B, 2));
+    }
+
+    @Test
+    public void zeroBandwidthIsNotReserved() {
+        BandwidthReservationLedger ledger = new BandwidthReservationLedger();
+        ledger.reserve(makePaths(), 0);
+        assertEquals(0, ledger.getReservedBandwidth(SWITCH_A, 1, SWITCH_B, 2));
+    }
+
+    @Test
+    public void countersAreReset() {
+        BandwidthReservationLedger ledger = new BandwidthReservationLedger();
+        ledger.reserve(makePaths(), 10).close();
+        ledger.onConflictAvoided();
+        ledger.onAllocationRetry();
+        ledger.onAllocationRetry();
+
+        Map<String, Long> counters = ledger.getAndResetCounters();
+        assertEquals(Long.valueOf(1), counters.get(BandwidthReservationLedger.COUNTER_RESERVATIONS));
+        assertEquals(Long.valueOf(1), counters.get(BandwidthReservationLedger.COUNTER_CONFLICTS_AVOIDED));
+        assertEquals(Long.valueOf(2), counters.get(BandwidthReservationLedger.COUNTER_ALLOCATION_RETRIES));
+
+        counters = ledger.getAndResetCounters();
+        assertEquals(Long.valueOf(0), counters.get(BandwidthReservationLedger.COUNTER_ALLOCATION_RETRIES));
+    }
+
+    private static GetPathsResult makePaths() {
+        Path forward = Path.builder()
+                .srcSwitchId(SWITCH_A).destSwitchId(SWITCH_B)
+                .segments(Collections.singletonList(Segment.builder()
+                        .srcSwitchId(SWITCH_A).srcPort(1).destSwitchId(SWITCH_B).destPort(2).build()))
+                .build();
+        Path reverse = Path.builder()
+                .srcSwitchId(SWITCH_B).destSwitchId(SWITCH_A)
+                .segments(Collections.singletonList(Segment.builder()
+                        .srcSwitchId(SWITCH_B).srcPort(2).destSwitchId(SWITCH_A).destPort(1).build()))
+                .build();
+        return GetPathsResult.builder().forward(forward).reverse(reverse).build();
+    }
+}
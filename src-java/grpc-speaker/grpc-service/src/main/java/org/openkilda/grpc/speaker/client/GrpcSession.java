@@ -42,6 +42,7 @@ import org.openkilda.grpc.speaker.model.RemoteLogServerDto;
 import org.openkilda.messaging.error.ErrorType;
 
 import com.google.common.net.InetAddresses;
+import io.grpc.ConnectivityState;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.noviflow.AuthenticateUser;
@@ -114,6 +115,14 @@ public class GrpcSession {
         }
     }
 
+    /**
+     * Check whether the channel can still be used for new requests.
+     */
+    public boolean isHealthy() {
+        return !channel.isShutdown() && channel.getState(false) != ConnectivityState.SHUTDOWN
+                && channel.getState(false) != ConnectivityState.TRANSIENT_FAILURE;
+    }
+
     /**
      * Performs switch login request.
      *
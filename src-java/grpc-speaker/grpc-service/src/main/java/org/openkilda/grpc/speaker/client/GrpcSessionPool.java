@@ -0,0 +1,370 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.grpc.speaker.client;
+
+import org.openkilda.grpc.speaker.config.GrpcSessionPoolConfig;
+import org.openkilda.grpc.speaker.exception.GrpcRequestFailureException;
+import org.openkilda.grpc.speaker.mapper.NoviflowResponseMapper;
+import org.openkilda.messaging.error.ErrorType;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.grpc.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * Long living GRPC sessions, one per switch. Session is logged in once and reused by all following operations. Each
+ * session limits the number of concurrent operations, excess operations are queued. Sessions with broken channel
+ * are replaced on next use, idle sessions are closed by periodic maintenance.
+ */
+@Slf4j
+@Component
+public class GrpcSessionPool {
+    private final NoviflowResponseMapper mapper;
+    private final GrpcSessionPoolConfig config;
+    private final String user;
+    private final String password;
+
+    private final Map<String, PooledSession> sessions = new HashMap<>();
+    private final Map<GrpcOperation, OperationStats> stats = new EnumMap<>(GrpcOperation.class);
+
+    private ScheduledExecutorService maintenanceExecutor;
+
+    public GrpcSessionPool(@Autowired NoviflowResponseMapper mapper, @Autowired GrpcSessionPoolConfig config,
+                           @Value("${grpc.user}") String user, @Value("${grpc.pass}") String password) {
+        this.mapper = mapper;
+        this.config = config;
+        this.user = user;
+        this.password = password;
+    }
+
+    /**
+     * Start periodic maintenance.
+     */
+    @PostConstruct
+    public void start() {
+        maintenanceExecutor = Executors.newSingleThreadScheduledExecutor();
+        int interval = config.getMaintenanceInterval();
+        maintenanceExecutor.scheduleWithFixedDelay(this::maintenance, interval, interval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stop maintenance and close all sessions.
+     */
+    @PreDestroy
+    public void stop() {
+        if (maintenanceExecutor != null) {
+            maintenanceExecutor.shutdownNow();
+        }
+
+        List<PooledSession> closed;
+        synchronized (sessions) {
+            closed = new ArrayList<>(sessions.values());
+            sessions.clear();
+        }
+        closed.forEach(PooledSession::close);
+    }
+
+    /**
+     * Execute operation using logged in session to the switch.
+     */
+    public <T> CompletableFuture<T> execute(
+            String address, GrpcOperation operation, Function<GrpcSession, CompletableFuture<T>> action) {
+        PooledSession entry = acquire(address);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        entry.submit(() -> {
+            long started = System.nanoTime();
+            CompletableFuture<T> future;
+            try {
+                future = perform(entry, action, true);
+            } catch (RuntimeException e) {
+                // the slot must be released even if the operation fails before it returns a future
+                future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+            }
+            future.whenComplete((value, error) -> {
+                account(operation, System.nanoTime() - started, error != null);
+                entry.release();
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Return latency stats collected since the previous call and reset them.
+     */
+    public Map<GrpcOperation, OperationStats> pullStats() {
+        synchronized (stats) {
+            Map<GrpcOperation, OperationStats> result = new EnumMap<>(stats);
+            stats.clear();
+            return result;
+        }
+    }
+
+    @VisibleForTesting
+    void maintenance() {
+        long now = System.currentTimeMillis();
+        long idleTimeout = TimeUnit.SECONDS.toMillis(config.getIdleTimeout());
+        List<PooledSession> evicted = new ArrayList<>();
+        synchronized (sessions) {
+            Iterator<PooledSession> iterator = sessions.values().iterator();
+            while (iterator.hasNext()) {
+                PooledSession entry = iterator.next();
+                if (entry.isIdle(now, idleTimeout) || !entry.session.isHealthy()) {
+                    iterator.remove();
+                    evicted.add(entry);
+                }
+            }
+        }
+        for (PooledSession entry : evicted) {
+            log.debug("Close GRPC session with switch {}", entry.address);
+            entry.close();
+        }
+
+        for (Map.Entry<GrpcOperation, OperationStats> entry : pullStats().entrySet()) {
+            OperationStats value = entry.getValue();
+            log.info("GRPC operation {} stats: count={}, errors={}, avg={}ms, max={}ms",
+                    entry.getKey(), value.getCount(), value.getErrors(),
+                    TimeUnit.NANOSECONDS.toMillis(value.getTotalLatency() / value.getCount()),
+                    TimeUnit.NANOSECONDS.toMillis(value.getMaxLatency()));
+        }
+    }
+
+    @VisibleForTesting
+    int size() {
+        synchronized (sessions) {
+            return sessions.size();
+        }
+    }
+
+    protected GrpcSession makeSession(String address) {
+        return new GrpcSession(mapper, address);
+    }
+
+    /**
+     * Return the session to the switch and mark it in use, so it can't be evicted by maintenance until the operation
+     * is released.
+     */
+    @VisibleForTesting
+    PooledSession acquire(String address) {
+        PooledSession replaced = null;
+        PooledSession entry;
+        synchronized (sessions) {
+            entry = sessions.get(address);
+            if (entry != null && !entry.session.isHealthy()) {
+                log.info("GRPC channel with switch {} is broken, open a new one", address);
+                replaced = sessions.remove(address);
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new PooledSession(address, makeSession(address));
+                sessions.put(address, entry);
+            }
+            entry.reserve();
+        }
+        if (replaced != null) {
+            replaced.close();
+        }
+        return entry;
+    }
+
+    private <T> CompletableFuture<T> perform(
+            PooledSession entry, Function<GrpcSession, CompletableFuture<T>> action, boolean allowRelogin) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        entry.login()
+                .thenCompose(ignore -> action.apply(entry.session))
+                .whenComplete((value, error) -> {
+                    if (error == null) {
+                        result.complete(value);
+                        return;
+                    }
+
+                    Throwable cause = unwrap(error);
+                    if (allowRelogin && isAuthFailure(cause)) {
+                        log.info("GRPC session with switch {} is not authorized, login again", entry.address);
+                        entry.resetLogin();
+                        perform(entry, action, false).whenComplete((retryValue, retryError) -> {
+                            if (retryError != null) {
+                                result.completeExceptionally(retryError);
+                            } else {
+                                result.complete(retryValue);
+                            }
+                        });
+                        return;
+                    }
+                    if (isTransportFailure(cause)) {
+                        invalidate(entry);
+                    }
+                    result.completeExceptionally(error);
+                });
+        return result;
+    }
+
+    private void invalidate(PooledSession entry) {
+        synchronized (sessions) {
+            if (sessions.get(entry.address) != entry) {
+                return;
+            }
+            sessions.remove(entry.address);
+        }
+        log.info("Drop GRPC session with switch {} due to transport error", entry.address);
+        entry.closeWhenDone();
+    }
+
+    private void account(GrpcOperation operation, long latency, boolean isError) {
+        synchronized (stats) {
+            stats.merge(operation, new OperationStats(1, isError ? 1 : 0, latency, latency), OperationStats::merge);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    private static boolean isAuthFailure(Throwable error) {
+        return error instanceof GrpcRequestFailureException
+                && ((GrpcRequestFailureException) error).getErrorType() == ErrorType.AUTH_FAILED;
+    }
+
+    private static boolean isTransportFailure(Throwable error) {
+        return Status.fromThrowable(error).getCode() == Status.Code.UNAVAILABLE;
+    }
+
+    final class PooledSession {
+        private final String address;
+        private final GrpcSession session;
+
+        private final Queue<Runnable> pending = new ArrayDeque<>();
+        private int active = 0;
+        // acquired operations, both running and queued
+        private int inUse = 0;
+        private long lastUsed = System.currentTimeMillis();
+        private boolean closeRequested = false;
+
+        private CompletableFuture<?> login;
+
+        PooledSession(String address, GrpcSession session) {
+            this.address = address;
+            this.session = session;
+        }
+
+        synchronized CompletableFuture<?> login() {
+            if (login == null || login.isCompletedExceptionally()) {
+                login = session.login(user, password);
+            }
+            return login;
+        }
+
+        synchronized void resetLogin() {
+            login = null;
+        }
+
+        synchronized void reserve() {
+            inUse += 1;
+            lastUsed = System.currentTimeMillis();
+        }
+
+        void submit(Runnable task) {
+            synchronized (this) {
+                if (config.getMaxConcurrency() <= active) {
+                    pending.add(task);
+                    return;
+                }
+                active += 1;
+            }
+            task.run();
+        }
+
+        void release() {
+            Runnable next;
+            boolean doClose;
+            synchronized (this) {
+                lastUsed = System.currentTimeMillis();
+                inUse -= 1;
+                next = pending.poll();
+                if (next == null) {
+                    active -= 1;
+                }
+                doClose = next == null && active == 0 && closeRequested;
+            }
+            if (next != null) {
+                next.run();
+            } else if (doClose) {
+                session.shutdown();
+            }
+        }
+
+        synchronized boolean isIdle(long now, long idleTimeout) {
+            return inUse == 0 && lastUsed + idleTimeout < now;
+        }
+
+        void closeWhenDone() {
+            boolean doClose;
+            synchronized (this) {
+                closeRequested = true;
+                doClose = active == 0;
+            }
+            if (doClose) {
+                session.shutdown();
+            }
+        }
+
+        void close() {
+            session.shutdown();
+        }
+    }
+
+    @lombok.Value
+    public static class OperationStats {
+        long count;
+        long errors;
+        long totalLatency;
+        long maxLatency;
+
+        OperationStats merge(OperationStats other) {
+            return new OperationStats(
+                    count + other.count, errors + other.errors, totalLatency + other.totalLatency,
+                    Math.max(maxLatency, other.maxLatency));
+        }
+    }
+}
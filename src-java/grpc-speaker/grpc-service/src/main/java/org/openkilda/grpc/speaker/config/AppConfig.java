@@ -40,6 +40,7 @@ import java.util.List;
 @ConfigurationType(name = "kafkaTopicsConfig", value = KafkaTopicsConfig.class)
 @ConfigurationType(name = "kafkaGroupConfig", value = KafkaGrpcSpeakerConfig.class)
 @ConfigurationType(EnvironmentConfig.class)
+@ConfigurationType(GrpcSessionPoolConfig.class)
 @ComponentScan({"org.openkilda.grpc.speaker"})
 public class AppConfig {
 
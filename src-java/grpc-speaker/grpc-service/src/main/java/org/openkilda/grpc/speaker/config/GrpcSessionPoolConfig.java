@@ -0,0 +1,40 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.grpc.speaker.config;
+
+import com.sabre.oss.conf4j.annotation.Configuration;
+import com.sabre.oss.conf4j.annotation.Default;
+import com.sabre.oss.conf4j.annotation.Description;
+import com.sabre.oss.conf4j.annotation.Key;
+
+@Configuration
+@Key("grpc.speaker.session.pool")
+public interface GrpcSessionPoolConfig {
+    @Key("idle.timeout")
+    @Default("300")
+    @Description("Idle switch session lifetime in seconds")
+    int getIdleTimeout();
+
+    @Key("concurrency.per.switch")
+    @Default("4")
+    @Description("Max number of simultaneous operations executed using one switch session")
+    int getMaxConcurrency();
+
+    @Key("maintenance.interval")
+    @Default("60")
+    @Description("Interval in seconds between idle sessions eviction (and operations stats reporting)")
+    int getMaintenanceInterval();
+}
@@ -15,9 +15,22 @@
 
 package org.openkilda.grpc.speaker.service;
 
+import static org.openkilda.grpc.speaker.client.GrpcOperation.DELETE_CONFIG_REMOTE_LOG_SERVER;
+import static org.openkilda.grpc.speaker.client.GrpcOperation.DELETE_LOGICAL_PORT;
+import static org.openkilda.grpc.speaker.client.GrpcOperation.DUMP_LOGICAL_PORTS;
+import static org.openkilda.grpc.speaker.client.GrpcOperation.GET_PACKET_IN_OUT_STATS;
+import static org.openkilda.grpc.speaker.client.GrpcOperation.SET_CONFIG_LICENSE;
+import static org.openkilda.grpc.speaker.client.GrpcOperation.SET_CONFIG_REMOTE_LOG_SERVER;
+import static org.openkilda.grpc.speaker.client.GrpcOperation.SET_LOGICAL_PORT;
+import static org.openkilda.grpc.speaker.client.GrpcOperation.SET_LOG_MESSAGES_STATUS;
+import static org.openkilda.grpc.speaker.client.GrpcOperation.SET_LOG_OF_ERRORS_STATUS;
+import static org.openkilda.grpc.speaker.client.GrpcOperation.SET_PORT_CONFIG;
+import static org.openkilda.grpc.speaker.client.GrpcOperation.SHOW_CONFIG_LOGICAL_PORT;
+import static org.openkilda.grpc.speaker.client.GrpcOperation.SHOW_CONFIG_REMOTE_LOG_SERVER;
+import static org.openkilda.grpc.speaker.client.GrpcOperation.SHOW_SWITCH_STATUS;
 import static java.lang.String.format;
 
-import org.openkilda.grpc.speaker.client.GrpcSession;
+import org.openkilda.grpc.speaker.client.GrpcSessionPool;
 import org.openkilda.grpc.speaker.exception.GrpcException;
 import org.openkilda.grpc.speaker.mapper.NoviflowResponseMapper;
 import org.openkilda.grpc.speaker.model.EnableLogMessagesResponse;
@@ -37,7 +50,6 @@ import org.openkilda.messaging.model.grpc.SwitchInfoStatus;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -51,16 +63,12 @@ import java.util.stream.Collectors;
 @Service
 public class GrpcSenderService {
 
-    @Value("${grpc.user}")
-    private String name;
+    private final NoviflowResponseMapper mapper;
+    private final GrpcSessionPool sessionPool;
 
-    @Value("${grpc.pass}")
-    private String password;
-
-    private NoviflowResponseMapper mapper;
-
-    public GrpcSenderService(@Autowired NoviflowResponseMapper mapper) {
+    public GrpcSenderService(@Autowired NoviflowResponseMapper mapper, @Autowired GrpcSessionPool sessionPool) {
         this.mapper = mapper;
+        this.sessionPool = sessionPool;
     }
 
     /**
@@ -70,14 +78,11 @@ public class GrpcSenderService {
      * @return {@link CompletableFuture} with the execution result.
      */
     public CompletableFuture<LogicalPort> createLogicalPort(String switchAddress, LogicalPortDto port) {
-        GrpcSession sender = new GrpcSession(mapper, switchAddress);
-        return sender.login(name, password)
-                .thenCompose(e -> sender.setLogicalPort(port))
-                .thenCompose(e -> sender.showConfigLogicalPort(port.getLogicalPortNumber()))
+        return sessionPool.execute(switchAddress, SET_LOGICAL_PORT, sender -> sender.setLogicalPort(port)
+                        .thenCompose(e -> sender.showConfigLogicalPort(port.getLogicalPortNumber())))
                 .thenApply(portOptional -> portOptional
                         .map(mapper::map)
-                        .orElseThrow(() -> new GrpcException(format("Port %s was not created ", port))))
-                .whenComplete((e, ex) -> sender.shutdown());
+                        .orElseThrow(() -> new GrpcException(format("Port %s was not created ", port))));
     }
 
     /**
@@ -87,11 +92,8 @@ public class GrpcSenderService {
      * @return list of logical ports wrapped into {@link CompletableFuture}.
      */
     public CompletableFuture<List<LogicalPort>> dumpLogicalPorts(String switchAddress) {
-        GrpcSession sender = new GrpcSession(mapper, switchAddress);
-        return sender.login(name, password)
-                .thenCompose(e -> sender.dumpLogicalPorts())
-                .thenApply(ports -> ports.stream().map(mapper::map).collect(Collectors.toList()))
-                .whenComplete((e, ex) -> sender.shutdown());
+        return sessionPool.execute(switchAddress, DUMP_LOGICAL_PORTS, sender -> sender.dumpLogicalPorts())
+                .thenApply(ports -> ports.stream().map(mapper::map).collect(Collectors.toList()));
     }
 
     /**
@@ -101,14 +103,11 @@ public class GrpcSenderService {
      * @return {@link CompletableFuture} with the execution result.
      */
     public CompletableFuture<SwitchInfoStatus> getSwitchStatus(String switchAddress) {
-        GrpcSession sender = new GrpcSession(mapper, switchAddress);
-        return sender.login(name, password)
-                .thenCompose(e -> sender.showSwitchStatus())
+        return sessionPool.execute(switchAddress, SHOW_SWITCH_STATUS, sender -> sender.showSwitchStatus())
                 .thenApply(statusOptional -> statusOptional
                         .map(mapper::map)
                         .orElseThrow(() ->
-                                new GrpcException(format("Couldn't get status for switch %s", switchAddress))))
-                .whenComplete((e, ex) -> sender.shutdown());
+                                new GrpcException(format("Couldn't get status for switch %s", switchAddress))));
     }
 
     /**
@@ -119,14 +118,12 @@ public class GrpcSenderService {
      * @return {@link CompletableFuture} with the execution result.
      */
     public CompletableFuture<LogicalPort> showConfigLogicalPort(String switchAddress, Integer port) {
-        GrpcSession sender = new GrpcSession(mapper, switchAddress);
-        return sender.login(name, password)
-                .thenCompose(e -> sender.showConfigLogicalPort(port))
+        return sessionPool.execute(switchAddress, SHOW_CONFIG_LOGICAL_PORT,
+                        sender -> sender.showConfigLogicalPort(port))
                 .thenApply(statusOptional -> statusOptional
                         .map(mapper::map)
                         .orElseThrow(() -> new GrpcException(format("Couldn't get logical port %d for switch %s",
-                                port, switchAddress))))
-                .whenComplete((e, ex) -> sender.shutdown());
+                                port, switchAddress))));
     }
 
     /**
@@ -137,14 +134,11 @@ public class GrpcSenderService {
      * @return {@link CompletableFuture} with the execution result.
      */
     public CompletableFuture<GrpcDeleteOperationResponse> deleteConfigLogicalPort(String switchAddress, Integer port) {
-        GrpcSession sender = new GrpcSession(mapper, switchAddress);
-        return sender.login(name, password)
-                .thenCompose(e -> sender.deleteLogicalPort(port))
+        return sessionPool.execute(switchAddress, DELETE_LOGICAL_PORT, sender -> sender.deleteLogicalPort(port))
                 .thenApply(optional -> optional
                         .map(value -> new GrpcDeleteOperationResponse(value.getReplyStatus() == 0))
                         .orElseThrow(() -> new GrpcException(format("Could not delete logical port %d for switch %s",
-                                port, switchAddress))))
-                .whenComplete((e, ex) -> sender.shutdown());
+                                port, switchAddress))));
     }
 
     /**
@@ -156,14 +150,12 @@ public class GrpcSenderService {
      */
     public CompletableFuture<EnableLogMessagesResponse> enableLogMessages(String switchAddress,
                                                                           LogMessagesDto logMessagesDto) {
-        GrpcSession sender = new GrpcSession(mapper, switchAddress);
-        return sender.login(name, password)
-                .thenCompose(e -> sender.setLogMessagesStatus(logMessagesDto))
+        return sessionPool.execute(switchAddress, SET_LOG_MESSAGES_STATUS,
+                        sender -> sender.setLogMessagesStatus(logMessagesDto))
                 .thenApply(optional -> optional
                         .map(value -> new EnableLogMessagesResponse(logMessagesDto.getState()))
                         .orElseThrow(() -> new GrpcException(format("Could not set log messages to status: %s",
-                                logMessagesDto.getState().toString()))))
-                .whenComplete((e, ex) -> sender.shutdown());
+                                logMessagesDto.getState().toString()))));
     }
 
     /**
@@ -175,14 +167,12 @@ public class GrpcSenderService {
      */
     public CompletableFuture<EnableLogMessagesResponse> enableLogOferror(String switchAddress,
                                                                          LogOferrorsDto logOferrorsDto) {
-        GrpcSession sender = new GrpcSession(mapper, switchAddress);
-        return sender.login(name, password)
-                .thenCompose(e -> sender.setLogOferrorsStatus(logOferrorsDto))
+        return sessionPool.execute(switchAddress, SET_LOG_OF_ERRORS_STATUS,
+                        sender -> sender.setLogOferrorsStatus(logOferrorsDto))
                 .thenApply(optional -> optional
                         .map(value -> new EnableLogMessagesResponse(logOferrorsDto.getState()))
                         .orElseThrow(() -> new GrpcException(format("Could not set log OF errors to status: %s",
-                                logOferrorsDto.getState().toString()))))
-                .whenComplete((e, ex) -> sender.shutdown());
+                                logOferrorsDto.getState().toString()))));
 
     }
 
@@ -193,14 +183,12 @@ public class GrpcSenderService {
      * @return {@link CompletableFuture} with the execution result.
      */
     public CompletableFuture<RemoteLogServer> showConfigRemoteLogServer(String switchAddress) {
-        GrpcSession sender = new GrpcSession(mapper, switchAddress);
-        return sender.login(name, password)
-                .thenCompose(e -> sender.showConfigRemoteLogServer())
+        return sessionPool.execute(switchAddress, SHOW_CONFIG_REMOTE_LOG_SERVER,
+                        sender -> sender.showConfigRemoteLogServer())
                 .thenApply(optional -> optional
                         .map(mapper::map)
                         .orElseThrow(() -> new GrpcException(format("Could not to get remote log server for switch: %s",
-                                switchAddress))))
-                .whenComplete((e, ex) -> sender.shutdown());
+                                switchAddress))));
     }
 
     /**
@@ -212,15 +200,13 @@ public class GrpcSenderService {
      */
     public CompletableFuture<RemoteLogServer> setConfigRemoteLogServer(
             String switchAddress, RemoteLogServerDto remoteLogServerDto) {
-        GrpcSession sender = new GrpcSession(mapper, switchAddress);
-        return sender.login(name, password)
-                .thenCompose(e -> sender.setConfigRemoteLogServer(remoteLogServerDto))
-                .thenCompose(e -> sender.showConfigRemoteLogServer())
+        return sessionPool.execute(switchAddress, SET_CONFIG_REMOTE_LOG_SERVER,
+                        sender -> sender.setConfigRemoteLogServer(remoteLogServerDto)
+                                .thenCompose(e -> sender.showConfigRemoteLogServer()))
                 .thenApply(optional -> optional
                         .map(mapper::map)
                         .orElseThrow(() -> new GrpcException(format("Could not set remote log server for switch %s",
-                                switchAddress))))
-                .whenComplete((e, ex) -> sender.shutdown());
+                                switchAddress))));
     }
 
     /**
@@ -231,14 +217,12 @@ public class GrpcSenderService {
      */
     public CompletableFuture<GrpcDeleteOperationResponse> deleteConfigRemoteLogServer(
             String switchAddress) {
-        GrpcSession sender = new GrpcSession(mapper, switchAddress);
-        return sender.login(name, password)
-                .thenCompose(e -> sender.deleteConfigRemoteLogServer())
+        return sessionPool.execute(switchAddress, DELETE_CONFIG_REMOTE_LOG_SERVER,
+                        sender -> sender.deleteConfigRemoteLogServer())
                 .thenApply(optional -> optional
                         .map(value -> new GrpcDeleteOperationResponse(value.getReplyStatus() == 0))
                         .orElseThrow(() -> new GrpcException(format("Could not delete remote log server for switch %s",
-                                switchAddress))))
-                .whenComplete((e, ex) -> sender.shutdown());
+                                switchAddress))));
     }
 
     /**
@@ -251,15 +235,13 @@ public class GrpcSenderService {
      */
     public CompletableFuture<PortConfigSetupResponse> setPortConfig(
             String switchAddress, Integer portNumber, PortConfigDto portConfigDto) {
-        GrpcSession sender = new GrpcSession(mapper, switchAddress);
-        return sender.login(name, password)
-                .thenCompose(e -> sender.setPortConfig(portNumber, portConfigDto))
+        return sessionPool.execute(switchAddress, SET_PORT_CONFIG,
+                        sender -> sender.setPortConfig(portNumber, portConfigDto))
                 .thenApply(optional -> optional
                         .map(value -> new PortConfigSetupResponse(value.getReplyStatus() == 0))
                         .orElseThrow(() ->
                                 new GrpcException(format("Could not setup port №%d configuration for switch %s",
-                                        portNumber, switchAddress))))
-                .whenComplete((e, ex) -> sender.shutdown());
+                                        portNumber, switchAddress))));
     }
 
     /**
@@ -270,14 +252,11 @@ public class GrpcSenderService {
      * @return {@link CompletableFuture} with the execution result.
      */
     public CompletableFuture<LicenseResponse> setConfigLicense(String switchAddress, LicenseDto licenseDto) {
-        GrpcSession sender = new GrpcSession(mapper, switchAddress);
-        return sender.login(name, password)
-                .thenCompose(e -> sender.setConfigLicense(licenseDto))
+        return sessionPool.execute(switchAddress, SET_CONFIG_LICENSE, sender -> sender.setConfigLicense(licenseDto))
                 .thenApply(optional -> optional
                         .map(value -> new LicenseResponse(value.getReplyStatus() == 0))
                         .orElseThrow(() ->
-                                new GrpcException(format("Could not setup license for switch %s", switchAddress))))
-                .whenComplete((e, ex) -> sender.shutdown());
+                                new GrpcException(format("Could not setup license for switch %s", switchAddress))));
     }
 
     /**
@@ -287,14 +266,11 @@ public class GrpcSenderService {
      * @return {@link CompletableFuture} with the execution result.
      */
     public CompletableFuture<PacketInOutStatsResponse> getPacketInOutStats(String switchAddress) {
-        GrpcSession sender = new GrpcSession(mapper, switchAddress);
-        return sender.login(name, password)
-                .thenCompose(e -> sender.getPacketInOutStats())
+        return sessionPool.execute(switchAddress, GET_PACKET_IN_OUT_STATS, sender -> sender.getPacketInOutStats())
                 .thenApply(statusOptional -> statusOptional
                         .map(mapper::map)
                         .orElseThrow(() ->
                                 new GrpcException(format(
-                                        "Couldn't get packet in out stats for switch %s", switchAddress))))
-                .whenComplete((e, ex) -> sender.shutdown());
+                                        "Couldn't get packet in out stats for switch %s", switchAddress))));
     }
 }
@@ -0,0 +1,180 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.grpc.speaker.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.grpc.speaker.client.GrpcSessionPool.OperationStats;
+import org.openkilda.grpc.speaker.config.GrpcSessionPoolConfig;
+import org.openkilda.grpc.speaker.exception.GrpcRequestFailureException;
+import org.openkilda.messaging.error.ErrorType;
+
+import io.grpc.Status;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class GrpcSessionPoolTest {
+    private static final String ADDRESS = "127.0.0.1";
+    private static final String USER = "user";
+    private static final String PASSWORD = "password";
+
+    private GrpcSessionPoolConfig config;
+    private GrpcSession session;
+    private GrpcSessionPool pool;
+    private int sessionsCreated;
+
+    @Before
+    public void setUp() {
+        config = mock(GrpcSessionPoolConfig.class);
+        when(config.getMaxConcurrency()).thenReturn(2);
+        when(config.getIdleTimeout()).thenReturn(300);
+
+        session = mock(GrpcSession.class);
+        when(session.isHealthy()).thenReturn(true);
+        when(session.login(USER, PASSWORD)).thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+
+        sessionsCreated = 0;
+        pool = new GrpcSessionPool(null, config, USER, PASSWORD) {
+            @Override
+            protected GrpcSession makeSession(String address) {
+                sessionsCreated += 1;
+                return session;
+            }
+        };
+    }
+
+    @Test
+    public void sessionIsReusedAndLoggedInOnce() {
+        assertEquals("a", pool.execute(ADDRESS, GrpcOperation.SHOW_SWITCH_STATUS,
+                ignore -> CompletableFuture.completedFuture("a")).join());
+        assertEquals("b", pool.execute(ADDRESS, GrpcOperation.SHOW_SWITCH_STATUS,
+                ignore -> CompletableFuture.completedFuture("b")).join());
+
+        assertEquals(1, sessionsCreated);
+        verify(session, times(1)).login(USER, PASSWORD);
+
+        Map<GrpcOperation, OperationStats> stats = pool.pullStats();
+        assertEquals(2, stats.get(GrpcOperation.SHOW_SWITCH_STATUS).getCount());
+        assertEquals(0, stats.get(GrpcOperation.SHOW_SWITCH_STATUS).getErrors());
+        assertTrue(pool.pullStats().isEmpty());
+    }
+
+    @Test
+    public void reloginOnAuthFailure() {
+        List<Integer> attempts = new ArrayList<>();
+        CompletableFuture<String> result = pool.execute(ADDRESS, GrpcOperation.SET_PORT_CONFIG, ignore -> {
+            attempts.add(attempts.size());
+            if (attempts.size() == 1) {
+                CompletableFuture<String> failed = new CompletableFuture<>();
+                failed.completeExceptionally(
+                        new GrpcRequestFailureException(57, "Not authorized", ErrorType.AUTH_FAILED));
+                return failed;
+            }
+            return CompletableFuture.completedFuture("ok");
+        });
+
+        assertEquals("ok", result.join());
+        assertEquals(2, attempts.size());
+        verify(session, times(2)).login(USER, PASSWORD);
+    }
+
+    @Test
+    public void operationsOverConcurrencyLimitAreQueued() {
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(pool.execute(ADDRESS, GrpcOperation.DUMP_LOGICAL_PORTS, ignore -> {
+                CompletableFuture<String> response = new CompletableFuture<>();
+                responses.add(response);
+                return response;
+            }));
+        }
+
+        assertEquals(2, responses.size());
+        responses.get(0).complete("first");
+        assertEquals(3, responses.size());
+        assertEquals("first", results.get(0).join());
+        assertFalse(results.get(2).isDone());
+    }
+
+    @Test
+    public void sessionIsDroppedOnTransportFailure() {
+        CompletableFuture<String> result = pool.execute(ADDRESS, GrpcOperation.SHOW_SWITCH_STATUS, ignore -> {
+            CompletableFuture<String> failed = new CompletableFuture<>();
+            failed.completeExceptionally(Status.UNAVAILABLE.asRuntimeException());
+            return failed;
+        });
+
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(0, pool.size());
+        verify(session).shutdown();
+    }
+
+    @Test
+    public void idleSessionIsEvicted() {
+        pool.execute(ADDRESS, GrpcOperation.SHOW_SWITCH_STATUS,
+                ignore -> CompletableFuture.completedFuture("a")).join();
+        assertEquals(1, pool.size());
+
+        when(config.getIdleTimeout()).thenReturn(-1);
+        pool.maintenance();
+
+        assertEquals(0, pool.size());
+        verify(session).shutdown();
+    }
+
+    @Test
+    public void acquiredSessionIsNotEvicted() {
+        pool.acquire(ADDRESS);
+
+        when(config.getIdleTimeout()).thenReturn(-1);
+        pool.maintenance();
+
+        assertEquals(1, pool.size());
+        verify(session, never()).shutdown();
+    }
+
+    @Test
+    public void slotIsReleasedWhenOperationThrows() {
+        when(session.login(USER, PASSWORD))
+                .thenThrow(new IllegalStateException("login failed"))
+                .thenThrow(new IllegalStateException("login failed"))
+                .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(pool.execute(ADDRESS, GrpcOperation.SHOW_SWITCH_STATUS,
+                    ignore -> CompletableFuture.completedFuture("a")).isCompletedExceptionally());
+        }
+
+        // with leaked slots this operation would be queued forever (concurrency limit is 2)
+        assertEquals("b", pool.execute(ADDRESS, GrpcOperation.SHOW_SWITCH_STATUS,
+                ignore -> CompletableFuture.completedFuture("b")).join());
+        assertEquals(2, pool.pullStats().get(GrpcOperation.SHOW_SWITCH_STATUS).getErrors());
+    }
+}
@@ -69,7 +69,7 @@ public class RouterBolt extends AbstractBolt {
 
     private void handleRoundTripLatency(Tuple input, IslRoundTripLatency data) {
         getOutput().emit(StreamType.CACHE.toString(), input,
-                new Values(data.getSrcSwitchId().toString(), data, getCommandContext()));
+                new Values(data.getSrcSwitchId().toLong(), data, getCommandContext()));
     }
 
     @Override
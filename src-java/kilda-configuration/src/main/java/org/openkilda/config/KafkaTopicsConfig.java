@@ -42,6 +42,10 @@ public interface KafkaTopicsConfig {
     @Default("kilda.flow.status")
     String getFlowStatusTopic();
 
+    @Key("flow.change.notify")
+    @Default("kilda.flow.change.notify")
+    String getFlowChangeNotifyTopic();
+
     @Key("northbound")
     @FallbackKey("kafka.northbound.topic")
     @Default("kilda.northbound.storm")
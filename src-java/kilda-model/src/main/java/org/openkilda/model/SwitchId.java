@@ -17,7 +17,10 @@ package org.openkilda.model;
 
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.common.annotations.VisibleForTesting;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -29,8 +32,25 @@ import java.util.Objects;
 public class SwitchId implements Comparable<SwitchId>, Serializable {
     private static final long serialVersionUID = 1L;
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int HEX_LENGTH = 16;
+    private static final int COLON_SEPARATED_LENGTH = HEX_LENGTH + HEX_LENGTH / 2 - 1;
+
     private final long id;
 
+    /**
+     * Lazy evaluated string representations. Switch id is formatted into string for each JSON serialization, each
+     * OpenTSDB tag, log record, etc. So it is much cheaper to produce it only once. Racy single-check is safe here,
+     * because {@link String} is immutable.
+     */
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    private transient String stringValue;
+
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    private transient String otsdValue;
+
     /**
      * Construct an instance based on the long value representation of a switch id.
      */
@@ -44,6 +64,18 @@ public class SwitchId implements Comparable<SwitchId>, Serializable {
     public SwitchId(String switchId) {
         Objects.requireNonNull(switchId, "Switch id must not be null");
 
+        if (isCanonicalForm(switchId)) {
+            long value = 0;
+            for (int i = 0; i < COLON_SEPARATED_LENGTH; i++) {
+                if (i % 3 != 2) {
+                    value = (value << 4) | Character.digit(switchId.charAt(i), 16);
+                }
+            }
+            this.id = value;
+            this.stringValue = switchId;
+            return;
+        }
+
         try {
             this.id = Long.parseUnsignedLong(switchId.replaceAll("[-:]", ""), 16);
         } catch (NumberFormatException e) {
@@ -75,7 +107,12 @@ public class SwitchId implements Comparable<SwitchId>, Serializable {
     @JsonValue
     @Override
     public String toString() {
-        return colonSeparatedBytes(toHexArray(), 0);
+        String result = stringValue;
+        if (result == null) {
+            result = colonSeparatedBytes(toHexArray(), 0);
+            stringValue = result;
+        }
+        return result;
     }
 
     /**
@@ -84,7 +121,12 @@ public class SwitchId implements Comparable<SwitchId>, Serializable {
      * @return the switch id in otsd format.
      */
     public String toOtsdFormat() {
-        return "SW" + new String(toHexArray()).toUpperCase();
+        String result = otsdValue;
+        if (result == null) {
+            result = "SW" + new String(toHexArray()).toUpperCase();
+            otsdValue = result;
+        }
+        return result;
     }
 
     @VisibleForTesting
@@ -110,8 +152,33 @@ public class SwitchId implements Comparable<SwitchId>, Serializable {
     }
 
     private char[] toHexArray() {
-        String hexString = String.format("%016x", id);
-        return hexString.toCharArray();
+        char[] hex = new char[HEX_LENGTH];
+        long value = id;
+        for (int i = HEX_LENGTH - 1; 0 <= i; i--) {
+            hex[i] = HEX_DIGITS[(int) (value & 0xf)];
+            value >>>= 4;
+        }
+        return hex;
+    }
+
+    /**
+     * Check is it the same representation as produced by {@link #toString()} i.e. "00:00:00:00:00:00:00:01".
+     */
+    private static boolean isCanonicalForm(String switchId) {
+        if (switchId.length() != COLON_SEPARATED_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < COLON_SEPARATED_LENGTH; i++) {
+            char c = switchId.charAt(i);
+            if (i % 3 == 2) {
+                if (c != ':') {
+                    return false;
+                }
+            } else if (!('0' <= c && c <= '9' || 'a' <= c && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
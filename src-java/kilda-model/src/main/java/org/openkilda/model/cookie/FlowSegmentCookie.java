@@ -119,6 +119,14 @@ public class FlowSegmentCookie extends Cookie {
         return getField(FLOW_EFFECTIVE_ID_FIELD);
     }
 
+    /**
+     * Cookie mask selecting all segments of the flow paths with the same flow effective id, regardless of the path
+     * direction and the cookie type.
+     */
+    public static long getFlowSegmentsMask() {
+        return SERVICE_FLAG.getMask() | FLOW_EFFECTIVE_ID_FIELD.getMask();
+    }
+
     public static FlowSegmentCookieBuilder builder() {
         return new FlowSegmentCookieBuilder()
                 .type(CookieType.SERVICE_OR_FLOW_SEGMENT);
@@ -68,4 +68,29 @@ public class SwitchIdTest {
         Assert.assertEquals(switchIdString.substring(18), switchId.colonSeparatedBytes(hexArray, 12));
         Assert.assertEquals(switchIdString.substring(21), switchId.colonSeparatedBytes(hexArray, 14));
     }
+
+    @Test
+    public void parseAllSupportedFormats() {
+        long expected = 0xfedcba9876543210L;
+        Assert.assertEquals(expected, new SwitchId("fe:dc:ba:98:76:54:32:10").toLong());
+        Assert.assertEquals(expected, new SwitchId("FE:DC:BA:98:76:54:32:10").toLong());
+        Assert.assertEquals(expected, new SwitchId("fe-dc-ba-98-76-54-32-10").toLong());
+        Assert.assertEquals(expected, new SwitchId("fedcba9876543210").toLong());
+        Assert.assertEquals(1, new SwitchId("1").toLong());
+    }
+
+    @Test
+    public void stringFormsAreCached() {
+        SwitchId switchId = new SwitchId(0xfedcba9876543210L);
+
+        Assert.assertEquals("fe:dc:ba:98:76:54:32:10", switchId.toString());
+        Assert.assertSame(switchId.toString(), switchId.toString());
+        Assert.assertEquals("SWFEDCBA9876543210", switchId.toOtsdFormat());
+        Assert.assertSame(switchId.toOtsdFormat(), switchId.toOtsdFormat());
+
+        String canonical = "00:00:00:00:00:00:00:0a";
+        Assert.assertSame(canonical, new SwitchId(canonical).toString());
+        Assert.assertEquals(new SwitchId(10), new SwitchId(canonical));
+        Assert.assertEquals(new SwitchId(10).hashCode(), new SwitchId(canonical).hashCode());
+    }
 }
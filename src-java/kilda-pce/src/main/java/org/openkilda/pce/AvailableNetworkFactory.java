@@ -16,6 +16,7 @@
 package org.openkilda.pce;
 
 import org.openkilda.model.Flow;
+import org.openkilda.model.FlowPath;
 import org.openkilda.model.Isl;
 import org.openkilda.model.PathId;
 import org.openkilda.pce.exception.RecoverableException;
@@ -40,11 +41,18 @@ public class AvailableNetworkFactory {
     private PathComputerConfig config;
     private IslRepository islRepository;
     private FlowPathRepository flowPathRepository;
+    private BandwidthReservations reservations;
 
     public AvailableNetworkFactory(PathComputerConfig config, RepositoryFactory repositoryFactory) {
+        this(config, repositoryFactory, BandwidthReservations.NONE);
+    }
+
+    public AvailableNetworkFactory(PathComputerConfig config, RepositoryFactory repositoryFactory,
+                                   BandwidthReservations reservations) {
         this.config = config;
         this.islRepository = repositoryFactory.createIslRepository();
         this.flowPathRepository = repositoryFactory.createFlowPathRepository();
+        this.reservations = reservations;
     }
 
     /**
@@ -61,14 +69,23 @@ public class AvailableNetworkFactory {
         try {
             // Reads all active links from the database and creates representation of the network.
             Collection<Isl> links = getAvailableIsls(buildStrategy, flow);
-            links.forEach(network::addLink);
+            for (Isl isl : links) {
+                if (flow.isIgnoreBandwidth() || isEnoughBandwidthAfterReservations(isl, flow.getBandwidth(), 0)) {
+                    network.addLink(isl);
+                }
+            }
 
             if (!reusePathsResources.isEmpty() && !flow.isIgnoreBandwidth()) {
                 reusePathsResources.forEach(pathId -> {
                     // ISLs occupied by the flow (take the bandwidth already occupied by the flow into account).
                     Collection<Isl> flowLinks = islRepository.findActiveAndOccupiedByFlowPathWithAvailableBandwidth(
                             pathId, flow.getBandwidth(), flow.getEncapsulationType());
-                    flowLinks.forEach(network::addLink);
+                    long reusedBandwidth = getReusedBandwidth(pathId);
+                    for (Isl isl : flowLinks) {
+                        if (isEnoughBandwidthAfterReservations(isl, flow.getBandwidth(), reusedBandwidth)) {
+                            network.addLink(isl);
+                        }
+                    }
                 });
             }
         } catch (PersistenceException e) {
@@ -115,6 +132,30 @@ public class AvailableNetworkFactory {
         }
     }
 
+    private long getReusedBandwidth(PathId pathId) {
+        return flowPathRepository.findById(pathId)
+                .filter(path -> !path.isIgnoreBandwidth())
+                .map(FlowPath::getBandwidth)
+                .orElse(0L);
+    }
+
+    /**
+     * Check that the ISL still fits the flow after in-flight reservations. The {@code reusedBandwidth} is already
+     * occupied on the ISL by the path being replaced, so it is available for the flow.
+     */
+    private boolean isEnoughBandwidthAfterReservations(Isl isl, long bandwidth, long reusedBandwidth) {
+        long reserved = reservations.getReservedBandwidth(
+                isl.getSrcSwitchId(), isl.getSrcPort(), isl.getDestSwitchId(), isl.getDestPort());
+        if (reserved == 0 || isl.getAvailableBandwidth() + reusedBandwidth - reserved >= bandwidth) {
+            return true;
+        }
+        log.debug("Exclude ISL {}_{}-{}_{} from available network, {} of bandwidth is reserved by in-flight "
+                        + "allocations", isl.getSrcSwitchId(), isl.getSrcPort(), isl.getDestSwitchId(),
+                isl.getDestPort(), reserved);
+        reservations.onConflictAvoided();
+        return false;
+    }
+
     private void validateIslsCost(Collection<Isl> isls) {
         List<String> messages = new ArrayList<>();
 
@@ -0,0 +1,43 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce;
+
+import org.openkilda.model.SwitchId;
+
+/**
+ * Source of bandwidth reservations made by path allocations that are not committed into DB yet. Used by
+ * {@link AvailableNetworkFactory} to exclude ISLs that will be exhausted by in-flight allocations.
+ */
+public interface BandwidthReservations {
+    BandwidthReservations NONE = new BandwidthReservations() {
+        @Override
+        public long getReservedBandwidth(SwitchId srcSwitch, int srcPort, SwitchId dstSwitch, int dstPort) {
+            return 0;
+        }
+
+        @Override
+        public void onConflictAvoided() {
+            // nothing to account
+        }
+    };
+
+    long getReservedBandwidth(SwitchId srcSwitch, int srcPort, SwitchId dstSwitch, int dstPort);
+
+    /**
+     * Called each time ISL is excluded from available network because of in-flight reservations.
+     */
+    void onConflictAvoided();
+}
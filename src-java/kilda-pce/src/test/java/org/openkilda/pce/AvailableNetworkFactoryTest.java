@@ -17,6 +17,10 @@ package org.openkilda.pce;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.openkilda.model.Flow;
@@ -201,6 +205,79 @@ public class AvailableNetworkFactoryTest {
         assertAvailableNetworkIsCorrect(isl, availableNetwork);
     }
 
+    @Test
+    public void shouldExcludeIslsExhaustedByReservations() throws RecoverableException {
+        Flow flow = getFlow(false);
+        Isl isl = getIsl(flow);
+
+        when(config.getNetworkStrategy()).thenReturn("COST");
+        when(islRepository.findActiveWithAvailableBandwidth(flow.getBandwidth(), flow.getEncapsulationType()))
+                .thenReturn(Collections.singletonList(isl));
+
+        BandwidthReservations reservations = mock(BandwidthReservations.class);
+        when(reservations.getReservedBandwidth(
+                isl.getSrcSwitchId(), isl.getSrcPort(), isl.getDestSwitchId(), isl.getDestPort()))
+                .thenReturn(AVAILABLE_BANDWIDTH - flow.getBandwidth() + 1);
+        AvailableNetwork availableNetwork = new AvailableNetworkFactory(config, repositoryFactory, reservations)
+                .getAvailableNetwork(flow, Collections.emptyList());
+
+        assertNull(availableNetwork.getSwitch(isl.getSrcSwitchId()));
+        verify(reservations).onConflictAvoided();
+    }
+
+    @Test
+    public void shouldExcludeReusedIslsExhaustedByReservations() throws RecoverableException {
+        Flow flow = getFlow(false);
+        Isl isl = getIsl(flow);
+        BandwidthReservations reservations = mockReusedIslReservation(flow, isl, 1);
+
+        AvailableNetwork availableNetwork = new AvailableNetworkFactory(config, repositoryFactory, reservations)
+                .getAvailableNetwork(flow, Collections.singletonList(FORWARD_PATH_ID));
+
+        assertNull(availableNetwork.getSwitch(isl.getSrcSwitchId()));
+        verify(reservations).onConflictAvoided();
+    }
+
+    @Test
+    public void shouldKeepReusedIslsFittingAfterReservations() throws RecoverableException {
+        Flow flow = getFlow(false);
+        Isl isl = getIsl(flow);
+        BandwidthReservations reservations = mockReusedIslReservation(flow, isl, 0);
+
+        AvailableNetwork availableNetwork = new AvailableNetworkFactory(config, repositoryFactory, reservations)
+                .getAvailableNetwork(flow, Collections.singletonList(FORWARD_PATH_ID));
+
+        assertAvailableNetworkIsCorrect(isl, availableNetwork);
+        verify(reservations, never()).onConflictAvoided();
+    }
+
+    /**
+     * The ISL is occupied by the reused path only and reserved by in-flight allocations, so the flow misses
+     * {@code overbooking} of bandwidth on it.
+     */
+    private BandwidthReservations mockReusedIslReservation(Flow flow, Isl isl, long overbooking) {
+        when(config.getNetworkStrategy()).thenReturn("COST");
+        when(islRepository.findActiveWithAvailableBandwidth(flow.getBandwidth(), flow.getEncapsulationType()))
+                .thenReturn(Collections.emptyList());
+        when(islRepository.findActiveAndOccupiedByFlowPathWithAvailableBandwidth(
+                FORWARD_PATH_ID, flow.getBandwidth(), flow.getEncapsulationType()))
+                .thenReturn(Collections.singletonList(isl));
+
+        FlowPath reusedPath = FlowPath.builder()
+                .srcSwitch(flow.getSrcSwitch())
+                .destSwitch(flow.getDestSwitch())
+                .pathId(FORWARD_PATH_ID)
+                .bandwidth(flow.getBandwidth())
+                .build();
+        when(flowPathRepository.findById(FORWARD_PATH_ID)).thenReturn(java.util.Optional.of(reusedPath));
+
+        BandwidthReservations reservations = mock(BandwidthReservations.class);
+        when(reservations.getReservedBandwidth(
+                isl.getSrcSwitchId(), isl.getSrcPort(), isl.getDestSwitchId(), isl.getDestPort()))
+                .thenReturn(AVAILABLE_BANDWIDTH + overbooking);
+        return reservations;
+    }
+
     private static Flow getFlow(boolean ignoreBandwidth) {
         return Flow.builder()
                 .flowId("test-id")
@@ -32,8 +32,11 @@ public class PersistenceContextInitializer {
 
     /**
      * Wraps annotated method with init/close operations for the persistence context.
+     *
+     * <p>Only the method execution is advised, so a call of an annotated method made from woven code does not open
+     * the context twice.
      */
-    @Around("@annotation(persistenceContextRequired)")
+    @Around("execution(* *(..)) && @annotation(persistenceContextRequired)")
     public Object aroundAdvice(ProceedingJoinPoint joinPoint,
                                PersistenceContextRequired persistenceContextRequired) throws Throwable {
         PersistenceContextManager persistenceContextManager = persistenceProvider.getPersistenceContextManager();
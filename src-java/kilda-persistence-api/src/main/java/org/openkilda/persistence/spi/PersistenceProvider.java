@@ -53,6 +53,18 @@ public interface PersistenceProvider {
      */
     PersistenceManager getPersistenceManager(ConfigurationProvider configurationProvider);
 
+    /**
+     * Creates a {@link PersistenceManager} connected to the read replica of the database. Reads made via this manager
+     * may be stale, so it must be used only for requests that tolerate it. Falls back to the primary database if
+     * the implementation has no replica support.
+     *
+     * @param configurationProvider configuration provider to initialize the manager.
+     * @return a {@link PersistenceManager} implementation.
+     */
+    default PersistenceManager getReadReplicaPersistenceManager(ConfigurationProvider configurationProvider) {
+        return getPersistenceManager(configurationProvider);
+    }
+
     /**
      * Obtains a {@link PersistenceContextManager}.
      */
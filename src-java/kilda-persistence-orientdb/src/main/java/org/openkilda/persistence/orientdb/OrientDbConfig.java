@@ -36,4 +36,11 @@ public interface OrientDbConfig extends Serializable {
     @Key("pool.size")
     @Default("50")
     int getPoolSize();
+
+    /**
+     * URL of the database replica used for read-only requests, empty if there is no replica.
+     */
+    @Key("replica.url")
+    @Default("")
+    String getReplicaUrl();
 }
@@ -15,9 +15,12 @@
 
 package org.openkilda.persistence.orientdb;
 
+import org.openkilda.persistence.PersistenceConfig;
 import org.openkilda.persistence.exceptions.PersistenceException;
 import org.openkilda.persistence.ferma.AnnotationFrameFactoryWithConverterSupport;
 import org.openkilda.persistence.ferma.FramedGraphFactory;
+import org.openkilda.persistence.ferma.ProfilingFramedGraph;
+import org.openkilda.persistence.ferma.QueryProfiler;
 
 import com.syncleus.ferma.DelegatingFramedGraph;
 import com.syncleus.ferma.framefactories.FrameFactory;
@@ -35,13 +38,23 @@ public class OrientDbGraphFactory implements FramedGraphFactory {
     private final OrientGraphFactory factory;
     private final FrameFactory builder = new AnnotationFrameFactoryWithConverterSupport();
     private final TypeResolver typeResolver = new UntypedTypeResolver();
+    private final QueryProfiler queryProfiler;
 
-    OrientDbGraphFactory(OrientDbConfig config) {
-        log.debug("Opening a graph for {}", config);
+    OrientDbGraphFactory(OrientDbConfig config, String url, PersistenceConfig persistenceConfig) {
+        log.debug("Opening a graph for {} (url: {})", config, url);
 
-        factory = new OrientGraphFactory(config.getUrl(), config.getUser(), config.getPassword());
+        factory = new OrientGraphFactory(url, config.getUser(), config.getPassword());
         factory.setupPool(config.getPoolSize());
         log.debug("OrientGraphFactory instance has been created: {}", factory);
+
+        if (persistenceConfig.isQueryProfilingEnabled()) {
+            queryProfiler = QueryProfiler.getInstance();
+            queryProfiler.setSlowQueryThresholdMillis(persistenceConfig.getSlowQueryThresholdMillis());
+            log.info("Graph query profiling is enabled (slow query threshold {} ms)",
+                    persistenceConfig.getSlowQueryThresholdMillis());
+        } else {
+            queryProfiler = null;
+        }
     }
 
     /**
@@ -59,7 +72,11 @@ public class OrientDbGraphFactory implements FramedGraphFactory {
             log.debug("Opening a framed graph for {}", factory);
             OrientGraph orientGraph = factory.getTx();
             log.debug("OrientGraph instance has been created: {}", orientGraph);
-            result = new DelegatingFramedGraph<>(orientGraph, builder, typeResolver);
+            if (queryProfiler != null) {
+                result = new ProfilingFramedGraph<>(orientGraph, builder, typeResolver, queryProfiler);
+            } else {
+                result = new DelegatingFramedGraph<>(orientGraph, builder, typeResolver);
+            }
             ThreadLocalPersistenceContextHolder.INSTANCE.setCurrentGraph(result);
         }
         return result;
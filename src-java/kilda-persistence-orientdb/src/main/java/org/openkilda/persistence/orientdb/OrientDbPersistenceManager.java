@@ -32,14 +32,25 @@ public class OrientDbPersistenceManager implements PersistenceManager {
     private final PersistenceConfig persistenceConfig;
     private final OrientDbConfig config;
     private final NetworkConfig networkConfig;
+    private final boolean readReplica;
 
     private transient volatile OrientDbGraphFactory graphFactory;
 
     public OrientDbPersistenceManager(PersistenceConfig persistenceConfig,
                                       OrientDbConfig config, NetworkConfig networkConfig) {
+        this(persistenceConfig, config, networkConfig, false);
+    }
+
+    /**
+     * Create a manager connected either to the primary database or to its read replica
+     * ({@link OrientDbConfig#getReplicaUrl()}).
+     */
+    public OrientDbPersistenceManager(PersistenceConfig persistenceConfig,
+                                      OrientDbConfig config, NetworkConfig networkConfig, boolean readReplica) {
         this.persistenceConfig = persistenceConfig;
         this.config = config;
         this.networkConfig = networkConfig;
+        this.readReplica = readReplica;
     }
 
     @Override
@@ -58,7 +69,8 @@ public class OrientDbPersistenceManager implements PersistenceManager {
             synchronized (this) {
                 if (graphFactory == null) {
                     log.debug("Creating an instance of OrientDbGraphFactory for {}", config);
-                    graphFactory = new OrientDbGraphFactory(config);
+                    graphFactory = new OrientDbGraphFactory(
+                            config, readReplica ? config.getReplicaUrl() : config.getUrl(), persistenceConfig);
                 }
             }
         }
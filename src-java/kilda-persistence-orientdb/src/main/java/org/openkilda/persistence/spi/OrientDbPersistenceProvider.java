@@ -41,6 +41,21 @@ public class OrientDbPersistenceProvider implements PersistenceProvider {
         return new OrientDbPersistenceManager(persistenceConfig, orientDbConfig, networkConfig);
     }
 
+    @Override
+    public PersistenceManager getReadReplicaPersistenceManager(ConfigurationProvider configurationProvider) {
+        OrientDbConfig orientDbConfig = configurationProvider.getConfiguration(OrientDbConfig.class);
+        String replicaUrl = orientDbConfig.getReplicaUrl();
+        if (replicaUrl == null || replicaUrl.isEmpty()) {
+            log.warn("Read replica is not configured, the primary database will be used for read requests");
+            return getPersistenceManager(configurationProvider);
+        }
+
+        PersistenceConfig persistenceConfig = configurationProvider.getConfiguration(PersistenceConfig.class);
+        NetworkConfig networkConfig = configurationProvider.getConfiguration(NetworkConfig.class);
+        log.debug("Creating an instance of read replica PersistenceManager for {}", orientDbConfig);
+        return new OrientDbPersistenceManager(persistenceConfig, orientDbConfig, networkConfig, true);
+    }
+
     @Override
     public PersistenceContextManager getPersistenceContextManager() {
         return ThreadLocalPersistenceContextHolder.INSTANCE;
@@ -31,4 +31,12 @@ public interface PersistenceConfig extends Serializable {
     @Key("transaction.retries.maxdelay")
     @Default("50")
     int getTransactionRetriesMaxDelay();
+
+    @Key("query.profiling.enabled")
+    @Default("false")
+    boolean isQueryProfilingEnabled();
+
+    @Key("query.slow.threshold.ms")
+    @Default("500")
+    long getSlowQueryThresholdMillis();
 }
@@ -0,0 +1,245 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence.ferma;
+
+import com.google.common.collect.ImmutableSet;
+import com.syncleus.ferma.DelegatingFramedGraph;
+import com.syncleus.ferma.Traversable;
+import com.syncleus.ferma.framefactories.FrameFactory;
+import com.syncleus.ferma.typeresolvers.TypeResolver;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+
+/**
+ * Framed graph that reports execution of traversals made via {@link #traverse(Function)} into {@link QueryProfiler}.
+ *
+ * <p>The terminal calls of the returned {@link Traversable} are measured one by one. The raw traversal obtained via
+ * {@link Traversable#getRawTraversal()} is reported once, when it is exhausted, consumed by a terminal step or
+ * closed; the latency is the sum of the time spent inside its iteration calls.
+ */
+public class ProfilingFramedGraph<G extends Graph> extends DelegatingFramedGraph<G> {
+    private static final Set<String> RAW_TRAVERSAL_EXECUTION_METHODS = ImmutableSet.of(
+            "hasNext", "next", "tryNext", "toList", "toSet", "toBulkSet", "fill", "iterate", "forEachRemaining",
+            "close");
+
+    private final QueryProfiler profiler;
+
+    public ProfilingFramedGraph(G delegate, FrameFactory builder, TypeResolver defaultResolver,
+                                QueryProfiler profiler) {
+        super(delegate, builder, defaultResolver);
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Traversable<?, ?> traverse(Function<GraphTraversalSource, GraphTraversal<?, ?>> traverser) {
+        String operation = lookupOperation();
+        AtomicReference<Object> query = new AtomicReference<>();
+        Traversable<?, ?> target = super.traverse(source -> {
+            GraphTraversal<?, ?> traversal = traverser.apply(source);
+            query.set(traversal.asAdmin().getBytecode());
+            return traversal;
+        });
+
+        return (Traversable<?, ?>) Proxy.newProxyInstance(
+                Traversable.class.getClassLoader(), new Class<?>[]{Traversable.class},
+                new ProfilingHandler(target, operation, query));
+    }
+
+    /**
+     * Name the traversal by the repository method that has issued it.
+     */
+    private static String lookupOperation() {
+        for (StackTraceElement frame : new Throwable().getStackTrace()) {
+            String className = frame.getClassName();
+            if (className.equals(ProfilingFramedGraph.class.getName())) {
+                continue;
+            }
+
+            String simpleName = className.substring(className.lastIndexOf('.') + 1);
+            String methodName = frame.getMethodName();
+            if (methodName.startsWith("lambda$")) {
+                // lambda$findById$3 -> findById
+                methodName = methodName.substring("lambda$".length());
+                int end = methodName.indexOf('$');
+                if (0 < end) {
+                    methodName = methodName.substring(0, end);
+                }
+            }
+            return simpleName + "." + methodName;
+        }
+        return "unknown";
+    }
+
+    private GraphTraversal<?, ?> wrapRawTraversal(
+            GraphTraversal<?, ?> traversal, String operation, AtomicReference<Object> query) {
+        Class<?> proxyInterface = traversal instanceof GraphTraversal.Admin
+                ? GraphTraversal.Admin.class : GraphTraversal.class;
+        return (GraphTraversal<?, ?>) Proxy.newProxyInstance(
+                GraphTraversal.class.getClassLoader(), new Class<?>[]{proxyInterface},
+                new RawTraversalProfilingHandler(traversal, operation, query));
+    }
+
+    private class ProfilingHandler implements InvocationHandler {
+        private final Traversable<?, ?> target;
+        private final String operation;
+        private final AtomicReference<Object> query;
+
+        ProfilingHandler(Traversable<?, ?> target, String operation, AtomicReference<Object> query) {
+            this.target = target;
+            this.operation = operation;
+            this.query = query;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(target, args);
+            }
+            if ("getRawTraversal".equals(method.getName())) {
+                return wrapRawTraversal(target.getRawTraversal(), operation, query);
+            }
+
+            long startedAt = System.nanoTime();
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            int resultSize;
+            if (result instanceof Collection) {
+                resultSize = ((Collection<?>) result).size();
+            } else {
+                resultSize = result == null ? 0 : 1;
+            }
+            profiler.record(operation, System.nanoTime() - startedAt, resultSize, query.get());
+            return result;
+        }
+    }
+
+    private class RawTraversalProfilingHandler implements InvocationHandler {
+        private final GraphTraversal<?, ?> target;
+        private final String operation;
+        private final AtomicReference<Object> query;
+
+        private long durationNanos = 0;
+        private int resultSize = 0;
+        private boolean reported = false;
+
+        RawTraversalProfilingHandler(GraphTraversal<?, ?> target, String operation, AtomicReference<Object> query) {
+            this.target = target;
+            this.operation = operation;
+            this.query = query;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(target, args);
+            }
+
+            String name = method.getName();
+            int argsCount = args == null ? 0 : args.length;
+            if ("toStream".equals(name) && argsCount == 0) {
+                // the default implementation streams the target itself, go through the proxy to keep the timing
+                return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                        (Iterator<?>) proxy, Spliterator.IMMUTABLE | Spliterator.SIZED), false);
+            }
+            if ("forEachRemaining".equals(name) && argsCount == 1) {
+                // do not include the consumer into the traversal latency
+                forEachRemaining((Iterator<?>) proxy, (Consumer<?>) args[0]);
+                return null;
+            }
+            if (!RAW_TRAVERSAL_EXECUTION_METHODS.contains(name)) {
+                return unwrapSelf(proxy, invokeTarget(method, args));
+            }
+
+            long startedAt = System.nanoTime();
+            Object result;
+            try {
+                result = invokeTarget(method, args);
+            } catch (NoSuchElementException e) {
+                durationNanos += System.nanoTime() - startedAt;
+                report();
+                throw e;
+            }
+            durationNanos += System.nanoTime() - startedAt;
+
+            if ("hasNext".equals(name)) {
+                if (!(Boolean) result) {
+                    report();
+                }
+            } else if ("next".equals(name) && argsCount == 0) {
+                resultSize += 1;
+            } else if (result instanceof Collection) {
+                resultSize += ((Collection<?>) result).size();
+                report();
+            } else if (result instanceof Optional) {
+                resultSize += ((Optional<?>) result).isPresent() ? 1 : 0;
+                report();
+            } else {
+                report();
+            }
+            return unwrapSelf(proxy, result);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <E> void forEachRemaining(Iterator<E> iterator, Consumer<?> action) {
+            Consumer<E> consumer = (Consumer<E>) action;
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+            }
+        }
+
+        private Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private Object unwrapSelf(Object proxy, Object result) {
+            // traversal steps return the traversal itself, keep the caller on the proxy
+            return result == target ? proxy : result;
+        }
+
+        private void report() {
+            if (!reported) {
+                reported = true;
+                profiler.record(operation, durationNanos, resultSize, query.get());
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence.ferma;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects call counts, latency histograms and result sizes of graph traversals grouped by the repository method
+ * that issued them, and logs traversals that run longer than the slow query threshold.
+ *
+ * <p>Stats are kept per thread, so the metrics collected from the storm executor thread describe only the queries
+ * made by the bolt this executor runs.
+ */
+@Slf4j
+public final class QueryProfiler {
+    public static final String METRIC_NAME = "persistence-queries";
+    public static final int METRIC_BUCKET_SIZE_SECONDS = 60;
+
+    private static final long[] LATENCY_BUCKETS_MILLIS = {1, 10, 100, 1000};
+
+    private static final QueryProfiler INSTANCE = new QueryProfiler();
+
+    private final ThreadLocal<Map<String, QueryStats>> stats = ThreadLocal.withInitial(HashMap::new);
+
+    private volatile long slowQueryThresholdMillis;
+
+    private QueryProfiler() {
+    }
+
+    public static QueryProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    public void setSlowQueryThresholdMillis(long slowQueryThresholdMillis) {
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+    }
+
+    /**
+     * Record the traversal execution.
+     */
+    void record(String operation, long durationNanos, int resultSize, Object query) {
+        stats.get().computeIfAbsent(operation, key -> new QueryStats()).record(durationNanos, resultSize);
+
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        long threshold = slowQueryThresholdMillis;
+        if (0 < threshold && threshold <= durationMillis) {
+            log.warn("Slow query {} took {} ms (results: {}): {}", operation, durationMillis, resultSize, query);
+        }
+    }
+
+    /**
+     * Get stats of the queries made by the current thread since the previous call.
+     */
+    public Map<String, Long> getAndResetCounters() {
+        Map<String, QueryStats> current = stats.get();
+        Map<String, Long> counters = new HashMap<>();
+        for (Map.Entry<String, QueryStats> entry : current.entrySet()) {
+            entry.getValue().dump(entry.getKey(), counters);
+        }
+        current.clear();
+        return counters;
+    }
+
+    private static class QueryStats {
+        private long calls;
+        private long results;
+        private long maxLatencyMicros;
+        private final long[] latencyBuckets = new long[LATENCY_BUCKETS_MILLIS.length + 1];
+
+        void record(long durationNanos, int resultSize) {
+            calls += 1;
+            results += Math.max(resultSize, 0);
+
+            long micros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+            maxLatencyMicros = Math.max(maxLatencyMicros, micros);
+
+            int idx = 0;
+            while (idx < LATENCY_BUCKETS_MILLIS.length && LATENCY_BUCKETS_MILLIS[idx] * 1000 < micros) {
+                idx += 1;
+            }
+            latencyBuckets[idx] += 1;
+        }
+
+        void dump(String prefix, Map<String, Long> target) {
+            target.put(prefix + ".calls", calls);
+            target.put(prefix + ".results", results);
+            target.put(prefix + ".latency.max-us", maxLatencyMicros);
+            for (int i = 0; i < LATENCY_BUCKETS_MILLIS.length; i++) {
+                target.put(String.format("%s.latency.le-%dms", prefix, LATENCY_BUCKETS_MILLIS[i]), latencyBuckets[i]);
+            }
+            target.put(String.format("%s.latency.gt-%dms", prefix,
+                    LATENCY_BUCKETS_MILLIS[LATENCY_BUCKETS_MILLIS.length - 1]),
+                    latencyBuckets[LATENCY_BUCKETS_MILLIS.length]);
+        }
+    }
+}
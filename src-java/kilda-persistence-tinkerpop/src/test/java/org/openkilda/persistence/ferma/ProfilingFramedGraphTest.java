@@ -0,0 +1,92 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence.ferma;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.syncleus.ferma.typeresolvers.UntypedTypeResolver;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class ProfilingFramedGraphTest {
+    private static final String OPERATION = "ProfilingFramedGraphTest.makeSlowTraversal";
+    private static final int VERTICES = 3;
+    private static final long STEP_DELAY_MILLIS = 20;
+
+    private final QueryProfiler profiler = QueryProfiler.getInstance();
+
+    private ProfilingFramedGraph<TinkerGraph> framedGraph;
+
+    @Before
+    public void setUp() {
+        TinkerGraph graph = TinkerGraph.open();
+        for (int i = 0; i < VERTICES; i++) {
+            graph.addVertex("dummy");
+        }
+        framedGraph = new ProfilingFramedGraph<>(
+                graph, new AnnotationFrameFactoryWithConverterSupport(), new UntypedTypeResolver(), profiler);
+        profiler.getAndResetCounters();
+    }
+
+    @Test
+    public void shouldReportRawTraversalTerminalStep() {
+        assertEquals(VERTICES, makeSlowTraversal().toList().size());
+
+        verifyReported(VERTICES, VERTICES * STEP_DELAY_MILLIS);
+    }
+
+    @Test
+    public void shouldReportRawTraversalIteratedAsStream() {
+        assertEquals(VERTICES, makeSlowTraversal().toStream().count());
+
+        verifyReported(VERTICES, VERTICES * STEP_DELAY_MILLIS);
+    }
+
+    @Test
+    public void shouldReportRawTraversalOnClose() throws Exception {
+        try (GraphTraversal<?, ?> traversal = makeSlowTraversal()) {
+            assertTrue(traversal.hasNext());
+        }
+
+        verifyReported(0, STEP_DELAY_MILLIS);
+    }
+
+    private GraphTraversal<?, ?> makeSlowTraversal() {
+        return framedGraph.traverse(g -> g.V().sideEffect(traverser -> sleep()))
+                .getRawTraversal();
+    }
+
+    private void verifyReported(long results, long minLatencyMillis) {
+        Map<String, Long> counters = profiler.getAndResetCounters();
+        assertEquals(Long.valueOf(1), counters.get(OPERATION + ".calls"));
+        assertEquals(Long.valueOf(results), counters.get(OPERATION + ".results"));
+        assertTrue(TimeUnit.MILLISECONDS.toMicros(minLatencyMillis) <= counters.get(OPERATION + ".latency.max-us"));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(STEP_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
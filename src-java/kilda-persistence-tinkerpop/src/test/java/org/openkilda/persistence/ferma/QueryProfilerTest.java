@@ -0,0 +1,50 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence.ferma;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class QueryProfilerTest {
+    private final QueryProfiler profiler = QueryProfiler.getInstance();
+
+    @Test
+    public void shouldAggregateQueriesByOperation() {
+        profiler.getAndResetCounters();
+
+        profiler.record("FermaFlowRepository.findById", TimeUnit.MICROSECONDS.toNanos(500), 1, "query");
+        profiler.record("FermaFlowRepository.findById", TimeUnit.MILLISECONDS.toNanos(20), 1, "query");
+        profiler.record("FermaIslRepository.findAll", TimeUnit.SECONDS.toNanos(2), 10, "query");
+
+        Map<String, Long> counters = profiler.getAndResetCounters();
+        assertEquals(Long.valueOf(2), counters.get("FermaFlowRepository.findById.calls"));
+        assertEquals(Long.valueOf(2), counters.get("FermaFlowRepository.findById.results"));
+        assertEquals(Long.valueOf(1), counters.get("FermaFlowRepository.findById.latency.le-1ms"));
+        assertEquals(Long.valueOf(1), counters.get("FermaFlowRepository.findById.latency.le-100ms"));
+        assertEquals(Long.valueOf(20000), counters.get("FermaFlowRepository.findById.latency.max-us"));
+
+        assertEquals(Long.valueOf(1), counters.get("FermaIslRepository.findAll.calls"));
+        assertEquals(Long.valueOf(10), counters.get("FermaIslRepository.findAll.results"));
+        assertEquals(Long.valueOf(1), counters.get("FermaIslRepository.findAll.latency.gt-1000ms"));
+
+        assertTrue(profiler.getAndResetCounters().isEmpty());
+    }
+}
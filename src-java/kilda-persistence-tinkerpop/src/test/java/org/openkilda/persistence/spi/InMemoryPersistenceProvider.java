@@ -39,11 +39,22 @@ public class InMemoryPersistenceProvider implements PersistenceProvider {
     }
 
     /**
-     * In-memory implementation of {@link PersistenceContextManager}. It ignores context events.
+     * In-memory implementation of {@link PersistenceContextManager}. It ignores context events, only counts
+     * the contexts opened by the current thread for tests that check context handling.
      */
     public static class InMemoryPersistenceContextManager implements PersistenceContextManager {
+        private static final ThreadLocal<Integer> openContexts = ThreadLocal.withInitial(() -> 0);
+
+        /**
+         * Number of contexts opened and not closed yet by the current thread.
+         */
+        public static int getOpenContextsCount() {
+            return openContexts.get();
+        }
+
         @Override
         public void initContext() {
+            openContexts.set(openContexts.get() + 1);
         }
 
         @Override
@@ -53,6 +64,7 @@ public class InMemoryPersistenceProvider implements PersistenceProvider {
 
         @Override
         public void closeContext() {
+            openContexts.set(openContexts.get() - 1);
         }
 
         @Override
@@ -82,6 +82,7 @@ public class NbWorkerTopology extends AbstractTopology<NbWorkerTopologyConfig> {
     private static final String FLOW_HS_KAFKA_BOLT_NAME = "flowhs-kafka-bolt";
     private static final String DISCO_KAFKA_BOLT_NAME = "disco-kafka-bolt";
     private static final String PING_KAFKA_BOLT_NAME = "ping-kafka-bolt";
+    private static final String FLOW_CHANGE_NOTIFY_KAFKA_BOLT_NAME = "flow-change-notify-kafka-bolt";
     private static final String HISTORY_BOLT_NAME = "history-operations-bolt";
     private static final String NB_SPOUT_ID = "nb-spout";
     private static final String SPEAKER_KAFKA_BOLT = "speaker-bolt";
@@ -124,6 +125,11 @@ public class NbWorkerTopology extends AbstractTopology<NbWorkerTopologyConfig> {
 
         PersistenceManager persistenceManager =
                 PersistenceProvider.getInstance().getPersistenceManager(configurationProvider);
+        PersistenceManager readPersistenceManager = persistenceManager;
+        if (topologyConfig.isReadReplicaEnabled()) {
+            readPersistenceManager =
+                    PersistenceProvider.getInstance().getReadReplicaPersistenceManager(configurationProvider);
+        }
         PathComputerConfig pathComputerConfig = configurationProvider.getConfiguration(PathComputerConfig.class);
 
         FlowResourcesConfig flowResourcesConfig = configurationProvider.getConfiguration(FlowResourcesConfig.class);
@@ -136,7 +142,9 @@ public class NbWorkerTopology extends AbstractTopology<NbWorkerTopologyConfig> {
         tb.setBolt(FlowValidationHubBolt.ID,
                 new FlowValidationHubBolt(validationHubConfig, persistenceManager, flowResourcesConfig,
                         topologyConfig.getFlowMeterMinBurstSizeInKbits(),
-                        topologyConfig.getFlowMeterBurstCoefficient()))
+                        topologyConfig.getFlowMeterBurstCoefficient(),
+                        topologyConfig.getFlowValidationDumpCacheTtlMillis(),
+                        topologyConfig.isFlowValidationCookieFilterEnabled()))
                 .fieldsGrouping(ROUTER_BOLT_NAME, FlowValidationHubBolt.INCOME_STREAM, FIELDS_KEY)
                 .directGrouping(VALIDATION_WORKER_BOLT, FlowValidationHubBolt.INCOME_STREAM)
                 .directGrouping(CoordinatorBolt.ID);
@@ -173,15 +181,15 @@ public class NbWorkerTopology extends AbstractTopology<NbWorkerTopologyConfig> {
                 .fieldsGrouping(FlowMeterModifyHubBolt.ID, StreamType.METER_MODIFY_WORKER.toString(), FIELDS_KEY)
                 .directGrouping(CoordinatorBolt.ID);
 
-        SwitchOperationsBolt switchesBolt = new SwitchOperationsBolt(persistenceManager);
+        SwitchOperationsBolt switchesBolt = new SwitchOperationsBolt(persistenceManager, readPersistenceManager);
         tb.setBolt(SWITCHES_BOLT_NAME, switchesBolt, parallelism)
                 .shuffleGrouping(ROUTER_BOLT_NAME, StreamType.SWITCH.toString());
 
-        LinkOperationsBolt linksBolt = new LinkOperationsBolt(persistenceManager);
+        LinkOperationsBolt linksBolt = new LinkOperationsBolt(persistenceManager, readPersistenceManager);
         tb.setBolt(LINKS_BOLT_NAME, linksBolt, parallelism)
                 .shuffleGrouping(ROUTER_BOLT_NAME, StreamType.ISL.toString());
 
-        FlowOperationsBolt flowsBolt = new FlowOperationsBolt(persistenceManager);
+        FlowOperationsBolt flowsBolt = new FlowOperationsBolt(persistenceManager, readPersistenceManager);
         tb.setBolt(FLOWS_BOLT_NAME, flowsBolt, parallelism)
                 .shuffleGrouping(ROUTER_BOLT_NAME, StreamType.FLOW.toString());
 
@@ -260,6 +268,10 @@ public class NbWorkerTopology extends AbstractTopology<NbWorkerTopologyConfig> {
         tb.setBolt(PING_KAFKA_BOLT_NAME, kafkaPingBolt, parallelism)
                 .shuffleGrouping(FLOW_PATCH_BOLT_NAME, StreamType.PING.toString());
 
+        KafkaBolt kafkaFlowChangeNotifyBolt = buildKafkaBolt(topologyConfig.getKafkaFlowChangeNotifyTopic());
+        tb.setBolt(FLOW_CHANGE_NOTIFY_KAFKA_BOLT_NAME, kafkaFlowChangeNotifyBolt, parallelism)
+                .shuffleGrouping(FLOW_PATCH_BOLT_NAME, StreamType.FLOW_CHANGE_NOTIFY.toString());
+
         tb.setBolt(SPEAKER_KAFKA_BOLT, buildKafkaBolt(topologyConfig.getKafkaSpeakerTopic()))
                 .shuffleGrouping(VALIDATION_WORKER_BOLT, StreamType.TO_SPEAKER.toString())
                 .shuffleGrouping(METER_MODIFY_WORKER_BOLT, StreamType.TO_SPEAKER.toString());
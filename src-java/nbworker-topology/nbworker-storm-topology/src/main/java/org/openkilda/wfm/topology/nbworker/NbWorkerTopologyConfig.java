@@ -47,6 +47,10 @@ public interface NbWorkerTopologyConfig extends AbstractTopologyConfig {
         return getKafkaTopics().getPingTopic();
     }
 
+    default String getKafkaFlowChangeNotifyTopic() {
+        return getKafkaTopics().getFlowChangeNotifyTopic();
+    }
+
     default String getKafkaSpeakerTopic() {
         return getKafkaTopics().getSpeakerTopic();
     }
@@ -81,4 +85,20 @@ public interface NbWorkerTopologyConfig extends AbstractTopologyConfig {
     @Default("1024")
     @Min(0)
     long getFlowMeterMinBurstSizeInKbits();
+
+    @Key("nbworker.read.replica.enabled")
+    @Default("false")
+    @Description("Serve switches, links and flows dump requests from the database read replica")
+    boolean isReadReplicaEnabled();
+
+    @Key("nbworker.flow.validation.dump.cache.ttl.ms")
+    @Default("1000")
+    @Min(0)
+    @Description("How long switch rules/meters dumps are reused by other flow validation requests")
+    long getFlowValidationDumpCacheTtlMillis();
+
+    @Key("nbworker.flow.validation.cookie.filter.enabled")
+    @Default("false")
+    @Description("Dump only the rules with the validated flow cookie (switch rules total counts only them then)")
+    boolean isFlowValidationCookieFilterEnabled();
 }
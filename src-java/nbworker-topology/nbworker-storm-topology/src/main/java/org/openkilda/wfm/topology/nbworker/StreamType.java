@@ -20,6 +20,7 @@ public enum StreamType {
     ISL,
     FLOW,
     FLOWHS,
+    FLOW_CHANGE_NOTIFY,
     FEATURE_TOGGLES,
     KILDA_CONFIG,
     NOTIFICATION,
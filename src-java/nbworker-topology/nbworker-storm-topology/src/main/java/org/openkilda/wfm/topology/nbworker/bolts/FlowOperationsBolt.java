@@ -68,17 +68,23 @@ import java.util.stream.Collectors;
 
 public class FlowOperationsBolt extends PersistenceOperationsBolt {
     private transient FlowOperationsService flowOperationsService;
+    private transient FlowOperationsService readFlowOperationsService;
 
     public FlowOperationsBolt(PersistenceManager persistenceManager) {
         super(persistenceManager);
     }
 
+    public FlowOperationsBolt(PersistenceManager persistenceManager, PersistenceManager readPersistenceManager) {
+        super(persistenceManager, readPersistenceManager);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void init() {
         this.flowOperationsService = new FlowOperationsService(repositoryFactory, transactionManager);
+        this.readFlowOperationsService = new FlowOperationsService(readRepositoryFactory, readTransactionManager);
     }
 
     @Override
@@ -113,7 +119,7 @@ public class FlowOperationsBolt extends PersistenceOperationsBolt {
         Integer dstPort = request.getDestination().getPortNumber();
 
         try {
-            return flowOperationsService.getFlowPathsForLink(srcSwitch, srcPort, dstSwitch, dstPort).stream()
+            return readFlowOperationsService.getFlowPathsForLink(srcSwitch, srcPort, dstSwitch, dstPort).stream()
                     // NOTE(tdurakov): filter out paths here that are orphaned for the flow
                     .filter(flowPath -> flowPath.getFlow().isActualPathId(flowPath.getPathId()))
                     .map(FlowPath::getFlow)
@@ -131,7 +137,7 @@ public class FlowOperationsBolt extends PersistenceOperationsBolt {
         Integer srcPort = request.getPort();
 
         try {
-            return flowOperationsService.getFlowsForEndpoint(srcSwitch, srcPort).stream()
+            return readFlowOperationsService.getFlowsForEndpoint(srcSwitch, srcPort).stream()
                     .distinct()
                     .map(FlowMapper.INSTANCE::map)
                     .map(FlowResponse::new)
@@ -244,7 +250,7 @@ public class FlowOperationsBolt extends PersistenceOperationsBolt {
 
     private List<FlowResponse> processFlowsDumpRequest(FlowsDumpRequest request) {
         try {
-            return flowOperationsService.getAllFlows(request).stream()
+            return readFlowOperationsService.getAllFlows(request).stream()
                     .map(FlowMapper.INSTANCE::map)
                     .map(FlowResponse::new)
                     .collect(Collectors.toList());
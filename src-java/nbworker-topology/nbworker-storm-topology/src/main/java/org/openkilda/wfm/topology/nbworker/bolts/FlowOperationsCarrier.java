@@ -35,4 +35,9 @@ public interface FlowOperationsCarrier {
      * Sends Northbound response.
      */
     void sendNorthboundResponse(InfoData data);
+
+    /**
+     * Notifies flow caches (i.e. northbound one) that the flow was changed.
+     */
+    void emitFlowChangedNotification(String flowId);
 }
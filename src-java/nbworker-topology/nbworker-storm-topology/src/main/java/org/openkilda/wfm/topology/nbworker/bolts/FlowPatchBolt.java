@@ -29,6 +29,8 @@ import org.openkilda.messaging.error.ErrorData;
 import org.openkilda.messaging.error.ErrorType;
 import org.openkilda.messaging.error.MessageException;
 import org.openkilda.messaging.info.InfoData;
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.flow.FlowChangedNotification;
 import org.openkilda.messaging.model.FlowPatch;
 import org.openkilda.messaging.nbtopology.request.FlowPatchRequest;
 import org.openkilda.persistence.PersistenceManager;
@@ -112,6 +114,7 @@ public class FlowPatchBolt extends AbstractBolt implements FlowOperationsCarrier
         declarer.declareStream(StreamType.ERROR.toString(), new Fields(FIELD_ID_PAYLOAD, FIELD_ID_CONTEXT));
         declarer.declareStream(StreamType.PING.toString(), new Fields(FIELD_ID_PAYLOAD, FIELD_ID_CONTEXT));
         declarer.declareStream(StreamType.FLOWHS.toString(), new Fields(FIELD_ID_KEY, FIELD_ID_PAYLOAD));
+        declarer.declareStream(StreamType.FLOW_CHANGE_NOTIFY.toString(), new Fields(FIELD_ID_KEY, FIELD_ID_PAYLOAD));
     }
 
     @Override
@@ -133,4 +136,11 @@ public class FlowPatchBolt extends AbstractBolt implements FlowOperationsCarrier
     public void sendNorthboundResponse(InfoData data) {
         getOutput().emit(getCurrentTuple(), new Values(Collections.singletonList(data), getCommandContext()));
     }
+
+    @Override
+    public void emitFlowChangedNotification(String flowId) {
+        InfoMessage message = new InfoMessage(new FlowChangedNotification(flowId), System.currentTimeMillis(),
+                getCorrelationId());
+        getOutput().emit(StreamType.FLOW_CHANGE_NOTIFY.toString(), getCurrentTuple(), new Values(flowId, message));
+    }
 }
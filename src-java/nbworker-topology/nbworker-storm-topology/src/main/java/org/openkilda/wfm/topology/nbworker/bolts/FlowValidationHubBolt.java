@@ -48,21 +48,26 @@ public class FlowValidationHubBolt extends HubBolt {
     private transient FlowValidationHubService service;
     private long flowMeterMinBurstSizeInKbits;
     private double flowMeterBurstCoefficient;
+    private long dumpCacheTtlMillis;
+    private boolean rulesCookieFilterEnabled;
 
     public FlowValidationHubBolt(Config config, PersistenceManager persistenceManager,
                                  FlowResourcesConfig flowResourcesConfig,
-                                 long flowMeterMinBurstSizeInKbits, double flowMeterBurstCoefficient) {
+                                 long flowMeterMinBurstSizeInKbits, double flowMeterBurstCoefficient,
+                                 long dumpCacheTtlMillis, boolean rulesCookieFilterEnabled) {
         super(config);
         this.persistenceManager = persistenceManager;
         this.flowResourcesConfig = flowResourcesConfig;
         this.flowMeterMinBurstSizeInKbits = flowMeterMinBurstSizeInKbits;
         this.flowMeterBurstCoefficient = flowMeterBurstCoefficient;
+        this.dumpCacheTtlMillis = dumpCacheTtlMillis;
+        this.rulesCookieFilterEnabled = rulesCookieFilterEnabled;
     }
 
     @Override
     public void prepare(Map stormConf, TopologyContext context, OutputCollector collector) {
         super.prepare(stormConf, context, collector);
-        service = new FlowValidationHubService(persistenceManager, flowResourcesConfig);
+        service = new FlowValidationHubService(persistenceManager, flowResourcesConfig, dumpCacheTtlMillis);
     }
 
     @Override
@@ -137,5 +142,10 @@ public class FlowValidationHubBolt extends HubBolt {
         public double getFlowMeterBurstCoefficient() {
             return flowMeterBurstCoefficient;
         }
+
+        @Override
+        public boolean isRulesCookieFilterEnabled() {
+            return rulesCookieFilterEnabled;
+        }
     }
 }
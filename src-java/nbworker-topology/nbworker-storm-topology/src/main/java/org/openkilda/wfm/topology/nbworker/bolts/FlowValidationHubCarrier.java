@@ -20,4 +20,6 @@ public interface FlowValidationHubCarrier extends FlowHubCarrier {
     long getFlowMeterMinBurstSizeInKbits();
 
     double getFlowMeterBurstCoefficient();
+
+    boolean isRulesCookieFilterEnabled();
 }
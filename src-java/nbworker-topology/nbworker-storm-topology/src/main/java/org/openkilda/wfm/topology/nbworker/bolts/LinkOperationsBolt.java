@@ -72,6 +72,7 @@ import java.util.stream.Collectors;
 
 public class LinkOperationsBolt extends PersistenceOperationsBolt implements ILinkOperationsServiceCarrier {
     private transient LinkOperationsService linkOperationsService;
+    private transient LinkOperationsService readLinkOperationsService;
     private transient FlowOperationsService flowOperationsService;
 
     private transient LinkPropsRepository linkPropsRepository;
@@ -81,12 +82,17 @@ public class LinkOperationsBolt extends PersistenceOperationsBolt implements ILi
         super(persistenceManager);
     }
 
+    public LinkOperationsBolt(PersistenceManager persistenceManager, PersistenceManager readPersistenceManager) {
+        super(persistenceManager, readPersistenceManager);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void init() {
         this.linkOperationsService = new LinkOperationsService(this, repositoryFactory, transactionManager);
+        this.readLinkOperationsService = new LinkOperationsService(this, readRepositoryFactory, readTransactionManager);
         this.flowOperationsService = new FlowOperationsService(repositoryFactory, transactionManager);
         linkPropsRepository = repositoryFactory.createLinkPropsRepository();
         islRepository = repositoryFactory.createIslRepository();
@@ -125,7 +131,7 @@ public class LinkOperationsBolt extends PersistenceOperationsBolt implements ILi
         Integer dstPort = request.getDestination().getPortNumber();
         SwitchId dstSwitch = request.getDestination().getDatapath();
 
-        return linkOperationsService.getAllIsls(srcSwitch, srcPort, dstSwitch, dstPort).stream()
+        return readLinkOperationsService.getAllIsls(srcSwitch, srcPort, dstSwitch, dstPort).stream()
                 .map(IslMapper.INSTANCE::map)
                 .collect(Collectors.toList());
     }
@@ -40,11 +40,26 @@ import java.util.Map;
 public abstract class PersistenceOperationsBolt extends AbstractBolt {
     public static final String FIELD_ID_REQUEST = "request";
     private final PersistenceManager persistenceManager;
+    private final PersistenceManager readPersistenceManager;
     protected transient RepositoryFactory repositoryFactory;
     protected transient TransactionManager transactionManager;
 
+    /**
+     * Read replica repositories for the dump requests. Same as the primary ones if the read replica is not used or
+     * can't be opened.
+     * A single request must use either primary or replica repositories, because the persistence context holds only
+     * one graph per thread.
+     */
+    protected transient RepositoryFactory readRepositoryFactory;
+    protected transient TransactionManager readTransactionManager;
+
     PersistenceOperationsBolt(PersistenceManager persistenceManager) {
+        this(persistenceManager, persistenceManager);
+    }
+
+    PersistenceOperationsBolt(PersistenceManager persistenceManager, PersistenceManager readPersistenceManager) {
         this.persistenceManager = persistenceManager;
+        this.readPersistenceManager = readPersistenceManager;
     }
 
     protected String getCorrelationId() {
@@ -55,6 +70,14 @@ public abstract class PersistenceOperationsBolt extends AbstractBolt {
     public void prepare(Map stormConf, TopologyContext context, OutputCollector collector) {
         repositoryFactory = persistenceManager.getRepositoryFactory();
         transactionManager = persistenceManager.getTransactionManager();
+        try {
+            readRepositoryFactory = readPersistenceManager.getRepositoryFactory();
+            readTransactionManager = readPersistenceManager.getTransactionManager();
+        } catch (Exception e) {
+            log.error("Read replica is unavailable, dump requests will be served by the primary database", e);
+            readRepositoryFactory = repositoryFactory;
+            readTransactionManager = transactionManager;
+        }
         super.prepare(stormConf, context, collector);
     }
 
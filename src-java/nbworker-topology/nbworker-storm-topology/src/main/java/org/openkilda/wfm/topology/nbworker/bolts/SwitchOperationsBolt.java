@@ -88,12 +88,17 @@ import java.util.stream.Collectors;
 public class SwitchOperationsBolt extends PersistenceOperationsBolt implements ILinkOperationsServiceCarrier,
         SwitchOperationsServiceCarrier {
     private transient SwitchOperationsService switchOperationsService;
+    private transient SwitchOperationsService readSwitchOperationsService;
     private transient FlowOperationsService flowOperationsService;
 
     public SwitchOperationsBolt(PersistenceManager persistenceManager) {
         super(persistenceManager);
     }
 
+    public SwitchOperationsBolt(PersistenceManager persistenceManager, PersistenceManager readPersistenceManager) {
+        super(persistenceManager, readPersistenceManager);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -101,6 +106,8 @@ public class SwitchOperationsBolt extends PersistenceOperationsBolt implements I
     public void init() {
         this.switchOperationsService =
                 new SwitchOperationsService(repositoryFactory, transactionManager, this, this);
+        this.readSwitchOperationsService =
+                new SwitchOperationsService(readRepositoryFactory, readTransactionManager, this, this);
         this.flowOperationsService = new FlowOperationsService(repositoryFactory, transactionManager);
     }
 
@@ -134,7 +141,7 @@ public class SwitchOperationsBolt extends PersistenceOperationsBolt implements I
     }
 
     private List<GetSwitchResponse> getSwitches() {
-        return switchOperationsService.getAllSwitches();
+        return readSwitchOperationsService.getAllSwitches();
     }
 
     private List<GetSwitchResponse> getSwitch(GetSwitchRequest request) {
@@ -36,6 +36,7 @@ import org.openkilda.messaging.info.rule.SwitchFlowEntries;
 import org.openkilda.messaging.nbtopology.request.FlowValidationRequest;
 import org.openkilda.messaging.nbtopology.response.FlowValidationResponse;
 import org.openkilda.model.SwitchId;
+import org.openkilda.model.cookie.FlowSegmentCookie;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.wfm.error.FlowNotFoundException;
 import org.openkilda.wfm.error.IllegalFlowStateException;
@@ -53,6 +54,7 @@ import org.squirrelframework.foundation.fsm.impl.AbstractStateMachine;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 public class FlowValidationFsm
@@ -147,10 +149,19 @@ public class FlowValidationFsm
 
         List<SwitchId> switchIds = service.getSwitchIdListByFlowId(flowId);
 
+        // flows with the protected path have two different flow effective ids, dump whole tables for them
+        Optional<Long> effectiveId = Optional.empty();
+        if (carrier.isRulesCookieFilterEnabled()) {
+            effectiveId = service.getSharedFlowEffectiveId(flowId);
+        }
+        Long cookie = effectiveId.orElse(null);
+        Long cookieMask = effectiveId.map(id -> FlowSegmentCookie.getFlowSegmentsMask()).orElse(null);
+
         awaitingRules = switchIds.size();
         log.debug("Key: {}; Send commands to get rules on the switches", key);
         switchIds.forEach(switchId ->
-                carrier.sendCommandToSpeakerWorker(key, new DumpRulesForNbworkerRequest(switchId)));
+                carrier.sendCommandToSpeakerWorker(key,
+                        new DumpRulesForNbworkerRequest(switchId, cookie, cookieMask)));
 
         log.debug("Key: {}; Send commands to get meters on the switches", key);
         awaitingMeters = switchIds.size();
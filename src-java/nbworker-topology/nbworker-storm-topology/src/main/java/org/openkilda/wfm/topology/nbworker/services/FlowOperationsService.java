@@ -351,6 +351,7 @@ public class FlowOperationsService {
             FlowRequest flowRequest = RequestedFlowMapper.INSTANCE.toFlowRequest(updatedFlow);
             carrier.sendUpdateRequest(addChangedFields(flowRequest, flowPatch));
         } else {
+            carrier.emitFlowChangedNotification(updatedFlow.getFlowId());
             carrier.sendNorthboundResponse(new FlowResponse(FlowMapper.INSTANCE.map(updatedFlow)));
         }
 
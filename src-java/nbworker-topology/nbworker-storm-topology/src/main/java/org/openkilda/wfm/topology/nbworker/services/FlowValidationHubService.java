@@ -16,6 +16,7 @@
 package org.openkilda.wfm.topology.nbworker.services;
 
 import org.openkilda.messaging.Message;
+import org.openkilda.messaging.command.CommandData;
 import org.openkilda.messaging.error.ErrorData;
 import org.openkilda.messaging.error.ErrorMessage;
 import org.openkilda.messaging.error.ErrorType;
@@ -31,28 +32,46 @@ import org.openkilda.wfm.topology.nbworker.bolts.FlowValidationHubCarrier;
 import org.openkilda.wfm.topology.nbworker.fsm.FlowValidationFsm;
 import org.openkilda.wfm.topology.nbworker.fsm.FlowValidationFsm.FlowValidationEvent;
 import org.openkilda.wfm.topology.nbworker.fsm.FlowValidationFsm.FlowValidationState;
+import org.openkilda.wfm.topology.nbworker.services.SwitchDumpCache.DumpKey;
+import org.openkilda.wfm.topology.nbworker.services.SwitchDumpCache.Reissue;
 
 import lombok.extern.slf4j.Slf4j;
 import org.squirrelframework.foundation.fsm.StateMachineBuilder;
 
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 public class FlowValidationHubService {
     private Map<String, FlowValidationFsm> fsms = new HashMap<>();
+    private Map<String, DumpCoalescingCarrier> carriers = new HashMap<>();
 
     private PersistenceManager persistenceManager;
     private FlowResourcesConfig flowResourcesConfig;
     private StateMachineBuilder<FlowValidationFsm, FlowValidationState, FlowValidationEvent, Object> builder;
+    private SwitchDumpCache dumpCache;
 
     public FlowValidationHubService(PersistenceManager persistenceManager, FlowResourcesConfig flowResourcesConfig) {
+        this(persistenceManager, flowResourcesConfig, 0);
+    }
+
+    public FlowValidationHubService(PersistenceManager persistenceManager, FlowResourcesConfig flowResourcesConfig,
+                                    long dumpCacheTtlMillis) {
+        this(persistenceManager, flowResourcesConfig, dumpCacheTtlMillis, Clock.systemUTC());
+    }
+
+    FlowValidationHubService(PersistenceManager persistenceManager, FlowResourcesConfig flowResourcesConfig,
+                             long dumpCacheTtlMillis, Clock clock) {
         this.persistenceManager = persistenceManager;
         this.flowResourcesConfig = flowResourcesConfig;
         this.builder = FlowValidationFsm.builder();
+        this.dumpCache = new SwitchDumpCache(dumpCacheTtlMillis, clock);
     }
 
     /**
@@ -60,59 +79,89 @@ public class FlowValidationHubService {
      */
     public void handleFlowValidationRequest(String key, FlowValidationRequest request,
                                             FlowValidationHubCarrier carrier) {
+        dumpCache.purge();
+
+        DumpCoalescingCarrier coalescingCarrier = new DumpCoalescingCarrier(carrier);
+        carriers.put(key, coalescingCarrier);
         FlowValidationFsm fsm =
-                builder.newStateMachine(FlowValidationState.INITIALIZED, carrier, key, request,
+                builder.newStateMachine(FlowValidationState.INITIALIZED, coalescingCarrier, key, request,
                         persistenceManager, flowResourcesConfig);
         process(fsm);
+
+        for (InfoData data : coalescingCarrier.pollCachedDumps()) {
+            dispatchDump(key, data);
+        }
     }
 
     /**
      * Handle response from speaker worker.
      */
     public void handleAsyncResponse(String key, Message message) {
-        FlowValidationFsm fsm = fsms.get(key);
-        if (fsm == null) {
-            logFsmNotFound(key);
-            return;
-        }
-
         if (message instanceof InfoMessage) {
             InfoData data = ((InfoMessage) message).getData();
-            if (data instanceof SwitchFlowEntries) {
-                fsm.fire(FlowValidationEvent.RULES_RECEIVED, data);
-            } else if (data instanceof SwitchMeterEntries) {
-                fsm.fire(FlowValidationEvent.METERS_RECEIVED, data);
-            } else if (data instanceof SwitchMeterUnsupported) {
+            if (data instanceof SwitchMeterUnsupported) {
                 SwitchMeterUnsupported meterUnsupported = (SwitchMeterUnsupported) data;
                 log.info("Key: {}; Meters unsupported for switch '{};", key, meterUnsupported.getSwitchId());
-                fsm.fire(FlowValidationEvent.METERS_RECEIVED, SwitchMeterEntries.builder()
+                data = SwitchMeterEntries.builder()
                         .switchId(meterUnsupported.getSwitchId())
                         .meterEntries(Collections.emptyList())
-                        .build());
+                        .build();
+            }
+
+            if (data instanceof SwitchFlowEntries || data instanceof SwitchMeterEntries) {
+                for (String waiterKey : dumpCache.complete(key, data)) {
+                    dispatchDump(waiterKey, data);
+                }
             } else {
                 log.warn("Key: {}; Unhandled message {}", key, message);
             }
         } else  if (message instanceof ErrorMessage) {
-            fsm.fire(FlowValidationEvent.ERROR, message);
+            // only the issuer is failed, dumps it has issued are reissued for the other waiting requests
+            dispatchError(key, (ErrorMessage) message);
         }
-
-        process(fsm);
     }
 
     /**
      * Handle timeout event.
      */
     public void handleTaskTimeout(String key) {
+        ErrorData errorData = new ErrorData(ErrorType.OPERATION_TIMED_OUT, "Flow validation failed by timeout",
+                "Error in FlowValidationHubService");
+        ErrorMessage errorMessage = new ErrorMessage(errorData, System.currentTimeMillis(), key);
+
+        FlowValidationFsm fsm = fsms.get(key);
+        if (fsm != null) {
+            fsm.fire(FlowValidationEvent.ERROR, errorMessage);
+            process(fsm);
+        } else {
+            releaseDumps(key);
+        }
+    }
+
+    private void dispatchDump(String key, InfoData data) {
         FlowValidationFsm fsm = fsms.get(key);
         if (fsm == null) {
+            logFsmNotFound(key);
             return;
         }
 
-        ErrorData errorData = new ErrorData(ErrorType.OPERATION_TIMED_OUT, "Flow validation failed by timeout",
-                "Error in FlowValidationHubService");
-        ErrorMessage errorMessage = new ErrorMessage(errorData, System.currentTimeMillis(), key);
-        fsm.fire(FlowValidationEvent.ERROR, errorMessage);
+        if (data instanceof SwitchFlowEntries) {
+            fsm.fire(FlowValidationEvent.RULES_RECEIVED, data);
+        } else {
+            fsm.fire(FlowValidationEvent.METERS_RECEIVED, data);
+        }
+        process(fsm);
+    }
+
+    private void dispatchError(String key, ErrorMessage message) {
+        FlowValidationFsm fsm = fsms.get(key);
+        if (fsm == null) {
+            logFsmNotFound(key);
+            releaseDumps(key);
+            return;
+        }
 
+        fsm.fire(FlowValidationEvent.ERROR, message);
         process(fsm);
     }
 
@@ -139,6 +188,93 @@ public class FlowValidationHubService {
 
         if (exitStates.contains(fsm.getCurrentState())) {
             fsms.remove(fsm.getKey());
+            releaseDumps(fsm.getKey());
+        }
+    }
+
+    /**
+     * Unsubscribe the finished request from the switch dumps and reissue the dumps it has issued on behalf of the
+     * requests still waiting for them.
+     */
+    private void releaseDumps(String key) {
+        carriers.remove(key);
+        for (Reissue entry : dumpCache.unsubscribe(key)) {
+            DumpCoalescingCarrier carrier = carriers.get(entry.getIssuerKey());
+            if (carrier == null) {
+                log.warn("Key: {}; Unable to reissue switch dump, no carrier found", entry.getIssuerKey());
+                continue;
+            }
+            log.debug("Key: {}; Reissue switch dump abandoned by {}", entry.getIssuerKey(), key);
+            carrier.target.sendCommandToSpeakerWorker(entry.getIssuerKey(), entry.getCommand());
+        }
+    }
+
+    /**
+     * Shares switch dumps between concurrent validations, see {@link SwitchDumpCache}.
+     */
+    private class DumpCoalescingCarrier implements FlowValidationHubCarrier {
+        private final FlowValidationHubCarrier target;
+        private final List<InfoData> cachedDumps = new ArrayList<>();
+
+        DumpCoalescingCarrier(FlowValidationHubCarrier target) {
+            this.target = target;
+        }
+
+        @Override
+        public void sendCommandToSpeakerWorker(String key, CommandData commandData) {
+            DumpKey dumpKey = DumpKey.of(commandData);
+            if (dumpKey == null) {
+                target.sendCommandToSpeakerWorker(key, commandData);
+                return;
+            }
+
+            Optional<InfoData> cached = dumpCache.lookup(dumpKey);
+            if (cached.isPresent()) {
+                log.debug("Key: {}; Reuse recent {} dump of switch {}",
+                        key, dumpKey.getKind(), dumpKey.getSwitchId());
+                cachedDumps.add(cached.get());
+            } else if (dumpCache.subscribe(dumpKey, key, commandData)) {
+                target.sendCommandToSpeakerWorker(key, commandData);
+            } else {
+                log.debug("Key: {}; Join in flight {} dump of switch {}",
+                        key, dumpKey.getKind(), dumpKey.getSwitchId());
+            }
+        }
+
+        List<InfoData> pollCachedDumps() {
+            List<InfoData> result = new ArrayList<>(cachedDumps);
+            cachedDumps.clear();
+            return result;
+        }
+
+        @Override
+        public void sendToResponseSplitterBolt(String key, List<? extends InfoData> message) {
+            target.sendToResponseSplitterBolt(key, message);
+        }
+
+        @Override
+        public void sendToMessageEncoder(String key, ErrorData errorData) {
+            target.sendToMessageEncoder(key, errorData);
+        }
+
+        @Override
+        public void endProcessing(String key) {
+            target.endProcessing(key);
+        }
+
+        @Override
+        public long getFlowMeterMinBurstSizeInKbits() {
+            return target.getFlowMeterMinBurstSizeInKbits();
+        }
+
+        @Override
+        public double getFlowMeterBurstCoefficient() {
+            return target.getFlowMeterBurstCoefficient();
+        }
+
+        @Override
+        public boolean isRulesCookieFilterEnabled() {
+            return target.isRulesCookieFilterEnabled();
         }
     }
 }
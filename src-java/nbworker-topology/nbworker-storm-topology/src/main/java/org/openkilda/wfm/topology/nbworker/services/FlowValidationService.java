@@ -26,6 +26,7 @@ import org.openkilda.model.FlowStatus;
 import org.openkilda.model.Meter;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
+import org.openkilda.model.cookie.FlowSegmentCookie;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.persistence.repositories.FlowRepository;
 import org.openkilda.persistence.repositories.SwitchRepository;
@@ -43,11 +44,13 @@ import lombok.extern.slf4j.Slf4j;
 import java.nio.file.InvalidPathException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -89,6 +92,23 @@ public class FlowValidationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get the flow effective id of the flow cookies if all flow paths share the same one.
+     */
+    public Optional<Long> getSharedFlowEffectiveId(String flowId) {
+        Set<Long> effectiveIds = flowRepository.findById(flowId)
+                .map(Flow::getPaths)
+                .orElse(Collections.emptyList()).stream()
+                .map(FlowPath::getCookie)
+                .filter(Objects::nonNull)
+                .map(FlowSegmentCookie::getFlowEffectiveId)
+                .collect(Collectors.toSet());
+        if (effectiveIds.size() != 1) {
+            return Optional.empty();
+        }
+        return Optional.of(effectiveIds.iterator().next());
+    }
+
     /**
      * Validate flow.
      */
@@ -0,0 +1,214 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.nbworker.services;
+
+import org.openkilda.messaging.command.CommandData;
+import org.openkilda.messaging.command.switches.DumpMetersForNbworkerRequest;
+import org.openkilda.messaging.command.switches.DumpRulesForNbworkerRequest;
+import org.openkilda.messaging.info.InfoData;
+import org.openkilda.messaging.info.meter.SwitchMeterEntries;
+import org.openkilda.messaging.info.rule.SwitchFlowEntries;
+import org.openkilda.model.SwitchId;
+
+import lombok.Data;
+import lombok.Value;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Coalesces switch rules/meters dumps requested by concurrent flow validations. While a dump of the switch is in
+ * flight, other validations touching the same switch join it instead of sending own requests. Completed dumps are
+ * reused for {@code ttlMillis} (zero disables the reuse, only in flight dumps are shared then).
+ *
+ * <p>A validation leaving the cache (finished, failed or timed out) is removed from all dumps it waits for. The dumps
+ * it has issued are handed over to one of the remaining waiters, which must reissue the request to the speaker.
+ */
+class SwitchDumpCache {
+    private final long ttlMillis;
+    private final Clock clock;
+
+    private final Map<DumpKey, InFlightDump> inFlight = new HashMap<>();
+    private final Map<DumpKey, CompletedDump> completed = new HashMap<>();
+
+    SwitchDumpCache(long ttlMillis, Clock clock) {
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Return the completed dump if it is still fresh.
+     */
+    Optional<InfoData> lookup(DumpKey dumpKey) {
+        CompletedDump entry = completed.get(dumpKey);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (isExpired(entry)) {
+            completed.remove(dumpKey);
+            return Optional.empty();
+        }
+        return Optional.of(entry.getData());
+    }
+
+    /**
+     * Subscribe the request to the dump. Returns true if there is no such dump in flight, so the caller must send
+     * the dump request to the speaker.
+     */
+    boolean subscribe(DumpKey dumpKey, String requestKey, CommandData command) {
+        InFlightDump dump = inFlight.get(dumpKey);
+        if (dump != null) {
+            dump.getWaiters().add(requestKey);
+            return false;
+        }
+
+        dump = new InFlightDump(command);
+        dump.setIssuerKey(requestKey);
+        dump.getWaiters().add(requestKey);
+        inFlight.put(dumpKey, dump);
+        return true;
+    }
+
+    /**
+     * Complete the dump issued by {@code issuerKey} and return all requests waiting for it. If there is no such dump
+     * in flight, only the issuer is returned.
+     */
+    Set<String> complete(String issuerKey, InfoData data) {
+        DumpKey dumpKey = findIssued(issuerKey, data);
+        if (dumpKey == null) {
+            return Collections.singleton(issuerKey);
+        }
+
+        InFlightDump dump = inFlight.remove(dumpKey);
+        if (0 < ttlMillis) {
+            completed.put(dumpKey, new CompletedDump(data, clock.millis()));
+        }
+        return dump.getWaiters();
+    }
+
+    /**
+     * Remove the request from all in flight dumps. Dumps issued by it are either dropped (no other waiters) or
+     * handed over to the next waiter, returned as the list of requests that must be sent to the speaker again.
+     */
+    List<Reissue> unsubscribe(String requestKey) {
+        List<Reissue> reissues = new ArrayList<>();
+        Iterator<InFlightDump> iter = inFlight.values().iterator();
+        while (iter.hasNext()) {
+            InFlightDump dump = iter.next();
+            dump.getWaiters().remove(requestKey);
+            if (!requestKey.equals(dump.getIssuerKey())) {
+                continue;
+            }
+
+            if (dump.getWaiters().isEmpty()) {
+                iter.remove();
+            } else {
+                String issuerKey = dump.getWaiters().iterator().next();
+                dump.setIssuerKey(issuerKey);
+                reissues.add(new Reissue(issuerKey, dump.getCommand()));
+            }
+        }
+        return reissues;
+    }
+
+    /**
+     * Evict expired completed dumps.
+     */
+    void purge() {
+        completed.values().removeIf(this::isExpired);
+    }
+
+    private DumpKey findIssued(String issuerKey, InfoData data) {
+        DumpKind kind;
+        SwitchId switchId;
+        if (data instanceof SwitchFlowEntries) {
+            kind = DumpKind.RULES;
+            switchId = ((SwitchFlowEntries) data).getSwitchId();
+        } else if (data instanceof SwitchMeterEntries) {
+            kind = DumpKind.METERS;
+            switchId = ((SwitchMeterEntries) data).getSwitchId();
+        } else {
+            return null;
+        }
+
+        for (Map.Entry<DumpKey, InFlightDump> entry : inFlight.entrySet()) {
+            DumpKey dumpKey = entry.getKey();
+            if (dumpKey.getKind() == kind && dumpKey.getSwitchId().equals(switchId)
+                    && issuerKey.equals(entry.getValue().getIssuerKey())) {
+                return dumpKey;
+            }
+        }
+        return null;
+    }
+
+    private boolean isExpired(CompletedDump entry) {
+        return entry.getCreatedAt() + ttlMillis <= clock.millis();
+    }
+
+    @Value
+    static class DumpKey {
+        DumpKind kind;
+        SwitchId switchId;
+        Long cookie;
+        Long cookieMask;
+
+        /**
+         * Make the key of the dump request, returns null for all other commands.
+         */
+        static DumpKey of(CommandData command) {
+            if (command instanceof DumpRulesForNbworkerRequest) {
+                DumpRulesForNbworkerRequest request = (DumpRulesForNbworkerRequest) command;
+                return new DumpKey(DumpKind.RULES, request.getSwitchId(), request.getCookie(), request.getCookieMask());
+            } else if (command instanceof DumpMetersForNbworkerRequest) {
+                DumpMetersForNbworkerRequest request = (DumpMetersForNbworkerRequest) command;
+                return new DumpKey(DumpKind.METERS, request.getSwitchId(), null, null);
+            }
+            return null;
+        }
+    }
+
+    enum DumpKind {
+        RULES,
+        METERS
+    }
+
+    @Value
+    static class Reissue {
+        String issuerKey;
+        CommandData command;
+    }
+
+    @Data
+    private static class InFlightDump {
+        private final CommandData command;
+        private final Set<String> waiters = new LinkedHashSet<>();
+        private String issuerKey;
+    }
+
+    @Value
+    private static class CompletedDump {
+        InfoData data;
+        long createdAt;
+    }
+}
@@ -0,0 +1,125 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.nbworker.bolts;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.config.provider.PropertiesBasedConfigurationProvider;
+import org.openkilda.messaging.info.InfoData;
+import org.openkilda.messaging.nbtopology.request.GetSwitchRequest;
+import org.openkilda.messaging.nbtopology.request.GetSwitchesRequest;
+import org.openkilda.messaging.nbtopology.response.GetSwitchResponse;
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
+import org.openkilda.persistence.NetworkConfig;
+import org.openkilda.persistence.PersistenceManager;
+import org.openkilda.persistence.inmemory.InMemoryGraphPersistenceManager;
+import org.openkilda.persistence.repositories.RepositoryFactory;
+import org.openkilda.persistence.repositories.SwitchRepository;
+
+import org.apache.storm.task.TopologyContext;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.List;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SwitchOperationsBoltTest {
+    private static final SwitchId PRIMARY_SWITCH_ID = new SwitchId("00:00:00:00:00:00:00:01");
+    private static final SwitchId REPLICA_SWITCH_ID = new SwitchId("00:00:00:00:00:00:00:02");
+
+    private static InMemoryGraphPersistenceManager persistenceManager;
+
+    @Mock
+    private TopologyContext topologyContext;
+
+    @Mock
+    private PersistenceManager replicaPersistenceManager;
+
+    @BeforeClass
+    public static void setupOnce() {
+        NetworkConfig networkConfig
+                = new PropertiesBasedConfigurationProvider().getConfiguration(NetworkConfig.class);
+        persistenceManager = new InMemoryGraphPersistenceManager(networkConfig);
+    }
+
+    @Before
+    public void setUp() {
+        persistenceManager.purgeData();
+        persistenceManager.getRepositoryFactory().createSwitchRepository()
+                .add(Switch.builder().switchId(PRIMARY_SWITCH_ID).build());
+
+        when(topologyContext.getThisTaskId()).thenReturn(1);
+    }
+
+    @Test
+    public void shouldServeSwitchesDumpFromReplica() {
+        SwitchRepository replicaSwitchRepository = mockReplicaSwitchRepository();
+        when(replicaSwitchRepository.findAll()).thenReturn(
+                Collections.singletonList(Switch.builder().switchId(REPLICA_SWITCH_ID).build()));
+
+        SwitchOperationsBolt bolt = new SwitchOperationsBolt(persistenceManager, replicaPersistenceManager);
+        bolt.prepare(null, topologyContext, null);
+
+        List<InfoData> response = bolt.processRequest(null, new GetSwitchesRequest());
+        assertEquals(1, response.size());
+        assertEquals(REPLICA_SWITCH_ID, ((GetSwitchResponse) response.get(0)).getPayload().getSwitchId());
+    }
+
+    @Test
+    public void shouldServeSingleSwitchReadFromPrimary() {
+        SwitchRepository replicaSwitchRepository = mockReplicaSwitchRepository();
+
+        SwitchOperationsBolt bolt = new SwitchOperationsBolt(persistenceManager, replicaPersistenceManager);
+        bolt.prepare(null, topologyContext, null);
+
+        List<InfoData> response = bolt.processRequest(null, new GetSwitchRequest(PRIMARY_SWITCH_ID));
+        assertEquals(1, response.size());
+        assertEquals(PRIMARY_SWITCH_ID, ((GetSwitchResponse) response.get(0)).getPayload().getSwitchId());
+        verify(replicaSwitchRepository, never()).findById(any());
+    }
+
+    @Test
+    public void shouldFallBackToPrimaryWhenReplicaIsUnavailable() {
+        when(replicaPersistenceManager.getRepositoryFactory())
+                .thenThrow(new IllegalStateException("replica is unavailable"));
+
+        SwitchOperationsBolt bolt = new SwitchOperationsBolt(persistenceManager, replicaPersistenceManager);
+        bolt.prepare(null, topologyContext, null);
+
+        List<InfoData> response = bolt.processRequest(null, new GetSwitchesRequest());
+        assertEquals(1, response.size());
+        assertEquals(PRIMARY_SWITCH_ID, ((GetSwitchResponse) response.get(0)).getPayload().getSwitchId());
+    }
+
+    private SwitchRepository mockReplicaSwitchRepository() {
+        SwitchRepository switchRepository = mock(SwitchRepository.class);
+        RepositoryFactory repositoryFactory = mock(RepositoryFactory.class);
+        when(repositoryFactory.createSwitchRepository()).thenReturn(switchRepository);
+        when(replicaPersistenceManager.getRepositoryFactory()).thenReturn(repositoryFactory);
+        return switchRepository;
+    }
+}
@@ -597,5 +597,10 @@ public class FlowOperationsServiceTest extends InMemoryGraphBasedTest {
         public void sendNorthboundResponse(InfoData data) {
 
         }
+
+        @Override
+        public void emitFlowChangedNotification(String flowId) {
+
+        }
     }
 }
@@ -36,7 +36,10 @@ import com.google.common.collect.Lists;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class FlowValidationHubServiceTest extends FlowValidationTestBase {
     private static final String TEST_KEY = "test_key";
@@ -103,6 +106,11 @@ public class FlowValidationHubServiceTest extends FlowValidationTestBase {
             public double getFlowMeterBurstCoefficient() {
                 return BURST_COEFFICIENT;
             }
+
+            @Override
+            public boolean isRulesCookieFilterEnabled() {
+                return false;
+            }
         }
 
         buildTransitVlanFlow("");
@@ -116,6 +124,204 @@ public class FlowValidationHubServiceTest extends FlowValidationTestBase {
                         System.currentTimeMillis(), TEST_KEY)));
     }
 
+    @Test
+    public void testConcurrentValidationsShareSwitchDumps() {
+        class FlowValidationHubCarrierImpl implements FlowValidationHubCarrier {
+            private final List<CommandData> commands = new ArrayList<>();
+            private final List<String> responses = new ArrayList<>();
+
+            @Override
+            public void sendCommandToSpeakerWorker(String key, CommandData commandData) {
+                assertEquals(TEST_KEY, key);
+                commands.add(commandData);
+            }
+
+            @Override
+            public void sendToResponseSplitterBolt(String key, List<? extends InfoData> message) {
+                assertEquals(4, message.size());
+                responses.add(key);
+            }
+
+            @Override
+            public void sendToMessageEncoder(String key, ErrorData errorData) {
+                fail();
+            }
+
+            @Override
+            public void endProcessing(String key) {
+            }
+
+            @Override
+            public long getFlowMeterMinBurstSizeInKbits() {
+                return MIN_BURST_SIZE_IN_KBITS;
+            }
+
+            @Override
+            public double getFlowMeterBurstCoefficient() {
+                return BURST_COEFFICIENT;
+            }
+
+            @Override
+            public boolean isRulesCookieFilterEnabled() {
+                return false;
+            }
+        }
+
+        String secondKey = TEST_KEY + "_second";
+        String thirdKey = TEST_KEY + "_third";
+        FlowValidationHubService service = new FlowValidationHubService(persistenceManager, flowResourcesConfig,
+                TimeUnit.MINUTES.toMillis(1));
+        FlowValidationHubCarrierImpl carrier = new FlowValidationHubCarrierImpl();
+
+        buildTransitVlanFlow("");
+        service.handleFlowValidationRequest(TEST_KEY, new FlowValidationRequest(TEST_FLOW_ID_A), carrier);
+        service.handleFlowValidationRequest(secondKey, new FlowValidationRequest(TEST_FLOW_ID_A), carrier);
+        assertEquals(8, carrier.commands.size());
+
+        getSwitchFlowEntriesWithTransitVlan().forEach(switchFlowEntries ->
+                service.handleAsyncResponse(TEST_KEY, new InfoMessage(switchFlowEntries,
+                        System.currentTimeMillis(), TEST_KEY)));
+        getSwitchMeterEntries().forEach(switchMeterEntries ->
+                service.handleAsyncResponse(TEST_KEY, new InfoMessage(switchMeterEntries,
+                        System.currentTimeMillis(), TEST_KEY)));
+        assertEquals(Lists.newArrayList(TEST_KEY, secondKey), carrier.responses);
+
+        // completed dumps are reused without requests to the speaker
+        service.handleFlowValidationRequest(thirdKey, new FlowValidationRequest(TEST_FLOW_ID_A), carrier);
+        assertEquals(8, carrier.commands.size());
+        assertEquals(Lists.newArrayList(TEST_KEY, secondKey, thirdKey), carrier.responses);
+    }
+
+    @Test
+    public void testDumpsOfTimedOutValidationAreReissuedForWaiters() {
+        class FlowValidationHubCarrierImpl implements FlowValidationHubCarrier {
+            private final List<String> commandKeys = new ArrayList<>();
+            private final List<String> responses = new ArrayList<>();
+            private final List<String> errors = new ArrayList<>();
+
+            @Override
+            public void sendCommandToSpeakerWorker(String key, CommandData commandData) {
+                commandKeys.add(key);
+            }
+
+            @Override
+            public void sendToResponseSplitterBolt(String key, List<? extends InfoData> message) {
+                responses.add(key);
+            }
+
+            @Override
+            public void sendToMessageEncoder(String key, ErrorData errorData) {
+                assertEquals(ErrorType.OPERATION_TIMED_OUT, errorData.getErrorType());
+                errors.add(key);
+            }
+
+            @Override
+            public void endProcessing(String key) {
+            }
+
+            @Override
+            public long getFlowMeterMinBurstSizeInKbits() {
+                return MIN_BURST_SIZE_IN_KBITS;
+            }
+
+            @Override
+            public double getFlowMeterBurstCoefficient() {
+                return BURST_COEFFICIENT;
+            }
+
+            @Override
+            public boolean isRulesCookieFilterEnabled() {
+                return false;
+            }
+        }
+
+        String secondKey = TEST_KEY + "_second";
+        FlowValidationHubService service = new FlowValidationHubService(persistenceManager, flowResourcesConfig);
+        FlowValidationHubCarrierImpl carrier = new FlowValidationHubCarrierImpl();
+
+        buildTransitVlanFlow("");
+        service.handleFlowValidationRequest(TEST_KEY, new FlowValidationRequest(TEST_FLOW_ID_A), carrier);
+        service.handleFlowValidationRequest(secondKey, new FlowValidationRequest(TEST_FLOW_ID_A), carrier);
+        assertEquals(Collections.nCopies(8, TEST_KEY), carrier.commandKeys);
+
+        // the issuer of all dumps times out, the second validation must not be failed with it
+        service.handleTaskTimeout(TEST_KEY);
+        assertEquals(Lists.newArrayList(TEST_KEY), carrier.errors);
+        assertEquals(Collections.nCopies(8, secondKey), carrier.commandKeys.subList(8, carrier.commandKeys.size()));
+
+        getSwitchFlowEntriesWithTransitVlan().forEach(switchFlowEntries ->
+                service.handleAsyncResponse(secondKey, new InfoMessage(switchFlowEntries,
+                        System.currentTimeMillis(), secondKey)));
+        getSwitchMeterEntries().forEach(switchMeterEntries ->
+                service.handleAsyncResponse(secondKey, new InfoMessage(switchMeterEntries,
+                        System.currentTimeMillis(), secondKey)));
+        assertEquals(Lists.newArrayList(secondKey), carrier.responses);
+    }
+
+    @Test
+    public void testTimedOutWaiterIsUnsubscribedFromDumps() {
+        class FlowValidationHubCarrierImpl implements FlowValidationHubCarrier {
+            private final List<String> commandKeys = new ArrayList<>();
+            private final List<String> responses = new ArrayList<>();
+            private final List<String> errors = new ArrayList<>();
+
+            @Override
+            public void sendCommandToSpeakerWorker(String key, CommandData commandData) {
+                commandKeys.add(key);
+            }
+
+            @Override
+            public void sendToResponseSplitterBolt(String key, List<? extends InfoData> message) {
+                responses.add(key);
+            }
+
+            @Override
+            public void sendToMessageEncoder(String key, ErrorData errorData) {
+                errors.add(key);
+            }
+
+            @Override
+            public void endProcessing(String key) {
+            }
+
+            @Override
+            public long getFlowMeterMinBurstSizeInKbits() {
+                return MIN_BURST_SIZE_IN_KBITS;
+            }
+
+            @Override
+            public double getFlowMeterBurstCoefficient() {
+                return BURST_COEFFICIENT;
+            }
+
+            @Override
+            public boolean isRulesCookieFilterEnabled() {
+                return false;
+            }
+        }
+
+        String secondKey = TEST_KEY + "_second";
+        FlowValidationHubService service = new FlowValidationHubService(persistenceManager, flowResourcesConfig);
+        FlowValidationHubCarrierImpl carrier = new FlowValidationHubCarrierImpl();
+
+        buildTransitVlanFlow("");
+        service.handleFlowValidationRequest(TEST_KEY, new FlowValidationRequest(TEST_FLOW_ID_A), carrier);
+        service.handleFlowValidationRequest(secondKey, new FlowValidationRequest(TEST_FLOW_ID_A), carrier);
+        service.handleTaskTimeout(secondKey);
+        assertEquals(Lists.newArrayList(secondKey), carrier.errors);
+
+        // the issuer keeps its dumps, nothing is reissued and the timed out waiter gets nothing
+        getSwitchFlowEntriesWithTransitVlan().forEach(switchFlowEntries ->
+                service.handleAsyncResponse(TEST_KEY, new InfoMessage(switchFlowEntries,
+                        System.currentTimeMillis(), TEST_KEY)));
+        getSwitchMeterEntries().forEach(switchMeterEntries ->
+                service.handleAsyncResponse(TEST_KEY, new InfoMessage(switchMeterEntries,
+                        System.currentTimeMillis(), TEST_KEY)));
+        assertEquals(Collections.nCopies(8, TEST_KEY), carrier.commandKeys);
+        assertEquals(Lists.newArrayList(TEST_KEY), carrier.responses);
+        assertEquals(Lists.newArrayList(secondKey), carrier.errors);
+    }
+
     @Test
     public void testTimeout() {
         class FlowValidationHubCarrierImpl implements FlowValidationHubCarrier {
@@ -160,6 +366,11 @@ public class FlowValidationHubServiceTest extends FlowValidationTestBase {
             public double getFlowMeterBurstCoefficient() {
                 return BURST_COEFFICIENT;
             }
+
+            @Override
+            public boolean isRulesCookieFilterEnabled() {
+                return false;
+            }
         }
 
         buildTransitVlanFlow("");
@@ -212,6 +423,11 @@ public class FlowValidationHubServiceTest extends FlowValidationTestBase {
             public double getFlowMeterBurstCoefficient() {
                 return BURST_COEFFICIENT;
             }
+
+            @Override
+            public boolean isRulesCookieFilterEnabled() {
+                return false;
+            }
         }
 
         buildTransitVlanFlow("");
@@ -17,6 +17,12 @@ package org.openkilda.wfm.topology.network;
 
 import org.openkilda.config.KafkaTopicsConfig;
 import org.openkilda.messaging.Message;
+import org.openkilda.messaging.info.discovery.DiscoPacketSendingConfirmation;
+import org.openkilda.messaging.info.event.IslChangeType;
+import org.openkilda.messaging.info.event.IslInfoData;
+import org.openkilda.messaging.info.event.PathNode;
+import org.openkilda.messaging.model.NetworkEndpoint;
+import org.openkilda.model.IslDownReason;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.persistence.spi.PersistenceProvider;
 import org.openkilda.wfm.LaunchEnvironment;
@@ -25,7 +31,10 @@ import org.openkilda.wfm.share.hubandspoke.CoordinatorBolt;
 import org.openkilda.wfm.share.hubandspoke.CoordinatorSpout;
 import org.openkilda.wfm.share.hubandspoke.WorkerBolt;
 import org.openkilda.wfm.topology.AbstractTopology;
+import org.openkilda.wfm.topology.network.model.IslDataHolder;
+import org.openkilda.wfm.topology.network.model.LinkStatus;
 import org.openkilda.wfm.topology.network.model.NetworkOptions;
+import org.openkilda.wfm.topology.network.model.RoundTripStatus;
 import org.openkilda.wfm.topology.network.storm.ComponentId;
 import org.openkilda.wfm.topology.network.storm.bolt.GrpcEncoder;
 import org.openkilda.wfm.topology.network.storm.bolt.GrpcRouter;
@@ -40,7 +49,14 @@ import org.openkilda.wfm.topology.network.storm.bolt.bfd.worker.BfdWorker;
 import org.openkilda.wfm.topology.network.storm.bolt.decisionmaker.DecisionMakerHandler;
 import org.openkilda.wfm.topology.network.storm.bolt.history.HistoryHandler;
 import org.openkilda.wfm.topology.network.storm.bolt.isl.IslHandler;
+import org.openkilda.wfm.topology.network.storm.bolt.isl.command.IslDownCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.isl.command.IslRoundTripStatusCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.isl.command.IslUpCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.port.PortHandler;
+import org.openkilda.wfm.topology.network.storm.bolt.port.command.PortDiscoveryCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.port.command.PortFailCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.port.command.PortLinkStatusCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.port.command.PortRoundTripStatusCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.speaker.SpeakerRouter;
 import org.openkilda.wfm.topology.network.storm.bolt.speaker.SpeakerRulesRouter;
 import org.openkilda.wfm.topology.network.storm.bolt.speaker.SpeakerRulesWorker;
@@ -48,20 +64,55 @@ import org.openkilda.wfm.topology.network.storm.bolt.sw.SwitchHandler;
 import org.openkilda.wfm.topology.network.storm.bolt.swmanager.SwitchManagerRouter;
 import org.openkilda.wfm.topology.network.storm.bolt.swmanager.SwitchManagerWorker;
 import org.openkilda.wfm.topology.network.storm.bolt.uniisl.UniIslHandler;
+import org.openkilda.wfm.topology.network.storm.bolt.uniisl.command.UniIslDiscoveryCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.uniisl.command.UniIslFailCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.uniisl.command.UniIslRoundTripStatusCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.watcher.WatcherHandler;
+import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherSpeakerDiscoveryCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherSpeakerRoundTripDiscovery;
+import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherSpeakerSendConfirmationCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.watchlist.WatchListHandler;
 import org.openkilda.wfm.topology.network.storm.spout.NetworkHistory;
 import org.openkilda.wfm.topology.utils.MessageKafkaTranslator;
 
+import com.google.common.collect.ImmutableList;
 import org.apache.storm.generated.StormTopology;
 import org.apache.storm.kafka.bolt.KafkaBolt;
 import org.apache.storm.kafka.spout.KafkaSpout;
 import org.apache.storm.topology.TopologyBuilder;
 import org.apache.storm.tuple.Fields;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 public class NetworkTopology extends AbstractTopology<NetworkTopologyConfig> {
+    /**
+     * Commands of the discovery pipeline, they make the bulk of the inter-worker traffic of this topology.
+     */
+    public static final List<Class<?>> TUPLE_SERIALIZATION_TYPES = ImmutableList.of(
+            WatcherSpeakerDiscoveryCommand.class,
+            WatcherSpeakerRoundTripDiscovery.class,
+            WatcherSpeakerSendConfirmationCommand.class,
+            UniIslDiscoveryCommand.class,
+            UniIslFailCommand.class,
+            UniIslRoundTripStatusCommand.class,
+            IslUpCommand.class,
+            IslDownCommand.class,
+            IslRoundTripStatusCommand.class,
+            PortDiscoveryCommand.class,
+            PortFailCommand.class,
+            PortRoundTripStatusCommand.class,
+            PortLinkStatusCommand.class,
+            // nested types of the commands
+            IslDataHolder.class,
+            RoundTripStatus.class,
+            LinkStatus.class,
+            IslDownReason.class,
+            IslInfoData.class,
+            IslChangeType.class,
+            PathNode.class,
+            DiscoPacketSendingConfirmation.class,
+            NetworkEndpoint.class);
     private final PersistenceManager persistenceManager;
     private final NetworkOptions options;
     private final KafkaTopicsConfig kafkaTopics;
@@ -123,6 +174,11 @@ public class NetworkTopology extends AbstractTopology<NetworkTopologyConfig> {
         return topology.createTopology();
     }
 
+    @Override
+    protected List<Class<?>> getTupleSerializationTypes() {
+        return TUPLE_SERIALIZATION_TYPES;
+    }
+
     private void coordinator(TopologyBuilder topology) {
         topology.setSpout(CoordinatorSpout.ID, new CoordinatorSpout(), 1);
 
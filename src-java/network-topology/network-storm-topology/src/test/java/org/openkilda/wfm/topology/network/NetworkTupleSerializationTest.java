@@ -0,0 +1,154 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.network;
+
+import static org.mockito.Mockito.verify;
+
+import org.openkilda.messaging.info.discovery.DiscoPacketSendingConfirmation;
+import org.openkilda.messaging.info.event.IslInfoData;
+import org.openkilda.messaging.info.event.PathNode;
+import org.openkilda.messaging.model.NetworkEndpoint;
+import org.openkilda.model.IslDownReason;
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.share.model.Endpoint;
+import org.openkilda.wfm.share.model.IslReference;
+import org.openkilda.wfm.topology.network.model.IslDataHolder;
+import org.openkilda.wfm.topology.network.model.LinkStatus;
+import org.openkilda.wfm.topology.network.model.RoundTripStatus;
+import org.openkilda.wfm.topology.network.storm.bolt.isl.IslHandler;
+import org.openkilda.wfm.topology.network.storm.bolt.isl.command.IslCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.isl.command.IslDownCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.isl.command.IslRoundTripStatusCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.isl.command.IslUpCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.port.PortHandler;
+import org.openkilda.wfm.topology.network.storm.bolt.port.command.PortCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.port.command.PortLinkStatusCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.port.command.PortRoundTripStatusCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.uniisl.UniIslHandler;
+import org.openkilda.wfm.topology.network.storm.bolt.uniisl.command.UniIslCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.uniisl.command.UniIslDiscoveryCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.watcher.WatcherHandler;
+import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherSpeakerSendConfirmationCommand;
+import org.openkilda.wfm.topology.utils.TupleSerializationChecker;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Instant;
+
+/**
+ * Commands of the discovery pipeline must pass the strictly configured topology kryo and keep their payload, i.e.
+ * everything reachable from them is listed in {@link NetworkTopology#TUPLE_SERIALIZATION_TYPES}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class NetworkTupleSerializationTest {
+    private static final Endpoint ENDPOINT_ALPHA = Endpoint.of(new SwitchId(1), 1);
+    private static final Endpoint ENDPOINT_BETA = Endpoint.of(new SwitchId(2), 2);
+    private static final IslReference ISL_REFERENCE = new IslReference(ENDPOINT_ALPHA, ENDPOINT_BETA);
+
+    private final TupleSerializationChecker checker = new TupleSerializationChecker(
+            NetworkTopology.TUPLE_SERIALIZATION_TYPES);
+
+    @Mock
+    private IslHandler islHandler;
+
+    @Mock
+    private PortHandler portHandler;
+
+    @Mock
+    private UniIslHandler uniIslHandler;
+
+    @Mock
+    private WatcherHandler watcherHandler;
+
+    @Test
+    public void islUpCommand() {
+        IslDataHolder islData = new IslDataHolder(1000, 1000, 900);
+        apply(new IslUpCommand(ENDPOINT_ALPHA, ISL_REFERENCE, islData));
+        verify(islHandler).processIslUp(ENDPOINT_ALPHA, ISL_REFERENCE, islData);
+    }
+
+    @Test
+    public void islDownCommand() {
+        apply(new IslDownCommand(ENDPOINT_ALPHA, ISL_REFERENCE, IslDownReason.POLL_TIMEOUT));
+        verify(islHandler).processIslDown(ENDPOINT_ALPHA, ISL_REFERENCE, IslDownReason.POLL_TIMEOUT);
+    }
+
+    @Test
+    public void islRoundTripStatusCommand() {
+        RoundTripStatus status = makeRoundTripStatus();
+        apply(new IslRoundTripStatusCommand(ISL_REFERENCE, status));
+        verify(islHandler).processRoundTripStatus(ISL_REFERENCE, status);
+    }
+
+    @Test
+    public void portLinkStatusCommand() {
+        apply(new PortLinkStatusCommand(ENDPOINT_ALPHA, LinkStatus.DOWN));
+        verify(portHandler).processUpdateLinkStatus(ENDPOINT_ALPHA, LinkStatus.DOWN);
+    }
+
+    @Test
+    public void portRoundTripStatusCommand() {
+        RoundTripStatus status = makeRoundTripStatus();
+        apply(new PortRoundTripStatusCommand(status));
+        verify(portHandler).processRoundTripStatus(status);
+    }
+
+    @Test
+    public void uniIslDiscoveryCommand() {
+        IslInfoData discoveryEvent = IslInfoData.builder()
+                .source(new PathNode(ENDPOINT_ALPHA.getDatapath(), ENDPOINT_ALPHA.getPortNumber(), 0))
+                .destination(new PathNode(ENDPOINT_BETA.getDatapath(), ENDPOINT_BETA.getPortNumber(), 1))
+                .latency(10)
+                .speed(1000)
+                .packetId(1L)
+                .build();
+        apply(new UniIslDiscoveryCommand(ENDPOINT_ALPHA, discoveryEvent));
+        verify(uniIslHandler).processUniIslDiscovery(ENDPOINT_ALPHA, discoveryEvent);
+    }
+
+    @Test
+    public void watcherSpeakerSendConfirmationCommand() {
+        DiscoPacketSendingConfirmation confirmation = new DiscoPacketSendingConfirmation(
+                new NetworkEndpoint(ENDPOINT_ALPHA.getDatapath(), ENDPOINT_ALPHA.getPortNumber()), 7L);
+        apply(new WatcherSpeakerSendConfirmationCommand(confirmation));
+        verify(watcherHandler).processConfirmation(ENDPOINT_ALPHA, 7L);
+    }
+
+    private void apply(IslCommand command) {
+        checker.roundTrip(command).apply(islHandler);
+    }
+
+    private void apply(PortCommand command) {
+        checker.roundTrip(command).apply(portHandler);
+    }
+
+    private void apply(UniIslCommand command) {
+        checker.roundTrip(command).apply(uniIslHandler);
+    }
+
+    private void apply(WatcherCommand command) {
+        checker.roundTrip(command).apply(watcherHandler);
+    }
+
+    private RoundTripStatus makeRoundTripStatus() {
+        Instant now = Instant.now();
+        return new RoundTripStatus(ENDPOINT_ALPHA, now.minusSeconds(1), now);
+    }
+}
@@ -17,6 +17,7 @@ package org.openkilda.northbound.config;
 
 import org.openkilda.messaging.Message;
 import org.openkilda.northbound.messaging.MessagingChannel;
+import org.openkilda.northbound.messaging.kafka.FlowChangeNotificationListener;
 import org.openkilda.northbound.messaging.kafka.KafkaMessageListener;
 import org.openkilda.northbound.messaging.kafka.KafkaMessagingChannel;
 
@@ -35,6 +36,7 @@ import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * The Kafka message consumer configuration.
@@ -72,6 +74,12 @@ public class MessageConsumerConfig {
     @Value("${northbound.kafka.session.timeout}")
     private int kafkaSessionTimeout;
 
+    /**
+     * Whether the northbound flow cache is used, flow change notifications are consumed only if so.
+     */
+    @Value("${northbound.flow.cache.enabled:false}")
+    private boolean flowCacheEnabled;
+
     /**
      * Kafka consumer configuration bean. This {@link Map} is used by {@link MessageConsumerConfig#consumerFactory}.
      *
@@ -118,6 +126,38 @@ public class MessageConsumerConfig {
         return factory;
     }
 
+    /**
+     * Kafka listener container factory bean for flow change notifications. Each northbound instance has own flow
+     * cache, so each one must receive all notifications - the consumer group is unique per instance and only new
+     * notifications are read.
+     *
+     * @return kafka listener container factory
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Message> flowChangeListenerContainerFactory(
+            ObjectMapper objectMapper) {
+        Map<String, Object> configs = ImmutableMap.<String, Object>builder()
+                .put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaHosts)
+                .put(ConsumerConfig.GROUP_ID_CONFIG, String.format("%s-flow-cache-%s", groupId, UUID.randomUUID()))
+                .put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true)
+                .put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest")
+                .put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, kafkaSessionTimeout)
+                .build();
+
+        ConcurrentKafkaListenerContainerFactory<String, Message> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(configs,
+                new StringDeserializer(), new JsonDeserializer<>(Message.class, objectMapper)));
+        factory.getContainerProperties().setPollTimeout(POLL_TIMEOUT);
+        factory.setAutoStartup(flowCacheEnabled);
+        return factory;
+    }
+
+    @Bean
+    public FlowChangeNotificationListener flowChangeNotificationListener() {
+        return new FlowChangeNotificationListener();
+    }
+
     @Bean
     public KafkaMessageListener kafkaMessageListener() {
         return new KafkaMessageListener();
@@ -23,6 +23,7 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 
+import java.util.Locale;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -46,4 +47,11 @@ public class BaseController {
             throw new MessageException(ErrorType.DATA_INVALID, "Invalid request payload", errorDescription);
         }
     }
+
+    /**
+     * Whether the client asked to skip cached data with the "Cache-Control: no-cache" request header.
+     */
+    protected boolean isCacheBypassRequested(String cacheControl) {
+        return cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains("no-cache");
+    }
 }
@@ -55,6 +55,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -108,8 +109,10 @@ public class FlowController extends BaseController {
     @ApiOperation(value = "Gets flow", response = FlowResponsePayload.class)
     @GetMapping(value = "/{flow-id:.+}")
     @ResponseStatus(HttpStatus.OK)
-    public CompletableFuture<FlowResponsePayload> getFlow(@PathVariable(name = "flow-id") String flowId) {
-        return flowService.getFlow(flowId);
+    public CompletableFuture<FlowResponsePayload> getFlow(
+            @PathVariable(name = "flow-id") String flowId,
+            @RequestHeader(value = HttpHeaders.CACHE_CONTROL, required = false) String cacheControl) {
+        return flowService.getFlow(flowId, isCacheBypassRequested(cacheControl));
     }
 
     /**
@@ -18,6 +18,8 @@ package org.openkilda.northbound.controller.v2;
 import org.openkilda.messaging.Utils;
 import org.openkilda.messaging.payload.flow.FlowIdStatusPayload;
 import org.openkilda.northbound.controller.BaseController;
+import org.openkilda.northbound.dto.v2.flows.FlowBatchRequestV2;
+import org.openkilda.northbound.dto.v2.flows.FlowBatchResponseV2;
 import org.openkilda.northbound.dto.v2.flows.FlowEndpointV2;
 import org.openkilda.northbound.dto.v2.flows.FlowPatchV2;
 import org.openkilda.northbound.dto.v2.flows.FlowRequestV2;
@@ -29,6 +31,7 @@ import org.openkilda.northbound.service.FlowService;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -37,6 +40,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -100,8 +104,10 @@ public class FlowControllerV2 extends BaseController {
     @ApiOperation(value = "Gets flow", response = FlowResponseV2.class)
     @GetMapping(value = "/{flow_id:.+}")
     @ResponseStatus(HttpStatus.OK)
-    public CompletableFuture<FlowResponseV2> getFlow(@PathVariable(name = "flow_id") String flowId) {
-        return flowService.getFlowV2(flowId);
+    public CompletableFuture<FlowResponseV2> getFlow(
+            @PathVariable(name = "flow_id") String flowId,
+            @RequestHeader(value = HttpHeaders.CACHE_CONTROL, required = false) String cacheControl) {
+        return flowService.getFlowV2(flowId, isCacheBypassRequested(cacheControl));
     }
 
     /**
@@ -158,6 +164,22 @@ public class FlowControllerV2 extends BaseController {
         return flowService.patchFlow(flowId, flowPatchDto);
     }
 
+    /**
+     * Executes a batch of flow operations.
+     *
+     * @param batch flows to create, update and delete
+     * @return per flow results of the batch
+     */
+    @ApiOperation(value = "Executes a batch of flow create/update/delete operations",
+            response = FlowBatchResponseV2.class)
+    @PostMapping(value = "/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<FlowBatchResponseV2> submitFlowBatch(@RequestBody FlowBatchRequestV2 batch) {
+        Stream.concat(batch.getCreate().stream(), batch.getUpdate().stream())
+                .forEach(this::verifyRequest);
+        return flowService.submitFlowBatch(batch);
+    }
+
     private void verifyRequest(FlowRequestV2 request) {
         exposeBodyValidationResults(Stream.concat(
                 verifyFlowEndpoint(request.getSource(), "source"),
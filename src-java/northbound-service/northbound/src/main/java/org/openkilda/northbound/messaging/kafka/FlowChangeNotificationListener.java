@@ -0,0 +1,55 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.messaging.kafka;
+
+import org.openkilda.messaging.Message;
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.flow.FlowChangedNotification;
+import org.openkilda.northbound.service.impl.FlowCache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+
+/**
+ * Drops flows changed by flowhs or nbworker from the northbound flow cache.
+ */
+public class FlowChangeNotificationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlowChangeNotificationListener.class);
+
+    @Autowired
+    private FlowCache flowCache;
+
+    /**
+     * Handles flow change notifications.
+     *
+     * @param message received message.
+     */
+    @KafkaListener(topics = "#{kafkaTopicsConfig.getFlowChangeNotifyTopic()}",
+            containerFactory = "flowChangeListenerContainerFactory")
+    public void onMessage(Message message) {
+        if (message instanceof InfoMessage
+                && ((InfoMessage) message).getData() instanceof FlowChangedNotification) {
+            String flowId = ((FlowChangedNotification) ((InfoMessage) message).getData()).getFlowId();
+            logger.debug("Flow {} was changed, drop it from the flow cache", flowId);
+            flowCache.invalidate(flowId);
+        } else {
+            logger.warn("Unexpected message in the flow change notify topic: {}", message);
+        }
+    }
+}
@@ -29,6 +29,8 @@ import org.openkilda.northbound.dto.v1.flows.FlowPatchDto;
 import org.openkilda.northbound.dto.v1.flows.FlowValidationDto;
 import org.openkilda.northbound.dto.v1.flows.PingInput;
 import org.openkilda.northbound.dto.v1.flows.PingOutput;
+import org.openkilda.northbound.dto.v2.flows.FlowBatchRequestV2;
+import org.openkilda.northbound.dto.v2.flows.FlowBatchResponseV2;
 import org.openkilda.northbound.dto.v2.flows.FlowPatchV2;
 import org.openkilda.northbound.dto.v2.flows.FlowRequestV2;
 import org.openkilda.northbound.dto.v2.flows.FlowRerouteResponseV2;
@@ -113,17 +115,19 @@ public interface FlowService {
      * Gets flow by id.
      *
      * @param id flow id
+     * @param bypassCache skip the flow cache and read the flow from the database
      * @return flow
      */
-    CompletableFuture<FlowResponsePayload> getFlow(final String id);
+    CompletableFuture<FlowResponsePayload> getFlow(final String id, boolean bypassCache);
 
     /**
      * Gets flow by id.
      *
      * @param id flow id
+     * @param bypassCache skip the flow cache and read the flow from the database
      * @return flow
      */
-    CompletableFuture<FlowResponseV2> getFlowV2(final String id);
+    CompletableFuture<FlowResponseV2> getFlowV2(final String id, boolean bypassCache);
 
     /**
      * Gets all the flows.
@@ -252,4 +256,13 @@ public interface FlowService {
      * @return the list devices connected to flow.
      */
     CompletableFuture<FlowConnectedDevicesResponse> getFlowConnectedDevices(String flowId, Instant since);
+
+    /**
+     * Executes a batch of flow create/update/delete operations. Returned future is completed when all operations are
+     * finished.
+     *
+     * @param batch operations to execute.
+     * @return per flow results of the batch.
+     */
+    CompletableFuture<FlowBatchResponseV2> submitFlowBatch(FlowBatchRequestV2 batch);
 }
@@ -0,0 +1,184 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.service.impl;
+
+import org.openkilda.messaging.error.MessageException;
+import org.openkilda.northbound.dto.v2.flows.FlowBatchItemResultV2;
+import org.openkilda.northbound.dto.v2.flows.FlowBatchResponseV2;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Set of flow operations submitted with one northbound request. Operations are sent to flowhs in a pipeline - no
+ * more than {@code maxInFlight} operations wait for flowhs response at the same time. The batch lives only as long as
+ * the northbound request, its report is returned once all operations are finished.
+ */
+class FlowBatch {
+    static final String STATUS_PENDING = "PENDING";
+    static final String STATUS_SUCCESS = "SUCCESS";
+    static final String STATUS_FAILED = "FAILED";
+
+    @Getter
+    private final String batchId;
+    private final int maxInFlight;
+    private final List<Entry> entries = new ArrayList<>();
+
+    private int cursor = 0;
+    private int inFlight = 0;
+    private int completed = 0;
+    private boolean pumping = false;
+
+    private final CompletableFuture<FlowBatchResponseV2> completion = new CompletableFuture<>();
+
+    FlowBatch(String batchId, int maxInFlight) {
+        this.batchId = batchId;
+        this.maxInFlight = maxInFlight;
+    }
+
+    void add(String flowId, String operation, Function<String, CompletableFuture<?>> action, String correlationId) {
+        entries.add(new Entry(flowId, operation, action, correlationId));
+    }
+
+    /**
+     * Start sending operations, returned future is completed with the batch report once all operations are finished.
+     */
+    CompletableFuture<FlowBatchResponseV2> start() {
+        if (entries.isEmpty()) {
+            completion.complete(makeReport());
+        }
+        pump();
+        return completion;
+    }
+
+    synchronized FlowBatchResponseV2 makeReport() {
+        List<FlowBatchItemResultV2> results = new ArrayList<>(entries.size());
+        int succeeded = 0;
+        int failed = 0;
+        for (Entry entry : entries) {
+            if (STATUS_SUCCESS.equals(entry.status)) {
+                succeeded += 1;
+            } else if (STATUS_FAILED.equals(entry.status)) {
+                failed += 1;
+            }
+            results.add(FlowBatchItemResultV2.builder()
+                    .flowId(entry.flowId)
+                    .operation(entry.operation)
+                    .status(entry.status)
+                    .error(entry.error)
+                    .build());
+        }
+
+        return FlowBatchResponseV2.builder()
+                .batchId(batchId)
+                .total(entries.size())
+                .pending(entries.size() - succeeded - failed)
+                .succeeded(succeeded)
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Send operations while there are free slots in the pipeline. Responses received synchronously (i.e. request
+     * failed before it was sent) do not re-enter this method, they are picked by the loop of the current call.
+     */
+    private void pump() {
+        synchronized (this) {
+            if (pumping) {
+                return;
+            }
+            pumping = true;
+        }
+
+        while (true) {
+            Entry entry;
+            synchronized (this) {
+                if (maxInFlight <= inFlight || entries.size() <= cursor) {
+                    pumping = false;
+                    return;
+                }
+                inFlight += 1;
+                entry = entries.get(cursor++);
+            }
+            launch(entry);
+        }
+    }
+
+    private void launch(Entry entry) {
+        CompletableFuture<?> response;
+        try {
+            response = entry.action.apply(entry.correlationId);
+        } catch (Exception e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        response.whenComplete((result, error) -> handleResponse(entry, error));
+    }
+
+    private void handleResponse(Entry entry, Throwable error) {
+        boolean finished;
+        synchronized (this) {
+            if (error == null) {
+                entry.status = STATUS_SUCCESS;
+            } else {
+                entry.status = STATUS_FAILED;
+                entry.error = formatError(error);
+            }
+            inFlight -= 1;
+            completed += 1;
+            finished = completed == entries.size();
+        }
+        if (finished) {
+            completion.complete(makeReport());
+        } else {
+            pump();
+        }
+    }
+
+    private static String formatError(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof MessageException) {
+            MessageException messageError = (MessageException) error;
+            return String.format("%s: %s", messageError.getErrorType(), messageError.getErrorMessage());
+        }
+        return error.getMessage();
+    }
+
+    private static class Entry {
+        final String flowId;
+        final String operation;
+        final Function<String, CompletableFuture<?>> action;
+        final String correlationId;
+
+        String status = STATUS_PENDING;
+        String error;
+
+        Entry(String flowId, String operation, Function<String, CompletableFuture<?>> action, String correlationId) {
+            this.flowId = flowId;
+            this.operation = operation;
+            this.action = action;
+            this.correlationId = correlationId;
+        }
+    }
+}
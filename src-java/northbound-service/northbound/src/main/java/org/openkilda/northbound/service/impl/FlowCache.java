@@ -0,0 +1,208 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.service.impl;
+
+import org.openkilda.messaging.model.FlowDto;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * Read-through cache of flows returned by the get flow API. Entries are dropped on flow change notifications sent by
+ * flowhs and nbworker, {@code ttlSeconds} limits the staleness if a notification is lost.
+ */
+@Component
+public class FlowCache {
+    private static final Logger logger = LoggerFactory.getLogger(FlowCache.class);
+
+    @Value("${northbound.flow.cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${northbound.flow.cache.max.size:10000}")
+    private long maxSize;
+
+    @Value("${northbound.flow.cache.ttl.seconds:30}")
+    private long ttlSeconds;
+
+    /**
+     * How often the cache stats are logged, zero disables the logging.
+     */
+    @Value("${northbound.flow.cache.stats.interval.seconds:60}")
+    private long statsIntervalSeconds;
+
+    private Cache<String, FlowDto> cache;
+
+    /**
+     * Flows being read at the moment. A response is not cached if the flow was invalidated while it was being read,
+     * otherwise a read racing with the flow change could put the old flow state back into the cache.
+     */
+    private final Map<String, PendingLoad> pendingLoads = new HashMap<>();
+
+    /**
+     * Invalidations count, reported with the cache stats.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private ScheduledExecutorService statsReporter;
+    private CacheStats lastStats = new CacheStats(0, 0, 0, 0, 0, 0);
+    private long lastInvalidations;
+
+    public FlowCache() {
+    }
+
+    @VisibleForTesting
+    FlowCache(boolean enabled, long maxSize, long ttlSeconds) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttlSeconds = ttlSeconds;
+        init();
+    }
+
+    /**
+     * Build the cache and start the stats reporting.
+     */
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+
+        if (0 < statsIntervalSeconds) {
+            statsReporter = Executors.newSingleThreadScheduledExecutor();
+            statsReporter.scheduleAtFixedRate(
+                    this::reportStats, statsIntervalSeconds, statsIntervalSeconds, TimeUnit.SECONDS);
+        }
+        logger.info("Flow cache is enabled (max size {}, ttl {} seconds)", maxSize, ttlSeconds);
+    }
+
+    /**
+     * Stop the stats reporting.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (statsReporter != null) {
+            statsReporter.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Return the cached flow or read it with {@code loader} and cache the result. The cache is skipped if it is
+     * disabled or {@code bypass} is set, the loaded flow is cached anyway then.
+     */
+    public CompletableFuture<FlowDto> get(String flowId, boolean bypass, Supplier<CompletableFuture<FlowDto>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        if (!bypass) {
+            FlowDto flow = cache.getIfPresent(flowId);
+            if (flow != null) {
+                return CompletableFuture.completedFuture(flow);
+            }
+        }
+
+        long generation = startLoad(flowId);
+        CompletableFuture<FlowDto> result;
+        try {
+            result = loader.get();
+        } catch (RuntimeException e) {
+            finishLoad(flowId, generation, null);
+            throw e;
+        }
+        return result.whenComplete((flow, error) -> finishLoad(flowId, generation, flow));
+    }
+
+    /**
+     * Drop the cached flow.
+     */
+    public void invalidate(String flowId) {
+        if (!enabled) {
+            return;
+        }
+
+        invalidations.incrementAndGet();
+        synchronized (pendingLoads) {
+            PendingLoad load = pendingLoads.get(flowId);
+            if (load != null) {
+                load.generation++;
+            }
+            cache.invalidate(flowId);
+        }
+    }
+
+    private long startLoad(String flowId) {
+        synchronized (pendingLoads) {
+            PendingLoad load = pendingLoads.computeIfAbsent(flowId, key -> new PendingLoad());
+            load.count++;
+            return load.generation;
+        }
+    }
+
+    private void finishLoad(String flowId, long generation, FlowDto flow) {
+        synchronized (pendingLoads) {
+            PendingLoad load = pendingLoads.get(flowId);
+            if (flow != null && load.generation == generation) {
+                cache.put(flowId, flow);
+            }
+            if (--load.count == 0) {
+                pendingLoads.remove(flowId);
+            }
+        }
+    }
+
+    private synchronized void reportStats() {
+        CacheStats stats = cache.stats();
+        CacheStats delta = stats.minus(lastStats);
+        long invalidationsCount = invalidations.get();
+        logger.info("Flow cache stats: size {}, hits {}, misses {}, hit rate {}, invalidations {}, evictions {}",
+                cache.size(), delta.hitCount(), delta.missCount(), String.format("%.2f", delta.hitRate()),
+                invalidationsCount - lastInvalidations, delta.evictionCount());
+        lastStats = stats;
+        lastInvalidations = invalidationsCount;
+    }
+
+    private static class PendingLoad {
+        private int count;
+        private long generation;
+    }
+}
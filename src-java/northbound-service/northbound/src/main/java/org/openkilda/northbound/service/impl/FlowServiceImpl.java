@@ -35,6 +35,7 @@ import org.openkilda.messaging.info.flow.FlowRerouteResponse;
 import org.openkilda.messaging.info.flow.FlowResponse;
 import org.openkilda.messaging.info.flow.SwapFlowResponse;
 import org.openkilda.messaging.info.meter.FlowMeterEntries;
+import org.openkilda.messaging.model.FlowDto;
 import org.openkilda.messaging.model.FlowPatch;
 import org.openkilda.messaging.model.FlowPathDto;
 import org.openkilda.messaging.model.FlowPathDto.FlowProtectedPathDto;
@@ -68,6 +69,8 @@ import org.openkilda.northbound.dto.v1.flows.FlowPatchDto;
 import org.openkilda.northbound.dto.v1.flows.FlowValidationDto;
 import org.openkilda.northbound.dto.v1.flows.PingInput;
 import org.openkilda.northbound.dto.v1.flows.PingOutput;
+import org.openkilda.northbound.dto.v2.flows.FlowBatchRequestV2;
+import org.openkilda.northbound.dto.v2.flows.FlowBatchResponseV2;
 import org.openkilda.northbound.dto.v2.flows.FlowPatchV2;
 import org.openkilda.northbound.dto.v2.flows.FlowRequestV2;
 import org.openkilda.northbound.dto.v2.flows.FlowRerouteResponseV2;
@@ -86,10 +89,13 @@ import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Manages operations with flows.
@@ -140,6 +146,21 @@ public class FlowServiceImpl implements FlowService {
     @Autowired
     private CorrelationIdFactory idFactory;
 
+    @Autowired
+    private FlowCache flowCache;
+
+    /**
+     * Max number of operations of one flow batch waiting for flowhs response at the same time.
+     */
+    @Value("${northbound.flow.batch.max.in.flight:32}")
+    private int flowBatchMaxInFlight;
+
+    /**
+     * Max number of operations in one flow batch.
+     */
+    @Value("${northbound.flow.batch.max.size:1000}")
+    private int flowBatchMaxSize;
+
     /**
      * {@inheritDoc}
      */
@@ -169,9 +190,12 @@ public class FlowServiceImpl implements FlowService {
 
     @Override
     public CompletableFuture<FlowResponseV2> createFlow(FlowRequestV2 request) {
+        return sendCreateFlow(request, RequestCorrelationId.getId());
+    }
+
+    private CompletableFuture<FlowResponseV2> sendCreateFlow(FlowRequestV2 request, String correlationId) {
         logger.info("Processing flow creation: {}", request);
 
-        final String correlationId = RequestCorrelationId.getId();
         FlowRequest flowRequest;
 
         try {
@@ -195,11 +219,10 @@ public class FlowServiceImpl implements FlowService {
      * {@inheritDoc}
      */
     @Override
-    public CompletableFuture<FlowResponsePayload> getFlow(final String id) {
+    public CompletableFuture<FlowResponsePayload> getFlow(final String id, boolean bypassCache) {
         logger.debug("Get flow request for flow {}", id);
 
-        return getFlowResponse(id, RequestCorrelationId.getId())
-                .thenApply(FlowResponse::getPayload)
+        return getCachedFlow(id, bypassCache)
                 .thenApply(flowMapper::toFlowResponseOutput);
     }
 
@@ -207,18 +230,19 @@ public class FlowServiceImpl implements FlowService {
      * {@inheritDoc}
      */
     @Override
-    public CompletableFuture<FlowResponseV2> getFlowV2(final String id) {
+    public CompletableFuture<FlowResponseV2> getFlowV2(final String id, boolean bypassCache) {
         logger.debug("Get flow request for flow {}", id);
-        FlowReadRequest data =
-                new FlowReadRequest(id);
-        CommandMessage request = new CommandMessage(data, System.currentTimeMillis(),
-                RequestCorrelationId.getId(), Destination.WFM);
-        return messagingChannel.sendAndGet(nbworkerTopic, request)
-                .thenApply(FlowResponse.class::cast)
-                .thenApply(FlowResponse::getPayload)
+
+        return getCachedFlow(id, bypassCache)
                 .thenApply(flowMapper::toFlowResponseV2);
     }
 
+    private CompletableFuture<FlowDto> getCachedFlow(String flowId, boolean bypassCache) {
+        String correlationId = RequestCorrelationId.getId();
+        return flowCache.get(flowId, bypassCache, () -> getFlowResponse(flowId, correlationId)
+                .thenApply(FlowResponse::getPayload));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -248,9 +272,12 @@ public class FlowServiceImpl implements FlowService {
 
     @Override
     public CompletableFuture<FlowResponseV2> updateFlow(FlowRequestV2 request) {
+        return sendUpdateFlow(request, RequestCorrelationId.getId());
+    }
+
+    private CompletableFuture<FlowResponseV2> sendUpdateFlow(FlowRequestV2 request, String correlationId) {
         logger.info("Processing flow update: {}", request);
 
-        final String correlationId = RequestCorrelationId.getId();
         FlowRequest updateRequest;
 
         try {
@@ -408,10 +435,14 @@ public class FlowServiceImpl implements FlowService {
      */
     @Override
     public CompletableFuture<FlowResponseV2> deleteFlowV2(String flowId) {
+        return sendDeleteFlowV2(flowId, RequestCorrelationId.getId());
+    }
+
+    private CompletableFuture<FlowResponseV2> sendDeleteFlowV2(String flowId, String correlationId) {
         logger.info("Delete flow request for flow: {}", flowId);
 
         CommandMessage command = new CommandMessage(new FlowDeleteRequest(flowId),
-                System.currentTimeMillis(), RequestCorrelationId.getId(), Destination.WFM);
+                System.currentTimeMillis(), correlationId, Destination.WFM);
 
         return messagingChannel.sendAndGet(flowHsTopic, command)
                 .thenApply(FlowResponse.class::cast)
@@ -699,4 +730,46 @@ public class FlowServiceImpl implements FlowService {
                 .thenApply(org.openkilda.messaging.nbtopology.response.FlowConnectedDevicesResponse.class::cast)
                 .thenApply(connectedDeviceMapper::toResponse);
     }
+
+    @Override
+    public CompletableFuture<FlowBatchResponseV2> submitFlowBatch(FlowBatchRequestV2 request) {
+        final String correlationId = RequestCorrelationId.getId();
+        Set<String> flowIds = new HashSet<>();
+        Stream.concat(
+                Stream.concat(request.getCreate().stream(), request.getUpdate().stream()).map(FlowRequestV2::getFlowId),
+                request.getDelete().stream())
+                .filter(flowId -> !flowIds.add(flowId))
+                .findAny()
+                .ifPresent(flowId -> {
+                    throw new MessageException(correlationId, System.currentTimeMillis(), ErrorType.DATA_INVALID,
+                            format("Flow %s is mentioned more than once", flowId),
+                            "Each flow can be used only once in a batch");
+                });
+        if (flowIds.isEmpty()) {
+            throw new MessageException(correlationId, System.currentTimeMillis(), ErrorType.DATA_INVALID,
+                    "Batch is empty", "At least one flow operation is required");
+        }
+        if (flowBatchMaxSize < flowIds.size()) {
+            throw new MessageException(correlationId, System.currentTimeMillis(), ErrorType.DATA_INVALID,
+                    format("Batch has %d operations", flowIds.size()),
+                    format("No more than %d operations are allowed in a batch", flowBatchMaxSize));
+        }
+
+        FlowBatch batch = new FlowBatch(correlationId, flowBatchMaxInFlight);
+        logger.info("Submit flow batch {} with {} operations", batch.getBatchId(), flowIds.size());
+        for (FlowRequestV2 entry : request.getCreate()) {
+            batch.add(entry.getFlowId(), "create", chainedId -> sendCreateFlow(entry, chainedId),
+                    idFactory.produceChained(correlationId));
+        }
+        for (FlowRequestV2 entry : request.getUpdate()) {
+            batch.add(entry.getFlowId(), "update", chainedId -> sendUpdateFlow(entry, chainedId),
+                    idFactory.produceChained(correlationId));
+        }
+        for (String flowId : request.getDelete()) {
+            batch.add(flowId, "delete", chainedId -> sendDeleteFlowV2(flowId, chainedId),
+                    idFactory.produceChained(correlationId));
+        }
+
+        return batch.start();
+    }
 }
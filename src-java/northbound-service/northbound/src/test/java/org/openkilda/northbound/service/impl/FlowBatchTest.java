@@ -0,0 +1,94 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.messaging.error.ErrorType;
+import org.openkilda.messaging.error.MessageException;
+import org.openkilda.northbound.dto.v2.flows.FlowBatchResponseV2;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class FlowBatchTest {
+    @Test
+    public void shouldLimitOperationsInFlight() {
+        List<CompletableFuture<Object>> requests = new ArrayList<>();
+        FlowBatch batch = new FlowBatch("batch", 2);
+        for (int i = 0; i < 5; i++) {
+            batch.add("flow-" + i, "create", correlationId -> {
+                CompletableFuture<Object> request = new CompletableFuture<>();
+                requests.add(request);
+                return request;
+            }, "correlation-" + i);
+        }
+
+        CompletableFuture<FlowBatchResponseV2> completion = batch.start();
+        assertEquals(2, requests.size());
+
+        requests.get(0).complete(new Object());
+        assertEquals(3, requests.size());
+
+        requests.get(1).completeExceptionally(new MessageException(ErrorType.ALREADY_EXISTS, "exists", "exists"));
+        requests.get(2).complete(new Object());
+        assertEquals(5, requests.size());
+
+        FlowBatchResponseV2 report = batch.makeReport();
+        assertEquals(5, report.getTotal());
+        assertEquals(2, report.getPending());
+        assertEquals(2, report.getSucceeded());
+        assertEquals(1, report.getFailed());
+        assertEquals(FlowBatch.STATUS_FAILED, report.getResults().get(1).getStatus());
+        assertFalse(completion.isDone());
+
+        requests.get(3).complete(new Object());
+        requests.get(4).complete(new Object());
+        assertTrue(completion.isDone());
+        assertEquals(0, completion.join().getPending());
+        assertEquals(4, completion.join().getSucceeded());
+    }
+
+    @Test
+    public void shouldHandleSynchronousFailures() {
+        FlowBatch batch = new FlowBatch("batch", 1);
+        for (int i = 0; i < 10000; i++) {
+            batch.add("flow-" + i, "delete", correlationId -> {
+                throw new IllegalArgumentException("invalid request");
+            }, "correlation-" + i);
+        }
+
+        CompletableFuture<FlowBatchResponseV2> completion = batch.start();
+
+        assertTrue(completion.isDone());
+        FlowBatchResponseV2 report = completion.join();
+        assertEquals(10000, report.getFailed());
+        assertEquals("invalid request", report.getResults().get(0).getError());
+    }
+
+    @Test
+    public void shouldCompleteEmptyBatch() {
+        CompletableFuture<FlowBatchResponseV2> completion = new FlowBatch("batch", 1).start();
+
+        assertTrue(completion.isDone());
+        assertEquals(0, completion.join().getTotal());
+    }
+}
@@ -0,0 +1,139 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package org.openkilda.northbound.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.openkilda.messaging.model.FlowDto;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class FlowCacheTest {
+    private static final String FLOW_ID = "test-flow";
+
+    @Test
+    public void shouldServeCachedFlow() {
+        FlowCache cache = new FlowCache(true, 10, 60);
+        CountingLoader loader = new CountingLoader();
+
+        FlowDto first = cache.get(FLOW_ID, false, loader).join();
+        FlowDto second = cache.get(FLOW_ID, false, loader).join();
+
+        assertSame(first, second);
+        assertEquals(1, loader.calls.get());
+    }
+
+    @Test
+    public void shouldReloadInvalidatedFlow() {
+        FlowCache cache = new FlowCache(true, 10, 60);
+        CountingLoader loader = new CountingLoader();
+
+        cache.get(FLOW_ID, false, loader).join();
+        cache.invalidate(FLOW_ID);
+        cache.get(FLOW_ID, false, loader).join();
+
+        assertEquals(2, loader.calls.get());
+    }
+
+    @Test
+    public void shouldSkipCacheOnBypass() {
+        FlowCache cache = new FlowCache(true, 10, 60);
+        CountingLoader loader = new CountingLoader();
+
+        cache.get(FLOW_ID, false, loader).join();
+        cache.get(FLOW_ID, true, loader).join();
+
+        assertEquals(2, loader.calls.get());
+    }
+
+    @Test
+    public void shouldNotCacheFlowReadDuringInvalidation() {
+        FlowCache cache = new FlowCache(true, 10, 60);
+        CompletableFuture<FlowDto> pending = new CompletableFuture<>();
+
+        CompletableFuture<FlowDto> response = cache.get(FLOW_ID, false, () -> pending);
+        cache.invalidate(FLOW_ID);
+        pending.complete(new FlowDto());
+        response.join();
+
+        CountingLoader loader = new CountingLoader();
+        cache.get(FLOW_ID, false, loader).join();
+        assertEquals(1, loader.calls.get());
+    }
+
+    @Test
+    public void shouldCacheFlowReadDuringInvalidationOfAnotherFlow() {
+        FlowCache cache = new FlowCache(true, 10, 60);
+        CompletableFuture<FlowDto> pending = new CompletableFuture<>();
+
+        CompletableFuture<FlowDto> response = cache.get(FLOW_ID, false, () -> pending);
+        cache.invalidate("another-flow");
+        pending.complete(new FlowDto());
+        response.join();
+
+        CountingLoader loader = new CountingLoader();
+        cache.get(FLOW_ID, false, loader).join();
+        assertEquals(0, loader.calls.get());
+    }
+
+    @Test
+    public void shouldCacheFlowReadStartedAfterInvalidation() {
+        FlowCache cache = new FlowCache(true, 10, 60);
+        CompletableFuture<FlowDto> stale = new CompletableFuture<>();
+        CompletableFuture<FlowDto> fresh = new CompletableFuture<>();
+
+        CompletableFuture<FlowDto> staleResponse = cache.get(FLOW_ID, false, () -> stale);
+        cache.invalidate(FLOW_ID);
+        CompletableFuture<FlowDto> freshResponse = cache.get(FLOW_ID, false, () -> fresh);
+        FlowDto freshFlow = new FlowDto();
+        fresh.complete(freshFlow);
+        stale.complete(new FlowDto());
+        staleResponse.join();
+        freshResponse.join();
+
+        CountingLoader loader = new CountingLoader();
+        assertSame(freshFlow, cache.get(FLOW_ID, false, loader).join());
+        assertEquals(0, loader.calls.get());
+    }
+
+    @Test
+    public void shouldAlwaysLoadWhenDisabled() {
+        FlowCache cache = new FlowCache(false, 10, 60);
+        CountingLoader loader = new CountingLoader();
+
+        cache.get(FLOW_ID, false, loader).join();
+        cache.get(FLOW_ID, false, loader).join();
+        cache.invalidate(FLOW_ID);
+
+        assertEquals(2, loader.calls.get());
+    }
+
+    private static class CountingLoader implements Supplier<CompletableFuture<FlowDto>> {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public CompletableFuture<FlowDto> get() {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(new FlowDto());
+        }
+    }
+}
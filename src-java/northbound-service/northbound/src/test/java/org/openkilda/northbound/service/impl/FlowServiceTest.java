@@ -131,6 +131,11 @@ public class FlowServiceTest {
             return mock(RestTemplate.class);
         }
 
+        @Bean
+        public FlowCache flowCache() {
+            return new FlowCache();
+        }
+
         @Bean
         public FlowServiceImpl flowService() {
             return new FlowServiceImpl();
@@ -49,6 +49,8 @@ import org.apache.storm.kafka.spout.KafkaSpout;
 import org.apache.storm.topology.TopologyBuilder;
 import org.apache.storm.tuple.Fields;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 public class PingTopology extends AbstractTopology<PingTopologyConfig> {
@@ -110,8 +112,9 @@ public class PingTopology extends AbstractTopology<PingTopologyConfig> {
     }
 
     private void input(TopologyBuilder topology) {
-        KafkaSpout<String, Message> spout = buildKafkaSpout(
-                topologyConfig.getKafkaPingTopic(), ComponentId.INPUT.toString());
+        List<String> topics = Arrays.asList(
+                topologyConfig.getKafkaPingTopic(), topologyConfig.getKafkaFlowChangeNotifyTopic());
+        KafkaSpout<String, Message> spout = buildKafkaSpout(topics, ComponentId.INPUT.toString());
         topology.setSpout(ComponentId.INPUT.toString(), spout, scaleFactor);
     }
 
@@ -127,12 +130,15 @@ public class PingTopology extends AbstractTopology<PingTopologyConfig> {
         FlowResourcesConfig flowResourcesConfig = configurationProvider.getConfiguration(FlowResourcesConfig.class);
 
         FlowFetcher bolt = new FlowFetcher(persistenceManager, flowResourcesConfig,
-                topologyConfig.getPeriodicPingCacheExpirationInterval());
+                topologyConfig.getPeriodicPingCacheExpirationInterval(), topologyConfig.getPingInterval(),
+                topologyConfig.getScheduleSwitchLimit());
         topology.setBolt(FlowFetcher.BOLT_ID, bolt, scaleFactor)
                 // NOTE(tdurakov): global grouping is responsible for proper handling parallelism of 2
-                .globalGrouping(TickDeduplicator.BOLT_ID, TickDeduplicator.STREAM_PING_ID)
+                // periodic pings are spread over the ping interval, so the fetcher needs each (1 second) tick
+                .globalGrouping(TickDeduplicator.BOLT_ID)
                 .shuffleGrouping(InputRouter.BOLT_ID, InputRouter.STREAM_ON_DEMAND_REQUEST_ID)
-                .allGrouping(InputRouter.BOLT_ID, InputRouter.STREAM_PERIODIC_PING_UPDATE_REQUEST_ID);
+                .allGrouping(InputRouter.BOLT_ID, InputRouter.STREAM_PERIODIC_PING_UPDATE_REQUEST_ID)
+                .allGrouping(InputRouter.BOLT_ID, InputRouter.STREAM_FLOW_CHANGE_ID);
     }
 
     private void periodicPingShaping(TopologyBuilder topology) {
@@ -204,9 +210,13 @@ public class PingTopology extends AbstractTopology<PingTopologyConfig> {
     }
 
     private void statsProducer(TopologyBuilder topology) {
-        StatsProducer bolt = new StatsProducer(topologyConfig.getMetricPrefix());
+        StatsProducer bolt = new StatsProducer(
+                topologyConfig.getMetricPrefix(), topologyConfig.getLatencyHistogramInterval());
+
+        Fields groupBy = new Fields(PeriodicResultManager.FIELD_ID_FLOW_ID);
         topology.setBolt(StatsProducer.BOLT_ID, bolt, scaleFactor)
-                .shuffleGrouping(PeriodicResultManager.BOLT_ID, PeriodicResultManager.STREAM_STATS_ID);
+                .allGrouping(TickDeduplicator.BOLT_ID)
+                .fieldsGrouping(PeriodicResultManager.BOLT_ID, PeriodicResultManager.STREAM_STATS_ID, groupBy);
     }
 
     private void failReporter(TopologyBuilder topology) {
@@ -19,6 +19,7 @@ import org.openkilda.wfm.topology.AbstractTopologyConfig;
 
 import com.sabre.oss.conf4j.annotation.Configuration;
 import com.sabre.oss.conf4j.annotation.Default;
+import com.sabre.oss.conf4j.annotation.Description;
 import com.sabre.oss.conf4j.annotation.IgnoreKey;
 import com.sabre.oss.conf4j.annotation.Key;
 
@@ -43,6 +44,10 @@ public interface PingTopologyConfig extends AbstractTopologyConfig {
         return getPingConfig().getPeriodicPingCacheExpirySec();
     }
 
+    default int getScheduleSwitchLimit() {
+        return getPingConfig().getScheduleSwitchLimit();
+    }
+
     default int getFailDelay() {
         return getPingConfig().getFailDelay();
     }
@@ -51,6 +56,10 @@ public interface PingTopologyConfig extends AbstractTopologyConfig {
         return getPingConfig().getFailReset();
     }
 
+    default int getLatencyHistogramInterval() {
+        return getPingConfig().getLatencyHistogramInterval();
+    }
+
     default String getKafkaPingTopic() {
         return getKafkaTopics().getPingTopic();
     }
@@ -63,6 +72,10 @@ public interface PingTopologyConfig extends AbstractTopologyConfig {
         return getKafkaTopics().getNorthboundTopic();
     }
 
+    default String getKafkaFlowChangeNotifyTopic() {
+        return getKafkaTopics().getFlowChangeNotifyTopic();
+    }
+
     default String getKafkaFlowStatusTopic() {
         return getKafkaTopics().getFlowStatusTopic();
     }
@@ -99,7 +112,19 @@ public interface PingTopologyConfig extends AbstractTopologyConfig {
         int getFailReset();
 
         @Key("cache.expiry.sec")
-        @Default("60")
+        @Default("600")
+        @Description("How often (in seconds) the periodic ping cache is fully reloaded, between reloads it is updated "
+                + "by flow change notifications")
         long getPeriodicPingCacheExpirySec();
+
+        @Key("schedule.switch.limit")
+        @Default("0")
+        @Description("Max number of periodic pings sent through one switch per second, 0 disables the limit")
+        int getScheduleSwitchLimit();
+
+        @Key("latency.histogram.interval")
+        @Default("60")
+        @Description("How often (in seconds) flow latency percentiles are reported, 0 disables the reporting")
+        int getLatencyHistogramInterval();
     }
 }
@@ -18,6 +18,7 @@ package org.openkilda.wfm.topology.ping.bolt;
 import org.openkilda.messaging.Utils;
 import org.openkilda.messaging.command.flow.FlowPingRequest;
 import org.openkilda.messaging.command.flow.PeriodicPingCommand;
+import org.openkilda.messaging.info.flow.FlowChangedNotification;
 import org.openkilda.messaging.info.flow.FlowPingResponse;
 import org.openkilda.model.Flow;
 import org.openkilda.model.FlowTransitEncapsulation;
@@ -28,6 +29,7 @@ import org.openkilda.wfm.CommandContext;
 import org.openkilda.wfm.error.PipelineException;
 import org.openkilda.wfm.share.flow.resources.FlowResourcesConfig;
 import org.openkilda.wfm.share.flow.resources.FlowResourcesManager;
+import org.openkilda.wfm.topology.ping.model.PeriodicPingSchedule;
 import org.openkilda.wfm.topology.ping.model.PingContext;
 import org.openkilda.wfm.topology.ping.model.PingContext.Kinds;
 
@@ -35,13 +37,17 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -62,19 +68,36 @@ public class FlowFetcher extends Abstract {
             FIELD_ID_ON_DEMAND_RESPONSE, FIELD_ID_CONTEXT);
     public static final String STREAM_ON_DEMAND_RESPONSE_ID = "on_demand_response";
 
+    public static final String SCHEDULE_METRIC_NAME = "periodic-ping-schedule";
+    public static final int SCHEDULE_METRIC_BUCKET_SIZE_SECONDS = 60;
+
     private final PersistenceManager persistenceManager;
     private final FlowResourcesConfig flowResourcesConfig;
     private transient FlowResourcesManager flowResourcesManager;
     private transient FlowRepository flowRepository;
-    private Set<FlowWithTransitEncapsulation> flowsSet;
+    private transient PeriodicPingSchedule<FlowWithTransitEncapsulation> schedule;
     private long periodicPingCacheExpiryInterval;
     private long lastPeriodicPingCacheRefresh;
+    private final int pingInterval;
+    private final int scheduleSwitchLimit;
+
+    // only the task receiving ticks (global grouping) produces periodic pings
+    private transient boolean tickReceiver;
+    private transient long emittedPings;
 
     public FlowFetcher(PersistenceManager persistenceManager, FlowResourcesConfig flowResourcesConfig,
-                       long periodicPingCacheExpiryInterval) {
+                       long periodicPingCacheExpiryInterval, int pingInterval, int scheduleSwitchLimit) {
         this.persistenceManager = persistenceManager;
         this.flowResourcesConfig = flowResourcesConfig;
         this.periodicPingCacheExpiryInterval = TimeUnit.SECONDS.toMillis(periodicPingCacheExpiryInterval);
+        this.pingInterval = Math.max(pingInterval, 1);
+        this.scheduleSwitchLimit = scheduleSwitchLimit;
+    }
+
+    @Override
+    public void prepare(Map stormConf, TopologyContext context, OutputCollector collector) {
+        super.prepare(stormConf, context, collector);
+        context.registerMetric(SCHEDULE_METRIC_NAME, this::collectScheduleStats, SCHEDULE_METRIC_BUCKET_SIZE_SECONDS);
     }
 
     @Override
@@ -89,6 +112,8 @@ public class FlowFetcher extends Abstract {
                 handleOnDemandRequest(input);
             } else if (InputRouter.STREAM_PERIODIC_PING_UPDATE_REQUEST_ID.equals(sourceStream)) {
                 updatePeriodicPingHeap(input);
+            } else if (InputRouter.STREAM_FLOW_CHANGE_ID.equals(sourceStream)) {
+                handleFlowChange(input);
             }
         } else {
             unhandledInput(input);
@@ -98,39 +123,65 @@ public class FlowFetcher extends Abstract {
     private void updatePeriodicPingHeap(Tuple input) throws PipelineException {
         PeriodicPingCommand periodicPingCommand = pullPeriodicPingRequest(input);
         if (periodicPingCommand.isEnable()) {
-            flowRepository.findById(periodicPingCommand.getFlowId())
-                    .flatMap(this::getFlowWithTransitEncapsulation)
-                    .map(v -> new FlowWithTransitEncapsulation(new Flow(v.flow), v.transitEncapsulation))
-                    .ifPresent(flowsSet::add);
+            loadFlow(periodicPingCommand.getFlowId())
+                    .ifPresent(this::schedule);
+        } else {
+            schedule.remove(periodicPingCommand.getFlowId());
+        }
+    }
+
+    private void handleFlowChange(Tuple input) throws PipelineException {
+        String flowId = pullFlowChangedNotification(input).getFlowId();
+        log.debug("Reload periodic ping cache entry of the flow {}", flowId);
+
+        Optional<FlowWithTransitEncapsulation> actual = loadFlow(flowId)
+                .filter(entry -> entry.getFlow().isPeriodicPings());
+        FlowWithTransitEncapsulation replaced;
+        if (actual.isPresent()) {
+            replaced = schedule(actual.get());
         } else {
-            flowsSet.removeIf(flowWithTransitEncapsulation ->
-                    flowWithTransitEncapsulation.getFlow().getFlowId().equals(periodicPingCommand.getFlowId()));
+            replaced = schedule.remove(flowId);
+        }
+
+        if (tickReceiver && replaced != null && !actual.map(replaced::equals).orElse(false)) {
+            emitCacheExpire(input, pullContext(input), replaced.getFlow());
         }
     }
 
     private void refreshHeap(Tuple input, boolean emitCacheExpiry) throws PipelineException {
         log.debug("Handle periodic ping request");
-        Set<FlowWithTransitEncapsulation> flowsWithTransitEncapsulation =
+        Map<String, FlowWithTransitEncapsulation> flowsWithTransitEncapsulation =
                 flowRepository.findWithPeriodicPingsEnabled().stream()
                         .map(this::getFlowWithTransitEncapsulation)
                         .flatMap(o -> o.isPresent() ? Stream.of(o.get()) : Stream.empty())
-                        .collect(Collectors.toSet());
-        if (emitCacheExpiry) {
-            final CommandContext commandContext = pullContext(input);
-            emitCacheExpire(input, commandContext, flowsWithTransitEncapsulation);
+                        .collect(Collectors.toMap(entry -> entry.getFlow().getFlowId(), entry -> entry,
+                                (first, second) -> first));
+
+        CommandContext commandContext = emitCacheExpiry ? pullContext(input) : null;
+        for (FlowWithTransitEncapsulation current : schedule.getAll()) {
+            String flowId = current.getFlow().getFlowId();
+            FlowWithTransitEncapsulation actual = flowsWithTransitEncapsulation.get(flowId);
+            if (actual == null) {
+                schedule.remove(flowId);
+            }
+            if (emitCacheExpiry && !current.equals(actual)) {
+                emitCacheExpire(input, commandContext, current.getFlow());
+            }
         }
-        flowsSet = flowsWithTransitEncapsulation;
+        flowsWithTransitEncapsulation.values().forEach(this::schedule);
         lastPeriodicPingCacheRefresh = System.currentTimeMillis();
     }
 
     private void handlePeriodicRequest(Tuple input) throws PipelineException {
         log.debug("Handle periodic ping request");
+        tickReceiver = true;
 
         if (lastPeriodicPingCacheRefresh + periodicPingCacheExpiryInterval < System.currentTimeMillis()) {
             refreshHeap(input, true);
         }
         final CommandContext commandContext = pullContext(input);
-        for (FlowWithTransitEncapsulation flow : flowsSet) {
+        List<FlowWithTransitEncapsulation> batch = schedule.next();
+        for (FlowWithTransitEncapsulation flow : batch) {
             PingContext pingContext = PingContext.builder()
                     .kind(Kinds.PERIODIC)
                     .flow(flow.getFlow())
@@ -138,7 +189,36 @@ public class FlowFetcher extends Abstract {
                     .build();
             emit(input, pingContext, commandContext);
         }
+        emittedPings += batch.size();
+    }
+
+    private FlowWithTransitEncapsulation schedule(FlowWithTransitEncapsulation entry) {
+        Flow flow = entry.getFlow();
+        return schedule.put(
+                flow.getFlowId(), Arrays.asList(flow.getSrcSwitchId(), flow.getDestSwitchId()), entry);
+    }
+
+    private Optional<FlowWithTransitEncapsulation> loadFlow(String flowId) {
+        return flowRepository.findById(flowId)
+                .flatMap(this::getFlowWithTransitEncapsulation)
+                .map(v -> new FlowWithTransitEncapsulation(new Flow(v.flow), v.transitEncapsulation));
+    }
+
+    /**
+     * Scheduled (target) vs emitted (achieved) periodic pings during the metric bucket.
+     */
+    private Object collectScheduleStats() {
+        if (!tickReceiver) {
+            return null;
+        }
 
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("flows", (long) schedule.size());
+        stats.put("target", (long) schedule.size() * SCHEDULE_METRIC_BUCKET_SIZE_SECONDS / pingInterval);
+        stats.put("achieved", emittedPings);
+        stats.put("postponed", (long) schedule.getPostponedCount());
+        emittedPings = 0;
+        return stats;
     }
 
     private void handleOnDemandRequest(Tuple input) throws PipelineException {
@@ -203,13 +283,9 @@ public class FlowFetcher extends Abstract {
         getOutput().emit(STREAM_ON_DEMAND_RESPONSE_ID, input, output);
     }
 
-    private void emitCacheExpire(Tuple input, CommandContext commandContext, Set<FlowWithTransitEncapsulation> flows) {
-        OutputCollector collector = getOutput();
-        flowsSet.removeAll(flows);
-        for (FlowWithTransitEncapsulation flow : flowsSet) {
-            Values output = new Values(flow.getFlow(), commandContext);
-            collector.emit(STREAM_EXPIRE_CACHE_ID, input, output);
-        }
+    private void emitCacheExpire(Tuple input, CommandContext commandContext, Flow flow) {
+        Values output = new Values(flow, commandContext);
+        getOutput().emit(STREAM_EXPIRE_CACHE_ID, input, output);
     }
 
     private FlowPingRequest pullOnDemandRequest(Tuple input) throws PipelineException {
@@ -220,6 +296,10 @@ public class FlowFetcher extends Abstract {
         return pullValue(input, InputRouter.FIELD_ID_PING_REQUEST, PeriodicPingCommand.class);
     }
 
+    private FlowChangedNotification pullFlowChangedNotification(Tuple input) throws PipelineException {
+        return pullValue(input, InputRouter.FIELD_ID_PING_REQUEST, FlowChangedNotification.class);
+    }
+
     @Override
     public void declareOutputFields(OutputFieldsDeclarer outputManager) {
         outputManager.declare(STREAM_FIELDS);
@@ -232,6 +312,7 @@ public class FlowFetcher extends Abstract {
     public void init() {
         flowRepository = persistenceManager.getRepositoryFactory().createFlowRepository();
         flowResourcesManager = new FlowResourcesManager(persistenceManager, flowResourcesConfig);
+        schedule = new PeriodicPingSchedule<>(pingInterval, scheduleSwitchLimit);
         try {
             refreshHeap(null, false);
         } catch (PipelineException e) {
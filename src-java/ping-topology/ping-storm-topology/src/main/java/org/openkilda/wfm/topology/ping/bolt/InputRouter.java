@@ -25,6 +25,7 @@ import org.openkilda.messaging.command.flow.PeriodicPingCommand;
 import org.openkilda.messaging.floodlight.response.PingResponse;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.flow.FlowChangedNotification;
 import org.openkilda.wfm.error.PipelineException;
 
 import org.apache.storm.topology.OutputFieldsDeclarer;
@@ -46,6 +47,7 @@ public class InputRouter extends Abstract {
             FIELD_ID_PING_REQUEST, FIELD_ID_CONTEXT);
     public static final String STREAM_ON_DEMAND_REQUEST_ID = "ping_request";
     public static final String STREAM_PERIODIC_PING_UPDATE_REQUEST_ID = "periodic_ping_request";
+    public static final String STREAM_FLOW_CHANGE_ID = "flow_change";
 
     @Override
     protected void handleInput(Tuple input) throws Exception {
@@ -65,6 +67,8 @@ public class InputRouter extends Abstract {
         if (data instanceof PingResponse) {
             // Speaker response on ping command
             emit(input, new Values(data), STREAM_SPEAKER_PING_RESPONSE_ID);
+        } else if (data instanceof FlowChangedNotification) {
+            emit(input, new Values(data), STREAM_FLOW_CHANGE_ID);
         } else {
             unhandledInput(input);
         }
@@ -95,5 +99,6 @@ public class InputRouter extends Abstract {
         outputManager.declareStream(STREAM_SPEAKER_PING_RESPONSE_ID, STREAM_SPEAKER_PING_RESPONSE_FIELDS);
         outputManager.declareStream(STREAM_ON_DEMAND_REQUEST_ID, STREAM_PING_REQUEST_FIELDS);
         outputManager.declareStream(STREAM_PERIODIC_PING_UPDATE_REQUEST_ID, STREAM_PING_REQUEST_FIELDS);
+        outputManager.declareStream(STREAM_FLOW_CHANGE_ID, STREAM_PING_REQUEST_FIELDS);
     }
 }
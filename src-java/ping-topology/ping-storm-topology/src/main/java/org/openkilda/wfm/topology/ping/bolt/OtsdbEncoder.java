@@ -59,6 +59,11 @@ public class OtsdbEncoder extends AbstractBolt {
         return pullValue(input, FIELD_ID_STATS_DATAPOINT, Datapoint.class);
     }
 
+    @Override
+    protected boolean isPersistenceContextRequired() {
+        return false;
+    }
+
     @Override
     public void declareOutputFields(OutputFieldsDeclarer outputManager) {
         outputManager.declare(STREAM_FIELDS);
@@ -25,7 +25,7 @@ import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
 
 public class PeriodicPingShaping extends Abstract {
     public static final String BOLT_ID = ComponentId.PERIODIC_PING_SHAPING.toString();
@@ -38,7 +38,7 @@ public class PeriodicPingShaping extends Abstract {
 
     private long proxyCounter = 0;
     private long proxyAllowance = 0;
-    private LinkedList<Values> backlog = null;
+    private ArrayDeque<Values> backlog = null;
 
     public PeriodicPingShaping(int pingInterval) {
         int window = pingInterval * 5;
@@ -146,7 +146,7 @@ public class PeriodicPingShaping extends Abstract {
 
         if (0 < windowSize) {
             burstCalculator = new ShapingBurstCalculator(windowSize);
-            backlog = new LinkedList<>();
+            backlog = new ArrayDeque<>();
         }
     }
 }
@@ -16,9 +16,12 @@
 package org.openkilda.wfm.topology.ping.bolt;
 
 import org.openkilda.messaging.info.Datapoint;
+import org.openkilda.messaging.model.FlowDirection;
 import org.openkilda.messaging.model.PingMeters;
 import org.openkilda.wfm.error.PipelineException;
 import org.openkilda.wfm.share.utils.MetricFormatter;
+import org.openkilda.wfm.topology.ping.model.FlowIndex;
+import org.openkilda.wfm.topology.ping.model.LatencyHistogramTable;
 import org.openkilda.wfm.topology.ping.model.PingContext;
 
 import org.apache.storm.topology.OutputFieldsDeclarer;
@@ -29,6 +32,7 @@ import org.apache.storm.tuple.Values;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 public class StatsProducer extends Abstract {
     public static final String BOLT_ID = ComponentId.STATS_PRODUCER.toString();
@@ -41,14 +45,37 @@ public class StatsProducer extends Abstract {
     public static final String SUCCESS_STATUS_TAG_VALUE = "success";
     public static final String ERROR_STATUS_TAG_VALUE = "error";
 
+    private static final int[] LATENCY_PERCENTILES = {50, 95, 99};
+
     private MetricFormatter metricFormatter;
+    private final long histogramInterval;
+
+    private transient FlowIndex flowIndex;
+    private transient LatencyHistogramTable histograms;
+    private transient long lastHistogramReportAt;
 
-    public StatsProducer(String metricPrefix) {
+    public StatsProducer(String metricPrefix, int histogramInterval) {
         this.metricFormatter = new MetricFormatter(metricPrefix);
+        this.histogramInterval = TimeUnit.SECONDS.toMillis(histogramInterval);
+    }
+
+    @Override
+    protected void init() {
+        super.init();
+
+        if (0 < histogramInterval) {
+            flowIndex = new FlowIndex();
+            histograms = new LatencyHistogramTable(1024);
+        }
     }
 
     @Override
     protected void handleInput(Tuple input) throws Exception {
+        if (TickDeduplicator.BOLT_ID.equals(input.getSourceComponent())) {
+            handleTick(input);
+            return;
+        }
+
         PingContext pingContext = pullPingContext(input);
 
         HashMap<String, String> tags = new HashMap<>();
@@ -57,6 +84,20 @@ public class StatsProducer extends Abstract {
         produceMetersStats(input, tags, pingContext);
     }
 
+    private void handleTick(Tuple input) throws PipelineException {
+        if (histograms == null) {
+            return;
+        }
+
+        long now = input.getLongByField(MonotonicTick.FIELD_ID_TIME_MILLIS);
+        if (lastHistogramReportAt == 0) {
+            lastHistogramReportAt = now;
+        } else if (lastHistogramReportAt + histogramInterval <= now) {
+            lastHistogramReportAt = now;
+            produceHistogramStats(input, now);
+        }
+    }
+
     private void produceMetersStats(Tuple input, Map<String, String> tags, PingContext pingContext)
             throws PipelineException {
         tags.put("direction", pingContext.getDirection().name().toLowerCase());
@@ -68,6 +109,51 @@ public class StatsProducer extends Abstract {
         Datapoint datapoint = new Datapoint(
                 metricFormatter.format("flow.latency"), pingContext.getTimestamp(), tags, networkLatency);
         emit(input, datapoint);
+
+        if (histograms != null && pingContext.getError() == null && 0 <= networkLatency) {
+            int index = flowIndex.intern(pingContext.getFlowId());
+            histograms.record(index, pingContext.getDirection(), networkLatency);
+        }
+    }
+
+    /**
+     * Report latency percentiles collected since the previous report. Flows without pings in the last interval are
+     * dropped from the index.
+     */
+    private void produceHistogramStats(Tuple input, long timestamp) throws PipelineException {
+        for (int index = 0; index < flowIndex.getCapacity(); index++) {
+            String flowId = flowIndex.getFlowId(index);
+            if (flowId == null) {
+                continue;
+            }
+
+            boolean isActive = false;
+            for (FlowDirection direction : FlowDirection.values()) {
+                long count = histograms.getCount(index, direction);
+                if (count == 0) {
+                    continue;
+                }
+                isActive = true;
+
+                Map<String, String> tags = new HashMap<>();
+                tags.put("flowid", flowId);
+                tags.put("direction", direction.name().toLowerCase());
+                for (int percentile : LATENCY_PERCENTILES) {
+                    emit(input, new Datapoint(
+                            metricFormatter.format("flow.latency.p" + percentile), timestamp, tags,
+                            histograms.getPercentile(index, direction, percentile)));
+                }
+                emit(input, new Datapoint(
+                        metricFormatter.format("flow.latency.max"), timestamp, tags,
+                        histograms.getMax(index, direction)));
+            }
+
+            if (isActive) {
+                histograms.reset(index);
+            } else {
+                flowIndex.release(index);
+            }
+        }
     }
 
     private void emit(Tuple input, Datapoint datapoint) throws PipelineException {
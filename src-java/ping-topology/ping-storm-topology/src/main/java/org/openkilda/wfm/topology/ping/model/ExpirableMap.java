@@ -15,12 +15,13 @@
 
 package org.openkilda.wfm.topology.ping.model;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 
 public class ExpirableMap<K, V extends Expirable<K>> {
-    private final LinkedList<V> queue = new LinkedList<>();
+    private final ArrayDeque<V> queue = new ArrayDeque<>();
     private final HashMap<K, V> map = new HashMap<>();
 
     public V put(K key, V value) {
@@ -65,10 +66,10 @@ public class ExpirableMap<K, V extends Expirable<K>> {
      * Iterate over list until meet not expired record. Remove passed records.
      */
     public List<V> expire(long edge) {
-        LinkedList<V> removed = new LinkedList<>();
+        List<V> removed = new ArrayList<>();
 
         while (! queue.isEmpty()) {
-            V value = queue.getFirst();
+            V value = queue.peekFirst();
 
             if (edge < value.getExpireAt()) {
                 break;
@@ -80,7 +81,7 @@ public class ExpirableMap<K, V extends Expirable<K>> {
                 continue;
             }
 
-            removed.addLast(value);
+            removed.add(value);
         }
 
         return removed;
@@ -0,0 +1,92 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.ping.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Interns flow ids into dense int indexes, so per flow state can be kept in primitive arrays instead of maps of small
+ * objects. Released indexes are reused by the next interned flows.
+ */
+public class FlowIndex {
+    private final Map<String, Integer> indexes = new HashMap<>();
+
+    private String[] flowIds = new String[64];
+    private int highWatermark = 0;
+
+    private int[] released = new int[16];
+    private int releasedCount = 0;
+
+    /**
+     * Return the index of the flow, allocate new one if the flow is not indexed yet.
+     */
+    public int intern(String flowId) {
+        Integer index = indexes.get(flowId);
+        if (index != null) {
+            return index;
+        }
+
+        int allocated;
+        if (0 < releasedCount) {
+            allocated = released[--releasedCount];
+        } else {
+            allocated = highWatermark++;
+            if (flowIds.length <= allocated) {
+                flowIds = Arrays.copyOf(flowIds, flowIds.length * 2);
+            }
+        }
+        flowIds[allocated] = flowId;
+        indexes.put(flowId, allocated);
+        return allocated;
+    }
+
+    /**
+     * Drop the flow from the index, its index can be returned for some other flow after this call.
+     */
+    public void release(int index) {
+        String flowId = flowIds[index];
+        if (flowId == null) {
+            return;
+        }
+
+        flowIds[index] = null;
+        indexes.remove(flowId);
+        if (released.length == releasedCount) {
+            released = Arrays.copyOf(released, released.length * 2);
+        }
+        released[releasedCount++] = index;
+    }
+
+    /**
+     * Return the flow id by its index or null if the index is not in use.
+     */
+    public String getFlowId(int index) {
+        return flowIds[index];
+    }
+
+    /**
+     * Upper bound (exclusive) of indexes allocated so far, i.e. the size of per flow arrays.
+     */
+    public int getCapacity() {
+        return highWatermark;
+    }
+
+    public int size() {
+        return indexes.size();
+    }
+}
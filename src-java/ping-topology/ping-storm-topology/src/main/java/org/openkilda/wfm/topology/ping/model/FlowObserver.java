@@ -19,19 +19,24 @@ import org.openkilda.messaging.model.PingReport;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map.Entry;
-import java.util.stream.Collectors;
 
+/**
+ * Ping state of all flow "threads" (one per flow path cookie). Flows have only a few threads, so they are kept in
+ * small parallel arrays - no boxed cookies and map entries are allocated on each ping result.
+ */
 @Slf4j
 public class FlowObserver {
     private final String flowId;
     private final PingObserver.PingObserverBuilder pingStatusBuilder;
 
     private PingReport.State currentState = null;
-    private final HashMap<Long, PingObserver> observations = new HashMap<>();
+
+    private long[] cookies = new long[2];
+    private PingObserver[] observations = new PingObserver[2];
+    private int size = 0;
 
     public FlowObserver(String flowId, PingObserver.PingObserverBuilder pingStatusBuilder) {
         this.flowId = flowId;
@@ -42,8 +47,7 @@ public class FlowObserver {
      * Update flow's state.
      */
     public void update(PingContext pingContext) {
-        PingObserver pingObserver = observations.computeIfAbsent(
-                pingContext.getCookie(), k -> pingStatusBuilder.build());
+        PingObserver pingObserver = lookupOrCreate(pingContext.getCookie());
 
         long timestamp = pingContext.getTimestamp();
         if (pingContext.isError()) {
@@ -58,7 +62,9 @@ public class FlowObserver {
      */
     public void remove(long cookie) {
         final String formattedCookie = String.format("0x%016x", cookie);
-        if (observations.remove(cookie) != null) {
+        int idx = indexOf(cookie);
+        if (0 <= idx) {
+            removeAt(idx);
             log.info("Drop flow observer thread (flowId: {}, cookie: {}", flowId, formattedCookie);
         } else {
             log.warn("Trying to drop MISSING flow observer thread (flowId: {}, cookie: {}", flowId, formattedCookie);
@@ -70,18 +76,16 @@ public class FlowObserver {
      */
     public PingReport.State timeTick(long timestamp) {
         PingReport.State flowState = PingReport.State.OPERATIONAL;
-        for (Iterator<Entry<Long, PingObserver>> iterator = observations.entrySet().iterator(); iterator.hasNext(); ) {
-            final Entry<Long, PingObserver> entry = iterator.next();
-            final PingObserver value = entry.getValue();
-
-            PingObserver.State pingState = value.timeTick(timestamp);
+        int idx = 0;
+        while (idx < size) {
+            PingObserver.State pingState = observations[idx].timeTick(timestamp);
 
             switch (pingState) {
                 case GARBAGE:
                     log.debug(
                             "Drop outdated flow observer thread observer (flowId: {}, cookie: {})",
-                            flowId, String.format("0x%016x", entry.getKey()));
-                    iterator.remove();
+                            flowId, String.format("0x%016x", cookies[idx]));
+                    removeAt(idx);
                     continue;
                 case OPERATIONAL:
                     break;
@@ -99,6 +103,7 @@ public class FlowObserver {
                     throw new IllegalArgumentException(String.format(
                             "Unsupported %s value %s", PingObserver.State.class.getName(), pingState));
             }
+            idx += 1;
         }
 
         if (flowState == currentState) {
@@ -131,13 +136,52 @@ public class FlowObserver {
                         "Unsupported %s value %s", PingReport.State.class.getName(), reportState));
         }
 
-        return observations.entrySet().stream()
-                .filter(e -> e.getValue().getState() == pingState)
-                .map(Entry::getKey)
-                .collect(Collectors.toList());
+        List<Long> results = new ArrayList<>();
+        for (int idx = 0; idx < size; idx++) {
+            if (observations[idx].getState() == pingState) {
+                results.add(cookies[idx]);
+            }
+        }
+        return results;
     }
 
     public boolean isGarbage() {
-        return observations.size() == 0;
+        return size == 0;
+    }
+
+    private PingObserver lookupOrCreate(long cookie) {
+        int idx = indexOf(cookie);
+        if (0 <= idx) {
+            return observations[idx];
+        }
+
+        if (size == cookies.length) {
+            cookies = Arrays.copyOf(cookies, size * 2);
+            observations = Arrays.copyOf(observations, size * 2);
+        }
+        PingObserver observer = pingStatusBuilder.build();
+        cookies[size] = cookie;
+        observations[size] = observer;
+        size += 1;
+        return observer;
+    }
+
+    private int indexOf(long cookie) {
+        for (int idx = 0; idx < size; idx++) {
+            if (cookies[idx] == cookie) {
+                return idx;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int idx) {
+        int tail = size - idx - 1;
+        if (0 < tail) {
+            System.arraycopy(cookies, idx + 1, cookies, idx, tail);
+            System.arraycopy(observations, idx + 1, observations, idx, tail);
+        }
+        size -= 1;
+        observations[size] = null;
     }
 }
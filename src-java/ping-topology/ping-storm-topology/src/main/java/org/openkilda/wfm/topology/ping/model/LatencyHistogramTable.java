@@ -0,0 +1,152 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.ping.model;
+
+import org.openkilda.messaging.model.FlowDirection;
+
+import java.util.Arrays;
+
+/**
+ * Latency histograms of all flow directions kept in one primitive array, a row per flow index (see {@link FlowIndex})
+ * and direction.
+ *
+ * <p>Buckets are log-linear: latencies below {@code 4} ms are counted exactly, each following power of two range is
+ * split into {@code 4} buckets, so the estimation error is below 25%. Latencies above {@link #MAX_TRACKABLE} ms are
+ * counted into the last bucket, the exact max value is kept separately.
+ */
+public class LatencyHistogramTable {
+    public static final long MAX_TRACKABLE = (1L << 13) - 1;
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = bucketOf(MAX_TRACKABLE) + 1;
+    private static final int DIRECTIONS = FlowDirection.values().length;
+
+    private int[] counts;
+    private long[] max;
+    private int rows;
+
+    public LatencyHistogramTable(int initialFlowsCapacity) {
+        rows = Math.max(initialFlowsCapacity, 1) * DIRECTIONS;
+        counts = new int[rows * BUCKETS];
+        max = new long[rows];
+    }
+
+    /**
+     * Count the latency sample.
+     */
+    public void record(int flowIndex, FlowDirection direction, long latency) {
+        int row = rowOf(flowIndex, direction);
+        ensureCapacity(row);
+
+        long value = Math.max(latency, 0);
+        counts[row * BUCKETS + bucketOf(Math.min(value, MAX_TRACKABLE))] += 1;
+        if (max[row] < value) {
+            max[row] = value;
+        }
+    }
+
+    /**
+     * Return the number of samples counted since the last reset.
+     */
+    public long getCount(int flowIndex, FlowDirection direction) {
+        int row = rowOf(flowIndex, direction);
+        if (rows <= row) {
+            return 0;
+        }
+
+        long total = 0;
+        for (int offset = row * BUCKETS, end = offset + BUCKETS; offset < end; offset++) {
+            total += counts[offset];
+        }
+        return total;
+    }
+
+    public long getMax(int flowIndex, FlowDirection direction) {
+        int row = rowOf(flowIndex, direction);
+        return row < rows ? max[row] : 0;
+    }
+
+    /**
+     * Estimate the latency percentile, i.e. the highest latency of the bucket the requested percentile falls into.
+     */
+    public long getPercentile(int flowIndex, FlowDirection direction, double percentile) {
+        long total = getCount(flowIndex, direction);
+        if (total == 0) {
+            return 0;
+        }
+
+        int row = rowOf(flowIndex, direction);
+        long rank = Math.max((long) Math.ceil(percentile / 100 * total), 1);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[row * BUCKETS + bucket];
+            if (rank <= seen) {
+                // the last bucket is unbounded
+                return bucket < BUCKETS - 1 ? Math.min(bucketUpperBound(bucket), max[row]) : max[row];
+            }
+        }
+        return max[row];
+    }
+
+    /**
+     * Clear histograms of both directions of the flow.
+     */
+    public void reset(int flowIndex) {
+        for (FlowDirection direction : FlowDirection.values()) {
+            int row = rowOf(flowIndex, direction);
+            if (row < rows) {
+                Arrays.fill(counts, row * BUCKETS, (row + 1) * BUCKETS, 0);
+                max[row] = 0;
+            }
+        }
+    }
+
+    private void ensureCapacity(int row) {
+        if (row < rows) {
+            return;
+        }
+
+        // grow by half, the table is the biggest per flow structure of the bolt, so doubling wastes too much memory
+        int size = Math.max(rows + rows / 2, (row / DIRECTIONS + 1) * DIRECTIONS);
+        counts = Arrays.copyOf(counts, size * BUCKETS);
+        max = Arrays.copyOf(max, size);
+        rows = size;
+    }
+
+    private static int rowOf(int flowIndex, FlowDirection direction) {
+        return flowIndex * DIRECTIONS + direction.ordinal();
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >> shift) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    private static long bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,204 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.ping.model;
+
+import org.openkilda.model.SwitchId;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Spreads periodic pings over the ping interval. The interval is split into slots (one per tick), each flow is bound
+ * to a slot by the hash of its id, so the flow phase is stable across cache reloads and topology restarts.
+ *
+ * <p>The number of pings sent through one switch in one slot can be limited, pings above the limit are postponed to the
+ * following slots. Postponed pings go first in the next slot, a flow is never queued twice.
+ */
+public class PeriodicPingSchedule<T> {
+    private final int slotsCount;
+    private final int switchLimit;
+
+    private final Map<String, Entry<T>> entries = new HashMap<>();
+    private final List<Map<String, Entry<T>>> slots;
+    private final ArrayDeque<Entry<T>> postponed = new ArrayDeque<>();
+
+    private int cursor = 0;
+    private long round = 0;
+
+    public PeriodicPingSchedule(int slotsCount, int switchLimit) {
+        if (slotsCount < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Can't operate with requested slots count == %d", getClass().getCanonicalName(), slotsCount));
+        }
+
+        this.slotsCount = slotsCount;
+        this.switchLimit = switchLimit;
+        slots = new ArrayList<>(slotsCount);
+        for (int idx = 0; idx < slotsCount; idx++) {
+            slots.add(new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Add the flow into the schedule or replace its payload if the flow is scheduled already. The flow keeps its slot
+     * on replace.
+     */
+    public T put(String flowId, Collection<SwitchId> switches, T payload) {
+        Entry<T> current = entries.get(flowId);
+        if (current != null) {
+            T replaced = current.payload;
+            current.payload = payload;
+            current.switches = switches;
+            return replaced;
+        }
+
+        Entry<T> entry = new Entry<>(slotOf(flowId, slotsCount), switches, payload);
+        entries.put(flowId, entry);
+        slots.get(entry.slot).put(flowId, entry);
+        return null;
+    }
+
+    /**
+     * Drop the flow from the schedule.
+     */
+    public T remove(String flowId) {
+        Entry<T> entry = entries.remove(flowId);
+        if (entry == null) {
+            return null;
+        }
+
+        slots.get(entry.slot).remove(flowId);
+        // lazily dropped from the postponed queue
+        entry.removed = true;
+        return entry.payload;
+    }
+
+    public T get(String flowId) {
+        Entry<T> entry = entries.get(flowId);
+        return entry != null ? entry.payload : null;
+    }
+
+    public List<T> getAll() {
+        return entries.values().stream()
+                .map(entry -> entry.payload)
+                .collect(Collectors.toList());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getSlotsCount() {
+        return slotsCount;
+    }
+
+    /**
+     * Number of flows waiting in the postponed queue.
+     */
+    public int getPostponedCount() {
+        return (int) postponed.stream()
+                .filter(entry -> !entry.removed)
+                .count();
+    }
+
+    /**
+     * Return flows to be pinged in the next slot and move to the following one.
+     */
+    public List<T> next() {
+        Map<SwitchId, Integer> usage = new HashMap<>();
+        List<T> result = new ArrayList<>();
+        round += 1;
+
+        for (int backlog = postponed.size(); 0 < backlog; backlog--) {
+            Entry<T> entry = postponed.pollFirst();
+            if (entry.removed) {
+                continue;
+            }
+            if (acquire(usage, entry)) {
+                entry.postponed = false;
+                entry.emittedRound = round;
+                result.add(entry.payload);
+            } else {
+                postponed.addLast(entry);
+            }
+        }
+
+        for (Entry<T> entry : slots.get(cursor).values()) {
+            if (entry.postponed || entry.emittedRound == round) {
+                continue;
+            }
+            if (acquire(usage, entry)) {
+                entry.emittedRound = round;
+                result.add(entry.payload);
+            } else {
+                entry.postponed = true;
+                postponed.addLast(entry);
+            }
+        }
+
+        cursor = (cursor + 1) % slotsCount;
+        return result;
+    }
+
+    private boolean acquire(Map<SwitchId, Integer> usage, Entry<T> entry) {
+        if (switchLimit <= 0) {
+            return true;
+        }
+
+        for (SwitchId switchId : entry.switches) {
+            if (switchLimit <= usage.getOrDefault(switchId, 0)) {
+                return false;
+            }
+        }
+        for (SwitchId switchId : entry.switches) {
+            usage.merge(switchId, 1, Integer::sum);
+        }
+        return true;
+    }
+
+    /**
+     * Stable slot of the flow - {@link String#hashCode()} is defined by the spec, so it is the same for all JVMs.
+     */
+    static int slotOf(String flowId, int slotsCount) {
+        int hash = flowId.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x45d9f3b;
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, slotsCount);
+    }
+
+    private static class Entry<T> {
+        private final int slot;
+        private Collection<SwitchId> switches;
+        private T payload;
+
+        private boolean postponed = false;
+        private boolean removed = false;
+        private long emittedRound = 0;
+
+        Entry(int slot, Collection<SwitchId> switches, T payload) {
+            this.slot = slot;
+            this.switches = switches;
+            this.payload = payload;
+        }
+    }
+}
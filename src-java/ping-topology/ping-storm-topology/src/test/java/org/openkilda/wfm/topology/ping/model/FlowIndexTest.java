@@ -0,0 +1,59 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.ping.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FlowIndexTest {
+    @Test
+    public void reusesReleasedSlots() {
+        FlowIndex index = new FlowIndex();
+        int first = index.intern("flow-1");
+        int second = index.intern("flow-2");
+        Assert.assertEquals(first, index.intern("flow-1"));
+
+        index.release(first);
+        Assert.assertNull(index.getFlowId(first));
+        Assert.assertEquals(first, index.intern("flow-3"));
+        Assert.assertEquals(2, index.size());
+        Assert.assertEquals(2, index.getCapacity());
+        Assert.assertEquals("flow-2", index.getFlowId(second));
+    }
+
+    @Test
+    public void releaseIsIdempotent() {
+        FlowIndex index = new FlowIndex();
+        int first = index.intern("flow-1");
+
+        index.release(first);
+        index.release(first);
+        Assert.assertEquals(first, index.intern("flow-2"));
+        Assert.assertNotEquals(first, index.intern("flow-3"));
+    }
+
+    @Test
+    public void grows() {
+        FlowIndex index = new FlowIndex();
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(i, index.intern("flow-" + i));
+        }
+
+        Assert.assertEquals(100, index.size());
+        Assert.assertEquals("flow-99", index.getFlowId(99));
+        Assert.assertEquals(42, index.intern("flow-42"));
+    }
+}
@@ -0,0 +1,62 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.ping.model;
+
+import org.openkilda.messaging.model.FlowDirection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTableTest {
+    @Test
+    public void exactForSmallLatencies() {
+        LatencyHistogramTable table = new LatencyHistogramTable(1);
+        for (long latency = 0; latency < 4; latency++) {
+            table.record(0, FlowDirection.FORWARD, latency);
+        }
+
+        Assert.assertEquals(4, table.getCount(0, FlowDirection.FORWARD));
+        Assert.assertEquals(1, table.getPercentile(0, FlowDirection.FORWARD, 50));
+        Assert.assertEquals(3, table.getPercentile(0, FlowDirection.FORWARD, 99));
+        Assert.assertEquals(3, table.getMax(0, FlowDirection.FORWARD));
+        Assert.assertEquals(0, table.getCount(0, FlowDirection.REVERSE));
+    }
+
+    @Test
+    public void percentileErrorIsBounded() {
+        LatencyHistogramTable table = new LatencyHistogramTable(1);
+        for (long latency = 1; latency <= 1000; latency++) {
+            table.record(0, FlowDirection.REVERSE, latency);
+        }
+
+        long median = table.getPercentile(0, FlowDirection.REVERSE, 50);
+        Assert.assertTrue(500 <= median && median < 500 * 1.25);
+        Assert.assertEquals(1000, table.getPercentile(0, FlowDirection.REVERSE, 100));
+    }
+
+    @Test
+    public void growsAndResets() {
+        LatencyHistogramTable table = new LatencyHistogramTable(1);
+        table.record(100, FlowDirection.FORWARD, 20000);
+
+        Assert.assertEquals(1, table.getCount(100, FlowDirection.FORWARD));
+        Assert.assertEquals(20000, table.getPercentile(100, FlowDirection.FORWARD, 50));
+
+        table.reset(100);
+        Assert.assertEquals(0, table.getCount(100, FlowDirection.FORWARD));
+        Assert.assertEquals(0, table.getMax(100, FlowDirection.FORWARD));
+    }
+}
@@ -0,0 +1,106 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.ping.model;
+
+import org.openkilda.model.SwitchId;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class PeriodicPingScheduleTest {
+    private static final SwitchId SWITCH_A = new SwitchId(1);
+    private static final SwitchId SWITCH_B = new SwitchId(2);
+
+    @Test
+    public void eachFlowIsEmittedOncePerInterval() {
+        PeriodicPingSchedule<String> schedule = new PeriodicPingSchedule<>(10, 0);
+        Set<String> flows = new HashSet<>();
+        for (int idx = 0; idx < 100; idx++) {
+            String flowId = "flow-" + idx;
+            flows.add(flowId);
+            schedule.put(flowId, Arrays.asList(new SwitchId(idx), new SwitchId(idx + 1000)), flowId);
+        }
+
+        List<String> emitted = new ArrayList<>();
+        int busySlots = 0;
+        for (int idx = 0; idx < schedule.getSlotsCount(); idx++) {
+            List<String> batch = schedule.next();
+            if (!batch.isEmpty()) {
+                busySlots++;
+            }
+            emitted.addAll(batch);
+        }
+
+        Assert.assertEquals(flows.size(), emitted.size());
+        Assert.assertEquals(flows, new HashSet<>(emitted));
+        Assert.assertTrue(1 < busySlots);
+    }
+
+    @Test
+    public void slotIsStable() {
+        int slot = PeriodicPingSchedule.slotOf("flow-0", 60);
+        Assert.assertEquals(slot, PeriodicPingSchedule.slotOf("flow-0", 60));
+        Assert.assertTrue(0 <= slot && slot < 60);
+    }
+
+    @Test
+    public void switchLimitPostponesPings() {
+        PeriodicPingSchedule<String> schedule = new PeriodicPingSchedule<>(1, 2);
+        for (int idx = 0; idx < 5; idx++) {
+            schedule.put("flow-" + idx, Arrays.asList(SWITCH_A, SWITCH_B), "flow-" + idx);
+        }
+
+        Assert.assertEquals(2, schedule.next().size());
+        Assert.assertEquals(3, schedule.getPostponedCount());
+
+        // postponed go first, the slot's own pings are postponed again (not queued twice)
+        List<String> second = schedule.next();
+        Assert.assertEquals(2, second.size());
+        Assert.assertEquals(3, schedule.getPostponedCount());
+    }
+
+    @Test
+    public void removedFlowIsNotEmitted() {
+        PeriodicPingSchedule<String> schedule = new PeriodicPingSchedule<>(1, 1);
+        schedule.put("flow-0", Collections.singletonList(SWITCH_A), "flow-0");
+        schedule.put("flow-1", Collections.singletonList(SWITCH_A), "flow-1");
+
+        List<String> first = schedule.next();
+        Assert.assertEquals(1, first.size());
+        String postponed = first.get(0).equals("flow-0") ? "flow-1" : "flow-0";
+        Assert.assertEquals(postponed, schedule.remove(postponed));
+        Assert.assertEquals(0, schedule.getPostponedCount());
+
+        Assert.assertEquals(first, schedule.next());
+        Assert.assertEquals(1, schedule.size());
+    }
+
+    @Test
+    public void putReplacesPayload() {
+        PeriodicPingSchedule<String> schedule = new PeriodicPingSchedule<>(5, 0);
+        Assert.assertNull(schedule.put("flow-0", Collections.singletonList(SWITCH_A), "v1"));
+        Assert.assertEquals("v1", schedule.put("flow-0", Collections.singletonList(SWITCH_A), "v2"));
+        Assert.assertEquals("v2", schedule.get("flow-0"));
+        Assert.assertEquals(1, schedule.size());
+    }
+}
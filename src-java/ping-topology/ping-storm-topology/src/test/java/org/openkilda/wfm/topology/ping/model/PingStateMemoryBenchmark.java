@@ -0,0 +1,166 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.ping.model;
+
+import org.openkilda.messaging.model.FlowDirection;
+import org.openkilda.model.Flow;
+import org.openkilda.model.FlowPath;
+import org.openkilda.model.FlowPathDirection;
+import org.openkilda.model.PathId;
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
+import org.openkilda.model.cookie.FlowSegmentCookie;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Manual benchmark of the heap retained by the ping topology per flow state. Compares previous (ping threads of a
+ * flow in a {@code HashMap<Long, PingObserver>}) and current ({@link FlowObserver} parallel arrays) fail reporter
+ * state, and reports the size of the latency histograms ({@link LatencyHistogramTable} with {@link FlowIndex}) kept
+ * by the stats producer.
+ *
+ * <p>The size is the used heap delta after GC, so it is rough: run it with a fixed heap (i.e. {@code -Xms1g -Xmx1g})
+ * and a serial collector ({@code -XX:+UseSerialGC}) to get stable numbers. Flows and ping contexts are created before
+ * the measurement and are not counted.
+ *
+ * <p>Run it as a regular java application with test classpath, it is not a part of test suite.
+ */
+public final class PingStateMemoryBenchmark {
+    private static final Logger log = LoggerFactory.getLogger(PingStateMemoryBenchmark.class);
+
+    private static final int FLOWS = 10_000;
+    private static final long FAIL_DELAY = 45;
+    private static final long FAIL_RESET = 1800;
+
+    private static volatile Object retained;
+
+    /**
+     * Entry point.
+     */
+    public static void main(String[] args) {
+        List<PingContext> pings = makePings();
+        PingObserver.PingObserverBuilder pingStatusBuilder = PingObserver.builder()
+                .failDelay(FAIL_DELAY)
+                .failReset(FAIL_RESET);
+
+        // warm up
+        fillMapBased(pings, pingStatusBuilder);
+        fillArrayBased(pings, pingStatusBuilder);
+        fillHistograms(pings);
+
+        long before = measure(() -> fillMapBased(pings, pingStatusBuilder));
+        long after = measure(() -> fillArrayBased(pings, pingStatusBuilder));
+        long histograms = measure(() -> fillHistograms(pings));
+        long buckets = measure(() -> new LatencyHistogramTable(FLOWS));
+
+        log.info("Fail reporter state of {} flows: before {} KiB, after {} KiB", FLOWS, before / 1024, after / 1024);
+        log.info("Latency histograms of {} flows: {} KiB, buckets {} KiB", FLOWS, histograms / 1024, buckets / 1024);
+    }
+
+    private static Map<String, Map<Long, PingObserver>> fillMapBased(
+            List<PingContext> pings, PingObserver.PingObserverBuilder pingStatusBuilder) {
+        Map<String, Map<Long, PingObserver>> state = new HashMap<>();
+        for (PingContext entry : pings) {
+            state.computeIfAbsent(entry.getFlowId(), key -> new HashMap<>())
+                    .computeIfAbsent(entry.getCookie(), key -> pingStatusBuilder.build())
+                    .markOperational(entry.getTimestamp());
+        }
+        return state;
+    }
+
+    private static Map<String, FlowObserver> fillArrayBased(
+            List<PingContext> pings, PingObserver.PingObserverBuilder pingStatusBuilder) {
+        Map<String, FlowObserver> state = new HashMap<>();
+        for (PingContext entry : pings) {
+            state.computeIfAbsent(entry.getFlowId(), key -> new FlowObserver(key, pingStatusBuilder))
+                    .update(entry);
+        }
+        return state;
+    }
+
+    private static Object[] fillHistograms(List<PingContext> pings) {
+        FlowIndex flowIndex = new FlowIndex();
+        LatencyHistogramTable histograms = new LatencyHistogramTable(1);
+        for (PingContext entry : pings) {
+            histograms.record(flowIndex.intern(entry.getFlowId()), entry.getDirection(), entry.getTimestamp() % 100);
+        }
+        return new Object[]{flowIndex, histograms};
+    }
+
+    private static long measure(Supplier<Object> action) {
+        long start = usedMemory();
+        retained = action.get();
+        long size = usedMemory() - start;
+        retained = null;
+        return size;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static List<PingContext> makePings() {
+        Switch srcSwitch = Switch.builder().switchId(new SwitchId(1)).build();
+        Switch destSwitch = Switch.builder().switchId(new SwitchId(2)).build();
+        long timestamp = System.currentTimeMillis();
+
+        List<PingContext> pings = new ArrayList<>(FLOWS * 2);
+        for (int i = 0; i < FLOWS; i++) {
+            String flowId = String.format("flow-%05d", i);
+            Flow flow = Flow.builder()
+                    .flowId(flowId)
+                    .srcSwitch(srcSwitch)
+                    .destSwitch(destSwitch)
+                    .build();
+            flow.setForwardPath(FlowPath.builder()
+                    .pathId(new PathId(flowId + "-forward"))
+                    .srcSwitch(srcSwitch)
+                    .destSwitch(destSwitch)
+                    .cookie(new FlowSegmentCookie(FlowPathDirection.FORWARD, i + 1))
+                    .build());
+            flow.setReversePath(FlowPath.builder()
+                    .pathId(new PathId(flowId + "-reverse"))
+                    .srcSwitch(destSwitch)
+                    .destSwitch(srcSwitch)
+                    .cookie(new FlowSegmentCookie(FlowPathDirection.REVERSE, i + 1))
+                    .build());
+
+            for (FlowDirection direction : FlowDirection.values()) {
+                pings.add(PingContext.builder()
+                        .kind(PingContext.Kinds.PERIODIC)
+                        .flow(flow)
+                        .direction(direction)
+                        .timestamp(timestamp + i)
+                        .build());
+            }
+        }
+        return pings;
+    }
+
+    private PingStateMemoryBenchmark() {
+    }
+}
@@ -59,6 +59,9 @@ public class PortStateTopology extends AbstractTopology<PortStateTopologyConfig>
          *
          *  SwitchPortsSpout ---> SpeakerKafkaBolt(kilda.speaker topic)
          *
+         *  In event driven mode ParsePortInfoBolt emits only port state changes, the ports dump requested by
+         *  SwitchPortsSpout once per reconciliation interval only fixes port states missed by the events.
+         *
          */
 
         // Setup spout and bolt for TOPO_DISCO_SPOUT line
@@ -70,10 +73,16 @@ public class PortStateTopology extends AbstractTopology<PortStateTopologyConfig>
         builder.setBolt(TOPO_DISCO_PARSE_BOLT_NAME, topoDiscoParseBolt, topologyConfig.getParallelism())
                 .shuffleGrouping(TOPO_DISCO_SPOUT);
 
-        ParsePortInfoBolt parsePortInfoBolt = new ParsePortInfoBolt(topologyConfig.getMetricPrefix());
+        boolean eventDriven = topologyConfig.isEventDrivenEnabled();
+        int reconciliationInterval = topologyConfig.getReconciliationInterval();
+        ParsePortInfoBolt parsePortInfoBolt = new ParsePortInfoBolt(
+                topologyConfig.getMetricPrefix(), eventDriven, reconciliationInterval);
+        // in event driven mode port states are kept by the bolt, so each switch must stick to one bolt instance
         builder.setBolt(PARSE_PORT_INFO_BOLT_NAME, parsePortInfoBolt, topologyConfig.getParallelism())
-                .shuffleGrouping(TOPO_DISCO_PARSE_BOLT_NAME, TopoDiscoParseBolt.TOPO_TO_PORT_INFO_STREAM)
-                .shuffleGrouping(WFM_STATS_PARSE_BOLT_NAME, WfmStatsParseBolt.WFM_TO_PARSE_PORT_INFO_STREAM);
+                .fieldsGrouping(TOPO_DISCO_PARSE_BOLT_NAME, TopoDiscoParseBolt.TOPO_TO_PORT_INFO_STREAM,
+                        TopoDiscoParseBolt.FIELDS_SWITCH_ID)
+                .fieldsGrouping(WFM_STATS_PARSE_BOLT_NAME, WfmStatsParseBolt.WFM_TO_PARSE_PORT_INFO_STREAM,
+                        TopoDiscoParseBolt.FIELDS_SWITCH_ID);
 
         String openTsdbTopic = topologyConfig.getKafkaOtsdbTopic();
         KafkaBolt openTsdbBolt = createKafkaBolt(openTsdbTopic);
@@ -90,7 +99,8 @@ public class PortStateTopology extends AbstractTopology<PortStateTopologyConfig>
                 .shuffleGrouping(WFM_STATS_SPOUT);
 
         // Setup spout and bolt for sending SwitchPortsCommand every frequency seconds
-        SwitchPortsSpout switchPortsSpout = new SwitchPortsSpout(JANITOR_REFRESH);
+        SwitchPortsSpout switchPortsSpout = new SwitchPortsSpout(
+                eventDriven ? reconciliationInterval : JANITOR_REFRESH);
         builder.setSpout(SWITCH_PORTS_SPOUT_NAME, switchPortsSpout);
 
         String speakerTopic = topologyConfig.getKafkaSpeakerTopic();
@@ -21,6 +21,8 @@ import com.sabre.oss.conf4j.annotation.Configuration;
 import com.sabre.oss.conf4j.annotation.Default;
 import com.sabre.oss.conf4j.annotation.Key;
 
+import javax.validation.constraints.Min;
+
 @Configuration
 public interface PortStateTopologyConfig extends AbstractTopologyConfig {
 
@@ -43,4 +45,21 @@ public interface PortStateTopologyConfig extends AbstractTopologyConfig {
     @Key("opentsdb.metric.prefix")
     @Default("kilda.")
     String getMetricPrefix();
+
+    /**
+     * Keep the last known state of each port and emit port state datapoints only on change, instead of emitting
+     * each port status event and each port of the periodic ports dump.
+     */
+    @Key("portstate.event.driven.enabled")
+    @Default("false")
+    boolean isEventDrivenEnabled();
+
+    /**
+     * Interval in seconds of the ports dump in event driven mode. The dump only reconciles the known port states,
+     * while the known state of each switch is re-emitted once per interval with switches spread evenly over it.
+     */
+    @Key("portstate.reconciliation.interval")
+    @Default("3600")
+    @Min(1)
+    int getReconciliationInterval();
 }
@@ -19,16 +19,21 @@ import org.openkilda.messaging.Utils;
 import org.openkilda.messaging.info.Datapoint;
 import org.openkilda.messaging.info.event.PortChangeType;
 import org.openkilda.messaging.info.event.PortInfoData;
+import org.openkilda.messaging.info.event.SwitchInfoData;
+import org.openkilda.model.SwitchId;
 import org.openkilda.wfm.share.utils.MetricFormatter;
 import org.openkilda.wfm.topology.AbstractTopology;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
+import org.apache.storm.metric.api.MultiCountMetric;
 import org.apache.storm.task.OutputCollector;
 import org.apache.storm.task.TopologyContext;
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.topology.base.BaseRichBolt;
 import org.apache.storm.tuple.Tuple;
+import org.apache.storm.utils.TupleUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,55 +42,128 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public class ParsePortInfoBolt extends BaseRichBolt {
     private static final Logger logger = LoggerFactory.getLogger(ParsePortInfoBolt.class);
+    public static final String METRIC_DATAPOINTS = "port-state-datapoints";
+    private static final int METRIC_BUCKET_SIZE_SECONDS = 60;
+
     private final String metricName;
+    private final boolean eventDriven;
+    private final int refreshInterval;
     private transient OutputCollector collector;
     private transient Table<String, Integer, Map<String, String>> tagsTable;
+    private transient PortStateTable portStateTable;
+    private transient MultiCountMetric datapointsMetric;
 
     public ParsePortInfoBolt(String metricPrefix) {
+        this(metricPrefix, false, 0);
+    }
+
+    /**
+     * In event driven mode the last known state of each port is kept and a datapoint is emitted only if the port
+     * state is changed. The state of each switch is re-emitted once per {@code refreshInterval} seconds, switches
+     * are spread evenly over the interval. Port infos of one switch must always be routed to the same bolt instance.
+     */
+    public ParsePortInfoBolt(String metricPrefix, boolean eventDriven, int refreshInterval) {
         MetricFormatter metricFormatter = new MetricFormatter(metricPrefix);
         this.metricName = metricFormatter.format("switch.state");
+        this.eventDriven = eventDriven;
+        this.refreshInterval = refreshInterval;
     }
 
     @Override
     public void prepare(Map map, TopologyContext topologyContext, OutputCollector outputCollector) {
         this.collector = outputCollector;
         tagsTable = HashBasedTable.create();
+        portStateTable = new PortStateTable();
+        datapointsMetric = topologyContext.registerMetric(
+                METRIC_DATAPOINTS, new MultiCountMetric(), METRIC_BUCKET_SIZE_SECONDS);
     }
 
     @Override
     public void execute(Tuple tuple) {
         try {
-            if (tuple.getValueByField(TopoDiscoParseBolt.FIELD_NAME) instanceof PortInfoData) {
-                try {
-                    PortInfoData port = (PortInfoData) tuple
-                            .getValueByField(TopoDiscoParseBolt.FIELD_NAME);
-
-                    if (getStateAsInt(port) >= 0) {
-                        List<Object> result = makeTsdbDatapoint(port);
-                        logger.debug("Emitting: {}", result);
-                        collector.emit(result);
-                    } else if (logger.isDebugEnabled()) {
-                        List<Object> result = makeTsdbDatapoint(port);
-                        logger.debug("Skip: {}", result);
-                    }
-
-                } catch (IOException e) {
-                    logger.error("Error creating tsdbDatapoint for: {}", tuple.toString(), e);
-                }
+            if (TupleUtils.isTick(tuple)) {
+                refreshSwitches(System.currentTimeMillis());
+                return;
             }
+
+            Object payload = tuple.getValueByField(TopoDiscoParseBolt.FIELD_NAME);
+            if (payload instanceof PortInfoData) {
+                boolean reconciliation = WfmStatsParseBolt.WFM_TO_PARSE_PORT_INFO_STREAM.equals(
+                        tuple.getSourceStreamId());
+                handlePortInfo((PortInfoData) payload, reconciliation);
+            } else if (payload instanceof SwitchInfoData) {
+                handleSwitchDisconnect((SwitchInfoData) payload);
+            }
+        } catch (IOException e) {
+            logger.error("Error creating tsdbDatapoint for: {}", tuple.toString(), e);
         } finally {
             collector.ack(tuple);
         }
     }
 
-    private List<Object> makeTsdbDatapoint(PortInfoData data) throws IOException {
-        return tsdbTuple(metricName,
-                data.getTimestamp(),
-                getStateAsInt(data),
-                getTags(data));
+    private void handlePortInfo(PortInfoData port, boolean reconciliation) throws IOException {
+        int state = getStateAsInt(port);
+        if (state < 0) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Skip: {}", makeTsdbDatapoint(port.getSwitchId(), port.getPortNo(),
+                        port.getTimestamp(), state));
+            }
+            return;
+        }
+
+        if (eventDriven && port.getState() == PortChangeType.DELETE) {
+            // the deleted port is reported down once and is not refreshed any more
+            portStateTable.remove(port.getSwitchId(), port.getPortNo());
+        } else if (eventDriven) {
+            Integer previous = portStateTable.update(port.getSwitchId(), port.getPortNo(), state);
+            if (previous != null && previous == state) {
+                datapointsMetric.scope("suppressed").incr();
+                return;
+            }
+            if (previous != null && reconciliation) {
+                logger.info("Port {}_{} state is fixed by the ports dump, the port status event was missed",
+                        port.getSwitchId(), port.getPortNo());
+                datapointsMetric.scope("reconciled").incr();
+            }
+        }
+
+        List<Object> result = makeTsdbDatapoint(port.getSwitchId(), port.getPortNo(), port.getTimestamp(), state);
+        logger.debug("Emitting: {}", result);
+        collector.emit(result);
+        datapointsMetric.scope("emitted").incr();
+    }
+
+    private void handleSwitchDisconnect(SwitchInfoData switchInfo) {
+        if (eventDriven) {
+            logger.debug("Forget port states of disconnected switch {}", switchInfo.getSwitchId());
+            portStateTable.removeSwitch(switchInfo.getSwitchId());
+        }
+    }
+
+    /**
+     * Re-emit the known port states of switches whose slot matches the current second of the refresh interval.
+     */
+    @VisibleForTesting
+    void refreshSwitches(long now) throws IOException {
+        long slot = TimeUnit.MILLISECONDS.toSeconds(now) % refreshInterval;
+        for (SwitchId switchId : portStateTable.getSwitches()) {
+            if (Math.floorMod(switchId.hashCode(), refreshInterval) != slot) {
+                continue;
+            }
+            for (Map.Entry<Integer, Integer> entry : portStateTable.getPorts(switchId).entrySet()) {
+                collector.emit(makeTsdbDatapoint(switchId, entry.getKey(), now, entry.getValue()));
+                datapointsMetric.scope("refreshed").incr();
+            }
+        }
+    }
+
+    private List<Object> makeTsdbDatapoint(SwitchId switchId, int port, long timestamp, int state)
+            throws IOException {
+        return tsdbTuple(metricName, timestamp, state, getTags(switchId, port));
     }
 
     private int getStateAsInt(PortInfoData data) {
@@ -109,17 +187,25 @@ public class ParsePortInfoBolt extends BaseRichBolt {
         return Collections.singletonList(Utils.MAPPER.writeValueAsString(datapoint));
     }
 
-    private Map<String, String> getTags(PortInfoData data) {
-        Map<String, String> tag = tagsTable.get(data.getSwitchId(), data.getPortNo());
+    private Map<String, String> getTags(SwitchId switchId, int port) {
+        Map<String, String> tag = tagsTable.get(switchId.toString(), port);
         if (tag == null) {
             tag = new HashMap<>();
-            tag.put("switchid", data.getSwitchId().toOtsdFormat());
-            tag.put("port", String.valueOf(data.getPortNo()));
-            tagsTable.put(data.getSwitchId().toString(), data.getPortNo(), tag);
+            tag.put("switchid", switchId.toOtsdFormat());
+            tag.put("port", String.valueOf(port));
+            tagsTable.put(switchId.toString(), port, tag);
         }
         return tag;
     }
 
+    @Override
+    public Map<String, Object> getComponentConfiguration() {
+        if (eventDriven && 0 < refreshInterval) {
+            return TupleUtils.putTickFrequencyIntoComponentConfig(null, 1);
+        }
+        return null;
+    }
+
     @Override
     public void declareOutputFields(OutputFieldsDeclarer declarer) {
         declarer.declare(AbstractTopology.fieldMessage);
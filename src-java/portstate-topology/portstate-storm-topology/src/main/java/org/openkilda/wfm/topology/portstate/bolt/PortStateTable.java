@@ -0,0 +1,67 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.portstate.bolt;
+
+import org.openkilda.model.SwitchId;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Last known state of each switch port, used to emit port state datapoints only on change.
+ */
+class PortStateTable {
+    private final Map<SwitchId, Map<Integer, Integer>> switches = new HashMap<>();
+
+    /**
+     * Store the port state, returns the previous state or null if the port was not known yet.
+     */
+    Integer update(SwitchId switchId, int port, int state) {
+        return switches.computeIfAbsent(switchId, key -> new HashMap<>()).put(port, state);
+    }
+
+    /**
+     * Forget the port, returns its last known state or null if the port was not known.
+     */
+    Integer remove(SwitchId switchId, int port) {
+        Map<Integer, Integer> ports = switches.get(switchId);
+        if (ports == null) {
+            return null;
+        }
+        Integer state = ports.remove(port);
+        if (ports.isEmpty()) {
+            switches.remove(switchId);
+        }
+        return state;
+    }
+
+    /**
+     * Forget all ports of the switch.
+     */
+    void removeSwitch(SwitchId switchId) {
+        switches.remove(switchId);
+    }
+
+    Set<SwitchId> getSwitches() {
+        return switches.keySet();
+    }
+
+    Map<Integer, Integer> getPorts(SwitchId switchId) {
+        return switches.getOrDefault(switchId, Collections.emptyMap());
+    }
+}
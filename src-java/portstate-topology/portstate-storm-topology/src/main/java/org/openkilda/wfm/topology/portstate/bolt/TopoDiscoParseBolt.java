@@ -18,6 +18,8 @@ package org.openkilda.wfm.topology.portstate.bolt;
 import org.openkilda.messaging.Message;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.event.PortInfoData;
+import org.openkilda.messaging.info.event.SwitchChangeType;
+import org.openkilda.messaging.info.event.SwitchInfoData;
 import org.openkilda.wfm.error.MessageException;
 import org.openkilda.wfm.topology.portstate.PortStateTopology;
 import org.openkilda.wfm.topology.utils.AbstractKafkaParserBolt;
@@ -34,6 +36,8 @@ public class TopoDiscoParseBolt extends AbstractKafkaParserBolt {
     private static final Logger logger = LoggerFactory.getLogger(TopoDiscoParseBolt.class);
     public static final String TOPO_TO_PORT_INFO_STREAM = "parse.port.info.stream";
     public static final String FIELD_NAME = PortInfoData.class.getSimpleName();
+    public static final String FIELD_SWITCH_ID = "switch_id";
+    public static final Fields FIELDS_SWITCH_ID = new Fields(FIELD_SWITCH_ID);
 
     @Override
     public void execute(Tuple tuple) {
@@ -51,7 +55,12 @@ public class TopoDiscoParseBolt extends AbstractKafkaParserBolt {
         try {
             InfoData infoData = getInfoData(message);
             if (infoData instanceof PortInfoData) {
-                collector.emit(TOPO_TO_PORT_INFO_STREAM, new Values((PortInfoData) infoData));
+                PortInfoData portInfo = (PortInfoData) infoData;
+                collector.emit(TOPO_TO_PORT_INFO_STREAM, new Values(portInfo, portInfo.getSwitchId()));
+            } else if (infoData instanceof SwitchInfoData && isDisconnect((SwitchInfoData) infoData)) {
+                // lets ParsePortInfoBolt drop the known port states of the switch
+                SwitchInfoData switchInfo = (SwitchInfoData) infoData;
+                collector.emit(TOPO_TO_PORT_INFO_STREAM, new Values(switchInfo, switchInfo.getSwitchId()));
             }
         } catch (MessageException e) {
             logger.error("Not an InfoMessage in queue message={}", message);
@@ -60,8 +69,13 @@ public class TopoDiscoParseBolt extends AbstractKafkaParserBolt {
         }
     }
 
+    private static boolean isDisconnect(SwitchInfoData switchInfo) {
+        return switchInfo.getState() == SwitchChangeType.DEACTIVATED
+                || switchInfo.getState() == SwitchChangeType.REMOVED;
+    }
+
     @Override
     public void declareOutputFields(OutputFieldsDeclarer outputFieldsDeclarer) {
-        outputFieldsDeclarer.declareStream(TOPO_TO_PORT_INFO_STREAM, new Fields(FIELD_NAME));
+        outputFieldsDeclarer.declareStream(TOPO_TO_PORT_INFO_STREAM, new Fields(FIELD_NAME, FIELD_SWITCH_ID));
     }
 }
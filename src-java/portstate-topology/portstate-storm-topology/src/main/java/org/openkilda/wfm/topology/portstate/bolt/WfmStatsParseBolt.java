@@ -59,11 +59,13 @@ public class WfmStatsParseBolt extends AbstractKafkaParserBolt {
                 .stream()
                 .forEach(port -> collector.emit(WFM_TO_PARSE_PORT_INFO_STREAM, new Values(
                         new PortInfoData(data.getSwitchId(), port.getId(),
-                                port.getStatus() == UP ? PortChangeType.UP : PortChangeType.DOWN))));
+                                port.getStatus() == UP ? PortChangeType.UP : PortChangeType.DOWN),
+                        data.getSwitchId())));
     }
 
     @Override
     public void declareOutputFields(OutputFieldsDeclarer declarer) {
-        declarer.declareStream(WFM_TO_PARSE_PORT_INFO_STREAM, new Fields(TopoDiscoParseBolt.FIELD_NAME));
+        declarer.declareStream(WFM_TO_PARSE_PORT_INFO_STREAM, new Fields(
+                TopoDiscoParseBolt.FIELD_NAME, TopoDiscoParseBolt.FIELD_SWITCH_ID));
     }
 }
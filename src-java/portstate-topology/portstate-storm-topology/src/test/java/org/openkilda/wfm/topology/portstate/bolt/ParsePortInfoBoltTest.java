@@ -0,0 +1,203 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.portstate.bolt;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.messaging.Utils;
+import org.openkilda.messaging.info.event.PortChangeType;
+import org.openkilda.messaging.info.event.PortInfoData;
+import org.openkilda.messaging.info.event.SwitchChangeType;
+import org.openkilda.messaging.info.event.SwitchInfoData;
+import org.openkilda.model.SwitchId;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.storm.metric.api.MultiCountMetric;
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
+import org.apache.storm.tuple.Tuple;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ParsePortInfoBoltTest {
+    private static final String METRIC_PREFIX = "kilda.";
+    private static final int REFRESH_INTERVAL = 10;
+    private static final SwitchId SWITCH_A = new SwitchId(1);
+
+    @Mock
+    private TopologyContext topologyContext;
+
+    @Mock
+    private OutputCollector outputCollector;
+
+    @Captor
+    private ArgumentCaptor<List<Object>> argumentCaptor;
+
+    @Before
+    public void init() {
+        when(topologyContext.registerMetric(
+                eq(ParsePortInfoBolt.METRIC_DATAPOINTS), any(MultiCountMetric.class), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @Test
+    public void shouldEmitEachPortStateWhenNotEventDriven() throws Exception {
+        ParsePortInfoBolt bolt = makeBolt(false);
+
+        bolt.execute(mockPortTuple(SWITCH_A, 1, PortChangeType.UP, false));
+        bolt.execute(mockPortTuple(SWITCH_A, 1, PortChangeType.UP, false));
+
+        assertEquals(2, getEmitted().size());
+    }
+
+    @Test
+    public void shouldEmitOnlyPortStateChanges() throws Exception {
+        ParsePortInfoBolt bolt = makeBolt(true);
+
+        bolt.execute(mockPortTuple(SWITCH_A, 1, PortChangeType.UP, false));
+        bolt.execute(mockPortTuple(SWITCH_A, 1, PortChangeType.UP, false));
+        bolt.execute(mockPortTuple(SWITCH_A, 1, PortChangeType.UP, true));
+        bolt.execute(mockPortTuple(SWITCH_A, 1, PortChangeType.DOWN, true));
+
+        List<JsonNode> emitted = getEmitted();
+        assertEquals(2, emitted.size());
+        assertEquals(1, emitted.get(0).get("value").asInt());
+        assertEquals(0, emitted.get(1).get("value").asInt());
+    }
+
+    @Test
+    public void shouldRefreshOnlySwitchesOfCurrentSlot() throws Exception {
+        ParsePortInfoBolt bolt = makeBolt(true);
+        SwitchId switchB = findSwitchOfAnotherSlot(SWITCH_A);
+        bolt.execute(mockPortTuple(SWITCH_A, 1, PortChangeType.UP, false));
+        bolt.execute(mockPortTuple(SWITCH_A, 2, PortChangeType.DOWN, false));
+        bolt.execute(mockPortTuple(switchB, 1, PortChangeType.UP, false));
+        Mockito.reset(outputCollector);
+
+        bolt.refreshSwitches(TimeUnit.SECONDS.toMillis(getSlot(SWITCH_A)));
+
+        List<JsonNode> emitted = getEmitted();
+        assertEquals(2, emitted.size());
+        for (JsonNode datapoint : emitted) {
+            assertEquals(SWITCH_A.toOtsdFormat(), datapoint.get("tags").get("switchid").asText());
+        }
+
+        Mockito.reset(outputCollector);
+        bolt.refreshSwitches(TimeUnit.SECONDS.toMillis(getSlot(switchB) + REFRESH_INTERVAL));
+
+        emitted = getEmitted();
+        assertEquals(1, emitted.size());
+        assertEquals(switchB.toOtsdFormat(), emitted.get(0).get("tags").get("switchid").asText());
+    }
+
+    @Test
+    public void shouldNotRefreshDeletedPort() throws Exception {
+        ParsePortInfoBolt bolt = makeBolt(true);
+        bolt.execute(mockPortTuple(SWITCH_A, 1, PortChangeType.UP, false));
+        bolt.execute(mockPortTuple(SWITCH_A, 1, PortChangeType.DELETE, false));
+
+        List<JsonNode> emitted = getEmitted();
+        assertEquals(2, emitted.size());
+        assertEquals(0, emitted.get(1).get("value").asInt());
+
+        Mockito.reset(outputCollector);
+        bolt.refreshSwitches(TimeUnit.SECONDS.toMillis(getSlot(SWITCH_A)));
+        verify(outputCollector, never()).emit(anyList());
+    }
+
+    @Test
+    public void shouldForgetPortsOfDisconnectedSwitch() throws Exception {
+        ParsePortInfoBolt bolt = makeBolt(true);
+        bolt.execute(mockPortTuple(SWITCH_A, 1, PortChangeType.UP, false));
+        bolt.execute(mockSwitchTuple(SWITCH_A, SwitchChangeType.DEACTIVATED));
+        Mockito.reset(outputCollector);
+
+        bolt.refreshSwitches(TimeUnit.SECONDS.toMillis(getSlot(SWITCH_A)));
+        verify(outputCollector, never()).emit(anyList());
+
+        // the port is not known any more, so the same state is emitted again after reconnect
+        bolt.execute(mockPortTuple(SWITCH_A, 1, PortChangeType.UP, false));
+        assertEquals(1, getEmitted().size());
+    }
+
+    private ParsePortInfoBolt makeBolt(boolean eventDriven) {
+        ParsePortInfoBolt bolt = new ParsePortInfoBolt(METRIC_PREFIX, eventDriven, REFRESH_INTERVAL);
+        bolt.prepare(Collections.emptyMap(), topologyContext, outputCollector);
+        return bolt;
+    }
+
+    private Tuple mockPortTuple(SwitchId switchId, int port, PortChangeType state, boolean reconciliation) {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.getSourceComponent()).thenReturn(reconciliation
+                ? WfmStatsParseBolt.class.getSimpleName() : TopoDiscoParseBolt.class.getSimpleName());
+        when(tuple.getSourceStreamId()).thenReturn(reconciliation
+                ? WfmStatsParseBolt.WFM_TO_PARSE_PORT_INFO_STREAM : TopoDiscoParseBolt.TOPO_TO_PORT_INFO_STREAM);
+        when(tuple.getValueByField(TopoDiscoParseBolt.FIELD_NAME))
+                .thenReturn(new PortInfoData(switchId, port, state));
+        return tuple;
+    }
+
+    private Tuple mockSwitchTuple(SwitchId switchId, SwitchChangeType state) {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.getSourceComponent()).thenReturn(TopoDiscoParseBolt.class.getSimpleName());
+        when(tuple.getValueByField(TopoDiscoParseBolt.FIELD_NAME)).thenReturn(new SwitchInfoData(switchId, state));
+        return tuple;
+    }
+
+    private List<JsonNode> getEmitted() throws Exception {
+        verify(outputCollector, atLeastOnce()).emit(argumentCaptor.capture());
+        List<JsonNode> result = new ArrayList<>();
+        for (List<Object> values : argumentCaptor.getAllValues()) {
+            result.add(Utils.MAPPER.readTree((String) values.get(0)));
+        }
+        return result;
+    }
+
+    private static long getSlot(SwitchId switchId) {
+        return Math.floorMod(switchId.hashCode(), REFRESH_INTERVAL);
+    }
+
+    private static SwitchId findSwitchOfAnotherSlot(SwitchId switchId) {
+        long slot = getSlot(switchId);
+        for (long dpid = 2; ; dpid++) {
+            SwitchId candidate = new SwitchId(dpid);
+            if (getSlot(candidate) != slot) {
+                return candidate;
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.portstate.bolt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.model.SwitchId;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+public class PortStateTableTest {
+    private static final SwitchId SWITCH_A = new SwitchId(1);
+    private static final SwitchId SWITCH_B = new SwitchId(2);
+
+    @Test
+    public void shouldReturnPreviousPortState() {
+        PortStateTable table = new PortStateTable();
+
+        assertNull(table.update(SWITCH_A, 1, 1));
+        assertEquals(Integer.valueOf(1), table.update(SWITCH_A, 1, 0));
+        assertEquals(Integer.valueOf(0), table.update(SWITCH_A, 1, 0));
+        assertEquals(ImmutableMap.of(1, 0), table.getPorts(SWITCH_A));
+    }
+
+    @Test
+    public void shouldForgetRemovedPort() {
+        PortStateTable table = new PortStateTable();
+        table.update(SWITCH_A, 1, 1);
+        table.update(SWITCH_A, 2, 0);
+
+        assertEquals(Integer.valueOf(1), table.remove(SWITCH_A, 1));
+        assertEquals(ImmutableMap.of(2, 0), table.getPorts(SWITCH_A));
+        assertNull(table.remove(SWITCH_A, 1));
+        assertNull(table.remove(SWITCH_B, 1));
+
+        // the switch without known ports is not refreshed any more
+        table.remove(SWITCH_A, 2);
+        assertTrue(table.getSwitches().isEmpty());
+    }
+
+    @Test
+    public void shouldForgetRemovedSwitch() {
+        PortStateTable table = new PortStateTable();
+        table.update(SWITCH_A, 1, 1);
+        table.update(SWITCH_B, 1, 1);
+
+        table.removeSwitch(SWITCH_A);
+
+        assertEquals(ImmutableSet.of(SWITCH_B), table.getSwitches());
+        assertTrue(table.getPorts(SWITCH_A).isEmpty());
+    }
+}
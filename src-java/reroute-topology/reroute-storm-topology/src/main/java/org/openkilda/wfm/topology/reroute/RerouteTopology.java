@@ -17,6 +17,7 @@ package org.openkilda.wfm.topology.reroute;
 
 import static org.openkilda.wfm.topology.reroute.bolts.FlowRerouteQueueBolt.STREAM_NORTHBOUND_ID;
 import static org.openkilda.wfm.topology.reroute.bolts.OperationQueueBolt.REROUTE_QUEUE_STREAM;
+import static org.openkilda.wfm.topology.reroute.bolts.RerouteBolt.STREAM_FLOW_CHANGE_NOTIFY_ID;
 import static org.openkilda.wfm.topology.reroute.bolts.RerouteBolt.STREAM_MANUAL_REROUTE_REQUEST_ID;
 import static org.openkilda.wfm.topology.reroute.bolts.RerouteBolt.STREAM_REROUTE_REQUEST_ID;
 import static org.openkilda.wfm.topology.reroute.bolts.TimeWindowBolt.STREAM_TIME_WINDOW_EVENT_ID;
@@ -49,6 +50,7 @@ public class RerouteTopology extends AbstractTopology<RerouteTopologyConfig> {
 
     private static final String BOLT_ID_KAFKA_FLOWHS = "kafka-flowhs-bolt";
     private static final String BOLT_ID_KAFKA_NB = "kafka-northbound-bolt";
+    private static final String BOLT_ID_KAFKA_FLOW_CHANGE_NOTIFY = "kafka-flow-change-notify-bolt";
 
     public static final Fields KAFKA_FIELDS = new Fields(FIELD_ID_KEY, FIELD_ID_PAYLOAD);
 
@@ -90,6 +92,11 @@ public class RerouteTopology extends AbstractTopology<RerouteTopologyConfig> {
         topologyBuilder.setBolt(BOLT_ID_KAFKA_NB, kafkaNorthboundBolt, parallelism)
                 .shuffleGrouping(FlowRerouteQueueBolt.BOLT_ID, STREAM_NORTHBOUND_ID);
 
+        KafkaBolt<String, Message> kafkaFlowChangeNotifyBolt =
+                buildKafkaBolt(topologyConfig.getKafkaFlowChangeNotifyTopic());
+        topologyBuilder.setBolt(BOLT_ID_KAFKA_FLOW_CHANGE_NOTIFY, kafkaFlowChangeNotifyBolt, parallelism)
+                .shuffleGrouping(RerouteBolt.BOLT_ID, STREAM_FLOW_CHANGE_NOTIFY_ID);
+
         return topologyBuilder.createTopology();
     }
 
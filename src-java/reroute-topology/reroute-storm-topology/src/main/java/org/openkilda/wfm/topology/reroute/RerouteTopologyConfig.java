@@ -53,4 +53,8 @@ public interface RerouteTopologyConfig extends AbstractTopologyConfig {
     default String getKafkaNorthboundTopic() {
         return getKafkaTopics().getNorthboundTopic();
     }
+
+    default String getKafkaFlowChangeNotifyTopic() {
+        return getKafkaTopics().getFlowChangeNotifyTopic();
+    }
 }
@@ -24,4 +24,9 @@ public interface MessageSender {
     void emitManualRerouteCommand(String flowId, FlowThrottlingData flowThrottlingData);
 
     void emitPathSwapCommand(String correlationId, String flowId, String reason);
+
+    /**
+     * Notifies flow caches (i.e. northbound one) that the flow was changed.
+     */
+    void emitFlowChangedNotification(String flowId);
 }
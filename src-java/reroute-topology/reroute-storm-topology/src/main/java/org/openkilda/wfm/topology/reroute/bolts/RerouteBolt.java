@@ -27,6 +27,7 @@ import org.openkilda.messaging.command.reroute.RerouteAffectedInactiveFlows;
 import org.openkilda.messaging.command.reroute.RerouteInactiveFlows;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.flow.FlowChangedNotification;
 import org.openkilda.messaging.info.reroute.PathSwapResult;
 import org.openkilda.messaging.info.reroute.RerouteResultInfoData;
 import org.openkilda.messaging.info.reroute.SwitchStateChanged;
@@ -34,6 +35,7 @@ import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.CommandContext;
 import org.openkilda.wfm.error.PipelineException;
+import org.openkilda.wfm.topology.reroute.RerouteTopology;
 import org.openkilda.wfm.topology.reroute.model.FlowThrottlingData;
 import org.openkilda.wfm.topology.reroute.service.RerouteService;
 
@@ -57,6 +59,8 @@ public class RerouteBolt extends AbstractBolt implements MessageSender {
     public static final String STREAM_REROUTE_REQUEST_ID = "reroute-request-stream";
     public static final String STREAM_MANUAL_REROUTE_REQUEST_ID = "manual-reroute-request-stream";
 
+    public static final String STREAM_FLOW_CHANGE_NOTIFY_ID = "flow-change-notify-stream";
+
     public static final String STREAM_OPERATION_QUEUE_ID = "operation-queue";
     public static final Fields FIELDS_OPERATION_QUEUE = new Fields(FLOW_ID_FIELD, FIELD_ID_PAYLOAD, FIELD_ID_CONTEXT);
 
@@ -122,7 +126,7 @@ public class RerouteBolt extends AbstractBolt implements MessageSender {
                 emitWithContext(STREAM_OPERATION_QUEUE_ID, getCurrentTuple(),
                         new Values(pathSwapResult.getFlowId(), pathSwapResult));
             } else if (infoData instanceof SwitchStateChanged) {
-                rerouteService.processSingleSwitchFlowStatusUpdate((SwitchStateChanged) infoData);
+                rerouteService.processSingleSwitchFlowStatusUpdate(this, (SwitchStateChanged) infoData);
             } else {
                 unhandledInput(getCurrentTuple());
             }
@@ -176,6 +180,13 @@ public class RerouteBolt extends AbstractBolt implements MessageSender {
                 flowId, context.getCorrelationId(), reason);
     }
 
+    @Override
+    public void emitFlowChangedNotification(String flowId) {
+        String correlationId = getCommandContext().getCorrelationId();
+        getOutput().emit(STREAM_FLOW_CHANGE_NOTIFY_ID, getCurrentTuple(), new Values(flowId,
+                new InfoMessage(new FlowChangedNotification(flowId), System.currentTimeMillis(), correlationId)));
+    }
+
     @Override
     public void declareOutputFields(OutputFieldsDeclarer output) {
         output.declareStream(STREAM_REROUTE_REQUEST_ID,
@@ -183,5 +194,6 @@ public class RerouteBolt extends AbstractBolt implements MessageSender {
         output.declareStream(STREAM_MANUAL_REROUTE_REQUEST_ID,
                 new Fields(FLOW_ID_FIELD, THROTTLING_DATA_FIELD, FIELD_ID_CONTEXT));
         output.declareStream(STREAM_OPERATION_QUEUE_ID, FIELDS_OPERATION_QUEUE);
+        output.declareStream(STREAM_FLOW_CHANGE_NOTIFY_ID, RerouteTopology.KAFKA_FIELDS);
     }
 }
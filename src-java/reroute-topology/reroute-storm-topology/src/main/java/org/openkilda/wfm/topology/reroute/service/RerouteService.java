@@ -56,6 +56,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -90,7 +91,9 @@ public class RerouteService {
         SwitchId switchId = pathNode.getSwitchId();
         final IslEndpoint affectedIsl = new IslEndpoint(switchId, port);
 
+        Set<String> changedFlowIds = new HashSet<>();
         transactionManager.doInTransaction(() -> {
+            changedFlowIds.clear();
             Collection<FlowPath> affectedFlowPaths = getAffectedFlowPaths(pathNode.getSwitchId(), pathNode.getPortNo());
 
             // swapping affected primary paths with available protected
@@ -107,7 +110,9 @@ public class RerouteService {
                 if (!FlowStatus.UP.equals(flowStatus)) {
                     flowStatusInfo = command.getReason();
                 }
-                flowRepository.updateStatusSafe(flow, flowStatus, flowStatusInfo);
+                if (updateFlowStatus(flow, flowStatus, flowStatusInfo) || flowPathFound) {
+                    changedFlowIds.add(flow.getFlowId());
+                }
 
                 if (flowPathFound) {
                     FlowThrottlingData flowThrottlingData = getFlowThrottlingDataBuilder(flow)
@@ -124,13 +129,17 @@ public class RerouteService {
             Set<Flow> affectedPinnedFlows = groupAffectedPinnedFlows(affectedFlowPaths);
             for (Flow flow : affectedPinnedFlows) {
                 List<FlowPath> flowPaths = new ArrayList<>(flow.getPaths());
-                updateFlowPathsStateForFlow(switchId, port, flowPaths);
+                boolean flowChanged = updateFlowPathsStateForFlow(switchId, port, flowPaths);
                 if (flow.getStatus() != FlowStatus.DOWN) {
                     flowDashboardLogger.onFlowStatusUpdate(flow.getFlowId(), FlowStatus.DOWN);
-                    flowRepository.updateStatusSafe(flow, FlowStatus.DOWN, command.getReason());
+                    flowChanged |= updateFlowStatus(flow, FlowStatus.DOWN, command.getReason());
+                }
+                if (flowChanged) {
+                    changedFlowIds.add(flow.getFlowId());
                 }
             }
         });
+        changedFlowIds.forEach(sender::emitFlowChangedNotification);
     }
 
     private boolean updateFlowPathsStateForFlow(SwitchId switchId, int port, List<FlowPath> paths) {
@@ -203,11 +212,14 @@ public class RerouteService {
         int port = pathNode.getPortNo();
         SwitchId switchId = pathNode.getSwitchId();
 
+        Set<String> changedFlowIds = new HashSet<>();
         transactionManager.doInTransaction(() -> {
+            changedFlowIds.clear();
             Map<Flow, Set<PathId>> flowsForRerouting = getInactiveFlowsForRerouting();
 
             for (Entry<Flow, Set<PathId>> entry : flowsForRerouting.entrySet()) {
                 Flow flow = entry.getKey();
+                boolean flowChanged = false;
                 Set<IslEndpoint> allAffectedIslEndpoints = new HashSet<>();
                 for (FlowPath flowPath : flow.getPaths()) {
                     Set<IslEndpoint> affectedIslEndpoints = new HashSet<>();
@@ -227,6 +239,7 @@ public class RerouteService {
                             if (pathSegment.containsNode(switchId, port)) {
                                 pathSegment.setFailed(false);
                                 pathSegmentRepository.updateFailedStatus(flowPath, pathSegment, false);
+                                flowChanged = true;
                             } else {
                                 failedSegmentsCount++;
                             }
@@ -234,7 +247,7 @@ public class RerouteService {
                     }
 
                     if (flowPath.getStatus().equals(FlowPathStatus.INACTIVE) && failedSegmentsCount == 0) {
-                        updateFlowPathStatus(flowPath, FlowPathStatus.ACTIVE);
+                        flowChanged |= updateFlowPathStatus(flowPath, FlowPathStatus.ACTIVE);
 
                         // force reroute of failed path only (required due to inaccurate path/segment state management)
                         if (affectedIslEndpoints.isEmpty() && firstSegment != null) {
@@ -250,7 +263,10 @@ public class RerouteService {
                 if (!FlowStatus.UP.equals(flowStatus)) {
                     flowStatusInfo = command.getReason();
                 }
-                flowRepository.updateStatusSafe(flow, flowStatus, flowStatusInfo);
+                flowChanged |= updateFlowStatus(flow, flowStatus, flowStatusInfo);
+                if (flowChanged) {
+                    changedFlowIds.add(flow.getFlowId());
+                }
 
                 if (flow.isPinned()) {
                     log.info("Skipping reroute command for pinned flow {}", flow.getFlowId());
@@ -270,6 +286,7 @@ public class RerouteService {
                 }
             }
         });
+        changedFlowIds.forEach(sender::emitFlowChangedNotification);
     }
 
     /**
@@ -359,14 +376,26 @@ public class RerouteService {
                 .collect(toSet());
     }
 
-    private void updateFlowPathStatus(FlowPath path, FlowPathStatus status) {
+    private boolean updateFlowPathStatus(FlowPath path, FlowPathStatus status) {
         try {
             path.setStatus(status);
+            return true;
         } catch (PersistenceException e) {
             log.error("Unable to set path {} status to {}: {}", path.getPathId(), status, e.getMessage());
+            return false;
         }
     }
 
+    /**
+     * Updates flow status (if the flow is not in progress), returns true if the status was changed.
+     */
+    private boolean updateFlowStatus(Flow flow, FlowStatus status, String statusInfo) {
+        FlowStatus originalStatus = flow.getStatus();
+        String originalStatusInfo = flow.getStatusInfo();
+        flowRepository.updateStatusSafe(flow, status, statusInfo);
+        return originalStatus != flow.getStatus() || !Objects.equals(originalStatusInfo, flow.getStatusInfo());
+    }
+
     /**
      * Process manual reroute request.
      */
@@ -385,8 +414,10 @@ public class RerouteService {
     /**
      * Handles request to update single switch flow status.
      */
-    public void processSingleSwitchFlowStatusUpdate(SwitchStateChanged request) {
+    public void processSingleSwitchFlowStatusUpdate(MessageSender sender, SwitchStateChanged request) {
+        Set<String> changedFlowIds = new HashSet<>();
         transactionManager.doInTransaction(() -> {
+            changedFlowIds.clear();
             Collection<Flow> affectedFlows = flowRepository.findOneSwitchFlows(request.getSwitchId());
             FlowStatus newFlowStatus = request.getStatus() == SwitchStatus.ACTIVE ? FlowStatus.UP : FlowStatus.DOWN;
             String newFlowStatusInfo = request.getStatus() == SwitchStatus.ACTIVE
@@ -401,8 +432,10 @@ public class RerouteService {
                 flow.setStatusInfo(newFlowStatusInfo);
                 flow.getForwardPath().setStatus(newFlowPathStatus);
                 flow.getReversePath().setStatus(newFlowPathStatus);
+                changedFlowIds.add(flow.getFlowId());
             }
         });
+        changedFlowIds.forEach(sender::emitFlowChangedNotification);
     }
 
     private FlowThrottlingDataBuilder getFlowThrottlingDataBuilder(Flow flow) {
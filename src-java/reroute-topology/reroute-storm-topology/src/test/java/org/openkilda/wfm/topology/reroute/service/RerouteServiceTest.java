@@ -256,6 +256,7 @@ public class RerouteServiceTest {
         rerouteService.rerouteInactiveFlows(messageSender, CORRELATION_ID,
                 REROUTE_INACTIVE_FLOWS_COMMAND);
         assertEquals(FlowStatus.UP, pinnedFlow.getStatus());
+        verify(messageSender).emitFlowChangedNotification(eq(pinnedFlow.getFlowId()));
         for (FlowPath fp : pinnedFlow.getPaths()) {
             assertEquals(FlowPathStatus.ACTIVE, fp.getStatus());
             for (PathSegment ps : fp.getSegments()) {
@@ -365,11 +366,48 @@ public class RerouteServiceTest {
 
         RerouteService rerouteService = new RerouteService(persistenceManager);
 
-        rerouteService.processSingleSwitchFlowStatusUpdate(
+        rerouteService.processSingleSwitchFlowStatusUpdate(carrier,
                 new SwitchStateChanged(oneSwitchFlow.getSrcSwitchId(), SwitchStatus.INACTIVE));
 
         assertEquals(format("Switch %s is inactive", oneSwitchFlow.getSrcSwitchId()),
                 FlowStatus.DOWN, oneSwitchFlow.getStatus());
+        verify(carrier).emitFlowChangedNotification(eq(oneSwitchFlow.getFlowId()));
+    }
+
+    @Test
+    public void shouldNotifyFlowChangeWhenAffectedFlowStatusIsUpdated() {
+        PathNode islSide = new PathNode(SWITCH_A.getSwitchId(), 1, 0);
+
+        FlowPathRepository pathRepository = mock(FlowPathRepository.class);
+        when(pathRepository.findBySegmentEndpoint(eq(islSide.getSwitchId()), eq(islSide.getPortNo())))
+                .thenReturn(Arrays.asList(regularFlow.getForwardPath(), regularFlow.getReversePath()));
+
+        FlowRepository flowRepository = mock(FlowRepository.class);
+        doAnswer(invocation -> {
+            FlowStatus status = invocation.getArgument(1);
+            regularFlow.setStatus(status);
+            return null;
+        }).when(flowRepository).updateStatusSafe(eq(regularFlow), any(), any());
+
+        RepositoryFactory repositoryFactory = mock(RepositoryFactory.class);
+        when(repositoryFactory.createPathSegmentRepository())
+                .thenReturn(mock(PathSegmentRepository.class));
+        when(repositoryFactory.createFlowPathRepository())
+                .thenReturn(pathRepository);
+        when(repositoryFactory.createFlowRepository())
+                .thenReturn(flowRepository);
+
+        PersistenceManager persistenceManager = mock(PersistenceManager.class);
+        when(persistenceManager.getRepositoryFactory()).thenReturn(repositoryFactory);
+        when(persistenceManager.getTransactionManager()).thenReturn(transactionManager);
+
+        RerouteService rerouteService = new RerouteService(persistenceManager);
+
+        RerouteAffectedFlows request = new RerouteAffectedFlows(islSide, "dummy-reason - unittest");
+        rerouteService.rerouteAffectedFlows(carrier, CORRELATION_ID, request);
+
+        assertEquals(FlowStatus.DOWN, regularFlow.getStatus());
+        verify(carrier).emitFlowChangedNotification(eq(regularFlow.getFlowId()));
     }
 
     @Test
@@ -25,17 +25,20 @@ import org.openkilda.persistence.repositories.FeatureTogglesRepository;
 import org.openkilda.persistence.repositories.FlowRepository;
 import org.openkilda.persistence.repositories.RepositoryFactory;
 import org.openkilda.persistence.repositories.SwitchPropertiesRepository;
+import org.openkilda.server42.control.messaging.flowrtt.AddFlow;
+import org.openkilda.server42.messaging.FlowDirection;
 
+import com.google.common.collect.Lists;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
 public class FlowRttService {
+    // keeps the kafka message size reasonable for switches with thousands of flows
+    private static final int ACTIVATION_BATCH_SIZE = 1000;
 
     private final IFlowCarrier carrier;
     private final FeatureTogglesRepository featureTogglesRepository;
@@ -68,27 +71,20 @@ public class FlowRttService {
     }
 
     /**
-     * Activate monitoring for all existed flows on provided switch.
+     * Activate monitoring for all existed flows on provided switch. Flows are sent in batches, so server42
+     * control can skip the ones already monitored.
      *
      * @param switchId switch id
      */
     public void activateFlowMonitoringForSwitch(SwitchId switchId) {
-        Map<Boolean, List<Flow>> flowByDirection =
-                flowRepository.findByEndpointSwitch(switchId).stream()
-                        .filter(f -> !f.isOneSwitchFlow())
-                        .collect(Collectors.partitioningBy(
-                                f -> f.getSrcSwitchId().equals(switchId)));
-
-
-        flowByDirection.getOrDefault(true, Collections.emptyList())
-                .forEach(flow -> carrier.notifyActivateFlowMonitoring(flow.getFlowId(),
-                        switchId, flow.getSrcPort(), flow.getSrcVlan(), true
-                ));
+        List<AddFlow> flows = flowRepository.findByEndpointSwitch(switchId).stream()
+                .filter(f -> !f.isOneSwitchFlow())
+                .map(f -> makeAddFlow(f, f.getSrcSwitchId().equals(switchId)))
+                .collect(Collectors.toList());
 
-        flowByDirection.getOrDefault(false, Collections.emptyList())
-                .forEach(flow -> carrier.notifyActivateFlowMonitoring(flow.getFlowId(),
-                        switchId, flow.getDestPort(), flow.getDestVlan(), false
-                ));
+        for (List<AddFlow> batch : Lists.partition(flows, ACTIVATION_BATCH_SIZE)) {
+            carrier.notifyActivateFlowMonitoringOnSwitch(switchId, batch);
+        }
     }
 
     /**
@@ -106,6 +102,17 @@ public class FlowRttService {
         carrier.sendListOfFlowBySwitchId(switchId, flowOnSwitch);
     }
 
+    private AddFlow makeAddFlow(Flow flow, boolean isForward) {
+        Integer port = isForward ? flow.getSrcPort() : flow.getDestPort();
+        Integer vlan = isForward ? flow.getSrcVlan() : flow.getDestVlan();
+        return AddFlow.builder()
+                .flowId(flow.getFlowId())
+                .port(port)
+                .tunnelId(vlan.longValue())
+                .direction(isForward ? FlowDirection.FORWARD : FlowDirection.REVERSE)
+                .build();
+    }
+
     private boolean isFlowRttFeatureToggle() {
         return featureTogglesRepository.find().map(FeatureToggles::getServer42FlowRtt)
                 .orElse(FeatureToggles.DEFAULTS.getServer42FlowRtt());
@@ -16,13 +16,17 @@
 package org.openkilda.server42.control.topology.service;
 
 import org.openkilda.model.SwitchId;
+import org.openkilda.server42.control.messaging.flowrtt.AddFlow;
 
+import java.util.List;
 import java.util.Set;
 
 public interface IFlowCarrier {
 
     void notifyActivateFlowMonitoring(String id, SwitchId switchId, Integer port, Integer vlan, boolean isForward);
 
+    void notifyActivateFlowMonitoringOnSwitch(SwitchId switchId, List<AddFlow> flows);
+
     void notifyDeactivateFlowMonitoring(SwitchId switchId, String flowId, boolean isForward);
 
     void processSendFlowListOnSwitchCommand(SwitchId switchId);
@@ -19,6 +19,7 @@ import org.openkilda.messaging.payload.flow.FlowEndpointPayload;
 import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.server42.control.messaging.flowrtt.AddFlow;
+import org.openkilda.server42.control.messaging.flowrtt.AddFlowBatch;
 import org.openkilda.server42.control.messaging.flowrtt.ClearFlows;
 import org.openkilda.server42.control.messaging.flowrtt.Headers;
 import org.openkilda.server42.control.messaging.flowrtt.ListFlowsOnSwitch;
@@ -38,6 +39,7 @@ import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
+import java.util.List;
 import java.util.Set;
 
 public class FlowHandler extends AbstractBolt
@@ -117,6 +119,16 @@ public class FlowHandler extends AbstractBolt
         emit(STREAM_CONTROL_COMMANDS_ID, getCurrentTuple(), new Values(switchId.toString(), addFlow));
     }
 
+    @Override
+    public void notifyActivateFlowMonitoringOnSwitch(SwitchId switchId, List<AddFlow> flows) {
+        AddFlowBatch addFlowBatch = AddFlowBatch.builder()
+                .headers(buildHeader())
+                .flows(flows)
+                .build();
+
+        emit(STREAM_CONTROL_COMMANDS_ID, getCurrentTuple(), new Values(switchId.toString(), addFlowBatch));
+    }
+
     @Override
     public void processSendFlowListOnSwitchCommand(SwitchId switchId) {
         flowRttService.sendFlowListOnSwitchCommand(switchId);
@@ -18,6 +18,7 @@ package org.openkilda.server42.control.kafka;
 import org.openkilda.model.SwitchId;
 import org.openkilda.server42.control.config.SwitchToVlanMapping;
 import org.openkilda.server42.control.messaging.flowrtt.AddFlow;
+import org.openkilda.server42.control.messaging.flowrtt.AddFlowBatch;
 import org.openkilda.server42.control.messaging.flowrtt.ClearFlows;
 import org.openkilda.server42.control.messaging.flowrtt.Control;
 import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacket;
@@ -48,8 +49,12 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
 
 import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -74,6 +79,12 @@ public class Gate {
     @Value("${openkilda.server42.control.flow_rtt.udp_src_port_offset}")
     private Integer udpSrcPortOffset;
 
+    /**
+     * Max number of add/remove flow commands packed into one command packet.
+     */
+    @Value("${openkilda.server42.control.zeromq.batch.size:500}")
+    private Integer batchSize;
+
     private Map<String, Long> switchToVlanMap;
 
     public Gate(@Autowired KafkaTemplate<String, Object> template,
@@ -91,25 +102,9 @@ public class Gate {
     @KafkaHandler
     void listen(@Payload AddFlow data,
                         @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) String switchIdKey) {
-
-        SwitchId switchId = new SwitchId(switchIdKey);
-
         Builder builder = CommandPacket.newBuilder();
-        Flow flow = Flow.newBuilder()
-                .setFlowId(data.getFlowId())
-                .setEncapsulationType(EncapsulationType.forNumber(data.getEncapsulationType().ordinal()))
-                .setTunnelId(data.getTunnelId())
-                .setTransitEncapsulationType(EncapsulationType.VLAN)
-                .setTransitTunnelId(switchToVlanMap.get(switchIdKey))
-                .setDirection(FlowDirection.toBoolean(data.getDirection()))
-                .setUdpSrcPort(udpSrcPortOffset + data.getPort())
-                .setDstMac(switchId.toMacAddress())
-                .setHashCode(data.hashCode())
-                .build();
-
-        Control.AddFlow addFlow = Control.AddFlow.newBuilder().setFlow(flow).build();
         builder.setType(Type.ADD_FLOW);
-        builder.addCommand(Any.pack(addFlow));
+        builder.addCommand(makeAddFlowCommand(makeFlow(data, switchIdKey)));
         CommandPacket packet = builder.build();
         try {
             zeroMqClient.send(packet);
@@ -118,6 +113,35 @@ public class Gate {
         }
     }
 
+    @KafkaHandler
+    void listen(@Payload AddFlowBatch data,
+                @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) String switchIdKey) {
+        Map<SimpleEntry<String, Boolean>, Long> existing = new HashMap<>();
+        try {
+            CommandPacketResponse serverResponse = zeroMqClient.send(getFlowListCommandPacket(switchIdKey));
+            if (serverResponse != null) {
+                for (Any any : serverResponse.getResponseList()) {
+                    Flow flow = any.unpack(Flow.class);
+                    existing.put(new SimpleEntry<>(flow.getFlowId(), flow.getDirection()), flow.getHashCode());
+                }
+            } else {
+                log.warn("No flow list from server on {}, send all flows", data.getHeaders().getCorrelationId());
+            }
+        } catch (InvalidProtocolBufferException e) {
+            log.error("Marshalling error on flow list for {}, send all flows", switchIdKey);
+        }
+
+        // flows with changed endpoint (port, vlan, etc) have different hash and must be sent again
+        List<Any> commands = data.getFlows().stream()
+                .map(flow -> makeFlow(flow, switchIdKey))
+                .filter(flow -> !Long.valueOf(flow.getHashCode()).equals(
+                        existing.get(new SimpleEntry<>(flow.getFlowId(), flow.getDirection()))))
+                .map(this::makeAddFlowCommand)
+                .collect(Collectors.toList());
+        log.info("Activate flow RTT for {} of {} flows on {}", commands.size(), data.getFlows().size(), switchIdKey);
+        sendBatches(Type.ADD_FLOW, commands);
+    }
+
     @KafkaHandler
     void listen(ClearFlows data,
                 @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) String switchIdKey) {
@@ -174,13 +198,15 @@ public class Gate {
                 return;
             }
 
+            List<Any> commands = new ArrayList<>();
             for (Any any : serverResponse.getResponseList()) {
                 String flowId = any.unpack(Flow.class).getFlowId();
                 if (!data.getFlowIds().contains(flowId)) {
-                    removeFlow(flowId, FlowDirection.FORWARD);
-                    removeFlow(flowId, FlowDirection.REVERSE);
+                    commands.add(makeRemoveFlowCommand(flowId, FlowDirection.FORWARD));
+                    commands.add(makeRemoveFlowCommand(flowId, FlowDirection.REVERSE));
                 }
             }
+            sendBatches(Type.REMOVE_FLOW, commands);
 
         } catch (InvalidProtocolBufferException e) {
             log.error("Marshalling error on {}", data);
@@ -213,15 +239,65 @@ public class Gate {
 
     private void removeFlow(String flowId, FlowDirection direction) throws InvalidProtocolBufferException {
         Builder builder = CommandPacket.newBuilder();
+        builder.setType(Type.REMOVE_FLOW);
+        builder.addCommand(makeRemoveFlowCommand(flowId, direction));
+        CommandPacket packet = builder.build();
+        zeroMqClient.send(packet);
+    }
+
+    /**
+     * Pack commands into packets of {@code batchSize} commands and send them pipelined.
+     */
+    private void sendBatches(Type type, List<Any> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        List<CommandPacket> packets = new ArrayList<>();
+        for (int offset = 0; offset < commands.size(); offset += batchSize) {
+            packets.add(CommandPacket.newBuilder()
+                    .setType(type)
+                    .addAllCommand(commands.subList(offset, Math.min(offset + batchSize, commands.size())))
+                    .build());
+        }
+        zeroMqClient.sendAll(packets);
+    }
+
+    Flow makeFlow(AddFlow data, String switchIdKey) {
+        SwitchId switchId = new SwitchId(switchIdKey);
+        Flow flow = Flow.newBuilder()
+                .setFlowId(data.getFlowId())
+                .setEncapsulationType(EncapsulationType.forNumber(data.getEncapsulationType().ordinal()))
+                .setTunnelId(data.getTunnelId())
+                .setTransitEncapsulationType(EncapsulationType.VLAN)
+                .setTransitTunnelId(switchToVlanMap.get(switchIdKey))
+                .setDirection(FlowDirection.toBoolean(data.getDirection()))
+                .setUdpSrcPort(udpSrcPortOffset + data.getPort())
+                .setDstMac(switchId.toMacAddress())
+                .build();
+        return flow.toBuilder().setHashCode(endpointHash(flow)).build();
+    }
+
+    /**
+     * Hash of the flow endpoint, stable between restarts. The server skips add requests of flows it already has with
+     * the same hash and lists flows with their hashes.
+     */
+    private static long endpointHash(Flow flow) {
+        return Objects.hash(flow.getFlowId(), flow.getEncapsulationTypeValue(), flow.getTunnelId(),
+                flow.getTransitEncapsulationTypeValue(), flow.getTransitTunnelId(), flow.getDirection(),
+                flow.getUdpSrcPort(), flow.getDstMac());
+    }
+
+    private Any makeAddFlowCommand(Flow flow) {
+        return Any.pack(Control.AddFlow.newBuilder().setFlow(flow).build());
+    }
+
+    private Any makeRemoveFlowCommand(String flowId, FlowDirection direction) {
         Flow flow = Flow.newBuilder()
                 .setFlowId(flowId)
                 .setDirection(FlowDirection.toBoolean(direction))
                 .build();
-        Control.RemoveFlow removeFlow = Control.RemoveFlow.newBuilder().setFlow(flow).build();
-        builder.setType(Type.REMOVE_FLOW);
-        builder.addCommand(Any.pack(removeFlow));
-        CommandPacket packet = builder.build();
-        zeroMqClient.send(packet);
+        return Any.pack(Control.RemoveFlow.newBuilder().setFlow(flow).build());
     }
 
     private CommandPacket getFlowListCommandPacket(String switchIdKey) {
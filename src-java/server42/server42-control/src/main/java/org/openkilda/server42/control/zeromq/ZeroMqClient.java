@@ -29,6 +29,13 @@ import org.zeromq.ZMQ.Poller;
 import org.zeromq.ZMQ.Socket;
 import zmq.ZError;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 
@@ -41,6 +48,10 @@ public class ZeroMqClient {
     private Socket client;
     private Poller poller;
 
+    private Socket pipeline;
+    private Poller pipelinePoller;
+    private long communicationId = 0;
+
     @Value("${openkilda.server42.control.zeromq.server.endpoint}")
     private String serverEndpoint;
 
@@ -50,6 +61,12 @@ public class ZeroMqClient {
     @Value("${openkilda.server42.control.zeromq.request.retries}")
     private Long requestRetries;
 
+    /**
+     * Max number of requests sent by {@link #sendAll(List)} without waiting for responses.
+     */
+    @Value("${openkilda.server42.control.zeromq.pipeline.size:16}")
+    private Integer pipelineSize;
+
     @PostConstruct
     private void init() {
         ctx = new ZContext();
@@ -76,6 +93,104 @@ public class ZeroMqClient {
         return CommandPacketResponse.parseFrom(response);
     }
 
+    /**
+     * Send packets keeping up to {@code pipelineSize} requests in flight. Responses are matched to requests by the
+     * communication id echoed by the server. Packets not confirmed before the request timeout are sent again on a new
+     * connection, so packets must be idempotent (add/remove flow).
+     * @return number of packets confirmed by the server
+     */
+    public int sendAll(List<CommandPacket> packets) {
+        Map<Long, byte[]> unconfirmed = new LinkedHashMap<>();
+        for (CommandPacket packet : packets) {
+            long id = ++communicationId;
+            unconfirmed.put(id, packet.toBuilder().setCommunicationId(id).build().toByteArray());
+        }
+
+        long retriesLeft = requestRetries;
+        try {
+            while (!unconfirmed.isEmpty() && retriesLeft > 0 && !Thread.currentThread().isInterrupted()) {
+                try {
+                    if (pipeline == null) {
+                        reconnectPipeline();
+                    }
+                    if (!sendPipelined(unconfirmed)) {
+                        closePipeline();
+                        if (--retriesLeft > 0) {
+                            log.warn("no response from server, resend {} of {} packets",
+                                    unconfirmed.size(), packets.size());
+                        }
+                    }
+                } catch (org.zeromq.ZMQException ex) {
+                    log.error(ex.toString());
+                    retriesLeft--;
+                    closePipeline();
+                }
+            }
+        } finally {
+            if (!unconfirmed.isEmpty()) {
+                // replies to the abandoned requests must not reach the next call
+                closePipeline();
+            }
+        }
+
+        if (!unconfirmed.isEmpty()) {
+            log.error("server seems to be offline, {} of {} packets are not confirmed",
+                    unconfirmed.size(), packets.size());
+        }
+        return packets.size() - unconfirmed.size();
+    }
+
+    /**
+     * Send all unconfirmed packets, confirmed ones are removed from the map. Returns false on response timeout.
+     */
+    private boolean sendPipelined(Map<Long, byte[]> unconfirmed) {
+        Iterator<Map.Entry<Long, byte[]>> pending = new ArrayList<>(unconfirmed.entrySet()).iterator();
+        Set<Long> inFlight = new HashSet<>();
+        while (pending.hasNext() || !inFlight.isEmpty()) {
+            while (inFlight.size() < pipelineSize && pending.hasNext()) {
+                Map.Entry<Long, byte[]> entry = pending.next();
+                // empty delimiter frame makes DEALER requests look like REQ ones for the REP server
+                pipeline.sendMore("");
+                pipeline.send(entry.getValue());
+                inFlight.add(entry.getKey());
+            }
+
+            int rc = pipelinePoller.poll(requestTimeout);
+            if (rc == -1 || !pipelinePoller.pollin(0)) {
+                return false;
+            }
+            pipeline.recv(); // delimiter
+            CommandPacketResponse response = parseResponse(pipeline.recv());
+            if (response == null) {
+                continue;
+            }
+
+            long id = response.getCommunicationId();
+            if (inFlight.remove(id)) {
+                unconfirmed.remove(id);
+                logResponseErrors(id, response);
+            } else {
+                log.warn("Ignore server response on unknown packet {}", id);
+            }
+        }
+        return true;
+    }
+
+    private CommandPacketResponse parseResponse(byte[] response) {
+        try {
+            return CommandPacketResponse.parseFrom(response);
+        } catch (InvalidProtocolBufferException e) {
+            log.error("Unable to parse server response", e);
+            return null;
+        }
+    }
+
+    private void logResponseErrors(long id, CommandPacketResponse response) {
+        if (response.getErrorCount() > 0) {
+            log.error("server reports errors on packet {}: {}", id, response.getErrorList());
+        }
+    }
+
     private byte[] sendRequest(byte[] request) {
         long retriesLeft = requestRetries;
         while (retriesLeft > 0 && !Thread.currentThread().isInterrupted()) {
@@ -128,4 +243,26 @@ public class ZeroMqClient {
         }
         poller.register(client, Poller.POLLIN);
     }
+
+    private void reconnectPipeline() {
+        closePipeline();
+        log.info("reconnecting pipeline to server {}", serverEndpoint);
+        pipeline = ctx.createSocket(ZMQ.DEALER);
+        pipeline.connect(serverEndpoint);
+        if (pipelinePoller == null) {
+            pipelinePoller = ctx.createPoller(1);
+        }
+        pipelinePoller.register(pipeline, Poller.POLLIN);
+    }
+
+    private void closePipeline() {
+        if (pipeline == null) {
+            return;
+        }
+        if (pipelinePoller != null) {
+            pipelinePoller.unregister(pipeline);
+        }
+        ctx.destroySocket(pipeline);
+        pipeline = null;
+    }
 }
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.when;
 
 import org.openkilda.server42.control.config.SwitchToVlanMapping;
 import org.openkilda.server42.control.messaging.flowrtt.AddFlow;
+import org.openkilda.server42.control.messaging.flowrtt.AddFlowBatch;
 import org.openkilda.server42.control.messaging.flowrtt.ClearFlows;
 import org.openkilda.server42.control.messaging.flowrtt.Control;
 import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacket;
@@ -53,6 +54,7 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -131,6 +133,63 @@ public class GateTest {
         assertThat(flow.getDstMac()).isSubstringOf(switchId).isNotEqualTo(switchId);
     }
 
+    @Test
+    public void addFlowBatchSendsMissingFlowsOnly() throws Exception {
+        String switchId = "00:00:1b:45:18:d6:71:5a";
+        Flow existing = gate.makeFlow(makeAddFlow("existing-flow-id", FlowDirection.FORWARD), switchId);
+        CommandPacketResponse listResponse = CommandPacketResponse.newBuilder()
+                .addResponse(Any.pack(Flow.newBuilder()
+                        .setFlowId(existing.getFlowId())
+                        .setDirection(existing.getDirection())
+                        .setHashCode(existing.getHashCode())
+                        .build()))
+                .build();
+        when(zeroMqClient.send(argThat(
+                commandPacket -> commandPacket.getType() == Type.LIST_FLOWS)))
+                .thenReturn(listResponse);
+
+        AddFlowBatch addFlowBatch = AddFlowBatch.builder()
+                .headers(Headers.builder().correlationId("some-correlation-id").build())
+                .flow(makeAddFlow("existing-flow-id", FlowDirection.FORWARD))
+                .flow(makeAddFlow("existing-flow-id", FlowDirection.REVERSE))
+                .flow(makeAddFlow("missing-flow-id", FlowDirection.FORWARD))
+                .build();
+        gate.listen(addFlowBatch, switchId);
+
+        assertThat(getSentFlows()).containsExactlyInAnyOrder("existing-flow-id:true", "missing-flow-id:false");
+    }
+
+    @Test
+    public void addFlowBatchSendsFlowsWithChangedEndpoint() throws Exception {
+        String switchId = "00:00:1b:45:18:d6:71:5a";
+        Flow existing = gate.makeFlow(makeAddFlow("existing-flow-id", FlowDirection.FORWARD), switchId);
+        CommandPacketResponse listResponse = CommandPacketResponse.newBuilder()
+                .addResponse(Any.pack(Flow.newBuilder()
+                        .setFlowId(existing.getFlowId())
+                        .setDirection(existing.getDirection())
+                        .setHashCode(existing.getHashCode())
+                        .build()))
+                .build();
+        when(zeroMqClient.send(argThat(
+                commandPacket -> commandPacket.getType() == Type.LIST_FLOWS)))
+                .thenReturn(listResponse);
+
+        AddFlow moved = AddFlow.builder()
+                .flowId("existing-flow-id")
+                .encapsulationType(EncapsulationType.VLAN)
+                .tunnelId(1001L)
+                .direction(FlowDirection.FORWARD)
+                .port(43)
+                .build();
+        AddFlowBatch addFlowBatch = AddFlowBatch.builder()
+                .headers(Headers.builder().correlationId("some-correlation-id").build())
+                .flow(moved)
+                .build();
+        gate.listen(addFlowBatch, switchId);
+
+        assertThat(getSentFlows()).containsExactly("existing-flow-id:false");
+    }
+
     @Test
     public void removeFlow() throws Exception {
 
@@ -225,6 +284,33 @@ public class GateTest {
         assertThat(unpack.getPacketGenerationIntervalInMs()).isEqualTo(500);
     }
 
+    private AddFlow makeAddFlow(String flowId, FlowDirection direction) {
+        return AddFlow.builder()
+                .flowId(flowId)
+                .encapsulationType(EncapsulationType.VLAN)
+                .tunnelId(1001L)
+                .direction(direction)
+                .port(42)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> getSentFlows() throws InvalidProtocolBufferException {
+        ArgumentCaptor<List<CommandPacket>> argument = ArgumentCaptor.forClass(List.class);
+        verify(zeroMqClient).sendAll(argument.capture());
+
+        List<CommandPacket> packets = argument.getValue();
+        assertThat(packets).hasSize(1);
+        assertThat(packets.get(0).getType()).isEqualTo(Type.ADD_FLOW);
+
+        List<String> flows = new ArrayList<>();
+        for (Any command : packets.get(0).getCommandList()) {
+            Flow flow = command.unpack(Control.AddFlow.class).getFlow();
+            flows.add(flow.getFlowId() + ":" + flow.getDirection());
+        }
+        return flows;
+    }
+
     private CommandPacket getCommandPacket() throws InvalidProtocolBufferException {
         ArgumentCaptor<CommandPacket> argument = ArgumentCaptor.forClass(CommandPacket.class);
         verify(zeroMqClient).send(argument.capture());
@@ -38,5 +38,6 @@ public enum StatsComponentType {
     STATS_CACHE_FILTER_BOLT,
     SPEAKER_REQUEST_DECODER,
     SERVER42_STATS_FLOW_RTT_SPOUT,
-    SERVER42_STATS_FLOW_RTT_METRIC_GEN
+    SERVER42_STATS_FLOW_RTT_METRIC_GEN,
+    SERVER42_STATS_FLOW_RTT_TICK_BOLT
 }
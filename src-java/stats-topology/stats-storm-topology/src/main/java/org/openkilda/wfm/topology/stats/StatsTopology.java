@@ -23,6 +23,7 @@ import static org.openkilda.wfm.topology.stats.StatsComponentType.PACKET_IN_OUT_
 import static org.openkilda.wfm.topology.stats.StatsComponentType.PORT_STATS_METRIC_GEN;
 import static org.openkilda.wfm.topology.stats.StatsComponentType.SERVER42_STATS_FLOW_RTT_METRIC_GEN;
 import static org.openkilda.wfm.topology.stats.StatsComponentType.SERVER42_STATS_FLOW_RTT_SPOUT;
+import static org.openkilda.wfm.topology.stats.StatsComponentType.SERVER42_STATS_FLOW_RTT_TICK_BOLT;
 import static org.openkilda.wfm.topology.stats.StatsComponentType.STATS_CACHE_BOLT;
 import static org.openkilda.wfm.topology.stats.StatsComponentType.STATS_CACHE_FILTER_BOLT;
 import static org.openkilda.wfm.topology.stats.StatsComponentType.STATS_GRPC_SPEAKER_BOLT;
@@ -63,12 +64,15 @@ import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.storm.generated.StormTopology;
 import org.apache.storm.kafka.spout.KafkaSpout;
 import org.apache.storm.kafka.spout.KafkaSpoutConfig;
+import org.apache.storm.topology.BoltDeclarer;
 import org.apache.storm.topology.TopologyBuilder;
 import org.apache.storm.tuple.Fields;
 
 public class StatsTopology extends AbstractTopology<StatsTopologyConfig> {
     public static final String STATS_FIELD = "stats";
     public static final Fields statsFields = new Fields(STATS_FIELD, FIELD_ID_CONTEXT);
+    public static final String SWITCH_ID_FIELD = "switch_id";
+    public static final Fields switchIdFields = new Fields(SWITCH_ID_FIELD);
 
     public StatsTopology(LaunchEnvironment env) {
         super(env, StatsTopologyConfig.class);
@@ -113,9 +117,12 @@ public class StatsTopology extends AbstractTopology<StatsTopologyConfig> {
                 .allGrouping(STATS_CACHE_FILTER_BOLT.name(), CACHE_UPDATE.name())
                 .fieldsGrouping(statsOfsBolt, StatsStreamType.CACHE_DATA.toString(), statsFields);
 
-        builder.setBolt(PORT_STATS_METRIC_GEN.name(),
-                new PortMetricGenBolt(topologyConfig.getMetricPrefix()), parallelism)
-                .fieldsGrouping(statsOfsBolt, StatsStreamType.PORT_STATS.toString(), fieldMessage);
+        PortMetricGenBolt portMetricGenBolt = new PortMetricGenBolt(topologyConfig.getMetricPrefix(),
+                persistenceManager, topologyConfig.isPortRollupsEnabled(),
+                topologyConfig.getStatisticsRequestInterval());
+        builder.setBolt(PORT_STATS_METRIC_GEN.name(), portMetricGenBolt, parallelism)
+                // port rates are calculated from consecutive samples, so each switch must stick to one bolt instance
+                .fieldsGrouping(statsOfsBolt, StatsStreamType.PORT_STATS.toString(), switchIdFields);
         builder.setBolt(METER_CFG_STATS_METRIC_GEN.name(),
                 new MeterConfigMetricGenBolt(topologyConfig.getMetricPrefix()), parallelism)
                 .fieldsGrouping(statsOfsBolt, StatsStreamType.METER_CONFIG_STATS.toString(), fieldMessage);
@@ -151,12 +158,20 @@ public class StatsTopology extends AbstractTopology<StatsTopologyConfig> {
                 SERVER42_STATS_FLOW_RTT_SPOUT.name());
         builder.setSpout(SERVER42_STATS_FLOW_RTT_SPOUT.name(), server42StatsFlowRttSpout, parallelism);
 
-        builder.setBolt(SERVER42_STATS_FLOW_RTT_METRIC_GEN.name(),
-                new FlowRttMetricGenBolt(topologyConfig.getMetricPrefix()), parallelism)
-                .shuffleGrouping(SERVER42_STATS_FLOW_RTT_SPOUT.name());
+        int flowRttAggregationInterval = topologyConfig.getFlowRttAggregationInterval();
+        BoltDeclarer flowRttMetricGen = builder.setBolt(SERVER42_STATS_FLOW_RTT_METRIC_GEN.name(),
+                new FlowRttMetricGenBolt(topologyConfig.getMetricPrefix(), 0 < flowRttAggregationInterval),
+                parallelism)
+                // kafka record key is a flow id, so all samples of one flow are handled by the same bolt instance
+                .fieldsGrouping(SERVER42_STATS_FLOW_RTT_SPOUT.name(), FIELDS_KEY);
+        if (0 < flowRttAggregationInterval) {
+            builder.setBolt(SERVER42_STATS_FLOW_RTT_TICK_BOLT.name(), new TickBolt(flowRttAggregationInterval));
+            flowRttMetricGen.allGrouping(SERVER42_STATS_FLOW_RTT_TICK_BOLT.name());
+        }
 
+        // metric gen bolts emit datapoints as objects, they are encoded into JSON by the kafka bolt
         String openTsdbTopic = topologyConfig.getKafkaOtsdbTopic();
-        builder.setBolt("stats-opentsdb", createKafkaBolt(openTsdbTopic))
+        builder.setBolt("stats-opentsdb", buildKafkaBoltWithRawObject(openTsdbTopic))
                 .shuffleGrouping(PORT_STATS_METRIC_GEN.name())
                 .shuffleGrouping(METER_STATS_METRIC_GEN.name())
                 .shuffleGrouping(METER_CFG_STATS_METRIC_GEN.name())
@@ -55,4 +55,20 @@ public interface StatsTopologyConfig extends AbstractTopologyConfig {
     @Key("statistics.interval")
     @Default("60")
     int getStatisticsRequestInterval();
+
+    /**
+     * Flow RTT aggregation window in seconds. Zero value disables aggregation, so each received RTT sample is
+     * emitted as a separate datapoint.
+     */
+    @Key("statistics.flow.rtt.aggregation.interval")
+    @Default("0")
+    int getFlowRttAggregationInterval();
+
+    /**
+     * Emit 1 minute and 5 minute port and ISL rates (bits/s, packets/s, errors/s, ISL utilisation) calculated from
+     * consecutive port stats samples along with raw port counters.
+     */
+    @Key("statistics.port.rollups.enabled")
+    @Default("true")
+    boolean isPortRollupsEnabled();
 }
@@ -64,7 +64,7 @@ public class SpeakerBolt extends AbstractBolt {
         final InfoData data = infoMessage.getData();
         if (data instanceof PortStatsData) {
             logger.debug("Port stats message: {}", infoMessage);
-            emitWithContext(PORT_STATS_STREAM, tuple, new Values(infoMessage));
+            emitWithContext(PORT_STATS_STREAM, tuple, new Values(infoMessage, ((PortStatsData) data).getSwitchId()));
         } else if (data instanceof MeterConfigStatsData) {
             logger.debug("Meter config stats message: {}", infoMessage);
             emitWithContext(METER_CFG_STATS_STREAM, tuple, new Values(infoMessage));
@@ -113,7 +113,8 @@ public class SpeakerBolt extends AbstractBolt {
     @Override
     public void declareOutputFields(OutputFieldsDeclarer outputFieldsDeclarer) {
         Fields fields = new Fields(MessageKafkaTranslator.FIELD_ID_PAYLOAD, FIELD_ID_CONTEXT);
-        outputFieldsDeclarer.declareStream(PORT_STATS_STREAM, fields);
+        outputFieldsDeclarer.declareStream(PORT_STATS_STREAM, new Fields(
+                MessageKafkaTranslator.FIELD_ID_PAYLOAD, StatsTopology.SWITCH_ID_FIELD, FIELD_ID_CONTEXT));
         outputFieldsDeclarer.declareStream(METER_CFG_STATS_STREAM, fields);
 
         Fields statsFields = new Fields(StatsTopology.STATS_FIELD, FIELD_ID_CONTEXT);
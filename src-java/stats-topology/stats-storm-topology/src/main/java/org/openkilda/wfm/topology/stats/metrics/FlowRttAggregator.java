@@ -0,0 +1,119 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.stats.metrics;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects flow RTT samples per flow/direction during the aggregation window. On flush produces one summary per
+ * flow/direction that have received at least one sample during the window and resets all windows.
+ */
+public class FlowRttAggregator {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<FlowRttKey, Window> windows = new HashMap<>();
+
+    /**
+     * Account one RTT sample.
+     */
+    public void add(String flowId, String direction, long timestamp, long rtt) {
+        windows.computeIfAbsent(new FlowRttKey(flowId, direction), key -> new Window())
+                .add(timestamp, rtt);
+    }
+
+    /**
+     * Produce summary for all non empty windows and reset them.
+     */
+    public List<FlowRttSummary> flush() {
+        // windows that were idle during the whole aggregation period will be recreated on demand
+        windows.values().removeIf(Window::isEmpty);
+
+        List<FlowRttSummary> results = new ArrayList<>(windows.size());
+        for (Map.Entry<FlowRttKey, Window> entry : windows.entrySet()) {
+            Window window = entry.getValue();
+            results.add(window.summary(entry.getKey()));
+            window.reset();
+        }
+        return results;
+    }
+
+    public int size() {
+        return windows.size();
+    }
+
+    @Value
+    private static class FlowRttKey {
+        String flowId;
+        String direction;
+    }
+
+    @Value
+    public static class FlowRttSummary {
+        String flowId;
+        String direction;
+        long timestamp;
+        int count;
+        long min;
+        long max;
+        long mean;
+        long p95;
+    }
+
+    private static class Window {
+        private long[] samples = new long[INITIAL_CAPACITY];
+        private int count = 0;
+        private long sum = 0;
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+        private long timestamp = 0;
+
+        void add(long sampleTimestamp, long rtt) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = rtt;
+            sum += rtt;
+            min = Math.min(min, rtt);
+            max = Math.max(max, rtt);
+            timestamp = Math.max(timestamp, sampleTimestamp);
+        }
+
+        boolean isEmpty() {
+            return count == 0;
+        }
+
+        FlowRttSummary summary(FlowRttKey key) {
+            Arrays.sort(samples, 0, count);
+            int p95Index = (int) Math.ceil(count * 0.95) - 1;
+            return new FlowRttSummary(
+                    key.getFlowId(), key.getDirection(), timestamp, count, min, max, sum / count,
+                    samples[Math.max(p95Index, 0)]);
+        }
+
+        void reset() {
+            count = 0;
+            sum = 0;
+            min = Long.MAX_VALUE;
+            max = Long.MIN_VALUE;
+        }
+    }
+}
@@ -19,6 +19,8 @@ import static org.openkilda.wfm.topology.AbstractTopology.MESSAGE_FIELD;
 
 import org.openkilda.messaging.info.InfoMessage;
 import org.openkilda.messaging.info.stats.FlowRttStatsData;
+import org.openkilda.wfm.topology.stats.StatsComponentType;
+import org.openkilda.wfm.topology.stats.metrics.FlowRttAggregator.FlowRttSummary;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
@@ -31,18 +33,37 @@ public class FlowRttMetricGenBolt extends MetricGenBolt {
 
     public static final long TEN_TO_NINE = 1_000_000_000;
 
+    private final boolean aggregationEnabled;
+
+    private transient FlowRttAggregator aggregator;
+
     public FlowRttMetricGenBolt(String metricPrefix) {
+        this(metricPrefix, false);
+    }
+
+    /**
+     * With enabled aggregation RTT samples are collected per flow/direction until the next tick from
+     * {@link StatsComponentType#SERVER42_STATS_FLOW_RTT_TICK_BOLT} and emitted as a single set of summary datapoints.
+     */
+    public FlowRttMetricGenBolt(String metricPrefix, boolean aggregationEnabled) {
         super(metricPrefix);
+        this.aggregationEnabled = aggregationEnabled;
+    }
+
+    @Override
+    protected void init() {
+        aggregator = new FlowRttAggregator();
     }
 
     @Override
     protected void handleInput(Tuple input) throws Exception {
+        if (StatsComponentType.SERVER42_STATS_FLOW_RTT_TICK_BOLT.name().equals(input.getSourceComponent())) {
+            handleTick();
+            return;
+        }
+
         InfoMessage message = (InfoMessage) input.getValueByField(MESSAGE_FIELD);
         FlowRttStatsData data = (FlowRttStatsData) message.getData();
-        Map<String, String> tags = ImmutableMap.of(
-                "direction", data.getDirection(),
-                "flowid", data.getFlowId()
-        );
 
         long t0 = noviflowTimestamp(data.getT0());
         long t1 = noviflowTimestamp(data.getT1());
@@ -50,7 +71,31 @@ public class FlowRttMetricGenBolt extends MetricGenBolt {
         // We decided to use t1 time as a timestamp for Datapoint.
         long timestamp = TimeUnit.NANOSECONDS.toMillis(t1);
 
-        emitMetric("flow.rtt", timestamp, t1 - t0, tags);
+        if (aggregationEnabled) {
+            aggregator.add(data.getFlowId(), data.getDirection(), timestamp, t1 - t0);
+        } else {
+            emitMetric("flow.rtt", timestamp, t1 - t0, makeTags(data.getFlowId(), data.getDirection()));
+        }
+    }
+
+    private void handleTick() {
+        for (FlowRttSummary summary : aggregator.flush()) {
+            Map<String, String> tags = makeTags(summary.getFlowId(), summary.getDirection());
+            long timestamp = summary.getTimestamp();
+
+            emitMetric("flow.rtt", timestamp, summary.getMean(), tags);
+            emitMetric("flow.rtt.min", timestamp, summary.getMin(), tags);
+            emitMetric("flow.rtt.max", timestamp, summary.getMax(), tags);
+            emitMetric("flow.rtt.p95", timestamp, summary.getP95(), tags);
+            emitMetric("flow.rtt.count", timestamp, summary.getCount(), tags);
+        }
+    }
+
+    private static Map<String, String> makeTags(String flowId, String direction) {
+        return ImmutableMap.of(
+                "direction", direction,
+                "flowid", flowId
+        );
     }
 
     @VisibleForTesting
@@ -15,14 +15,11 @@
 
 package org.openkilda.wfm.topology.stats.metrics;
 
-import org.openkilda.messaging.Utils;
 import org.openkilda.messaging.info.Datapoint;
 import org.openkilda.wfm.AbstractBolt;
-import org.openkilda.wfm.error.JsonEncodeException;
 import org.openkilda.wfm.share.utils.MetricFormatter;
 import org.openkilda.wfm.topology.AbstractTopology;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.storm.topology.OutputFieldsDeclarer;
 
 import java.util.Collections;
@@ -37,24 +34,21 @@ public abstract class MetricGenBolt extends AbstractBolt {
         this.metricFormatter = new MetricFormatter(metricPrefix);
     }
 
-    protected static List<Object> tuple(String metric, long timestamp, Number value, Map<String, String> tag)
-            throws JsonEncodeException {
-        Datapoint datapoint = new Datapoint(metric, timestamp, tag, value);
-        String json;
-        try {
-            json = Utils.MAPPER.writeValueAsString(datapoint);
-        } catch (JsonProcessingException e) {
-            throw new JsonEncodeException(datapoint, e);
-        }
-        return Collections.singletonList(json);
+    /**
+     * Datapoint is passed downstream as a typed tuple value, it is encoded into JSON only once - by the kafka bolt
+     * that writes it into the OpenTSDB topic.
+     */
+    protected static List<Object> tuple(String metric, long timestamp, Number value, Map<String, String> tag) {
+        return Collections.singletonList(new Datapoint(metric, timestamp, tag, value));
     }
 
     void emitMetric(String metric, long timestamp, Number value, Map<String, String> tag) {
-        try {
-            getOutput().emit(tuple(metricFormatter.format(metric), timestamp, value, tag));
-        } catch (JsonEncodeException e) {
-            log.error("Error during serialization of datapoint", e);
-        }
+        getOutput().emit(tuple(metricFormatter.format(metric), timestamp, value, tag));
+    }
+
+    @Override
+    protected boolean isPersistenceContextRequired() {
+        return false;
     }
 
     @Override
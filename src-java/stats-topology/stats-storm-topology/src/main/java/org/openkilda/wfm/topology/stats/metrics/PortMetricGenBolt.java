@@ -20,17 +20,61 @@ import static org.openkilda.wfm.topology.AbstractTopology.MESSAGE_FIELD;
 import org.openkilda.messaging.info.InfoMessage;
 import org.openkilda.messaging.info.stats.PortStatsData;
 import org.openkilda.messaging.info.stats.PortStatsEntry;
+import org.openkilda.model.Isl;
 import org.openkilda.model.SwitchId;
+import org.openkilda.persistence.PersistenceManager;
+import org.openkilda.persistence.repositories.IslRepository;
+import org.openkilda.wfm.share.model.Endpoint;
+import org.openkilda.wfm.topology.stats.metrics.PortRateTable.PortRollup;
 
 import com.google.common.collect.ImmutableMap;
+import lombok.Value;
 import org.apache.storm.tuple.Tuple;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public class PortMetricGenBolt extends MetricGenBolt {
+    private static final long MIN_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(10);
 
-    public PortMetricGenBolt(String metricPrefix) {
+    private final PersistenceManager persistenceManager;
+    private final boolean rollupsEnabled;
+    private final long statisticsIntervalMillis;
+
+    private transient IslRepository islRepository;
+    private transient PortRateTable rateTable;
+    private transient Map<Endpoint, IslTarget> islBySource;
+    private transient long islRefreshAt;
+
+    /**
+     * With enabled rollups the bolt keeps the last counters of each port and emits 1 minute and 5 minute rates along
+     * with raw counters. Rates of ISL source ports are emitted as ISL rates and utilisation too, the ISL list is
+     * reloaded once per {@code statisticsInterval} seconds. Port stats of one switch must always be routed to the
+     * same bolt instance.
+     */
+    public PortMetricGenBolt(String metricPrefix, PersistenceManager persistenceManager, boolean rollupsEnabled,
+                             int statisticsInterval) {
         super(metricPrefix);
+        this.persistenceManager = persistenceManager;
+        this.rollupsEnabled = rollupsEnabled;
+        this.statisticsIntervalMillis = TimeUnit.SECONDS.toMillis(statisticsInterval);
+    }
+
+    @Override
+    protected void init() {
+        if (rollupsEnabled) {
+            islRepository = persistenceManager.getRepositoryFactory().createIslRepository();
+            // keep the state of ports polled less often than the longest window
+            rateTable = new PortRateTable(Math.max(MIN_IDLE_TIMEOUT_MILLIS, 3 * statisticsIntervalMillis));
+            islBySource = new HashMap<>();
+            islRefreshAt = 0;
+        }
+    }
+
+    @Override
+    protected boolean isPersistenceContextRequired() {
+        return rollupsEnabled;
     }
 
     @Override
@@ -42,6 +86,16 @@ public class PortMetricGenBolt extends MetricGenBolt {
         for (PortStatsEntry entry : data.getStats()) {
             emit(entry, timestamp, data.getSwitchId());
         }
+
+        if (rollupsEnabled) {
+            refreshIsls();
+            for (PortStatsEntry entry : data.getStats()) {
+                for (PortRollup rollup : rateTable.update(data.getSwitchId(), entry, timestamp)) {
+                    emitRollup(rollup);
+                }
+            }
+            rateTable.purge(timestamp);
+        }
     }
 
     private void emit(PortStatsEntry entry, long timestamp, SwitchId switchId) {
@@ -65,4 +119,70 @@ public class PortMetricGenBolt extends MetricGenBolt {
         emitMetric("switch.rx-crc-error", timestamp, entry.getRxCrcErr(), tags);
         emitMetric("switch.collisions", timestamp, entry.getCollisions(), tags);
     }
+
+    private void emitRollup(PortRollup rollup) {
+        long timestamp = rollup.getTimestamp();
+        Map<String, String> tags = ImmutableMap.of(
+                "switchid", rollup.getSwitchId().toOtsdFormat(),
+                "port", String.valueOf(rollup.getPortNo()),
+                "window", rollup.getWindow()
+        );
+
+        emitMetric("switch.rx-bps", timestamp, rollup.getRxBitsPerSecond(), tags);
+        emitMetric("switch.tx-bps", timestamp, rollup.getTxBitsPerSecond(), tags);
+        emitMetric("switch.rx-pps", timestamp, rollup.getRxPacketsPerSecond(), tags);
+        emitMetric("switch.tx-pps", timestamp, rollup.getTxPacketsPerSecond(), tags);
+        emitMetric("switch.rx-errors-rate", timestamp, rollup.getRxErrorsPerSecond(), tags);
+        emitMetric("switch.tx-errors-rate", timestamp, rollup.getTxErrorsPerSecond(), tags);
+        emitMetric("switch.rx-dropped-rate", timestamp, rollup.getRxDroppedPerSecond(), tags);
+        emitMetric("switch.tx-dropped-rate", timestamp, rollup.getTxDroppedPerSecond(), tags);
+
+        IslTarget isl = islBySource.get(Endpoint.of(rollup.getSwitchId(), rollup.getPortNo()));
+        if (isl != null) {
+            emitIslRollup(rollup, isl);
+        }
+    }
+
+    private void emitIslRollup(PortRollup rollup, IslTarget isl) {
+        long timestamp = rollup.getTimestamp();
+        Map<String, String> tags = ImmutableMap.of(
+                "src_switch", rollup.getSwitchId().toOtsdFormat(),
+                "src_port", String.valueOf(rollup.getPortNo()),
+                "dst_switch", isl.getDest().getDatapath().toOtsdFormat(),
+                "dst_port", String.valueOf(isl.getDest().getPortNumber()),
+                "window", rollup.getWindow()
+        );
+
+        // traffic sent by the ISL source port is the traffic carried by the ISL
+        emitMetric("isl.bps", timestamp, rollup.getTxBitsPerSecond(), tags);
+        emitMetric("isl.pps", timestamp, rollup.getTxPacketsPerSecond(), tags);
+        emitMetric("isl.errors-rate", timestamp, rollup.getTxErrorsPerSecond(), tags);
+        emitMetric("isl.dropped-rate", timestamp, rollup.getTxDroppedPerSecond(), tags);
+        if (0 < isl.getMaxBandwidth()) {
+            // max bandwidth is in kbps
+            emitMetric("isl.utilization", timestamp,
+                    rollup.getTxBitsPerSecond() / 10 / isl.getMaxBandwidth(), tags);
+        }
+    }
+
+    private void refreshIsls() {
+        long now = System.currentTimeMillis();
+        if (now < islRefreshAt) {
+            return;
+        }
+
+        Map<Endpoint, IslTarget> isls = new HashMap<>();
+        for (Isl isl : islRepository.findAllActive()) {
+            isls.put(Endpoint.of(isl.getSrcSwitchId(), isl.getSrcPort()),
+                    new IslTarget(Endpoint.of(isl.getDestSwitchId(), isl.getDestPort()), isl.getMaxBandwidth()));
+        }
+        islBySource = isls;
+        islRefreshAt = now + statisticsIntervalMillis;
+    }
+
+    @Value
+    private static class IslTarget {
+        Endpoint dest;
+        long maxBandwidth;
+    }
 }
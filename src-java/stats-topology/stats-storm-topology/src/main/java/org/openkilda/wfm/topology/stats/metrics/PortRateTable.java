@@ -0,0 +1,201 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.stats.metrics;
+
+import org.openkilda.messaging.info.stats.PortStatsEntry;
+import org.openkilda.model.SwitchId;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the last port counters per switch/port and turns consecutive samples into rates. Deltas are accumulated
+ * into 1 minute and 5 minute windows aligned to the wall clock, a window is reported as {@link PortRollup} when the
+ * first sample of the next window is received. The first sample of a port, samples after a counters reset and samples
+ * after a gap longer than {@code idleTimeoutMillis} only refresh the stored counters.
+ */
+public class PortRateTable {
+    public static final String WINDOW_1M = "1m";
+    public static final String WINDOW_5M = "5m";
+
+    private static final String[] WINDOW_NAMES = {WINDOW_1M, WINDOW_5M};
+    private static final long[] WINDOW_SIZES = {TimeUnit.MINUTES.toMillis(1), TimeUnit.MINUTES.toMillis(5)};
+
+    private static final int RX_BYTES = 0;
+    private static final int TX_BYTES = 1;
+    private static final int RX_PACKETS = 2;
+    private static final int TX_PACKETS = 3;
+    private static final int RX_ERRORS = 4;
+    private static final int TX_ERRORS = 5;
+    private static final int RX_DROPPED = 6;
+    private static final int TX_DROPPED = 7;
+    private static final int COUNTERS_COUNT = 8;
+
+    private final long idleTimeoutMillis;
+    private final Map<PortKey, PortState> ports = new HashMap<>();
+    private long nextPurge = 0;
+
+    public PortRateTable(long idleTimeoutMillis) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    /**
+     * Account port counters sample and return the windows completed by it.
+     */
+    public List<PortRollup> update(SwitchId switchId, PortStatsEntry entry, long timestamp) {
+        long[] counters = readCounters(entry);
+        PortKey key = new PortKey(switchId, entry.getPortNo());
+        PortState state = ports.get(key);
+        if (state == null) {
+            ports.put(key, new PortState(timestamp, counters));
+            return Collections.emptyList();
+        }
+        if (timestamp <= state.timestamp) {
+            // duplicate or reordered sample
+            return Collections.emptyList();
+        }
+
+        List<PortRollup> results = Collections.emptyList();
+        for (int w = 0; w < WINDOW_SIZES.length; w++) {
+            long windowStart = timestamp - timestamp % WINDOW_SIZES[w];
+            if (state.windowStart[w] != windowStart) {
+                if (0 < state.windowDuration[w]) {
+                    if (results.isEmpty()) {
+                        results = new ArrayList<>(WINDOW_SIZES.length);
+                    }
+                    results.add(state.makeRollup(key, w));
+                }
+                state.resetWindow(w, windowStart);
+            }
+        }
+
+        long interval = timestamp - state.timestamp;
+        if (interval <= idleTimeoutMillis && !isCountersReset(state.counters, counters)) {
+            for (int w = 0; w < WINDOW_SIZES.length; w++) {
+                state.windowDuration[w] += interval;
+                long[] deltas = state.windowDeltas[w];
+                for (int i = 0; i < COUNTERS_COUNT; i++) {
+                    deltas[i] += counters[i] - state.counters[i];
+                }
+            }
+        }
+
+        state.timestamp = timestamp;
+        System.arraycopy(counters, 0, state.counters, 0, COUNTERS_COUNT);
+        return results;
+    }
+
+    /**
+     * Drop ports that have not received samples during {@code idleTimeoutMillis}. Walks the whole table at most
+     * once per {@code idleTimeoutMillis}, so it can be called on each received message.
+     */
+    public void purge(long now) {
+        if (now < nextPurge) {
+            return;
+        }
+        ports.values().removeIf(state -> state.timestamp + idleTimeoutMillis < now);
+        nextPurge = now + idleTimeoutMillis;
+    }
+
+    public int size() {
+        return ports.size();
+    }
+
+    private static long[] readCounters(PortStatsEntry entry) {
+        long[] counters = new long[COUNTERS_COUNT];
+        counters[RX_BYTES] = entry.getRxBytes();
+        counters[TX_BYTES] = entry.getTxBytes();
+        counters[RX_PACKETS] = entry.getRxPackets();
+        counters[TX_PACKETS] = entry.getTxPackets();
+        counters[RX_ERRORS] = entry.getRxErrors();
+        counters[TX_ERRORS] = entry.getTxErrors();
+        counters[RX_DROPPED] = entry.getRxDropped();
+        counters[TX_DROPPED] = entry.getTxDropped();
+        return counters;
+    }
+
+    private static boolean isCountersReset(long[] previous, long[] current) {
+        for (int i = 0; i < COUNTERS_COUNT; i++) {
+            if (current[i] < previous[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Value
+    private static class PortKey {
+        SwitchId switchId;
+        int portNo;
+    }
+
+    @Value
+    public static class PortRollup {
+        SwitchId switchId;
+        int portNo;
+        String window;
+        long timestamp;
+        double rxBitsPerSecond;
+        double txBitsPerSecond;
+        double rxPacketsPerSecond;
+        double txPacketsPerSecond;
+        double rxErrorsPerSecond;
+        double txErrorsPerSecond;
+        double rxDroppedPerSecond;
+        double txDroppedPerSecond;
+    }
+
+    private static class PortState {
+        private long timestamp;
+        private final long[] counters;
+        private final long[] windowStart = new long[WINDOW_SIZES.length];
+        private final long[] windowDuration = new long[WINDOW_SIZES.length];
+        private final long[][] windowDeltas = new long[WINDOW_SIZES.length][COUNTERS_COUNT];
+
+        PortState(long timestamp, long[] counters) {
+            this.timestamp = timestamp;
+            this.counters = counters;
+            for (int w = 0; w < WINDOW_SIZES.length; w++) {
+                windowStart[w] = timestamp - timestamp % WINDOW_SIZES[w];
+            }
+        }
+
+        PortRollup makeRollup(PortKey key, int w) {
+            double seconds = windowDuration[w] / 1000.0;
+            long[] deltas = windowDeltas[w];
+            return new PortRollup(
+                    key.getSwitchId(), key.getPortNo(), WINDOW_NAMES[w], windowStart[w],
+                    deltas[RX_BYTES] * 8 / seconds, deltas[TX_BYTES] * 8 / seconds,
+                    deltas[RX_PACKETS] / seconds, deltas[TX_PACKETS] / seconds,
+                    deltas[RX_ERRORS] / seconds, deltas[TX_ERRORS] / seconds,
+                    deltas[RX_DROPPED] / seconds, deltas[TX_DROPPED] / seconds);
+        }
+
+        void resetWindow(int w, long start) {
+            windowStart[w] = start;
+            windowDuration[w] = 0;
+            for (int i = 0; i < COUNTERS_COUNT; i++) {
+                windowDeltas[w][i] = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.stats.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.wfm.topology.stats.metrics.FlowRttAggregator.FlowRttSummary;
+
+import org.junit.Test;
+
+import java.util.List;
+
+public class FlowRttAggregatorTest {
+    private static final String FLOW_ID = "flow-1";
+    private static final String FORWARD = "forward";
+    private static final String REVERSE = "reverse";
+
+    @Test
+    public void summaryPerFlowDirection() {
+        FlowRttAggregator aggregator = new FlowRttAggregator();
+        for (int i = 1; i <= 100; i++) {
+            aggregator.add(FLOW_ID, FORWARD, 1000 + i, i);
+        }
+        aggregator.add(FLOW_ID, REVERSE, 5000, 7);
+
+        List<FlowRttSummary> results = aggregator.flush();
+        assertEquals(2, results.size());
+
+        FlowRttSummary forward = results.stream()
+                .filter(entry -> FORWARD.equals(entry.getDirection()))
+                .findFirst().orElseThrow(AssertionError::new);
+        assertEquals(FLOW_ID, forward.getFlowId());
+        assertEquals(100, forward.getCount());
+        assertEquals(1, forward.getMin());
+        assertEquals(100, forward.getMax());
+        assertEquals(50, forward.getMean());
+        assertEquals(95, forward.getP95());
+        assertEquals(1100, forward.getTimestamp());
+
+        FlowRttSummary reverse = results.stream()
+                .filter(entry -> REVERSE.equals(entry.getDirection()))
+                .findFirst().orElseThrow(AssertionError::new);
+        assertEquals(1, reverse.getCount());
+        assertEquals(7, reverse.getMin());
+        assertEquals(7, reverse.getMax());
+        assertEquals(7, reverse.getP95());
+    }
+
+    @Test
+    public void windowIsResetOnFlush() {
+        FlowRttAggregator aggregator = new FlowRttAggregator();
+        aggregator.add(FLOW_ID, FORWARD, 1000, 10);
+        assertEquals(1, aggregator.flush().size());
+
+        aggregator.add(FLOW_ID, FORWARD, 2000, 20);
+        List<FlowRttSummary> results = aggregator.flush();
+        assertEquals(1, results.size());
+        assertEquals(1, results.get(0).getCount());
+        assertEquals(20, results.get(0).getMin());
+
+        // idle window produces nothing and is released
+        assertTrue(aggregator.flush().isEmpty());
+        assertEquals(0, aggregator.size());
+    }
+}
@@ -0,0 +1,102 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.stats.metrics;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.share.utils.MetricFormatter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * Manual benchmark of memory allocated per produced datapoint (metric name and switch tag formatting as it is done
+ * by metric gen bolts). Compares previous (format on each call) and current (cached) implementations.
+ *
+ * <p>Each datapoint gets a fresh {@link SwitchId} instance, as each decoded stats message does, so the cached
+ * string forms are built once per instance and the result is not reduced to cache hits.
+ *
+ * <p>Run it as a regular java application with test classpath, it is not a part of test suite.
+ */
+public final class MetricFormatAllocationBenchmark {
+    private static final Logger log = LoggerFactory.getLogger(MetricFormatAllocationBenchmark.class);
+
+    private static final int SWITCHES = 1000;
+    private static final int ITERATIONS = 1000;
+    private static final String PREFIX = "kilda.";
+    private static final String METRIC = "switch.rx-bytes";
+
+    /**
+     * Entry point.
+     */
+    public static void main(String[] args) {
+        LongFunction<String> uncachedTag = id -> "SW" + String.format("%016x", id).toUpperCase();
+        MetricFormatter formatter = new MetricFormatter(PREFIX);
+
+        // warm up
+        runUncached(uncachedTag);
+        runCached(formatter);
+
+        long before = measure(() -> runUncached(uncachedTag));
+        long after = measure(() -> runCached(formatter));
+
+        long datapoints = (long) SWITCHES * ITERATIONS;
+        log.info("Allocated per datapoint: before {} bytes, after {} bytes",
+                before / datapoints, after / datapoints);
+    }
+
+    private static long runUncached(LongFunction<String> tagFormatter) {
+        long checksum = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (int sw = 0; sw < SWITCHES; sw++) {
+                SwitchId entry = new SwitchId(sw);
+                Map<String, String> tags = new HashMap<>();
+                tags.put("switchid", tagFormatter.apply(entry.toLong()));
+                checksum += String.format("%s%s", PREFIX, METRIC).length() + tags.size();
+            }
+        }
+        return checksum;
+    }
+
+    private static long runCached(MetricFormatter formatter) {
+        long checksum = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (int sw = 0; sw < SWITCHES; sw++) {
+                SwitchId entry = new SwitchId(sw);
+                Map<String, String> tags = new HashMap<>();
+                tags.put("switchid", entry.toOtsdFormat());
+                checksum += formatter.format(METRIC).length() + tags.size();
+            }
+        }
+        return checksum;
+    }
+
+    private static long measure(Runnable action) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        action.run();
+        return threadBean.getThreadAllocatedBytes(threadId) - start;
+    }
+
+    private MetricFormatAllocationBenchmark() {
+    }
+}
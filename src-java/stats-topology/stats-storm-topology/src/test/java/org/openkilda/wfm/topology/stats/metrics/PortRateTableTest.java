@@ -0,0 +1,103 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.stats.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.messaging.info.stats.PortStatsEntry;
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.topology.stats.metrics.PortRateTable.PortRollup;
+
+import org.junit.Test;
+
+import java.util.List;
+
+public class PortRateTableTest {
+    private static final SwitchId SWITCH_ID = new SwitchId(1L);
+    private static final int PORT = 5;
+    private static final long MINUTE = 60_000;
+    private static final long IDLE_TIMEOUT = 10 * MINUTE;
+    private static final double DELTA = 0.001;
+
+    @Test
+    public void oneMinuteRatesFromConsecutiveSamples() {
+        PortRateTable table = new PortRateTable(IDLE_TIMEOUT);
+        assertTrue(table.update(SWITCH_ID, makeEntry(0, 0, 0), 10 * MINUTE + 1000).isEmpty());
+        // 60 seconds later: 7500 bytes/s = 60000 bits/s, 10 packets/s, 1 error per 10 seconds
+        assertTrue(table.update(SWITCH_ID, makeEntry(450_000, 600, 6), 11 * MINUTE + 1000).isEmpty());
+
+        List<PortRollup> results = table.update(SWITCH_ID, makeEntry(900_000, 1200, 12), 12 * MINUTE + 1000);
+        assertEquals(1, results.size());
+        PortRollup rollup = results.get(0);
+        assertEquals(SWITCH_ID, rollup.getSwitchId());
+        assertEquals(PORT, rollup.getPortNo());
+        assertEquals(PortRateTable.WINDOW_1M, rollup.getWindow());
+        assertEquals(11 * MINUTE, rollup.getTimestamp());
+        assertEquals(60_000, rollup.getRxBitsPerSecond(), DELTA);
+        assertEquals(30_000, rollup.getTxBitsPerSecond(), DELTA);
+        assertEquals(10, rollup.getRxPacketsPerSecond(), DELTA);
+        assertEquals(5, rollup.getTxPacketsPerSecond(), DELTA);
+        assertEquals(0.1, rollup.getRxErrorsPerSecond(), DELTA);
+        assertEquals(0, rollup.getRxDroppedPerSecond(), DELTA);
+    }
+
+    @Test
+    public void fiveMinuteWindowAveragesAllSamples() {
+        PortRateTable table = new PortRateTable(IDLE_TIMEOUT);
+        table.update(SWITCH_ID, makeEntry(0, 0, 0), 5 * MINUTE);
+        // 4 intervals of 60 seconds with 600 and 1800 packets: 2400 / 240 seconds = 10 packets/s
+        table.update(SWITCH_ID, makeEntry(0, 600, 0), 6 * MINUTE);
+        table.update(SWITCH_ID, makeEntry(0, 1200, 0), 7 * MINUTE);
+        table.update(SWITCH_ID, makeEntry(0, 1800, 0), 8 * MINUTE);
+        table.update(SWITCH_ID, makeEntry(0, 2400, 0), 9 * MINUTE);
+
+        PortRollup rollup = table.update(SWITCH_ID, makeEntry(0, 3000, 0), 10 * MINUTE).stream()
+                .filter(entry -> PortRateTable.WINDOW_5M.equals(entry.getWindow()))
+                .findFirst().orElseThrow(AssertionError::new);
+        assertEquals(5 * MINUTE, rollup.getTimestamp());
+        assertEquals(10, rollup.getRxPacketsPerSecond(), DELTA);
+    }
+
+    @Test
+    public void counterResetIsSkipped() {
+        PortRateTable table = new PortRateTable(IDLE_TIMEOUT);
+        table.update(SWITCH_ID, makeEntry(1000, 1000, 0), MINUTE);
+        // counters are reset (i.e. switch reboot), the interval has no valid delta
+        table.update(SWITCH_ID, makeEntry(10, 10, 0), 2 * MINUTE);
+        assertTrue(table.update(SWITCH_ID, makeEntry(610, 610, 0), 3 * MINUTE).isEmpty());
+
+        List<PortRollup> results = table.update(SWITCH_ID, makeEntry(1210, 1210, 0), 4 * MINUTE);
+        assertEquals(1, results.size());
+        assertEquals(10, results.get(0).getRxPacketsPerSecond(), DELTA);
+    }
+
+    @Test
+    public void idlePortIsPurged() {
+        PortRateTable table = new PortRateTable(IDLE_TIMEOUT);
+        table.update(SWITCH_ID, makeEntry(0, 0, 0), MINUTE);
+        table.purge(MINUTE);
+        assertEquals(1, table.size());
+
+        table.purge(MINUTE + IDLE_TIMEOUT + 1);
+        assertEquals(0, table.size());
+    }
+
+    private static PortStatsEntry makeEntry(long rxBytes, long rxPackets, long rxErrors) {
+        return new PortStatsEntry(PORT, rxPackets, rxPackets / 2, rxBytes, rxBytes / 2, 0, 0, rxErrors, 0,
+                0, 0, 0, 0);
+    }
+}
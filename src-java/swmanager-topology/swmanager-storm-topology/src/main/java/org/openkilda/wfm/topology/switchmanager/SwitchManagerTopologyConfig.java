@@ -73,4 +73,17 @@ public interface SwitchManagerTopologyConfig  extends AbstractTopologyConfig {
     @Default("20")
     @Description("The timeout for performing validate and synchronize operations")
     int getProcessTimeout();
+
+    @Key("swmanager.sync.bulk.batch.size")
+    @Default("0")
+    @Min(0)
+    @Description("Max number of rules sent in one batched install/remove speaker request during switch sync. "
+            + "Value '0' disables bulk sync, so each rule is sent by separate speaker request.")
+    int getSyncBulkBatchSize();
+
+    @Key("swmanager.sync.bulk.batches.in.flight")
+    @Default("4")
+    @Min(1)
+    @Description("Max number of batched speaker requests in progress for one synchronized switch.")
+    int getSyncBulkBatchesInFlight();
 }
@@ -45,6 +45,7 @@ import org.openkilda.wfm.share.hubandspoke.HubBolt;
 import org.openkilda.wfm.share.utils.KeyProvider;
 import org.openkilda.wfm.topology.switchmanager.StreamType;
 import org.openkilda.wfm.topology.switchmanager.SwitchManagerTopologyConfig;
+import org.openkilda.wfm.topology.switchmanager.model.SyncBulkConfig;
 import org.openkilda.wfm.topology.switchmanager.model.ValidationResult;
 import org.openkilda.wfm.topology.switchmanager.service.SwitchManagerCarrier;
 import org.openkilda.wfm.topology.switchmanager.service.SwitchRuleService;
@@ -96,7 +97,9 @@ public class SwitchManagerHub extends HubBolt implements SwitchManagerCarrier {
 
         validateService = new SwitchValidateServiceImpl(
                 this, persistenceManager, new ValidationServiceImpl(persistenceManager, topologyConfig));
-        syncService = new SwitchSyncServiceImpl(this, persistenceManager, flowResourcesConfig);
+        SyncBulkConfig bulkConfig = new SyncBulkConfig(
+                topologyConfig.getSyncBulkBatchSize(), topologyConfig.getSyncBulkBatchesInFlight());
+        syncService = new SwitchSyncServiceImpl(this, persistenceManager, flowResourcesConfig, bulkConfig);
         switchRuleService = new SwitchRuleServiceImpl(this, persistenceManager.getRepositoryFactory());
     }
 
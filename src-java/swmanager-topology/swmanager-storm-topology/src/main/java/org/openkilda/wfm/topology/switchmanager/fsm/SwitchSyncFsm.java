@@ -34,11 +34,14 @@ import static org.openkilda.wfm.topology.switchmanager.fsm.SwitchSyncFsm.SwitchS
 import static org.openkilda.wfm.topology.switchmanager.fsm.SwitchSyncFsm.SwitchSyncState.METERS_COMMANDS_SEND;
 import static org.openkilda.wfm.topology.switchmanager.fsm.SwitchSyncFsm.SwitchSyncState.RULES_COMMANDS_SEND;
 
+import org.openkilda.messaging.command.CommandData;
 import org.openkilda.messaging.command.flow.BaseFlow;
 import org.openkilda.messaging.command.flow.InstallFlowForSwitchManagerRequest;
+import org.openkilda.messaging.command.flow.InstallFlowsForSwitchManagerRequest;
 import org.openkilda.messaging.command.flow.ReinstallDefaultFlowForSwitchManagerRequest;
 import org.openkilda.messaging.command.flow.RemoveFlow;
 import org.openkilda.messaging.command.flow.RemoveFlowForSwitchManagerRequest;
+import org.openkilda.messaging.command.flow.RemoveFlowsForSwitchManagerRequest;
 import org.openkilda.messaging.command.switches.DeleterMeterForSwitchManagerRequest;
 import org.openkilda.messaging.command.switches.SwitchValidateRequest;
 import org.openkilda.messaging.error.ErrorData;
@@ -56,17 +59,21 @@ import org.openkilda.model.cookie.Cookie;
 import org.openkilda.wfm.share.utils.AbstractBaseFsm;
 import org.openkilda.wfm.topology.switchmanager.fsm.SwitchSyncFsm.SwitchSyncEvent;
 import org.openkilda.wfm.topology.switchmanager.fsm.SwitchSyncFsm.SwitchSyncState;
+import org.openkilda.wfm.topology.switchmanager.model.SyncBulkConfig;
 import org.openkilda.wfm.topology.switchmanager.model.ValidateMetersResult;
 import org.openkilda.wfm.topology.switchmanager.model.ValidateRulesResult;
 import org.openkilda.wfm.topology.switchmanager.model.ValidationResult;
 import org.openkilda.wfm.topology.switchmanager.service.CommandBuilder;
 import org.openkilda.wfm.topology.switchmanager.service.SwitchManagerCarrier;
 
+import com.google.common.collect.Lists;
 import lombok.extern.slf4j.Slf4j;
 import org.squirrelframework.foundation.fsm.StateMachineBuilder;
 import org.squirrelframework.foundation.fsm.StateMachineBuilderFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -81,6 +88,7 @@ public class SwitchSyncFsm extends AbstractBaseFsm<SwitchSyncFsm, SwitchSyncStat
     private final SwitchValidateRequest request;
     private final SwitchManagerCarrier carrier;
     private final CommandBuilder commandBuilder;
+    private final SyncBulkConfig bulkConfig;
     private SwitchId switchId;
     private ValidationResult validationResult;
     private List<Long> installRules;
@@ -96,11 +104,17 @@ public class SwitchSyncFsm extends AbstractBaseFsm<SwitchSyncFsm, SwitchSyncStat
     private int reinstallDefaultRulesPendingResponsesCount = 0;
     private int excessMetersPendingResponsesCount = 0;
 
+    private final Deque<CommandData> pendingBatches = new ArrayDeque<>();
+    private int batchesTotal = 0;
+    private int batchesDone = 0;
+
     public SwitchSyncFsm(SwitchManagerCarrier carrier, String key, CommandBuilder commandBuilder,
-                         SwitchValidateRequest request, ValidationResult validationResult) {
+                         SyncBulkConfig bulkConfig, SwitchValidateRequest request,
+                         ValidationResult validationResult) {
         this.carrier = carrier;
         this.key = key;
         this.commandBuilder = commandBuilder;
+        this.bulkConfig = bulkConfig;
         this.request = request;
         this.validationResult = validationResult;
         this.switchId = request.getSwitchId();
@@ -120,6 +134,7 @@ public class SwitchSyncFsm extends AbstractBaseFsm<SwitchSyncFsm, SwitchSyncStat
                         SwitchManagerCarrier.class,
                         String.class,
                         CommandBuilder.class,
+                        SyncBulkConfig.class,
                         SwitchValidateRequest.class,
                         ValidationResult.class);
 
@@ -228,6 +243,26 @@ public class SwitchSyncFsm extends AbstractBaseFsm<SwitchSyncFsm, SwitchSyncStat
             fire(NEXT);
         }
 
+        if (bulkConfig.isEnabled()) {
+            sendRulesBatches();
+        } else {
+            sendRulesSeparately();
+        }
+
+        List<Long> reinstallRules = getReinstallDefaultRules();
+        if (!reinstallRules.isEmpty()) {
+            log.info("Request to reinstall default switch rules has been sent (switch={}, key={})", switchId, key);
+            reinstallDefaultRulesPendingResponsesCount = reinstallRules.size();
+
+            for (Long rule : reinstallRules) {
+                carrier.sendCommandToSpeaker(key, new ReinstallDefaultFlowForSwitchManagerRequest(switchId, rule));
+            }
+        }
+
+        continueIfRulesSynchronized();
+    }
+
+    private void sendRulesSeparately() {
         if (!missingRules.isEmpty()) {
             log.info("Request to install switch rules has been sent (switch={}, key={})", switchId, key);
             missingRulesPendingResponsesCount = missingRules.size();
@@ -245,18 +280,43 @@ public class SwitchSyncFsm extends AbstractBaseFsm<SwitchSyncFsm, SwitchSyncStat
                 carrier.sendCommandToSpeaker(key, new RemoveFlowForSwitchManagerRequest(switchId, command));
             }
         }
+    }
 
-        List<Long> reinstallRules = getReinstallDefaultRules();
-        if (!reinstallRules.isEmpty()) {
-            log.info("Request to reinstall default switch rules has been sent (switch={}, key={})", switchId, key);
-            reinstallDefaultRulesPendingResponsesCount = reinstallRules.size();
+    /**
+     * Group missing and excess rules into batched speaker requests. Only a limited number of batches is in progress
+     * at once, next batch is sent when response for one of the previous batches is received.
+     */
+    private void sendRulesBatches() {
+        for (List<BaseFlow> chunk : Lists.partition(missingRules, bulkConfig.getBatchSize())) {
+            pendingBatches.addLast(new InstallFlowsForSwitchManagerRequest(switchId, new ArrayList<>(chunk)));
+            missingRulesPendingResponsesCount++;
+        }
+        for (List<RemoveFlow> chunk : Lists.partition(excessRules, bulkConfig.getBatchSize())) {
+            pendingBatches.addLast(new RemoveFlowsForSwitchManagerRequest(switchId, new ArrayList<>(chunk)));
+            excessRulesPendingResponsesCount++;
+        }
 
-            for (Long rule : reinstallRules) {
-                carrier.sendCommandToSpeaker(key, new ReinstallDefaultFlowForSwitchManagerRequest(switchId, rule));
-            }
+        batchesTotal = pendingBatches.size();
+        if (0 < batchesTotal) {
+            log.info("Sync {} missing and {} excess rules using {} batched requests (switch={}, key={})",
+                    missingRules.size(), excessRules.size(), batchesTotal, switchId, key);
+        }
+        for (int i = 0; i < bulkConfig.getBatchesInFlight() && !pendingBatches.isEmpty(); i++) {
+            carrier.sendCommandToSpeaker(key, pendingBatches.removeFirst());
+        }
+    }
+
+    private void onBatchCompleted() {
+        if (!bulkConfig.isEnabled()) {
+            return;
         }
 
-        continueIfRulesSynchronized();
+        batchesDone++;
+        log.info("Switch sync progress: {} of {} rules batches done (switch={}, key={})",
+                batchesDone, batchesTotal, switchId, key);
+        if (!pendingBatches.isEmpty()) {
+            carrier.sendCommandToSpeaker(key, pendingBatches.removeFirst());
+        }
     }
 
     private List<Long> getReinstallDefaultRules() {
@@ -286,6 +346,7 @@ public class SwitchSyncFsm extends AbstractBaseFsm<SwitchSyncFsm, SwitchSyncStat
                                  SwitchSyncEvent event, Object context) {
         log.info("Switch rule installed (switch={}, key={})", switchId, key);
         missingRulesPendingResponsesCount--;
+        onBatchCompleted();
         continueIfRulesSynchronized();
     }
 
@@ -293,6 +354,7 @@ public class SwitchSyncFsm extends AbstractBaseFsm<SwitchSyncFsm, SwitchSyncStat
                                SwitchSyncEvent event, Object context) {
         log.info("Switch rule removed (switch={}, key={})", switchId, key);
         excessRulesPendingResponsesCount--;
+        onBatchCompleted();
         continueIfRulesSynchronized();
     }
 
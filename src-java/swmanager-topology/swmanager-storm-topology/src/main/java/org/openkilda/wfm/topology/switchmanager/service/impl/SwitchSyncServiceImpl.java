@@ -23,6 +23,7 @@ import org.openkilda.wfm.share.flow.resources.FlowResourcesConfig;
 import org.openkilda.wfm.topology.switchmanager.fsm.SwitchSyncFsm;
 import org.openkilda.wfm.topology.switchmanager.fsm.SwitchSyncFsm.SwitchSyncEvent;
 import org.openkilda.wfm.topology.switchmanager.fsm.SwitchSyncFsm.SwitchSyncState;
+import org.openkilda.wfm.topology.switchmanager.model.SyncBulkConfig;
 import org.openkilda.wfm.topology.switchmanager.model.ValidationResult;
 import org.openkilda.wfm.topology.switchmanager.service.CommandBuilder;
 import org.openkilda.wfm.topology.switchmanager.service.SwitchManagerCarrier;
@@ -45,19 +46,21 @@ public class SwitchSyncServiceImpl implements SwitchSyncService {
     @VisibleForTesting
     CommandBuilder commandBuilder;
     private SwitchManagerCarrier carrier;
+    private final SyncBulkConfig bulkConfig;
     private StateMachineBuilder<SwitchSyncFsm, SwitchSyncState, SwitchSyncEvent, Object> builder;
 
     public SwitchSyncServiceImpl(SwitchManagerCarrier carrier, PersistenceManager persistenceManager,
-                                 FlowResourcesConfig flowResourcesConfig) {
+                                 FlowResourcesConfig flowResourcesConfig, SyncBulkConfig bulkConfig) {
         this.carrier = carrier;
         this.commandBuilder = new CommandBuilderImpl(persistenceManager, flowResourcesConfig);
+        this.bulkConfig = bulkConfig;
         this.builder = SwitchSyncFsm.builder();
     }
 
     @Override
     public void handleSwitchSync(String key, SwitchValidateRequest request, ValidationResult validationResult) {
         SwitchSyncFsm fsm =
-                builder.newStateMachine(SwitchSyncState.INITIALIZED, carrier, key, commandBuilder, request,
+                builder.newStateMachine(SwitchSyncState.INITIALIZED, carrier, key, commandBuilder, bulkConfig, request,
                         validationResult);
 
         process(fsm);
@@ -30,6 +30,7 @@ import static org.mockito.Mockito.when;
 import org.openkilda.config.provider.PropertiesBasedConfigurationProvider;
 import org.openkilda.messaging.command.CommandData;
 import org.openkilda.messaging.command.flow.InstallFlowForSwitchManagerRequest;
+import org.openkilda.messaging.command.flow.InstallFlowsForSwitchManagerRequest;
 import org.openkilda.messaging.command.flow.InstallIngressFlow;
 import org.openkilda.messaging.command.flow.RemoveFlow;
 import org.openkilda.messaging.command.flow.RemoveFlowForSwitchManagerRequest;
@@ -52,6 +53,7 @@ import org.openkilda.persistence.repositories.FlowRepository;
 import org.openkilda.persistence.repositories.RepositoryFactory;
 import org.openkilda.persistence.repositories.TransitVlanRepository;
 import org.openkilda.wfm.share.flow.resources.FlowResourcesConfig;
+import org.openkilda.wfm.topology.switchmanager.model.SyncBulkConfig;
 import org.openkilda.wfm.topology.switchmanager.model.ValidateMetersResult;
 import org.openkilda.wfm.topology.switchmanager.model.ValidateRulesResult;
 import org.openkilda.wfm.topology.switchmanager.model.ValidationResult;
@@ -66,6 +68,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 import java.util.UUID;
@@ -90,6 +93,8 @@ public class SwitchSyncServiceImplTest {
     private CommandBuilder commandBuilder;
 
     private SwitchSyncServiceImpl service;
+    private FlowResourcesConfig flowResourcesConfig;
+    private InstallIngressFlow installingRule;
 
     private SwitchValidateRequest request;
     private FlowEntry flowEntry;
@@ -117,9 +122,9 @@ public class SwitchSyncServiceImplTest {
 
         PropertiesBasedConfigurationProvider configurationProvider =
                 new PropertiesBasedConfigurationProvider(configProps);
-        FlowResourcesConfig flowResourcesConfig = configurationProvider.getConfiguration(FlowResourcesConfig.class);
+        flowResourcesConfig = configurationProvider.getConfiguration(FlowResourcesConfig.class);
 
-        service = new SwitchSyncServiceImpl(carrier, persistenceManager, flowResourcesConfig);
+        service = new SwitchSyncServiceImpl(carrier, persistenceManager, flowResourcesConfig, SyncBulkConfig.DISABLED);
         service.commandBuilder = commandBuilder;
 
         request = SwitchValidateRequest.builder().switchId(SWITCH_ID).performSync(true).build();
@@ -127,7 +132,7 @@ public class SwitchSyncServiceImplTest {
                 new FlowSegmentCookie(FlowPathDirection.FORWARD, 7).getValue(),
                 0, 0, 0, 0, "", 0, 0, 0, 0, null, null, null);
 
-        InstallIngressFlow installingRule = new InstallIngressFlow(UUID.randomUUID(), FLOW_ID, flowEntry.getCookie(),
+        installingRule = new InstallIngressFlow(UUID.randomUUID(), FLOW_ID, flowEntry.getCookie(),
                 SWITCH_ID, 1, 2, 50, 0,
                 60, FlowEncapsulationType.TRANSIT_VLAN, OutputVlanType.POP, 10L,
                 100L, EGRESS_SWITCH_ID, false, false, false);
@@ -341,6 +346,35 @@ public class SwitchSyncServiceImplTest {
         verifyNoMoreInteractions(carrier);
     }
 
+    @Test
+    public void handleBulkSync() {
+        service = new SwitchSyncServiceImpl(carrier, persistenceManager, flowResourcesConfig, new SyncBulkConfig(2, 1));
+        service.commandBuilder = commandBuilder;
+
+        missingRules = Arrays.asList(flowEntry.getCookie(), flowEntry.getCookie() + 1, flowEntry.getCookie() + 2);
+        when(commandBuilder.buildCommandsToSyncMissingRules(eq(SWITCH_ID), any()))
+                .thenReturn(Arrays.asList(installingRule, installingRule, installingRule));
+
+        service.handleSwitchSync(KEY, request, makeValidationResult());
+
+        verify(commandBuilder).buildCommandsToSyncMissingRules(eq(SWITCH_ID), eq(missingRules));
+        ArgumentCaptor<InstallFlowsForSwitchManagerRequest> requestCaptor =
+                ArgumentCaptor.forClass(InstallFlowsForSwitchManagerRequest.class);
+        verify(carrier).sendCommandToSpeaker(eq(KEY), requestCaptor.capture());
+        assertEquals(2, requestCaptor.getValue().getFlowCommands().size());
+
+        service.handleInstallRulesResponse(KEY);
+        verify(carrier, times(2)).sendCommandToSpeaker(eq(KEY), requestCaptor.capture());
+        assertEquals(1, requestCaptor.getValue().getFlowCommands().size());
+
+        service.handleInstallRulesResponse(KEY);
+        verify(carrier).cancelTimeoutCallback(eq(KEY));
+        verify(carrier).response(eq(KEY), any(InfoMessage.class));
+
+        verifyNoMoreInteractions(commandBuilder);
+        verifyNoMoreInteractions(carrier);
+    }
+
     private ValidationResult makeValidationResult() {
         return new ValidationResult(singletonList(flowEntry),
                 true,